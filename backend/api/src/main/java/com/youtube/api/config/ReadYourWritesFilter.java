@@ -0,0 +1,97 @@
+package com.youtube.api.config;
+
+import com.youtube.core.config.datasource.ReadYourWritesContext;
+import com.youtube.core.config.datasource.ReplicaDataSourceProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 단위 Read-Your-Writes 보장 필터 (datasource.replica.enabled=true)
+ *
+ * 쓰기 요청(POST/PUT/PATCH/DELETE, 예: 채팅 전송, 알림 모두 읽음)이 성공하면 해당 세션을 readYourWritesWindow 동안 기록하고,
+ * 그 사이의 요청은 readOnly 트랜잭션이라도 Primary에서 읽도록 ReadYourWritesContext를 설정한다.
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> WRITE_METHODS = Set.of(
+            HttpMethod.POST.name(),
+            HttpMethod.PUT.name(),
+            HttpMethod.PATCH.name(),
+            HttpMethod.DELETE.name()
+    );
+
+    private final ReplicaDataSourceProperties replicaDataSourceProperties;
+
+    /**
+     * Key: sessionId, Value: Primary 읽기를 유지할 시각 (System.nanoTime 기준)
+     */
+    private final ConcurrentHashMap<String, Long> sessionToPrimaryUntil = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (isWithinWindow(request.getSession(false))) {
+            ReadYourWritesContext.requirePrimary();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+            recordWrite(request, response);
+        }
+    }
+
+    /**
+     * 스케줄러: 만료된 세션 기록 정리
+     */
+    @Scheduled(fixedRate = 60000) // 1분마다
+    public void cleanupExpiredSessions() {
+        final long now = System.nanoTime();
+        sessionToPrimaryUntil.values().removeIf(primaryUntil -> primaryUntil - now <= 0);
+    }
+
+    private boolean isWithinWindow(final HttpSession session) {
+        if (session == null) {
+            return false;
+        }
+        final Long primaryUntil = sessionToPrimaryUntil.get(session.getId());
+        return primaryUntil != null && primaryUntil - System.nanoTime() > 0;
+    }
+
+    private void recordWrite(final HttpServletRequest request, final HttpServletResponse response) {
+        if (replicaDataSourceProperties.getReadYourWritesWindow().isZero()
+                || !WRITE_METHODS.contains(request.getMethod())
+                || response.getStatus() >= 400) {
+            return;
+        }
+
+        final HttpSession session = request.getSession(false);
+        if (session == null) {
+            return;
+        }
+        sessionToPrimaryUntil.put(
+                session.getId(),
+                System.nanoTime() + replicaDataSourceProperties.getReadYourWritesWindow().toNanos()
+        );
+    }
+}
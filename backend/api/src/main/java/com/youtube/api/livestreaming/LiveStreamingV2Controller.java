@@ -4,22 +4,25 @@ import com.youtube.common.exception.AuthErrorCode;
 import com.youtube.common.exception.BaseException;
 import com.youtube.live.interaction.exception.LiveStreamingErrorCode;
 import com.youtube.live.interaction.livestreaming.controller.dto.ChatMessageRequest;
+import com.youtube.live.interaction.livestreaming.service.LiveStreamingChatLongPollService;
 import com.youtube.live.interaction.livestreaming.service.LiveStreamingChatService;
 import com.youtube.live.interaction.livestreaming.service.LiveStreamingService;
-import com.youtube.live.interaction.livestreaming.service.dto.ChatsResponse;
 import com.youtube.live.interaction.livestreaming.service.dto.LiveStatsResponse;
 import com.youtube.live.interaction.livestreaming.service.dto.LiveStreamingCreateRequest;
 import com.youtube.live.interaction.livestreaming.service.dto.LiveStreamingCreateResponse;
 import com.youtube.live.interaction.livestreaming.repository.dto.LiveStreamingMetadataResponse;
-import com.youtube.live.interaction.livestreaming.service.LiveStreamingChatQueryService;
+import com.youtube.live.interaction.livestreaming.service.LiveStreamingChatResponseCache;
 import com.youtube.live.interaction.livestreaming.service.LiveStreamingQueryService;
 import com.youtube.live.interaction.livestreaming.service.dto.LiveStreamingChatInfo;
+import com.youtube.live.interaction.livestreaming.service.dto.ViewerCountSeriesResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -32,8 +35,9 @@ public class LiveStreamingV2Controller {
 
     private final LiveStreamingService liveStreamingService;
     private final LiveStreamingQueryService liveStreamingQueryService;
-    private final LiveStreamingChatQueryService liveStreamingChatQueryService;
+    private final LiveStreamingChatResponseCache liveStreamingChatResponseCache;
     private final LiveStreamingChatService liveStreamingChatService;
+    private final LiveStreamingChatLongPollService liveStreamingChatLongPollService;
     private static final String SESSION_USER_ID = "userId";
     private static final String SESSION_USERNAME = "username";
     private static final String SESSION_PROFILE_IMAGE_URL = "profileImageUrl";
@@ -85,8 +89,23 @@ public class LiveStreamingV2Controller {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 시청자 수 / 좋아요 수 시계열 조회 (방송 중에만 제공, 오래된 구간일수록 표본 간격이 길다)
+     */
+    @GetMapping("/{liveStreamingId}/viewer-count-series")
+    public ResponseEntity<ViewerCountSeriesResponse> getViewerCountSeries(
+            @PathVariable final Long liveStreamingId
+    ) {
+        return ResponseEntity.ok(liveStreamingQueryService.getViewerCountSeries(liveStreamingId));
+    }
+
+    /**
+     * V2 (Polling): 채팅 조회
+     *
+     * 같은 (lastChatId, 최근 채팅 버전)의 응답은 한 번만 직렬화하여 byte[] 그대로 응답합니다.
+     */
     @GetMapping("/{liveStreamingId}/chats")
-    public ResponseEntity<ChatsResponse> getChats(
+    public ResponseEntity<byte[]> getChats(
             @PathVariable final Long liveStreamingId,
             @RequestParam(required = false) final Long lastChatId
     ) {
@@ -94,13 +113,33 @@ public class LiveStreamingV2Controller {
             throw new BaseException(LiveStreamingErrorCode.INVALID_LAST_CHAT_ID);
         }
 
-        final ChatsResponse response;
+        final byte[] response;
         if (lastChatId == null) {
-            response = liveStreamingChatQueryService.getInitialChats(liveStreamingId);
+            response = liveStreamingChatResponseCache.getInitialChats(liveStreamingId);
         } else {
-            response = liveStreamingChatQueryService.getNewChats(liveStreamingId, lastChatId);
+            response = liveStreamingChatResponseCache.getNewChats(liveStreamingId, lastChatId);
         }
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    /**
+     * V2 (Long Polling): 새 채팅 조회
+     *
+     * 새 채팅이 없으면 도착하거나 timeout 될 때까지 응답을 보류합니다. (서블릿 스레드는 즉시 반환)
+     * timeout 시에는 빈 목록과 요청한 lastChatId를 응답하므로 클라이언트는 바로 다시 요청합니다.
+     */
+    @GetMapping(value = "/{liveStreamingId}/chats/long-poll", produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<byte[]> waitChats(
+            @PathVariable final Long liveStreamingId,
+            @RequestParam final Long lastChatId
+    ) {
+        if (lastChatId <= 0) {
+            throw new BaseException(LiveStreamingErrorCode.INVALID_LAST_CHAT_ID);
+        }
+
+        return liveStreamingChatLongPollService.waitNewChats(liveStreamingId, lastChatId);
     }
 
     @PostMapping("/{liveStreamingId}/chats")
@@ -1,8 +1,14 @@
 package com.youtube.api.config;
 
+import com.youtube.core.channel.domain.ChannelStatsWriter;
 import com.youtube.core.testfixtures.support.DatabaseCleanup;
 import com.youtube.core.testfixtures.support.TestContainer;
 import com.youtube.core.testfixtures.support.TestSupport;
+import com.youtube.live.interaction.livestreaming.domain.BurstReactionAccumulator;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingRecentChatCache;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingStatsWriter;
+import com.youtube.live.interaction.livestreaming.domain.ReactionBitmaps;
+import com.youtube.live.interaction.livestreaming.domain.ReactionCounter;
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +33,24 @@ public class RestAssuredTest extends TestContainer {
     @Autowired
     private DatabaseCleanup databaseCleanup;
 
+    @Autowired
+    private LiveStreamingRecentChatCache liveStreamingRecentChatCache;
+
+    @Autowired
+    private ReactionCounter reactionCounter;
+
+    @Autowired
+    private ReactionBitmaps reactionBitmaps;
+
+    @Autowired
+    private BurstReactionAccumulator burstReactionAccumulator;
+
+    @Autowired
+    private LiveStreamingStatsWriter liveStreamingStatsWriter;
+
+    @Autowired
+    private ChannelStatsWriter channelStatsWriter;
+
     @Autowired
     protected TestSupport testSupport;
 
@@ -40,5 +64,11 @@ public class RestAssuredTest extends TestContainer {
     @AfterEach
     public void cleanup() {
         databaseCleanup.execute();
+        liveStreamingRecentChatCache.clear();
+        reactionCounter.clear();
+        reactionBitmaps.clear();
+        burstReactionAccumulator.clear();
+        liveStreamingStatsWriter.clear();
+        channelStatsWriter.clear();
     }
 }
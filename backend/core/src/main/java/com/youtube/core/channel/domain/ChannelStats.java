@@ -0,0 +1,26 @@
+package com.youtube.core.channel.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 채널별 집계 (채널당 한 row)
+ *
+ * 구독자 수를 subscription COUNT 대신 이 row에서 읽는다.
+ * 값은 ChannelStatsWriter가 증감을 모아 갱신하고, 주기적으로 원본 테이블에서 다시 계산해 바로잡는다.
+ */
+@Entity
+@Table(name = "channel_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ChannelStats {
+
+    @Id
+    @Column(name = "channel_id")
+    private Long channelId;
+
+    @Column(nullable = false)
+    private long subscriberCount;
+}
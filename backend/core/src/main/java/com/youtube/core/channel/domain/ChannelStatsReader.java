@@ -0,0 +1,25 @@
+package com.youtube.core.channel.domain;
+
+import com.youtube.core.channel.repository.ChannelStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ChannelStatsReader {
+
+    private final ChannelStatsRepository channelStatsRepository;
+
+    /**
+     * 집계 row가 없으면 subscription을 한 번 세어 row를 만든다. (이후 증감은 ChannelStatsWriter가 반영)
+     * 읽기 전용 트랜잭션에서 호출되므로 row는 insertIfAbsent의 별도 쓰기 트랜잭션으로 만든다.
+     */
+    public long readSubscriberCount(final Long channelId) {
+        return channelStatsRepository.findSubscriberCount(channelId)
+                .orElseGet(() -> {
+                    final long subscriberCount = channelStatsRepository.countSubscribers(channelId);
+                    channelStatsRepository.insertIfAbsent(channelId, subscriberCount);
+                    return subscriberCount;
+                });
+    }
+}
@@ -0,0 +1,136 @@
+package com.youtube.core.channel.domain;
+
+import com.youtube.core.channel.repository.ChannelStatsRepository;
+import com.youtube.core.common.CounterDeltas;
+import com.youtube.core.common.NamedLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * 채널별 집계 갱신
+ *
+ * 구독 / 구독 해제가 커밋되면 채널별 증감을 메모리에 모으고, flushInterval마다 채널당 UPDATE 한 번으로 반영한다.
+ * 반영에 실패한 증감은 되돌려 놓고 다음 주기에 다시 시도한다.
+ *
+ * 보정: repairCron마다 channel_stats 전체를 subscription에서 다시 계산한다.
+ * (row를 만든 시점에 커밋 중이던 구독, 다른 경로로 바뀐 구독처럼 증감으로 반영되지 못한 차이를 바로잡음)
+ * - 모든 노드에서 cron이 돌지만 NamedLock을 잡은 한 노드만 보정한다.
+ * - 구간을 계산하기 직전에 그 구간의 모아 둔 증감을 버린다. (이미 커밋되어 다시 계산한 값에 들어 있으므로)
+ *
+ * 종료 처리: SmartLifecycle로 웹 서버 종료 이후에 정지하며, 정지 시 남은 증감을 반영한다.
+ */
+@Slf4j
+@Component
+public class ChannelStatsWriter implements SmartLifecycle {
+
+    /**
+     * 웹 서버(WebServerStartStopLifecycle)보다 먼저 시작하고 나중에 정지하기 위한 phase
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final int REPAIR_CHUNK_SIZE = 1_000;
+    private static final String REPAIR_LOCK = "channel_stats.repair";
+
+    private final ChannelStatsRepository channelStatsRepository;
+    private final NamedLock namedLock;
+    private final CounterDeltas subscriberCountDeltas = new CounterDeltas();
+
+    private volatile boolean running = false;
+
+    public ChannelStatsWriter(final ChannelStatsRepository channelStatsRepository, final NamedLock namedLock) {
+        this.channelStatsRepository = channelStatsRepository;
+        this.namedLock = namedLock;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 증감을 모은다.
+     */
+    public void addSubscriberCountAfterCommit(final Long channelId, final long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            subscriberCountDeltas.add(channelId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                subscriberCountDeltas.add(channelId, delta);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${channel.stats.flush-interval:1s}")
+    public synchronized void flush() {
+        final Map<Long, Long> deltas = subscriberCountDeltas.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            channelStatsRepository.incrementSubscriberCounts(deltas);
+        } catch (Exception e) {
+            subscriberCountDeltas.addAll(deltas);
+            log.error("채널 구독자 수 반영 실패 - 채널 수: {}, error: {}", deltas.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모아 둔 증감을 먼저 반영한 뒤 채널 id 구간별로 다시 계산한다. (다른 노드가 보정 중이면 건너뜀)
+     */
+    @Scheduled(cron = "${channel.stats.repair-cron:0 30 4 * * *}")
+    public void repair() {
+        if (!namedLock.runIfAcquired(REPAIR_LOCK, this::recomputeAll)) {
+            log.info("채널 구독자 수 보정 건너뜀 - 다른 노드에서 보정 중");
+        }
+    }
+
+    /**
+     * 테스트 격리용
+     */
+    public void clear() {
+        subscriberCountDeltas.clear();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void recomputeAll() {
+        flush();
+        final long maxChannelId = channelStatsRepository.findMaxChannelId();
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxChannelId; fromId += REPAIR_CHUNK_SIZE) {
+            repaired += recompute(fromId, fromId + REPAIR_CHUNK_SIZE - 1);
+        }
+        log.info("채널 구독자 수 보정 완료 - maxChannelId: {}, affectedRows: {}", maxChannelId, repaired);
+    }
+
+    /**
+     * flush와 같은 lock 안에서 구간의 증감을 버리고 다시 계산한다.
+     */
+    private synchronized int recompute(final long fromId, final long toId) {
+        subscriberCountDeltas.drainBetween(fromId, toId);
+        return channelStatsRepository.recomputeSubscriberCounts(fromId, toId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.youtube.core.channel.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 채널별 집계 저장소
+ *
+ * <pre>
+ * CREATE TABLE channel_stats (
+ *     channel_id       BIGINT NOT NULL,
+ *     subscriber_count BIGINT NOT NULL,
+ *     PRIMARY KEY (channel_id)
+ * );
+ * </pre>
+ *
+ * 증감은 row가 있을 때만 반영한다. row는 처음 읽을 때 원본 COUNT로 만들거나(insertIfAbsent) 보정 작업이 만든다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChannelStatsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Long> findSubscriberCount(final Long channelId) {
+        return jdbcTemplate.query(
+                "SELECT subscriber_count FROM channel_stats WHERE channel_id = ?",
+                (rs, rowNum) -> rs.getLong("subscriber_count"),
+                channelId
+        ).stream().findFirst();
+    }
+
+    public long countSubscribers(final Long channelId) {
+        final Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM subscription WHERE channel_id = ? AND deleted_date IS NULL",
+                Long.class,
+                channelId
+        );
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션(복제본 커넥션) 안에서 호출되므로 새 쓰기 트랜잭션에서 Primary에 만든다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insertIfAbsent(final Long channelId, final long subscriberCount) {
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO channel_stats (channel_id, subscriber_count) VALUES (?, ?)",
+                channelId, subscriberCount
+        );
+    }
+
+    /**
+     * 일부만 반영된 채로 재시도하면 두 번 더해지므로 한 트랜잭션으로 반영한다.
+     */
+    @Transactional
+    public void incrementSubscriberCounts(final Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        final List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((channelId, delta) -> rows.add(new Object[]{delta, channelId}));
+        jdbcTemplate.batchUpdate(
+                "UPDATE channel_stats SET subscriber_count = subscriber_count + ? WHERE channel_id = ?",
+                rows
+        );
+    }
+
+    public long findMaxChannelId() {
+        final Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM channel", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    /**
+     * [fromId, toId] 범위 채널의 구독자 수를 subscription에서 다시 계산해 덮어쓴다. (row가 없으면 만든다)
+     */
+    public int recomputeSubscriberCounts(final long fromId, final long toId) {
+        return jdbcTemplate.update("""
+                INSERT INTO channel_stats (channel_id, subscriber_count)
+                SELECT computed.channel_id, computed.subscriber_count
+                FROM (
+                    SELECT c.id AS channel_id, COUNT(s.id) AS subscriber_count
+                    FROM channel c
+                    LEFT JOIN subscription s ON s.channel_id = c.id AND s.deleted_date IS NULL
+                    WHERE c.id BETWEEN ? AND ?
+                    GROUP BY c.id
+                ) AS computed
+                ON DUPLICATE KEY UPDATE subscriber_count = computed.subscriber_count
+                """, fromId, toId);
+    }
+}
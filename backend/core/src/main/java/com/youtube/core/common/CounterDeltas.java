@@ -0,0 +1,70 @@
+package com.youtube.core.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * id별 카운터 증감 누적기
+ *
+ * 요청 스레드는 add()로 증감을 더하고, flush 스레드는 drain()으로 그동안 쌓인 증감을 한 번에 가져가
+ * id당 UPDATE ... SET count = count + ? 한 번으로 반영한다.
+ * 합이 0이 된 id는 지우므로 구독 후 바로 해제한 것처럼 상쇄된 증감은 쓰기를 만들지 않는다.
+ */
+public class CounterDeltas {
+
+    private final ConcurrentHashMap<Long, Long> deltas = new ConcurrentHashMap<>();
+
+    public void add(final Long id, final long delta) {
+        if (delta == 0) {
+            return;
+        }
+        deltas.merge(id, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    /**
+     * 쌓인 증감을 가져가고 비운다. (가져가는 동안 더해진 증감은 다음 drain에 포함)
+     */
+    public Map<Long, Long> drain() {
+        final Map<Long, Long> drained = new HashMap<>();
+        for (final Long id : deltas.keySet()) {
+            final Long delta = deltas.remove(id);
+            if (delta != null) {
+                drained.put(id, delta);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * [fromId, toId] 범위 id의 증감만 가져가고 비운다.
+     */
+    public Map<Long, Long> drainBetween(final long fromId, final long toId) {
+        final Map<Long, Long> drained = new HashMap<>();
+        for (final Long id : deltas.keySet()) {
+            if (id < fromId || id > toId) {
+                continue;
+            }
+            final Long delta = deltas.remove(id);
+            if (delta != null) {
+                drained.put(id, delta);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 증감을 되돌려 놓는다.
+     */
+    public void addAll(final Map<Long, Long> drained) {
+        drained.forEach(this::add);
+    }
+
+    public int size() {
+        return deltas.size();
+    }
+
+    public void clear() {
+        deltas.clear();
+    }
+}
@@ -0,0 +1,65 @@
+package com.youtube.core.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 노드 간 배타 실행 (MySQL GET_LOCK)
+ *
+ * 모든 노드에서 같은 cron으로 도는 작업을 한 노드에서만 실행할 때 사용한다.
+ * GET_LOCK은 커넥션에 묶이므로 작업이 끝날 때까지 락을 잡은 커넥션 하나를 들고 있다가 같은 커넥션으로 푼다.
+ * (노드가 죽어 커넥션이 끊기면 락도 풀린다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NamedLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 다른 노드가 락을 잡고 있으면 기다리지 않고 task를 건너뛴다.
+     *
+     * @return task를 실행했으면 true
+     */
+    public boolean runIfAcquired(final String name, final Runnable task) {
+        final Boolean executed = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!tryLock(connection, name)) {
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                release(connection, name);
+            }
+        });
+        return Boolean.TRUE.equals(executed);
+    }
+
+    private static boolean tryLock(final Connection connection, final String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, name);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void release(final Connection connection, final String name) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, name);
+            statement.executeQuery().close();
+        } catch (SQLException e) {
+            log.warn("락 해제 실패 - name: {}, error: {}", name, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.youtube.core.config.datasource;
+
+/**
+ * 현재 요청이 Primary에서 읽어야 하는지 여부
+ *
+ * 웹 계층(필터)에서 요청 시작 시 설정하고 종료 시 해제한다.
+ * 최근에 쓰기를 한 세션의 요청이면 readOnly 트랜잭션이라도 복제 지연으로 자신의 변경이 보이지 않을 수 있으므로 Primary로 보낸다.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
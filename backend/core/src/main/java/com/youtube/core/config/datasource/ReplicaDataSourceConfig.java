@@ -0,0 +1,107 @@
+package com.youtube.core.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Primary / 복제본 DataSource 구성 (datasource.replica.enabled=true)
+ *
+ * 구조:
+ * JPA → LazyConnectionDataSourceProxy → ReplicaRoutingDataSource → Primary 또는 복제본 Hikari 풀
+ *
+ * 비활성화 시에는 Spring Boot 기본 DataSource 자동 구성을 그대로 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final String REPLICA_KEY_PREFIX = "replica-";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        final HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(
+            final DataSourceProperties dataSourceProperties,
+            final ReplicaDataSourceProperties replicaProperties
+    ) {
+        if (replicaProperties.getUrls().isEmpty()) {
+            throw new IllegalStateException("datasource.replica.urls가 비어 있습니다");
+        }
+
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        final List<String> urls = replicaProperties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            final String replicaKey = REPLICA_KEY_PREFIX + i;
+            final HikariDataSource replica = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i))
+                    .build();
+            replica.setPoolName(replicaKey);
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.put(replicaKey, replica);
+        }
+        return new ReplicaDataSources(replicas);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            final ReplicaDataSources replicaDataSources,
+            final ReplicaDataSourceProperties replicaProperties
+    ) {
+        return new ReplicaLagMonitor(replicaDataSources.replicas(), replicaProperties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            final HikariDataSource primaryDataSource,
+            final ReplicaDataSources replicaDataSources,
+            final ReplicaLagMonitor replicaLagMonitor
+    ) {
+        final Map<Object, Object> targets = new HashMap<>(replicaDataSources.replicas());
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+
+        final ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                new ArrayList<>(replicaDataSources.replicas().keySet()),
+                replicaLagMonitor
+        );
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 복제본 커넥션 풀 목록 (컨텍스트 종료 시 함께 닫음)
+     */
+    public record ReplicaDataSources(Map<String, DataSource> replicas) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            replicas.values().forEach(dataSource -> ((HikariDataSource) dataSource).close());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.youtube.core.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(Read Replica) 라우팅 설정
+ *
+ * enabled = true 이면 @Transactional(readOnly = true) 트랜잭션을 복제본으로 보낸다.
+ * 복제본 계정(username/password/driver)은 spring.datasource 설정을 그대로 사용한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 복제본 JDBC URL 목록 (여러 개면 라운드 로빈)
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * 복제본별 커넥션 풀 크기
+     */
+    private int maximumPoolSize = 30;
+
+    /**
+     * 허용하는 최대 복제 지연 (초과한 복제본은 지연이 줄어들 때까지 라우팅에서 제외)
+     */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /**
+     * 쓰기 요청 이후 같은 세션의 읽기를 Primary로 보내는 시간 (Read-Your-Writes)
+     * 0이면 사용하지 않는다.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(3);
+
+    /**
+     * 로컬 검증용 인위적 복제 지연 (단일 MySQL 인스턴스를 복제본으로 지정하고 maxLag보다 크게 설정하면 Primary fallback 확인 가능)
+     */
+    private Duration simulatedLag = Duration.ZERO;
+}
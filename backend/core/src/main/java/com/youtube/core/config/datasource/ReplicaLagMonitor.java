@@ -0,0 +1,71 @@
+package com.youtube.core.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제본 지연 감시
+ *
+ * 주기적으로 각 복제본의 SHOW REPLICA STATUS(Seconds_Behind_Source)를 조회하여
+ * 지연이 maxLag 이하인 복제본만 라우팅 대상으로 표시한다.
+ *
+ * - 첫 검사 전, 조회 실패, 복제 중단(Seconds_Behind_Source = NULL)은 모두 제외 대상이다.
+ * - 복제본이 아닌 인스턴스(결과 없음)는 지연 0으로 본다. (단일 인스턴스로 로컬 검증 시)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final Map<String, JdbcTemplate> replicas;
+    private final ReplicaDataSourceProperties properties;
+    private final Map<String, Boolean> health = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(final Map<String, DataSource> replicas, final ReplicaDataSourceProperties properties) {
+        this.replicas = new ConcurrentHashMap<>();
+        replicas.forEach((key, dataSource) -> this.replicas.put(key, new JdbcTemplate(dataSource)));
+        this.properties = properties;
+    }
+
+    public boolean isHealthy(final String replicaKey) {
+        return health.getOrDefault(replicaKey, false);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1s}")
+    public void checkLag() {
+        replicas.forEach((replicaKey, jdbcTemplate) -> {
+            final Optional<Duration> lag = measureLag(replicaKey, jdbcTemplate);
+            final boolean healthy = lag.isPresent() && lag.get().compareTo(properties.getMaxLag()) <= 0;
+
+            final Boolean previous = health.put(replicaKey, healthy);
+            if (previous == null || previous != healthy) {
+                log.info("복제본 라우팅 상태 변경 - replica: {}, healthy: {}, lag: {}", replicaKey, healthy, lag.orElse(null));
+            }
+        });
+    }
+
+    private Optional<Duration> measureLag(final String replicaKey, final JdbcTemplate jdbcTemplate) {
+        try {
+            final Optional<Duration> actual = jdbcTemplate.query(REPLICA_STATUS_QUERY, resultSet -> {
+                if (!resultSet.next()) {
+                    return Optional.of(Duration.ZERO);
+                }
+                final long seconds = resultSet.getLong(LAG_COLUMN);
+                return resultSet.wasNull() ? Optional.<Duration>empty() : Optional.of(Duration.ofSeconds(seconds));
+            });
+
+            return actual.map(lag -> lag.compareTo(properties.getSimulatedLag()) >= 0 ? lag : properties.getSimulatedLag());
+        } catch (final Exception e) {
+            log.warn("복제본 지연 조회 실패 - replica: {}", replicaKey, e);
+            return Optional.empty();
+        }
+    }
+}
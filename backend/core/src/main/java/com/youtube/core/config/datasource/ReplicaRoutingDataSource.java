@@ -0,0 +1,49 @@
+package com.youtube.core.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Primary / 복제본 라우팅 DataSource
+ *
+ * 라우팅 기준:
+ * 1. readOnly 트랜잭션이 아니면 Primary
+ * 2. Read-Your-Writes 구간의 요청이면 Primary
+ * 3. 지연이 허용 범위 안인 복제본 중 라운드 로빈, 없으면 Primary
+ *
+ * readOnly 여부는 트랜잭션 시작 이후에 설정되므로 반드시 LazyConnectionDataSourceProxy로 감싸서
+ * 첫 SQL 실행 시점에 커넥션을 가져오도록 해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(final List<String> replicaKeys, final ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaKeys = List.copyOf(replicaKeys);
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWritesContext.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+
+        final int start = Math.floorMod(sequence.getAndIncrement(), replicaKeys.size());
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            final String replicaKey = replicaKeys.get((start + i) % replicaKeys.size());
+            if (replicaLagMonitor.isHealthy(replicaKey)) {
+                return replicaKey;
+            }
+        }
+        return PRIMARY;
+    }
+}
@@ -1,6 +1,7 @@
 package com.youtube.core.subscription.domain;
 
 import com.youtube.core.channel.domain.Channel;
+import com.youtube.core.channel.domain.ChannelStatsWriter;
 import com.youtube.core.subscription.repository.SubscriptionRepository;
 import com.youtube.core.user.domain.User;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ public class SubscriptionWriter {
 
     private final SubscriptionRepository subscriptionRepository;
     private final SubscriptionReader subscriptionReader;
+    private final ChannelStatsWriter channelStatsWriter;
 
     public Subscription write(final Subscription subscription) {
         return subscriptionRepository.save(subscription);
@@ -26,6 +28,7 @@ public class SubscriptionWriter {
     @Transactional
     public void remove(final Subscription subscription, final Instant deletedDate) {
         subscription.softDelete(deletedDate);
+        channelStatsWriter.addSubscriberCountAfterCommit(subscription.getChannel().getId(), -1);
         log.info("Subscription 삭제 - subscriberId: {}, channelId: {}",
                 subscription.getSubscriber().getId(), subscription.getChannel().getId());
     }
@@ -35,6 +38,7 @@ public class SubscriptionWriter {
         return subscriptionReader.readDeletedBy(subscriberId, channelId)
                 .map(subscription -> {
                     subscription.restore();
+                    channelStatsWriter.addSubscriberCountAfterCommit(channelId, 1);
                     log.info("삭제된 Subscription 복원 - subscriberId: {}, channelId: {}",
                             subscriberId, channelId);
                     return true;
@@ -70,6 +74,7 @@ public class SubscriptionWriter {
                 .channel(channel)
                 .build()
         );
+        channelStatsWriter.addSubscriberCountAfterCommit(channel.getId(), 1);
         log.info("Subscription 생성 - subscriberId: {}, channelId: {}",
                 subscriber.getId(), channel.getId());
     }
@@ -0,0 +1,71 @@
+package com.youtube.core.channel.domain;
+
+import com.youtube.core.config.IntegrationTest;
+import com.youtube.core.subscription.domain.SubscriptionWriter;
+import com.youtube.core.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+
+import static com.youtube.core.testfixtures.builder.ChannelBuilder.Channel;
+import static com.youtube.core.testfixtures.builder.SubscriptionBuilder.Subscription;
+import static com.youtube.core.testfixtures.builder.UserBuilder.User;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelStatsWriterTest extends IntegrationTest {
+
+    @Autowired
+    private ChannelStatsWriter sut;
+
+    @Autowired
+    private ChannelStatsReader channelStatsReader;
+
+    @Autowired
+    private SubscriptionWriter subscriptionWriter;
+
+    @Test
+    @DisplayName("구독 / 구독 해제로 모인 증감을 flush 하면 채널 집계에 반영한다")
+    void flushAppliesSubscriptionDeltas() {
+        // given
+        final Channel channel = saveChannel();
+        final User subscriber1 = testSupport.save(User().withEmail("subscriber1@test.com").build());
+        final User subscriber2 = testSupport.save(User().withEmail("subscriber2@test.com").build());
+        channelStatsReader.readSubscriberCount(channel.getId());
+
+        // when
+        subscriptionWriter.subscribe(subscriber1, channel);
+        subscriptionWriter.subscribe(subscriber2, channel);
+        subscriptionWriter.unsubscribe(subscriber2.getId(), channel.getId(), Instant.now());
+        final long beforeFlush = channelStatsReader.readSubscriberCount(channel.getId());
+        sut.flush();
+
+        // then
+        assertThat(beforeFlush).isZero();
+        assertThat(channelStatsReader.readSubscriberCount(channel.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보정하면 증감으로 반영되지 못한 구독을 subscription 기준으로 바로잡는다")
+    void repairRecomputesFromSubscriptions() {
+        // given
+        final Channel channel = saveChannel();
+        channelStatsReader.readSubscriberCount(channel.getId());
+        final User subscriber = testSupport.save(User().withEmail("subscriber@test.com").build());
+        testSupport.save(Subscription().withSubscriber(subscriber).withChannel(channel).build());
+        final long stale = channelStatsReader.readSubscriberCount(channel.getId());
+
+        // when
+        sut.repair();
+
+        // then
+        assertThat(stale).isZero();
+        assertThat(channelStatsReader.readSubscriberCount(channel.getId())).isEqualTo(1);
+    }
+
+    private Channel saveChannel() {
+        final User channelOwner = testSupport.save(User().withEmail("owner@test.com").build());
+        return testSupport.save(Channel().withUser(channelOwner).build());
+    }
+}
@@ -1,5 +1,6 @@
 package com.youtube.core.config;
 
+import com.youtube.core.channel.domain.ChannelStatsWriter;
 import com.youtube.core.testfixtures.support.DatabaseCleanup;
 import com.youtube.core.testfixtures.support.TestSupport;
 import com.youtube.core.testfixtures.support.TestContainer;
@@ -24,9 +25,13 @@ public abstract class IntegrationTest extends TestContainer {
     @Autowired
     private DatabaseCleanup databaseCleanup;
 
+    @Autowired
+    private ChannelStatsWriter channelStatsWriter;
+
     @BeforeEach
     public void cleanup() {
         databaseCleanup.execute();
+        channelStatsWriter.clear();
     }
 
     @Autowired
@@ -0,0 +1,91 @@
+package com.youtube.core.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션이 아니면 Primary로 라우팅한다")
+    void routesWritesToPrimary() {
+        // given
+        final ReplicaRoutingDataSource sut = routingDataSource(Set.of("replica-0"));
+
+        // when
+        final Object lookupKey = sut.determineCurrentLookupKey();
+
+        // then
+        assertThat(lookupKey).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 정상 복제본 사이에서 라운드 로빈으로 라우팅한다")
+    void routesReadOnlyTransactionsToHealthyReplicas() {
+        // given
+        final ReplicaRoutingDataSource sut = routingDataSource(Set.of("replica-0", "replica-1"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        final Set<Object> lookupKeys = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            lookupKeys.add(sut.determineCurrentLookupKey());
+        }
+
+        // then
+        assertThat(lookupKeys).containsExactlyInAnyOrder("replica-0", "replica-1");
+    }
+
+    @Test
+    @DisplayName("지연이 허용 범위를 넘은 복제본은 건너뛰고, 모두 지연되면 Primary로 라우팅한다")
+    void skipsLaggingReplicas() {
+        // given
+        final ReplicaRoutingDataSource partiallyHealthy = routingDataSource(Set.of("replica-1"));
+        final ReplicaRoutingDataSource allLagging = routingDataSource(Set.of());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(partiallyHealthy.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(partiallyHealthy.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(allLagging.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Read-Your-Writes 구간의 요청은 readOnly 트랜잭션이라도 Primary로 라우팅한다")
+    void routesToPrimaryWithinReadYourWritesWindow() {
+        // given
+        final ReplicaRoutingDataSource sut = routingDataSource(Set.of("replica-0"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWritesContext.requirePrimary();
+
+        // when
+        final Object lookupKey = sut.determineCurrentLookupKey();
+
+        // then
+        assertThat(lookupKey).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    private static ReplicaRoutingDataSource routingDataSource(final Set<String> healthyReplicas) {
+        final ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(Map.of(), new ReplicaDataSourceProperties()) {
+            @Override
+            public boolean isHealthy(final String replicaKey) {
+                return healthyReplicas.contains(replicaKey);
+            }
+        };
+        return new ReplicaRoutingDataSource(List.of("replica-0", "replica-1"), lagMonitor);
+    }
+}
@@ -1,9 +1,14 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.3"
+}
+
 val querydslVersion: String by project
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-websocket")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-cache")
     implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.micrometer:micrometer-core")
     implementation("com.querydsl:querydsl-jpa:${querydslVersion}:jakarta")
     annotationProcessor("com.querydsl:querydsl-apt:${querydslVersion}:jakarta")
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
@@ -16,4 +21,23 @@ dependencies {
     testImplementation(testFixtures(project(":api")))
 
     testFixturesImplementation(project(":core"))
-}
\ No newline at end of file
+
+    jmhImplementation("org.openjdk.jol:jol-core:0.17")
+}
+
+// ./gradlew :live-streaming:interaction:jmh (src/jmh/java)
+// gc 프로파일러: 연산당 할당량(gc.alloc.rate.norm)을 함께 출력한다.
+jmh {
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc")
+}
+
+// 시청자 1명당 유지 힙 크기 측정 (JOL, src/jmh/java)
+tasks.register<JavaExec>("viewerFootprint") {
+    group = "benchmark"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "com.youtube.live.interaction.livestreaming.domain.ViewerFootprintMeasurement"
+    jvmArgs("-Djdk.attach.allowAttachSelf", "-XX:+UseSerialGC")
+}
@@ -0,0 +1,119 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ViewerCountProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라이브 시작 직후처럼 한 라이브 스트리밍에 입장/퇴장이 몰릴 때의 처리량
+ *
+ * 스레드 수별로 같은 작업(입장 후 퇴장)을 반복하여 코어 수에 따라 처리량이 늘어나는지 확인한다.
+ * 실행: ./gradlew :live-streaming:interaction:jmh
+ *
+ * 측정 결과 (JDK 17, vCPU 1개, fork 1 / warmup 3x2s / 측정 5x2s, ops/ms, 할당량 B/op)
+ * | 스레드 | stream 단위 compute (이전) | stripe 분할 (현재) |
+ * | 1 | 2441 ± 346 / 178 | 2881 ± 1508 / 146 |
+ * | 2 | 3128 ± 1573 / 180 | 2939 ± 1314 / 148 |
+ * | 4 | 2976 ± 1943 / 178 | 2592 ± 324 / 146 |
+ * | 8 | 3038 ± 1480 / 179 | 2745 ± 816 / 147 |
+ * 코어가 1개라 스레드를 늘려도 병렬로 실행되지 않으므로, 처리량 차이는 오차 범위 안이고 확장성은 확인하지 못했다.
+ * 연산당 할당량만 약 32B 줄었다. 확장성은 코어 수가 4개 이상인 환경에서 다시 측정해야 한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LiveStreamingSubscriberManagerBenchmark {
+
+    private static final Long LIVE_STREAMING_ID = 1L;
+    private static final int SESSIONS_PER_THREAD = 4_096;
+
+    @State(Scope.Benchmark)
+    public static class Registry {
+
+        final LiveStreamingSubscriberManager manager = new LiveStreamingSubscriberManager(new ViewerCountProperties());
+        final AtomicInteger threadSequence = new AtomicInteger();
+
+        /**
+         * 측정 중 시청자 수가 0이 되어 라이브 스트리밍이 폐기/재생성되지 않도록 상주 시청자를 둔다.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            manager.registerStreamer(LIVE_STREAMING_ID, 0L);
+            for (int i = 0; i < 10_000; i++) {
+                manager.addSubscriber(LIVE_STREAMING_ID, "resident-" + i, null, UUID.randomUUID().toString());
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Viewers {
+
+        final String[] sessionIds = new String[SESSIONS_PER_THREAD];
+        final String[] clientIds = new String[SESSIONS_PER_THREAD];
+        final Long[] userIds = new Long[SESSIONS_PER_THREAD];
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void setUp(final Registry registry) {
+            final int thread = registry.threadSequence.getAndIncrement();
+            for (int i = 0; i < SESSIONS_PER_THREAD; i++) {
+                sessionIds[i] = "session-" + thread + "-" + i;
+                clientIds[i] = UUID.randomUUID().toString();
+                // 절반은 로그인 사용자
+                userIds[i] = i % 2 == 0 ? (long) thread * SESSIONS_PER_THREAD + i + 1 : null;
+            }
+        }
+
+        int next() {
+            cursor = (cursor + 1) & (SESSIONS_PER_THREAD - 1);
+            return cursor;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void joinAndLeave_1thread(final Registry registry, final Viewers viewers, final Blackhole blackhole) {
+        joinAndLeave(registry, viewers, blackhole);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void joinAndLeave_2threads(final Registry registry, final Viewers viewers, final Blackhole blackhole) {
+        joinAndLeave(registry, viewers, blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void joinAndLeave_4threads(final Registry registry, final Viewers viewers, final Blackhole blackhole) {
+        joinAndLeave(registry, viewers, blackhole);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void joinAndLeave_8threads(final Registry registry, final Viewers viewers, final Blackhole blackhole) {
+        joinAndLeave(registry, viewers, blackhole);
+    }
+
+    private static void joinAndLeave(final Registry registry, final Viewers viewers, final Blackhole blackhole) {
+        final int index = viewers.next();
+        registry.manager.addSubscriber(
+                LIVE_STREAMING_ID,
+                viewers.sessionIds[index],
+                viewers.userIds[index],
+                viewers.clientIds[index]
+        );
+        registry.manager.removeSubscriber(viewers.sessionIds[index]);
+        blackhole.consume(registry.manager.getSubscriberCount(LIVE_STREAMING_ID));
+    }
+}
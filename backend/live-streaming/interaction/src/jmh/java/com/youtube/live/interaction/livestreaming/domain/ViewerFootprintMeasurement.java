@@ -0,0 +1,79 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ViewerCountProperties;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시청자 1명당 유지 힙 크기 측정 (JOL)
+ *
+ * 한 라이브 스트리밍에 시청자를 채운 뒤 관리 객체에서 도달 가능한 객체 그래프 전체 크기를 재고 시청자 수로 나눈다.
+ * - baseline: 기존 방식 ("user:" / "client:" 문자열 키 + heartbeat마다 새 Instant)
+ * - primitive: LiveStreamingViewerManager (ViewerId long 값 + int 초)
+ *
+ * 근사 집계로 전환되지 않도록 approximateThreshold는 끈다.
+ * 실행: ./gradlew :live-streaming:interaction:viewerFootprint
+ *
+ * 측정 결과 (JDK 17.0.9, SerialGC, 시청자 200,000명, heartbeat 2회, 시청자 1명당)
+ * |                                   | 로그인 | 비로그인 (32자리 clientId) |
+ * | baseline (이 클래스)                | 122 B | 146 B |
+ * | 변경 전 문자열 키 타이밍 휠 (3704593^) | 178 B | 188 B |
+ * | primitive (현재)                   |  41 B |  94 B |
+ * 변경 전 행은 이전 LiveStreamingViewerManager / ViewerExpiryWheel을 같은 방식으로 따로 컴파일해서 쟀다.
+ */
+public final class ViewerFootprintMeasurement {
+
+    private static final Long LIVE_STREAMING_ID = 1L;
+    private static final int VIEWER_COUNT = 200_000;
+    private static final int HEARTBEATS_PER_VIEWER = 2;
+
+    private ViewerFootprintMeasurement() {
+    }
+
+    public static void main(final String[] args) {
+        final String[] clientIds = new String[VIEWER_COUNT];
+        for (int i = 0; i < VIEWER_COUNT; i++) {
+            // Tomcat 세션 ID와 같은 32자리 16진수
+            clientIds[i] = UUID.randomUUID().toString().replace("-", "");
+        }
+
+        System.out.printf("viewers=%d, heartbeats/viewer=%d, %s%n",
+                VIEWER_COUNT, HEARTBEATS_PER_VIEWER, System.getProperty("java.vm.version"));
+        System.out.printf("%-12s %12s %12s%n", "", "user", "anonymous");
+        System.out.printf("%-12s %10d B %10d B%n", "baseline",
+                baselineBytesPerViewer(clientIds, true), baselineBytesPerViewer(clientIds, false));
+        System.out.printf("%-12s %10d B %10d B%n", "primitive",
+                primitiveBytesPerViewer(clientIds, true), primitiveBytesPerViewer(clientIds, false));
+    }
+
+    private static long baselineBytesPerViewer(final String[] clientIds, final boolean loggedIn) {
+        final ConcurrentHashMap<String, Instant> viewers = new ConcurrentHashMap<>();
+        final long empty = GraphLayout.parseInstance(viewers).totalSize();
+        for (int heartbeat = 0; heartbeat < HEARTBEATS_PER_VIEWER; heartbeat++) {
+            for (int i = 0; i < VIEWER_COUNT; i++) {
+                final String viewerId = loggedIn ? "user:" + (i + 1) : "client:" + clientIds[i];
+                viewers.put(viewerId, Instant.now());
+            }
+        }
+        return (GraphLayout.parseInstance(viewers).totalSize() - empty) / VIEWER_COUNT;
+    }
+
+    private static long primitiveBytesPerViewer(final String[] clientIds, final boolean loggedIn) {
+        final ViewerCountProperties properties = new ViewerCountProperties();
+        properties.setApproximateThreshold(0);
+        final LiveStreamingViewerManager manager = new LiveStreamingViewerManager(properties);
+        manager.registerStreamer(LIVE_STREAMING_ID, 0L);
+        // 시청자가 0명일 때의 구조(빈 맵, 타이밍 휠 버킷 배열)는 빼고 잰다.
+        manager.recordHeartbeat(LIVE_STREAMING_ID, "warm-up", null);
+        final long empty = GraphLayout.parseInstance(manager).totalSize();
+        for (int heartbeat = 0; heartbeat < HEARTBEATS_PER_VIEWER; heartbeat++) {
+            for (int i = 0; i < VIEWER_COUNT; i++) {
+                manager.recordHeartbeat(LIVE_STREAMING_ID, clientIds[i], loggedIn ? (long) i + 1 : null);
+            }
+        }
+        return (GraphLayout.parseInstance(manager).totalSize() - empty) / VIEWER_COUNT;
+    }
+}
@@ -0,0 +1,109 @@
+package com.youtube.live.interaction.websocket.broker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 브로드캐스트 한 번을 구독자 10,000명에게 보낼 때의 STOMP 프레임 인코딩 비용 비교
+ *
+ * - perSession: StompSubProtocolHandler처럼 세션마다 헤더 + 본문을 StompEncoder로 인코딩
+ * - encodeOnce: BroadcastFrame을 한 번 만들고 세션마다 subscription 값만 채움
+ * distinctSubscriptionIds는 구독자가 쓰는 subscription 값의 종류 수다. (stomp.js는 sub-0, sub-1 ... 이라 대부분 몇 개로 겹친다)
+ *
+ * 브로드캐스트당 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 본다.
+ * 실행: ./gradlew :live-streaming:interaction:jmh (build.gradle.kts에서 gc 프로파일러를 켜 둠)
+ * 이 벤치마크만: ./gradlew :live-streaming:interaction:jmhJar 후
+ *   java -jar build/libs/*-jmh.jar BroadcastFrameEncodingBenchmark -prof gc
+ *
+ * 파라미터 조합마다 perSession / encodeOnce의 us/op와 gc.alloc.rate.norm을 PR에 남긴다.
+ *
+ * 측정 결과 (JDK 17, vCPU 1개, fork 1 / warmup 3x2s / 측정 5x2s, 브로드캐스트 한 번당)
+ * | subscription 종류 | 본문 | perSession | encodeOnce |
+ * | 4 | 128B | 9,680,002 B, 6,767 ± 3,861 us | 2,763 B, 80 ± 61 us |
+ * | 4 | 2KB | 28,880,003 B, 10,353 ± 9,406 us | 18,344 B, 103 ± 97 us |
+ * | 10,000 | 128B | 9,680,002 B, 9,387 ± 5,048 us | 3,284,775 B, 1,028 ± 356 us |
+ * | 10,000 | 2KB | 28,952,004 B, 13,938 ± 2,127 us | 22,492,993 B, 4,986 ± 1,833 us |
+ * subscription 값이 몇 개로 겹치면 할당량이 수천 분의 1로 줄지만, 세션마다 다르면 subscription별 프레임을 만들므로
+ * 본문이 클수록 줄어드는 폭이 작다. (2KB 본문에서 약 22%)
+ * BroadcastFrameStompEncoder는 샤드 브로커를 켤 때만 설치되므로 TopicBrokerBenchmark 결과와 함께 남긴 뒤 켠다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadcastFrameEncodingBenchmark {
+
+    private static final int SUBSCRIBERS = 10_000;
+    private static final String DESTINATION = "/topic/livestreams/1/chat/messages";
+
+    @State(Scope.Benchmark)
+    public static class Broadcast {
+
+        @Param({"4", "10000"})
+        int distinctSubscriptionIds;
+
+        @Param({"128", "2048"})
+        int payloadBytes;
+
+        final StompEncoder encoder = new StompEncoder();
+        Message<byte[]> message;
+        String[] subscriptionIds;
+        StompHeaderAccessor[] sessionHeaders;
+        long sequence;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final byte[] payload = "a".repeat(payloadBytes).getBytes(StandardCharsets.UTF_8);
+            final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(DESTINATION);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            message = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+
+            subscriptionIds = new String[SUBSCRIBERS];
+            sessionHeaders = new StompHeaderAccessor[SUBSCRIBERS];
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                subscriptionIds[i] = "sub-" + (i % distinctSubscriptionIds);
+                final StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.MESSAGE);
+                headers.setDestination(DESTINATION);
+                headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                headers.setSubscriptionId(subscriptionIds[i]);
+                headers.setMessageId("message-" + i);
+                headers.setLeaveMutable(true);
+                sessionHeaders[i] = headers;
+            }
+        }
+    }
+
+    @Benchmark
+    public void perSession(final Broadcast broadcast, final Blackhole blackhole) {
+        final byte[] payload = broadcast.message.getPayload();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            blackhole.consume(broadcast.encoder.encode(broadcast.sessionHeaders[i].getMessageHeaders(), payload));
+        }
+    }
+
+    @Benchmark
+    public void encodeOnce(final Broadcast broadcast, final Blackhole blackhole) {
+        final BroadcastFrame frame = BroadcastFrame.of(DESTINATION, broadcast.message, "broadcast-" + ++broadcast.sequence);
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            blackhole.consume(frame.encodeFor(broadcast.subscriptionIds[i]));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.youtube.live.interaction.websocket.broker;
+
+import com.youtube.live.interaction.config.OutboundDeliveryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SimpleBroker와 샤드 브로커의 /topic 발행 비용 비교
+ *
+ * 구독자 10,000 / 100,000명을 라이브 스트리밍 100개에 나눠 구독시킨 뒤,
+ * - singleStream: 라이브 스트리밍 하나에 메시지 하나를 발행
+ * - allStreams: 라이브 스트리밍 100개에 메시지를 하나씩 발행 (채팅 / 좋아요 수 브로드캐스트가 몰리는 상황)
+ * 하고 모든 구독자에게 전달될 때까지의 시간을 잰다. 전송 채널은 개수만 센다. (네트워크 / 직렬화 제외)
+ *
+ * SimpleBroker는 발행한 스레드에서 전달까지 끝내고, 샤드 브로커는 샤드 큐에 넣고 돌아오므로 전달 완료까지 기다린다.
+ * 실행: ./gradlew :live-streaming:interaction:jmh
+ *
+ * livestreaming.broker.sharded.enabled의 기본값은 false다. 배포 대상과 같은 코어 수의 장비에서 이 벤치마크를 돌려
+ * 구독자 수별 singleStream / allStreams 결과(us/op)를 PR에 남긴 뒤 켠다.
+ *
+ * 측정 결과 (JDK 17, vCPU 1개 → 샤드 1개, fork 1 / warmup 3x2s / 측정 5x2s, us/op)
+ * | 구독자 | simple singleStream | sharded singleStream | simple allStreams | sharded allStreams |
+ * | 10,000 | 14.6 ± 1.3 | 46.5 ± 11.3 | 2,537 ± 562 | 9,990 ± 1,207 |
+ * | 100,000 | 157.7 ± 7.5 | 456.4 ± 61.2 | 50,581 ± 2,269 | 124,935 ± 7,936 |
+ * 코어가 1개이면 샤드 브로커가 2.5 ~ 4배 느리다. (샤드 스레드로 넘기는 비용만 있고 병렬 전달이 없으며,
+ * 완료를 기다리는 발행 스레드와 샤드 스레드가 코어 하나를 나눠 쓴다) 여러 코어에서의 결과는 아직 없으므로 끈 채로 둔다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopicBrokerBenchmark {
+
+    private static final int LIVE_STREAMING_COUNT = 100;
+
+    @State(Scope.Benchmark)
+    public static class Brokers {
+
+        @Param({"10000", "100000"})
+        int subscribers;
+
+        final LongAdder delivered = new LongAdder();
+        final MessageChannel countingChannel = (message, timeout) -> {
+            delivered.increment();
+            return true;
+        };
+
+        SimpleBrokerMessageHandler simpleBroker;
+        ShardedTopicBrokerMessageHandler shardedBroker;
+        Message<?>[] messages;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            simpleBroker = new SimpleBrokerMessageHandler(
+                    new ExecutorSubscribableChannel(),
+                    countingChannel,
+                    new ExecutorSubscribableChannel(),
+                    List.of("/topic")
+            );
+            shardedBroker = new ShardedTopicBrokerMessageHandler(
+                    new ExecutorSubscribableChannel(),
+                    countingChannel,
+                    new ExecutorSubscribableChannel(),
+                    Runtime.getRuntime().availableProcessors(),
+                    Integer.MAX_VALUE, // 준비 단계에서 구독을 한꺼번에 넣으므로 브로드캐스트를 버리지 않게 한다.
+                    new OutboundDeliveryProperties(),
+                    new SimpleMeterRegistry()
+            );
+            simpleBroker.start();
+            shardedBroker.start();
+
+            for (int i = 0; i < subscribers; i++) {
+                // SimpleBroker는 CONNECT로 등록된 세션에만 전달한다. (샤드 브로커는 CONNECT를 처리하지 않음)
+                simpleBroker.handleMessage(connect("session-" + i));
+                final Message<?> subscribe = subscribe("session-" + i, "sub-0", destinationOf(i % LIVE_STREAMING_COUNT));
+                simpleBroker.handleMessage(subscribe);
+                shardedBroker.handleMessage(subscribe);
+            }
+            messages = new Message<?>[LIVE_STREAMING_COUNT];
+            for (int i = 0; i < LIVE_STREAMING_COUNT; i++) {
+                messages[i] = publish(destinationOf(i));
+            }
+            // 구독 뒤에 넣은 발행이 모두 전달되면 샤드 큐의 구독 처리도 끝난 것이다.
+            publishAndAwait(this, shardedBroker, LIVE_STREAMING_COUNT);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            simpleBroker.stop();
+            shardedBroker.stop();
+        }
+    }
+
+    @Benchmark
+    public long simpleBroker_singleStream(final Brokers brokers) {
+        return publishAndAwait(brokers, brokers.simpleBroker, 1);
+    }
+
+    @Benchmark
+    public long shardedBroker_singleStream(final Brokers brokers) {
+        return publishAndAwait(brokers, brokers.shardedBroker, 1);
+    }
+
+    @Benchmark
+    public long simpleBroker_allStreams(final Brokers brokers) {
+        return publishAndAwait(brokers, brokers.simpleBroker, LIVE_STREAMING_COUNT);
+    }
+
+    @Benchmark
+    public long shardedBroker_allStreams(final Brokers brokers) {
+        return publishAndAwait(brokers, brokers.shardedBroker, LIVE_STREAMING_COUNT);
+    }
+
+    private static long publishAndAwait(final Brokers brokers, final AbstractBrokerMessageHandler broker, final int streams) {
+        final long expected = brokers.delivered.sum() + (long) brokers.subscribers * streams / LIVE_STREAMING_COUNT;
+        for (int i = 0; i < streams; i++) {
+            broker.handleMessage(brokers.messages[i]);
+        }
+        while (brokers.delivered.sum() < expected) {
+            Thread.onSpinWait();
+        }
+        return expected;
+    }
+
+    private static String destinationOf(final int liveStreamingIndex) {
+        return "/topic/livestreams/" + (liveStreamingIndex + 1) + "/chat/messages";
+    }
+
+    private static Message<?> connect(final String sessionId) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<?> subscribe(final String sessionId, final String subscriptionId, final String destination) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<?> publish(final String destination) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[]{'{', '}'}, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,48 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 버스트 반응(저장하지 않는 연타 반응) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.reaction.burst")
+public class BurstReactionProperties {
+
+    /**
+     * 라이브 스트리밍별로 모인 탭 수를 종류별 합계로 한 번 브로드캐스트하는 주기
+     */
+    private Duration tickInterval = Duration.ofMillis(200);
+
+    /**
+     * 사용자당 초당 허용하는 탭 수 (넘는 탭은 버린다)
+     */
+    private int maxTapsPerSecond = 20;
+
+    /**
+     * 메시지 하나에 담을 수 있는 탭 수 (클라이언트가 연타를 모아 보내는 경우)
+     */
+    private int maxTapsPerMessage = 20;
+
+    /**
+     * 사용자별 상한을 기록하는 슬롯 수 (2의 거듭제곱, 슬롯당 8바이트)
+     */
+    private int rateLimitSlots = 1 << 16;
+
+    /**
+     * 이 시간 동안 탭이 없으면 라이브 스트리밍의 누적기를 정리한다.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(1);
+
+    /**
+     * 지난 분의 합계를 live_streaming_burst_reaction에 저장하는 주기 (브로드캐스트 tick과 별도)
+     */
+    private Duration saveInterval = Duration.ofSeconds(5);
+}
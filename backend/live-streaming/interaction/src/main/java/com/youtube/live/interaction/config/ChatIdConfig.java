@@ -0,0 +1,43 @@
+package com.youtube.live.interaction.config;
+
+import com.youtube.live.interaction.livestreaming.domain.ChatIdGenerator;
+import com.youtube.live.interaction.livestreaming.domain.SnowflakeChatIdGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ChatIdConfig {
+
+    private static final long LOCAL_NODE_ID = 0;
+
+    private final ChatIdProperties chatIdProperties;
+    private final Environment environment;
+
+    @Bean
+    @ConditionalOnMissingBean(ChatIdGenerator.class)
+    public ChatIdGenerator chatIdGenerator() {
+        return new SnowflakeChatIdGenerator(resolveNodeId());
+    }
+
+    /**
+     * nodeId를 설정하지 않은 노드끼리는 같은 ID를 발급할 수 있으므로, local 프로필이 아니면 기동을 멈춘다.
+     */
+    private long resolveNodeId() {
+        if (chatIdProperties.getNodeId() != null) {
+            return chatIdProperties.getNodeId();
+        }
+        if (environment.acceptsProfiles(Profiles.of("local"))) {
+            log.warn("livestreaming.chat.id.node-id 미설정 - local 프로필이므로 {}를 사용합니다.", LOCAL_NODE_ID);
+            return LOCAL_NODE_ID;
+        }
+        throw new IllegalStateException(
+                "livestreaming.chat.id.node-id(CHAT_NODE_ID)를 노드마다 다른 값(0 ~ " + SnowflakeChatIdGenerator.MAX_NODE_ID + ")으로 설정해야 합니다.");
+    }
+}
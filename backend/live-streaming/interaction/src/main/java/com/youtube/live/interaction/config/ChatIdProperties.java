@@ -0,0 +1,21 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 ID 생성 설정
+ *
+ * nodeId는 노드(인스턴스)마다 달라야 합니다. 같은 nodeId를 공유하는 노드끼리는 ID가 충돌할 수 있습니다.
+ * 기본값이 없으며, local 프로필이 아닌데 설정하지 않으면 기동에 실패합니다. (ChatIdConfig)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.chat.id")
+public class ChatIdProperties {
+
+    private Long nodeId;
+}
@@ -0,0 +1,32 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * V2 채팅 Long Polling 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.chat.long-poll")
+public class ChatLongPollProperties {
+
+    /**
+     * 새 채팅이 없을 때 요청을 보류하는 최대 시간 (timeout 시 빈 목록 응답)
+     *
+     * 프록시/로드밸런서의 idle timeout(일반적으로 60초)보다 짧게 설정해야 한다.
+     */
+    private Duration timeout = Duration.ofSeconds(25);
+
+    /**
+     * 여러 노드 배포(RecentChatCacheProperties#singleNode = false)에서 대기 중인 요청의 새 채팅을 DB로 다시 확인하는 간격
+     *
+     * 다른 노드에서 작성된 채팅은 이 노드의 notifyNewChat을 호출하지 않으므로, 이 간격이 최대 전달 지연이 된다.
+     */
+    private Duration recheckInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,36 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 직렬화된 채팅 폴링 응답(JSON byte[]) 캐시 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.chat.response-cache")
+public class ChatResponseCacheProperties {
+
+    /**
+     * 캐시에 보관하는 응답 byte[] 총 크기 상한
+     */
+    private DataSize maximumSize = DataSize.ofMegabytes(32);
+
+    /**
+     * 응답 보관 시간 (새 채팅이 오면 버전이 바뀌어 키가 달라지므로, 만료는 메모리 회수 용도)
+     */
+    private Duration expireAfterWrite = Duration.ofSeconds(10);
+
+    /**
+     * 최근 채팅 버전을 쓸 수 없을 때(여러 노드 배포, 버퍼를 DB와 병합하기 전) 같은 커서의 응답을 공유하는 시간
+     *
+     * 버전으로 무효화하지 못하므로 이 시간만큼 새 채팅 응답이 늦어질 수 있다. 0이면 공유하지 않고 매번 직렬화한다.
+     */
+    private Duration unversionedTtl = Duration.ofSeconds(1);
+}
@@ -0,0 +1,60 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 채팅 Write-Behind 저장 설정
+ *
+ * enabled = true 이면 채팅을 노드별 메모리 버퍼에 적재한 뒤 즉시 브로드캐스트하고,
+ * 버퍼는 batchSize 또는 flushInterval 중 먼저 도달한 기준으로 multi-row INSERT 한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.chat.write-behind")
+public class ChatWriteBehindProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 버퍼 최대 적재 개수 (초과 시 offerTimeout 동안 대기 후 거절)
+     */
+    private int capacity = 10_000;
+
+    /**
+     * 한 번의 INSERT 문에 포함할 최대 row 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 가장 오래된 채팅이 버퍼에 머무를 수 있는 최대 시간
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * 버퍼가 가득 찼을 때 STOMP 인바운드 스레드가 대기하는 최대 시간 (Backpressure)
+     */
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    /**
+     * 종료 시 남은 채팅을 flush 하기 위해 기다리는 최대 시간
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * batch INSERT 최대 시도 횟수 (모두 실패하면 한 건씩 저장하고, 그래도 실패한 채팅은 dead-letter 로그로 남긴다)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 첫 재시도 전 대기 시간 (재시도마다 두 배, 최대 maxRetryBackoff)
+     */
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    private Duration maxRetryBackoff = Duration.ofSeconds(5);
+}
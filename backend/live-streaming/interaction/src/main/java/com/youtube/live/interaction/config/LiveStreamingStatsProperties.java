@@ -0,0 +1,34 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 라이브 스트리밍 시청자 수 / 좋아요 수 시계열 설정
+ *
+ * sampleInterval마다 라이브 스트리밍별로 표본을 하나씩 쌓는다.
+ * 표본이 capacity개를 채우면 이웃한 두 표본을 하나로 합쳐 간격을 두 배로 늘리므로,
+ * 방송이 길어져도 라이브 스트리밍당 메모리는 capacity개로 고정된다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.stats")
+public class LiveStreamingStatsProperties {
+
+    private Duration sampleInterval = Duration.ofSeconds(10);
+
+    /**
+     * 라이브 스트리밍당 최대 표본 수 (짝수, 360 → 10초 간격으로 1시간, 이후 간격을 늘려 전체 방송을 덮음)
+     */
+    private int capacity = 360;
+
+    /**
+     * 종료 처리 없이 이 시간 동안 시청자가 없었던 라이브 스트리밍의 시계열은 버린다.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,51 @@
+package com.youtube.live.interaction.config;
+
+import com.youtube.live.interaction.websocket.broker.DeliveryPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 서버 → 클라이언트 전송 설정
+ *
+ * 샤드 브로커는 세션마다 전송 중인 메시지를 하나로 제한하고, 밀린 메시지는 목적지의 DeliveryPolicy에 따라 세션 큐에 남긴다.
+ * - conflatedDestinationSuffixes로 끝나는 목적지: CONFLATE (구독마다 마지막 값만)
+ * - 나머지 목적지: DROP_OLDEST (세션 큐가 maxQueuedMessages를 넘으면 오래된 것부터 버림)
+ *
+ * sendTimeLimit / sendBufferSizeLimit는 Spring WebSocket 전송 계층(ConcurrentWebSocketSessionDecorator)의 세션별 한도다.
+ * 한 번의 전송이 sendTimeLimit보다 오래 걸리거나 버퍼가 sendBufferSizeLimit를 넘으면 세션을 닫는다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.broker.outbound")
+public class OutboundDeliveryProperties {
+
+    /**
+     * 세션 하나에 쌓아 둘 수 있는 DROP_OLDEST 메시지 수
+     */
+    private int maxQueuedMessages = 256;
+
+    /**
+     * 최신 값만 전달하는 상태 목적지의 접미사
+     */
+    private List<String> conflatedDestinationSuffixes = List.of("/viewer-count", "/like-count");
+
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+    private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(512);
+
+    public DeliveryPolicy policyOf(final String destination) {
+        for (final String suffix : conflatedDestinationSuffixes) {
+            if (destination.endsWith(suffix)) {
+                return DeliveryPolicy.CONFLATE;
+            }
+        }
+        return DeliveryPolicy.DROP_OLDEST;
+    }
+}
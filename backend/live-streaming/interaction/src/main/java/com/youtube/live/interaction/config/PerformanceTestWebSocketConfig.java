@@ -17,6 +17,7 @@ import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
 import java.util.List;
@@ -32,11 +33,12 @@ import java.util.Map;
  * - 엔드포인트: /ws-direct
  *
  * 동일한 설정:
- * - SimpleBroker, TaskScheduler, Heartbeat
+ * - SimpleBroker(샤드 브로커 사용 시 /queue만), TaskScheduler, Heartbeat
  * - CustomHandshakeInterceptor
  * - WebSocketAuthInterceptor
  * - AuthUserArgumentResolver
  * - 메시지 순서 보장
+ * - 세션별 전송 한도 (sendTimeLimit / sendBufferSizeLimit)
  *
  * 목적: Gatling 성능 테스트를 위한 Raw WebSocket 엔드포인트 제공
  */
@@ -45,8 +47,19 @@ import java.util.Map;
 @EnableWebSocketMessageBroker
 public class PerformanceTestWebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ShardedBrokerProperties shardedBrokerProperties;
+    private final OutboundDeliveryProperties outboundDeliveryProperties;
+
     private TaskScheduler messageBrokerTaskScheduler;
 
+    public PerformanceTestWebSocketConfig(
+            final ShardedBrokerProperties shardedBrokerProperties,
+            final OutboundDeliveryProperties outboundDeliveryProperties
+    ) {
+        this.shardedBrokerProperties = shardedBrokerProperties;
+        this.outboundDeliveryProperties = outboundDeliveryProperties;
+    }
+
     /**
      * STOMP heartbeat를 위한 TaskScheduler를 주입받습니다.
      *
@@ -74,7 +87,7 @@ public class PerformanceTestWebSocketConfig implements WebSocketMessageBrokerCon
      */
     @Override
     public void configureMessageBroker(final MessageBrokerRegistry config) {
-        config.enableSimpleBroker(WebSocketConfig.Destinations.TOPIC_PREFIX, WebSocketConfig.Destinations.QUEUE_PREFIX)
+        config.enableSimpleBroker(shardedBrokerProperties.simpleBrokerPrefixes())
                 .setTaskScheduler(this.messageBrokerTaskScheduler)
                 .setHeartbeatValue(new long[]{180000, 180000});
         config.setApplicationDestinationPrefixes(WebSocketConfig.Destinations.APP_PREFIX);
@@ -101,6 +114,15 @@ public class PerformanceTestWebSocketConfig implements WebSocketMessageBrokerCon
         registry.setPreserveReceiveOrder(true);
     }
 
+    /**
+     * 세션별 전송 한도를 설정합니다. (WebSocketConfig와 동일)
+     */
+    @Override
+    public void configureWebSocketTransport(final WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) outboundDeliveryProperties.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit((int) outboundDeliveryProperties.getSendBufferSizeLimit().toBytes());
+    }
+
     /**
      * 클라이언트 인바운드 채널에 인터셉터를 등록합니다.
      *
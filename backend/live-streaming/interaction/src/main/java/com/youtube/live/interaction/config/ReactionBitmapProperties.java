@@ -0,0 +1,34 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 라이브 스트리밍별 좋아요 / 싫어요 사용자 bitmap 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.reaction.bitmap")
+public class ReactionBitmapProperties {
+
+    /**
+     * 다른 노드에서 바뀐 반응을 DB에서 따라잡는 주기
+     */
+    private Duration syncInterval = Duration.ofSeconds(5);
+
+    /**
+     * 동기화할 때 직전 동기화 시작 시각보다 이만큼 앞선 변경부터 다시 읽는다.
+     * (커밋이 늦게 끝난 row, 노드 간 시계 차이로 last_modified_date가 앞선 row를 놓치지 않도록)
+     */
+    private Duration syncOverlap = Duration.ofSeconds(10);
+
+    /**
+     * 조회가 없으면 bitmap을 버리는 유휴 시간 (다음 조회 때 DB에서 다시 적재한다)
+     */
+    private Duration idleTimeout = Duration.ofMinutes(30);
+}
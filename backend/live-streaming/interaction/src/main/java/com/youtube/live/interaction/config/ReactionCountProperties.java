@@ -0,0 +1,28 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 라이브 스트리밍별 좋아요 / 싫어요 수 메모리 집계 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.reaction.count")
+public class ReactionCountProperties {
+
+    /**
+     * 메모리 집계를 DB 값으로 보정하는 주기
+     */
+    private Duration reconcileInterval = Duration.ofSeconds(60);
+
+    /**
+     * 조회가 없으면 집계를 버리는 유휴 시간 (다음 조회 때 DB에서 다시 채운다)
+     */
+    private Duration idleTimeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,60 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 반응(좋아요 / 싫어요) 토글 Write-Behind 저장 설정
+ *
+ * enabled = true 이면 토글을 (라이브 스트리밍, 사용자)별 메모리 상태에 즉시 반영하고 응답하며,
+ * flushInterval마다 마지막 상태만 모아 INSERT ... ON DUPLICATE KEY UPDATE 한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.reaction.write-behind")
+public class ReactionWriteBehindProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 저장을 기다리는 (라이브 스트리밍, 사용자) 최대 개수 (초과 시 새 토글을 거절)
+     */
+    private int capacity = 100_000;
+
+    /**
+     * 한 번의 INSERT 문에 포함할 최대 row 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 토글이 메모리에 머무를 수 있는 최대 시간 (이 시간 동안의 연타는 한 번의 쓰기로 합쳐진다)
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * 토글이 없으면 메모리 상태를 버리는 유휴 시간 (다음 토글 때 DB에서 다시 읽는다)
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * 종료 시 남은 토글을 flush 하기 위해 기다리는 최대 시간
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 반응 하나의 최대 저장 시도 횟수 (모두 실패하면 dead-letter 로그로 남기고 메모리 상태를 버린다)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 첫 재시도 전 대기 시간 (재시도마다 두 배, 최대 maxRetryBackoff)
+     */
+    private Duration retryBackoff = Duration.ofMillis(500);
+
+    private Duration maxRetryBackoff = Duration.ofSeconds(10);
+}
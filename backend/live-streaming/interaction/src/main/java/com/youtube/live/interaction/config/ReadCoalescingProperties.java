@@ -0,0 +1,36 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 동일 조회 병합(Single-Flight) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.read-coalescing")
+public class ReadCoalescingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 먼저 실행 중인 조회를 기다리는 최대 시간 (초과 시 직접 조회)
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 조회 종류(group)별 대기 시간 (예: metadata: 2s)
+     */
+    private Map<String, Duration> timeouts = new HashMap<>();
+
+    public Duration timeoutOf(final String group) {
+        return timeouts.getOrDefault(group, defaultTimeout);
+    }
+}
@@ -0,0 +1,43 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 라이브 스트리밍별 최근 채팅 캐시 설정
+ *
+ * 신규 시청자의 초기 채팅 조회를 DB 대신 노드 메모리의 링 버퍼에서 응답한다.
+ * 링 버퍼에는 이 노드에서 작성된 채팅만 추가되므로 singleNode = true 일 때만 메모리에서 응답한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.chat.recent-cache")
+public class RecentChatCacheProperties {
+
+    /**
+     * 라이브 스트리밍별로 보관하는 최근 채팅 수 (cold miss 시 DB에서 채우는 개수)
+     */
+    private int capacity = 200;
+
+    /**
+     * 채팅 작성/조회가 없으면 버퍼를 제거하는 유휴 시간
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * 채팅을 쓰고 읽는 노드가 하나뿐인 배포인지 여부
+     *
+     * false(여러 노드)이면 다른 노드에서 작성된 채팅이 링 버퍼에 없어 누락 없이 응답했음을 보장할 수 없으므로,
+     * 초기 채팅 / 새 채팅 조회를 DB에서 응답하고 (ReadCoalescer로 동시 요청은 한 번만 조회)
+     * Long Polling은 ChatLongPollProperties#recheckInterval마다 DB를 다시 확인한다.
+     *
+     * 현재 배포(vm 프로필)는 여러 노드이므로 false이고, 링 버퍼 응답은 테스트 프로필에서만 켜진다.
+     * 여러 노드에서 쓰려면 노드 간 채팅 전파가 먼저 필요하다.
+     */
+    private boolean singleNode = false;
+}
@@ -0,0 +1,54 @@
+package com.youtube.live.interaction.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 작업 스레드 풀
+ *
+ * 기본 스케줄러는 스레드 하나로 모든 @Scheduled 작업을 돌리므로, DB flush가 느려지면 브로드캐스트 tick까지 밀린다.
+ * - schedulingTaskScheduler: flush / 동기화 / 정리 작업 (poolSize)
+ * - broadcastTaskScheduler: 브로드캐스트 tick 전용 (@Scheduled(scheduler = BROADCAST_TASK_SCHEDULER))
+ *
+ * 두 스케줄러 모두 autowireCandidate = false로 등록한다.
+ * WebSocketConfig가 STOMP heartbeat용 TaskScheduler를 타입으로 주입받으므로 후보가 늘어나지 않도록 한다.
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    public static final String BROADCAST_TASK_SCHEDULER = "broadcastTaskScheduler";
+
+    private final SchedulingProperties schedulingProperties;
+
+    public SchedulingConfig(final SchedulingProperties schedulingProperties) {
+        this.schedulingProperties = schedulingProperties;
+    }
+
+    @Bean(autowireCandidate = false)
+    public ThreadPoolTaskScheduler schedulingTaskScheduler() {
+        return createScheduler("scheduling-", schedulingProperties.getPoolSize());
+    }
+
+    @Bean(name = BROADCAST_TASK_SCHEDULER, autowireCandidate = false)
+    public ThreadPoolTaskScheduler broadcastTaskScheduler() {
+        return createScheduler("broadcast-tick-", schedulingProperties.getBroadcastPoolSize());
+    }
+
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(schedulingTaskScheduler());
+    }
+
+    private static ThreadPoolTaskScheduler createScheduler(final String threadNamePrefix, final int poolSize) {
+        final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        // 종료 시 진행 중인 flush는 마치고, 아직 시작하지 않은 주기 작업은 버린다.
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+}
@@ -0,0 +1,27 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Scheduled 작업 스레드 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.scheduling")
+public class SchedulingProperties {
+
+    /**
+     * flush / 동기화 / 정리 작업을 실행하는 스레드 수
+     * (DB 저장이 느려져도 다른 주기 작업이 밀리지 않도록 작업 수보다 적지 않게 둔다)
+     */
+    private int poolSize = 4;
+
+    /**
+     * 브로드캐스트 tick(버스트 반응, 좋아요 수, 시청자 수)만 실행하는 스레드 수
+     */
+    private int broadcastPoolSize = 2;
+}
@@ -0,0 +1,66 @@
+package com.youtube.live.interaction.config;
+
+import com.youtube.live.interaction.websocket.broker.BroadcastFrameStompEncoder;
+import com.youtube.live.interaction.websocket.broker.ShardedTopicBrokerMessageHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * /topic 목적지를 SimpleBroker 대신 샤드 브로커로 처리한다.
+ *
+ * 브로커는 SmartLifecycle로 시작하면서 clientInboundChannel / brokerChannel을 구독하므로,
+ * SimpleBroker와 나란히 같은 채널의 메시지를 받고 각자 맡은 접두사의 목적지만 처리한다. (ShardedBrokerProperties#simpleBrokerPrefixes)
+ */
+@Configuration
+@ConditionalOnProperty(name = "livestreaming.broker.sharded.enabled", havingValue = "true")
+public class ShardedBrokerConfig {
+
+    @Bean
+    public ShardedTopicBrokerMessageHandler shardedTopicBrokerMessageHandler(
+            @Qualifier("clientInboundChannel") final SubscribableChannel clientInboundChannel,
+            @Qualifier("clientOutboundChannel") final MessageChannel clientOutboundChannel,
+            @Qualifier("brokerChannel") final SubscribableChannel brokerChannel,
+            final ShardedBrokerProperties shardedBrokerProperties,
+            final OutboundDeliveryProperties outboundDeliveryProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        // 세션별 발행 순서는 SessionOutbox가 보장한다. (세션마다 전송 중인 메시지는 하나)
+        return new ShardedTopicBrokerMessageHandler(
+                clientInboundChannel,
+                clientOutboundChannel,
+                brokerChannel,
+                shardedBrokerProperties.resolveShards(),
+                shardedBrokerProperties.getMaxPendingBroadcasts(),
+                outboundDeliveryProperties,
+                meterRegistry
+        );
+    }
+
+    /**
+     * 샤드 브로커가 실어 보낸 BroadcastFrame을 그대로 쓰도록 STOMP 인코더를 바꾼다.
+     * (WebSocketMessageBrokerConfigurer로는 인코더를 지정할 수 없어, 핸들러가 만들어진 뒤 시작되기 전에 교체한다)
+     */
+    @Bean
+    public SmartInitializingSingleton broadcastFrameStompEncoderInstaller(
+            @Qualifier("subProtocolWebSocketHandler") final WebSocketHandler subProtocolWebSocketHandler
+    ) {
+        return () -> {
+            if (!(subProtocolWebSocketHandler instanceof SubProtocolWebSocketHandler handler)) {
+                return;
+            }
+            handler.getProtocolHandlers().stream()
+                    .filter(StompSubProtocolHandler.class::isInstance)
+                    .map(StompSubProtocolHandler.class::cast)
+                    .forEach(protocolHandler -> protocolHandler.setEncoder(new BroadcastFrameStompEncoder()));
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * /topic 구독 전용 샤드 브로커 설정
+ *
+ * enabled = true 이면 /topic 목적지는 ShardedTopicBrokerMessageHandler가 맡고,
+ * SimpleBroker는 /queue 목적지(@SendToUser 오류 응답 등)와 CONNECT / heartbeat만 처리한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.broker.sharded")
+public class ShardedBrokerProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 샤드(전달 스레드) 수 (0이면 CPU 코어 수)
+     */
+    private int shards = 0;
+
+    /**
+     * 샤드별로 처리를 기다릴 수 있는 브로드캐스트 수 (넘치면 새 브로드캐스트를 버린다)
+     * 좋아요 수 / 시청자 수는 다음 tick에 다시 발행되고, 채팅은 long polling / 최근 채팅 조회로 다시 읽을 수 있다.
+     */
+    private int maxPendingBroadcasts = 10_000;
+
+    public int resolveShards() {
+        return shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * SimpleBroker가 맡을 목적지 접두사
+     */
+    public String[] simpleBrokerPrefixes() {
+        if (enabled) {
+            return new String[]{WebSocketConfig.Destinations.QUEUE_PREFIX};
+        }
+        return new String[]{WebSocketConfig.Destinations.TOPIC_PREFIX, WebSocketConfig.Destinations.QUEUE_PREFIX};
+    }
+}
@@ -0,0 +1,44 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 시청자 수 발행 설정
+ *
+ * tickInterval마다 라이브 스트리밍별로 발행 여부를 판단한다.
+ * 화면에 보이는 값(예: 12K)이 바뀐 경우에만 발행하고, 시청자가 많을수록 발행 간격을 늘린다.
+ * 시청자 수가 churnRatio 이상 급변하면 규모와 관계없이 minInterval 간격으로 발행한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.viewer.broadcast")
+public class ViewerCountBroadcastProperties {
+
+    /**
+     * 발행 여부를 판단하는 주기 (minInterval 이하여야 한다)
+     */
+    private Duration tickInterval = Duration.ofSeconds(5);
+
+    /**
+     * 시청자 1,000명 미만 라이브 스트리밍의 발행 간격
+     * (10만 명 미만은 두 배, 그 이상은 네 배)
+     */
+    private Duration minInterval = Duration.ofSeconds(5);
+
+    /**
+     * 값이 바뀌지 않아도 이 간격마다 한 번은 발행한다. (메시지가 유실된 구독자도 결국 현재 값을 받도록)
+     * 새로 구독한 세션은 구독 시점에 현재 값을 바로 받으므로 이 간격을 기다리지 않는다.
+     */
+    private Duration maxInterval = Duration.ofSeconds(60);
+
+    /**
+     * 마지막 발행 값 대비 변화율이 이 값 이상이면 minInterval 간격으로 발행한다.
+     */
+    private double churnRatio = 0.1;
+}
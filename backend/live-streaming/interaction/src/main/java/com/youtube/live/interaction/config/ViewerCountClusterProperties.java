@@ -0,0 +1,43 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 다중 노드 시청자 수 합산 설정
+ *
+ * enabled = true 이면 노드마다 syncInterval 주기로 자신의 라이브 스트리밍별 시청자 수와
+ * heartbeat 시청자 스케치를 ViewerCountStore에 올리고, 다른 노드가 올린 값과 합산한다.
+ * staleAfter 동안 갱신이 없는 노드(종료/장애)의 값은 합산에서 제외한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.viewer.cluster")
+public class ViewerCountClusterProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * memory: 같은 JVM 안에서만 공유 (단일 노드, 테스트용 다중 노드)
+     * jdbc: live_streaming_viewer_count 테이블로 노드 간 공유
+     */
+    private String store = "memory";
+
+    /**
+     * 노드 식별자 (노드마다 고유해야 하며, 지정하지 않으면 기동할 때마다 새로 만든다)
+     */
+    private String nodeId = UUID.randomUUID().toString();
+
+    private Duration syncInterval = Duration.ofSeconds(5);
+
+    /**
+     * syncInterval보다 충분히 길어야 한다. (동기화가 한두 번 늦어져도 시청자 수가 빠지지 않도록)
+     */
+    private Duration staleAfter = Duration.ofSeconds(20);
+}
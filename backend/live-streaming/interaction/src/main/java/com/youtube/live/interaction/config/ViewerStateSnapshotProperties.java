@@ -0,0 +1,33 @@
+package com.youtube.live.interaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 재시작 시 메모리 상태(시청자 / 스트리머 등록 / 라이브 상태 캐시) 스냅샷 설정
+ *
+ * enabled = true 이면 정상 종료 시 path에 스냅샷을 쓰고, 기동 시 읽어서 복원한 뒤 삭제한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livestreaming.snapshot")
+public class ViewerStateSnapshotProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 노드 로컬 파일 경로 (재배포 후에도 유지되는 디렉토리여야 한다)
+     */
+    private String path = "snapshot/live-streaming-state.bin";
+
+    /**
+     * 서버가 이 시간 이하로 내려가 있었다면 heartbeat 시각을 내려가 있던 시간만큼 뒤로 옮겨 시청자를 유지한다.
+     * 더 오래 내려가 있었다면 heartbeat 시청자는 만료된 것으로 보고, 스트리머 등록 / 누적 시청자 / 캐시만 복원한다.
+     */
+    private Duration maxDowntime = Duration.ofMinutes(2);
+}
@@ -13,6 +13,7 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import java.util.List;
 
@@ -26,8 +27,19 @@ import java.util.List;
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ShardedBrokerProperties shardedBrokerProperties;
+    private final OutboundDeliveryProperties outboundDeliveryProperties;
+
     private TaskScheduler messageBrokerTaskScheduler;
 
+    public WebSocketConfig(
+            final ShardedBrokerProperties shardedBrokerProperties,
+            final OutboundDeliveryProperties outboundDeliveryProperties
+    ) {
+        this.shardedBrokerProperties = shardedBrokerProperties;
+        this.outboundDeliveryProperties = outboundDeliveryProperties;
+    }
+
     /**
      * STOMP heartbeat를 위한 TaskScheduler를 주입받습니다.
      *
@@ -52,6 +64,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * - "/app" 접두사: 클라이언트가 서버의 @MessageMapping 메서드로 메시지를 전송할 때 사용
      *   (예: /app/livestreams/1/chat/messages → @MessageMapping("/livestreams/{livestreamId}/chat/messages"))
      *
+     * livestreaming.broker.sharded.enabled = true 이면 "/topic"은 ShardedTopicBrokerMessageHandler가 맡고
+     * SimpleBroker에는 "/queue"만 등록합니다. (ShardedBrokerConfig 참고)
+     *
      * setPreservePublishOrder(true): 서버에서 클라이언트로 메시지를 발행할 때 순서를 보장합니다.
      * 같은 세션의 아웃바운드 메시지가 순서대로 전송됩니다.
      *
@@ -68,7 +83,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker(Destinations.TOPIC_PREFIX, Destinations.QUEUE_PREFIX)
+        config.enableSimpleBroker(shardedBrokerProperties.simpleBrokerPrefixes())
                 .setTaskScheduler(this.messageBrokerTaskScheduler)
                 .setHeartbeatValue(new long[]{10000, 10000}); // [서버→클라이언트, 클라이언트→서버] 간격 (ms)
         config.setApplicationDestinationPrefixes(Destinations.APP_PREFIX);
@@ -101,6 +116,22 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setPreserveReceiveOrder(true);
     }
 
+    /**
+     * 세션별 전송 한도를 설정합니다.
+     *
+     * Spring은 세션마다 전송을 직렬화하고, 다른 스레드가 전송 중일 때 도착한 메시지는 세션 버퍼에 쌓습니다.
+     * - setSendTimeLimit: 한 번의 전송이 이 시간보다 오래 걸리면 세션을 닫습니다. (모바일처럼 느린 클라이언트)
+     * - setSendBufferSizeLimit: 세션 버퍼가 이 크기를 넘으면 세션을 닫습니다.
+     * /topic 메시지는 샤드 브로커의 세션 큐(SessionOutbox)가 먼저 상한을 두므로, 이 버퍼에는 heartbeat / /queue 메시지 정도만 쌓입니다.
+     *
+     * @see <a href="https://docs.spring.io/spring-framework/reference/web/websocket/stomp/configuration-performance.html">Spring Framework - Performance</a>
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) outboundDeliveryProperties.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit((int) outboundDeliveryProperties.getSendBufferSizeLimit().toBytes());
+    }
+
     /**
      * 클라이언트 인바운드 채널에 인터셉터를 등록합니다.
      *
@@ -138,6 +169,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // Topic destinations
         public static final String CHAT_LIVESTREAM_MESSAGES_TOPIC = "/topic/livestreams/{livestreamId}/chat/messages";
         public static final String CHAT_LIVESTREAM_VIEWER_COUNT_TOPIC = "/topic/livestreams/{livestreamId}/viewer-count";
+        public static final String LIVESTREAM_BURSTS_TOPIC = "/topic/livestreams/{livestreamId}/bursts";
 
         public static String getChatLivestreamMessagesTopic(Long livestreamId) {
             return CHAT_LIVESTREAM_MESSAGES_TOPIC.replace("{livestreamId}", String.valueOf(livestreamId));
@@ -146,5 +178,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         public static String getChatLivestreamViewerCountTopic(Long livestreamId) {
             return CHAT_LIVESTREAM_VIEWER_COUNT_TOPIC.replace("{livestreamId}", String.valueOf(livestreamId));
         }
+
+        public static String getLivestreamBurstsTopic(Long livestreamId) {
+            return LIVESTREAM_BURSTS_TOPIC.replace("{livestreamId}", String.valueOf(livestreamId));
+        }
     }
 }
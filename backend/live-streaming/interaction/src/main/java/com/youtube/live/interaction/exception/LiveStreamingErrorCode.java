@@ -11,7 +11,9 @@ public enum LiveStreamingErrorCode implements ErrorCode {
     LIVE_STREAMING_NOT_FOUND("LIVE_002", "라이브 스트리밍을 찾을 수 없습니다", 404),
     REACTION_ALREADY_EXISTS("LIVE_003", "이미 반응을 남겼습니다", 409),
     INVALID_LAST_CHAT_ID("LIVE_004", "lastChatId는 양수여야 합니다", 400),
-    NOT_OWNER_OF_LIVE_STREAMING("LIVE_005", "본인의 라이브 스트리밍만 종료할 수 있습니다", 403);
+    NOT_OWNER_OF_LIVE_STREAMING("LIVE_005", "본인의 라이브 스트리밍만 종료할 수 있습니다", 403),
+    CHAT_WRITE_BUFFER_FULL("LIVE_006", "채팅 요청이 많아 잠시 후 다시 시도해주세요", 429),
+    REACTION_WRITE_BUFFER_FULL("LIVE_007", "반응 요청이 많아 잠시 후 다시 시도해주세요", 429);
 
     private final String code;
     private final String message;
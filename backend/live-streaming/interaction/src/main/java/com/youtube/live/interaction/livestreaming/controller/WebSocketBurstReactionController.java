@@ -0,0 +1,40 @@
+package com.youtube.live.interaction.livestreaming.controller;
+
+import com.youtube.live.interaction.livestreaming.controller.dto.BurstReactionRequest;
+import com.youtube.live.interaction.livestreaming.domain.BurstReactionAccumulator;
+import com.youtube.live.interaction.websocket.auth.AuthUser;
+import com.youtube.live.interaction.websocket.auth.LoginUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 버스트 반응(떠오르는 하트 등) 수신
+ *
+ * 탭은 저장하지 않고 누적기에만 더한다. 응답도 보내지 않으며, 방송 중이 아니거나 상한을 넘은 탭은 조용히 버린다.
+ * 구독자는 /topic/livestreams/{livestreamId}/bursts로 tick마다 종류별 합계를 받는다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class WebSocketBurstReactionController {
+
+    private final BurstReactionAccumulator burstReactionAccumulator;
+
+    @MessageMapping("/livestreams/{livestreamId}/bursts")
+    public void tap(@DestinationVariable final Long livestreamId,
+                    @Payload final BurstReactionRequest burstReactionRequest,
+                    @AuthUser LoginUser loginUser
+    ) {
+        if (burstReactionRequest.getEmoji() == null) {
+            return;
+        }
+        burstReactionAccumulator.tap(
+                livestreamId,
+                loginUser.getUserId(),
+                burstReactionRequest.getEmoji(),
+                burstReactionRequest.getCount()
+        );
+    }
+}
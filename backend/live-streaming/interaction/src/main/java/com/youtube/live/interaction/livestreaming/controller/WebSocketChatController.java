@@ -68,7 +68,7 @@ public class WebSocketChatController {
         );
 
         return new ChatMessageResponse(
-                null,
+                savedChatInfo.getChatId(),
                 username,
                 chatMessageRequest.getMessage(),
                 chatMessageRequest.getChatMessageType(),
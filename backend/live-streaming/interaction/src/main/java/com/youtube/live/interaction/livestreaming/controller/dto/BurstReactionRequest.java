@@ -0,0 +1,15 @@
+package com.youtube.live.interaction.livestreaming.controller.dto;
+
+import com.youtube.live.interaction.livestreaming.domain.BurstEmoji;
+import lombok.Data;
+
+@Data
+public class BurstReactionRequest {
+
+    private BurstEmoji emoji;
+
+    /**
+     * 클라이언트가 짧은 시간 동안의 연타를 모아 보낼 때의 탭 수 (없으면 1)
+     */
+    private int count = 1;
+}
@@ -0,0 +1,15 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+/**
+ * 버스트 반응(떠오르는 하트 등)의 종류
+ *
+ * 저장하지 않는 반응이다. 라이브 스트리밍별 누적 카운터를 ordinal 순서의 배열로 두므로 값 추가는 뒤에만 한다.
+ */
+public enum BurstEmoji {
+
+    HEART,
+    LAUGH,
+    WOW,
+    CLAP,
+    FIRE
+}
@@ -0,0 +1,65 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 초당 버스트 반응 상한
+ *
+ * 사용자 id를 해시해 고정 크기 슬롯 배열에 나눠 담고, 슬롯마다 (초 단위 window, 사용한 횟수)를 long 하나에 묶어 CAS로 갱신한다.
+ * 사용자별 객체를 만들지 않으므로 탭마다 할당이 없고, 메모리는 슬롯 수 x 8바이트로 고정된다.
+ *
+ * 서로 다른 사용자가 같은 슬롯에 모이면 상한을 나눠 쓰게 된다. 상한이 느슨해지는 일은 없고 조금 엄격해질 뿐이므로,
+ * 동시에 탭하는 사용자 수보다 슬롯을 충분히 크게 잡는다.
+ */
+final class BurstRateLimiter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final int maxTapsPerSecond;
+
+    BurstRateLimiter(final int slotCount, final int maxTapsPerSecond) {
+        if (slotCount <= 0 || Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("slotCount는 2의 거듭제곱이어야 합니다: " + slotCount);
+        }
+        if (maxTapsPerSecond <= 0 || maxTapsPerSecond > COUNT_MASK) {
+            throw new IllegalArgumentException("maxTapsPerSecond 범위를 벗어났습니다: " + maxTapsPerSecond);
+        }
+        this.slots = new AtomicLongArray(slotCount);
+        this.mask = slotCount - 1;
+        this.maxTapsPerSecond = maxTapsPerSecond;
+    }
+
+    /**
+     * @return 허용한 탭 수 (0 ~ taps, 이번 초의 남은 한도만큼만 허용)
+     */
+    int tryAcquire(final long userId, final int taps, final long nowMillis) {
+        final int index = slotOf(userId);
+        final long window = nowMillis / 1_000;
+        while (true) {
+            final long current = slots.get(index);
+            final long used = (current >>> COUNT_BITS) == window ? current & COUNT_MASK : 0;
+            final int allowed = (int) Math.min(taps, maxTapsPerSecond - used);
+            if (allowed <= 0) {
+                return 0;
+            }
+            if (slots.compareAndSet(index, current, (window << COUNT_BITS) | (used + allowed))) {
+                return allowed;
+            }
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0);
+        }
+    }
+
+    private int slotOf(final long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+}
@@ -0,0 +1,367 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.common.exception.BaseException;
+import com.youtube.live.interaction.config.BurstReactionProperties;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingBurstReactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 라이브 스트리밍별 버스트 반응 누적기
+ *
+ * 버스트 반응은 ReactionWriter / live_streaming_reaction을 거치지 않는다.
+ * - 탭: 사용자별 초당 상한(BurstRateLimiter)을 통과한 만큼 라이브 스트리밍 / 종류별 LongAdder에 더한다. (락, 할당 없음)
+ * - tick: tickInterval마다 LongAdder를 비워 종류별 합계를 돌려주고, 같은 값을 분 단위 합계에 더한다.
+ * - 분이 바뀌면 지난 분의 합계를 저장 대기열로 넘긴다. (tick 하나만큼 이전 분으로 몰릴 수 있다)
+ * - 저장: saveInterval마다 대기열을 live_streaming_burst_reaction에 더한다.
+ *   브로드캐스트 tick과 다른 스레드에서 누적기 lock 밖에서 실행하므로, DB가 느려도 tick과 탭은 기다리지 않는다.
+ *
+ * 방송 중인 라이브 스트리밍만 받는다. 상태는 누적기를 처음 만들 때만 확인하고, 종료되면 evict로 정리한다.
+ * 탭이 idleTimeout 동안 없으면 누적기를 정리하며, 정리와 동시에 들어온 탭은 버려질 수 있다. (저장하지 않는 반응)
+ *
+ * 종료 처리: SmartLifecycle로 웹 서버 종료 이후에 정지하며, 정지 시 진행 중인 분의 합계까지 저장한다.
+ * evict / stop도 합계를 대기열로 넘기는 것까지만 lock 안에서 하고 저장은 lock을 놓은 뒤에 한다.
+ */
+@Slf4j
+@Component
+public class BurstReactionAccumulator implements SmartLifecycle {
+
+    /**
+     * 웹 서버(WebServerStartStopLifecycle)보다 나중에 정지하기 위한 phase
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final BurstEmoji[] EMOJIS = BurstEmoji.values();
+    private static final long MINUTE_MILLIS = 60_000;
+
+    /**
+     * multi-row INSERT 하나에 담는 row 수 (row당 바인딩 4개)
+     */
+    private static final int SAVE_CHUNK_SIZE = 1_000;
+
+    /**
+     * DB 장애가 길어지면 저장하지 못한 분 단위 합계를 이 개수까지만 들고 있는다.
+     */
+    private static final int MAX_UNSAVED_MINUTE_TOTALS = 100_000;
+
+    private static final class Bursts {
+
+        private final LongAdder[] pendingTaps = new LongAdder[EMOJIS.length];
+        private volatile long lastTapMillis;
+
+        /**
+         * tick / evict / stop에서만(누적기 lock 안에서) 읽고 쓴다.
+         */
+        private final long[] minuteTotals = new long[EMOJIS.length];
+        private long minuteStartMillis;
+
+        private Bursts(final long nowMillis) {
+            for (int i = 0; i < pendingTaps.length; i++) {
+                pendingTaps[i] = new LongAdder();
+            }
+            this.lastTapMillis = nowMillis;
+            this.minuteStartMillis = minuteStartOf(nowMillis);
+        }
+    }
+
+    private final ConcurrentHashMap<Long, Bursts> liveStreamingToBursts = new ConcurrentHashMap<>();
+
+    /**
+     * 저장을 기다리는 분 단위 합계 (자기 자신을 lock으로 쓴다)
+     */
+    private final List<LiveStreamingBurstReaction> unsavedMinuteTotals = new ArrayList<>();
+
+    /**
+     * 저장은 한 번에 하나만 (같은 row를 두 스레드가 동시에 더하지 않도록)
+     */
+    private final Object saveLock = new Object();
+
+    private final LiveStreamingReader liveStreamingReader;
+    private final LiveStreamingBurstReactionRepository liveStreamingBurstReactionRepository;
+    private final BurstReactionProperties properties;
+    private final BurstRateLimiter rateLimiter;
+    private final LongSupplier currentTimeMillis;
+
+    private final Counter acceptedCounter;
+    private final Counter throttledCounter;
+    private final Counter savedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running = false;
+
+    @Autowired
+    public BurstReactionAccumulator(
+            final LiveStreamingReader liveStreamingReader,
+            final LiveStreamingBurstReactionRepository liveStreamingBurstReactionRepository,
+            final BurstReactionProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this(liveStreamingReader, liveStreamingBurstReactionRepository, properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    BurstReactionAccumulator(
+            final LiveStreamingReader liveStreamingReader,
+            final LiveStreamingBurstReactionRepository liveStreamingBurstReactionRepository,
+            final BurstReactionProperties properties,
+            final MeterRegistry meterRegistry,
+            final LongSupplier currentTimeMillis
+    ) {
+        this.liveStreamingReader = liveStreamingReader;
+        this.liveStreamingBurstReactionRepository = liveStreamingBurstReactionRepository;
+        this.properties = properties;
+        this.rateLimiter = new BurstRateLimiter(properties.getRateLimitSlots(), properties.getMaxTapsPerSecond());
+        this.currentTimeMillis = currentTimeMillis;
+
+        Gauge.builder("livestreaming.reaction.burst.streams", liveStreamingToBursts, Map::size)
+                .description("버스트 반응을 모으고 있는 라이브 스트리밍 수")
+                .register(meterRegistry);
+        this.acceptedCounter = Counter.builder("livestreaming.reaction.burst.taps")
+                .description("받아들인 버스트 반응 탭 수")
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("livestreaming.reaction.burst.throttled")
+                .description("사용자별 초당 상한을 넘어 버린 탭 수")
+                .register(meterRegistry);
+        this.savedCounter = Counter.builder("livestreaming.reaction.burst.minute-totals.saved")
+                .description("저장한 분 단위 합계 row 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("livestreaming.reaction.burst.minute-totals.dropped")
+                .description("저장 실패가 길어져 버린 분 단위 합계 row 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param taps 메시지 하나에 모아 보낸 탭 수 (1 ~ maxTapsPerMessage로 맞춘다)
+     * @return 받아들인 탭 수 (방송 중이 아니거나 상한을 넘으면 0)
+     */
+    public int tap(final Long liveStreamingId, final Long userId, final BurstEmoji emoji, final int taps) {
+        final long nowMillis = currentTimeMillis.getAsLong();
+        final Bursts bursts = burstsOf(liveStreamingId, nowMillis);
+        if (bursts == null) {
+            return 0;
+        }
+
+        final int requested = Math.min(Math.max(taps, 1), properties.getMaxTapsPerMessage());
+        final int allowed = rateLimiter.tryAcquire(userId, requested, nowMillis);
+        if (allowed < requested) {
+            throttledCounter.increment(requested - allowed);
+        }
+        if (allowed == 0) {
+            return 0;
+        }
+
+        bursts.pendingTaps[emoji.ordinal()].add(allowed);
+        bursts.lastTapMillis = nowMillis;
+        acceptedCounter.increment(allowed);
+        return allowed;
+    }
+
+    /**
+     * 직전 tick 이후 모인 탭을 비운다.
+     *
+     * @return 탭이 있었던 라이브 스트리밍별 종류별 탭 수 (탭이 없던 종류는 빠진다)
+     */
+    public synchronized Map<Long, Map<BurstEmoji, Long>> tick() {
+        final long nowMillis = currentTimeMillis.getAsLong();
+        final long minuteStartMillis = minuteStartOf(nowMillis);
+        final long idleTimeoutMillis = properties.getIdleTimeout().toMillis();
+        final Map<Long, Map<BurstEmoji, Long>> liveStreamingToTaps = new HashMap<>();
+
+        liveStreamingToBursts.forEach((liveStreamingId, bursts) -> {
+            final Map<BurstEmoji, Long> taps = drain(bursts);
+            if (taps != null) {
+                liveStreamingToTaps.put(liveStreamingId, taps);
+            }
+            if (bursts.minuteStartMillis != minuteStartMillis) {
+                closeMinute(liveStreamingId, bursts);
+                bursts.minuteStartMillis = minuteStartMillis;
+            }
+            if (taps == null
+                    && nowMillis - bursts.lastTapMillis > idleTimeoutMillis
+                    && liveStreamingToBursts.remove(liveStreamingId, bursts)) {
+                drain(bursts);
+                closeMinute(liveStreamingId, bursts);
+            }
+        });
+
+        return liveStreamingToTaps;
+    }
+
+    /**
+     * 종료된 라이브 스트리밍의 누적기를 정리하고 남은 합계를 저장한다.
+     */
+    public void evict(final Long liveStreamingId) {
+        synchronized (this) {
+            final Bursts bursts = liveStreamingToBursts.remove(liveStreamingId);
+            if (bursts == null) {
+                return;
+            }
+            drain(bursts);
+            closeMinute(liveStreamingId, bursts);
+        }
+        saveMinuteTotals();
+    }
+
+    /**
+     * 저장을 기다리는 분 단위 합계를 chunk 단위로 저장하고, 실패한 chunk부터는 대기열 앞에 되돌려 다음 주기에 다시 저장한다.
+     * (chunk 하나는 INSERT 한 번이므로 실패한 chunk가 일부만 더해지는 일은 없다)
+     */
+    @Scheduled(fixedDelayString = "${livestreaming.reaction.burst.save-interval:5s}")
+    public void saveMinuteTotals() {
+        synchronized (saveLock) {
+            final List<LiveStreamingBurstReaction> rows = takeUnsavedMinuteTotals();
+            int saved = 0;
+            try {
+                while (saved < rows.size()) {
+                    final List<LiveStreamingBurstReaction> chunk =
+                            rows.subList(saved, Math.min(saved + SAVE_CHUNK_SIZE, rows.size()));
+                    liveStreamingBurstReactionRepository.addAll(chunk);
+                    savedCounter.increment(chunk.size());
+                    saved += chunk.size();
+                }
+            } catch (Exception e) {
+                log.error("버스트 반응 분 단위 합계 저장 실패 - rows: {}, error: {}", rows.size() - saved, e.getMessage(), e);
+                restoreUnsavedMinuteTotals(rows.subList(saved, rows.size()));
+            }
+        }
+    }
+
+    /**
+     * 테스트 격리용
+     */
+    public synchronized void clear() {
+        liveStreamingToBursts.clear();
+        synchronized (unsavedMinuteTotals) {
+            unsavedMinuteTotals.clear();
+        }
+        rateLimiter.clear();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        synchronized (this) {
+            liveStreamingToBursts.forEach((liveStreamingId, bursts) -> {
+                drain(bursts);
+                closeMinute(liveStreamingId, bursts);
+            });
+            liveStreamingToBursts.clear();
+        }
+        saveMinuteTotals();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private Bursts burstsOf(final Long liveStreamingId, final long nowMillis) {
+        final Bursts bursts = liveStreamingToBursts.get(liveStreamingId);
+        if (bursts != null) {
+            return bursts;
+        }
+        if (!isLive(liveStreamingId)) {
+            return null;
+        }
+        return liveStreamingToBursts.computeIfAbsent(liveStreamingId, id -> new Bursts(nowMillis));
+    }
+
+    private boolean isLive(final Long liveStreamingId) {
+        try {
+            return liveStreamingReader.readCachedStatusBy(liveStreamingId) == LiveStreamingStatus.LIVE;
+        } catch (BaseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 모인 탭을 분 단위 합계로 옮긴다.
+     *
+     * @return 종류별 탭 수, 탭이 없었으면 null
+     */
+    private Map<BurstEmoji, Long> drain(final Bursts bursts) {
+        Map<BurstEmoji, Long> taps = null;
+        for (final BurstEmoji emoji : EMOJIS) {
+            final long count = bursts.pendingTaps[emoji.ordinal()].sumThenReset();
+            if (count == 0) {
+                continue;
+            }
+            bursts.minuteTotals[emoji.ordinal()] += count;
+            if (taps == null) {
+                taps = new EnumMap<>(BurstEmoji.class);
+            }
+            taps.put(emoji, count);
+        }
+        return taps;
+    }
+
+    private void closeMinute(final Long liveStreamingId, final Bursts bursts) {
+        final Instant minuteStart = Instant.ofEpochMilli(bursts.minuteStartMillis);
+        for (final BurstEmoji emoji : EMOJIS) {
+            final long total = bursts.minuteTotals[emoji.ordinal()];
+            if (total == 0) {
+                continue;
+            }
+            final LiveStreamingBurstReaction row = LiveStreamingBurstReaction.builder()
+                    .liveStreamingId(liveStreamingId)
+                    .minuteStart(minuteStart)
+                    .emoji(emoji)
+                    .tapCount(total)
+                    .build();
+            synchronized (unsavedMinuteTotals) {
+                unsavedMinuteTotals.add(row);
+            }
+            bursts.minuteTotals[emoji.ordinal()] = 0;
+        }
+    }
+
+    private List<LiveStreamingBurstReaction> takeUnsavedMinuteTotals() {
+        synchronized (unsavedMinuteTotals) {
+            final List<LiveStreamingBurstReaction> rows = new ArrayList<>(unsavedMinuteTotals);
+            unsavedMinuteTotals.clear();
+            return rows;
+        }
+    }
+
+    /**
+     * 저장하지 못한 합계를 대기열 앞에 되돌린다. DB 장애가 길어져 MAX_UNSAVED_MINUTE_TOTALS를 넘으면 모두 버린다.
+     */
+    private void restoreUnsavedMinuteTotals(final List<LiveStreamingBurstReaction> rows) {
+        synchronized (unsavedMinuteTotals) {
+            unsavedMinuteTotals.addAll(0, rows);
+            if (unsavedMinuteTotals.size() > MAX_UNSAVED_MINUTE_TOTALS) {
+                droppedCounter.increment(unsavedMinuteTotals.size());
+                unsavedMinuteTotals.clear();
+            }
+        }
+    }
+
+    private static long minuteStartOf(final long epochMillis) {
+        return epochMillis - Math.floorMod(epochMillis, MINUTE_MILLIS);
+    }
+}
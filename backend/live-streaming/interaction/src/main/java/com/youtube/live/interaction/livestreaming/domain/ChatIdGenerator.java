@@ -0,0 +1,14 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+/**
+ * 채팅 ID 생성기
+ *
+ * 구현체는 같은 노드 안에서 단조 증가(monotonic)하는 ID를 반환해야 합니다.
+ * - (live_streaming_id, deleted_date, id) 인덱스의 삽입 위치가 항상 끝에 오도록 유지
+ * - V2 폴링의 "c.id > :lastChatId" 커서 조회가 누락 없이 동작하도록 보장
+ * 노드 사이의 순서는 보장하지 않습니다. (커서의 허용 범위는 SnowflakeChatIdGenerator 참고)
+ */
+public interface ChatIdGenerator {
+
+    long nextId();
+}
@@ -0,0 +1,269 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 라이브 스트리밍 하나의 heartbeat 시청자 수 집계
+ *
+ * 정확 모드 (기본):
+ * ViewerExpiryWheel로 시청자별 마지막 heartbeat를 보관하여 정확한 현재 시청자 수를 센다.
+ *
+ * 근사 모드 (시청자 수가 approximateThreshold 초과):
+ * 시청자 ID 맵을 버리고 SlidingHyperLogLog로 최근 TTL 동안의 고유 시청자 수를 근사한다.
+ * - 메모리: 스케치 (TTL / 10초 + 1)개 × 2^p bytes, 시청자 수와 무관 (p = 14, TTL 30초 → 64KB)
+ * - 오차: 표준 오차 1.04 / sqrt(2^p) (p = 14 → 약 0.81%) + 슬롯 경계로 최대 10초 늦게 빠지는 이탈자
+ * - 정확한 시청자 맵을 다시 만들 수 없으므로 라이브 스트리밍이 끝날 때까지 근사 모드를 유지한다.
+ * - 추정은 레지스터 전체를 훑으므로 초당 한 번만 계산하고 그 사이에는 캐시한 값을 돌려준다.
+ *
+ * 누적 고유 시청자 수는 모드와 관계없이 lifetime 스케치로 근사한다.
+ *
+ * 쓰기(record)는 LiveStreamingViewerManager의 라이브 스트리밍별 compute 안에서 직렬화된다.
+ * HyperLogLog 레지스터(lifetime, 근사 모드 슬롯)는 일반 byte[]이므로, 쓰기와 읽기 모두 synchronized(this) 안에서 접근한다.
+ * (compute 밖에서 호출되는 조회와 동기화 / 스냅샷이 쓰는 도중의 레지스터와 슬롯 번호를 보지 않도록)
+ *
+ * 재시작 스냅샷(writeTo / readFrom) 형식:
+ * [mode(0 정확 / 1 근사)][streamerLastSeenSecond][lifetime 스케치]
+ * 정확 모드: [시청자 수][(1, userId, 초) 또는 (0, clientId 상위, clientId 하위, 초)]...
+ * 근사 모드: SlidingHyperLogLog 슬롯
+ */
+final class HeartbeatViewerCounter {
+
+    /**
+     * 근사 모드 슬롯 길이 (클라이언트 폴링 주기 20초의 절반)
+     */
+    private static final int APPROXIMATE_SLOT_SECONDS = 10;
+
+    private static final int NEVER = Integer.MIN_VALUE;
+
+    private static final byte EXACT = 0;
+    private static final byte APPROXIMATE = 1;
+
+    private final int ttlSeconds;
+    private final int approximateThreshold;
+    private final int precision;
+    private final HyperLogLog lifetime;
+
+    private volatile ViewerExpiryWheel exact;
+    private volatile SlidingHyperLogLog approximate;
+
+    /**
+     * 근사 모드에서 스트리머를 시청자 수에서 제외하기 위한 스트리머의 마지막 heartbeat 시각
+     */
+    private volatile int streamerLastSeenSecond = NEVER;
+
+    private volatile int estimatedAtSecond = NEVER;
+    private volatile int estimatedCount;
+
+    HeartbeatViewerCounter(
+            final int ttlSeconds,
+            final int approximateThreshold,
+            final int precision,
+            final int nowSecond
+    ) {
+        this.ttlSeconds = ttlSeconds;
+        this.approximateThreshold = approximateThreshold;
+        this.precision = precision;
+        this.lifetime = new HyperLogLog(precision);
+        this.exact = new ViewerExpiryWheel(ttlSeconds, nowSecond);
+    }
+
+    void record(final ViewerId viewerId, final int nowSecond, final boolean streamer) {
+        final long hash = viewerId.hash64();
+        if (streamer) {
+            streamerLastSeenSecond = nowSecond;
+        }
+
+        final ViewerExpiryWheel wheel;
+        synchronized (this) {
+            lifetime.add(hash);
+            wheel = exact;
+            if (wheel == null) {
+                approximate.add(hash, nowSecond);
+                return;
+            }
+        }
+
+        wheel.record(viewerId, nowSecond);
+        if (approximateThreshold > 0 && wheel.count(nowSecond) > approximateThreshold) {
+            switchToApproximate(wheel, nowSecond);
+        }
+    }
+
+    int count(final int nowSecond) {
+        final ViewerExpiryWheel wheel = exact;
+        if (wheel != null) {
+            return wheel.count(nowSecond);
+        }
+
+        if (estimatedAtSecond != nowSecond) {
+            synchronized (this) {
+                if (estimatedAtSecond != nowSecond) {
+                    estimatedCount = (int) Math.min(Integer.MAX_VALUE, approximate.estimate(nowSecond));
+                    estimatedAtSecond = nowSecond;
+                }
+            }
+        }
+        return estimatedCount;
+    }
+
+    boolean containsStreamer(final long streamerUserId, final int nowSecond) {
+        final ViewerExpiryWheel wheel = exact;
+        if (wheel != null) {
+            return wheel.containsUser(streamerUserId, nowSecond);
+        }
+        final int lastSeen = streamerLastSeenSecond;
+        return lastSeen != NEVER && lastSeen >= nowSecond - ttlSeconds;
+    }
+
+    boolean isEmpty(final int nowSecond) {
+        final ViewerExpiryWheel wheel = exact;
+        if (wheel != null) {
+            return wheel.isEmpty(nowSecond);
+        }
+        return count(nowSecond) == 0;
+    }
+
+    boolean isApproximate() {
+        return exact == null;
+    }
+
+    /**
+     * 라이브 스트리밍 시작 이후 누적 고유 시청자 수 (근사)
+     */
+    synchronized long totalUniqueViewers() {
+        return lifetime.estimate();
+    }
+
+    /**
+     * lifetime 스케치의 복사본 (호출자가 락 밖에서 병합할 수 있도록)
+     */
+    synchronized HyperLogLog lifetimeViewers() {
+        final HyperLogLog copy = new HyperLogLog(precision);
+        copy.merge(lifetime);
+        return copy;
+    }
+
+    /**
+     * 현재 시청자(최근 TTL 동안 heartbeat를 보낸 시청자)의 스케치 (다른 노드와 병합할 때 사용)
+     * 정확 모드에서는 시청자 맵을 훑어 만들므로 주기적인 노드 간 동기화에서만 호출한다.
+     */
+    HyperLogLog sketch(final int nowSecond) {
+        final ViewerExpiryWheel wheel = exact;
+        if (wheel == null) {
+            synchronized (this) {
+                return approximate.snapshot(nowSecond);
+            }
+        }
+        final HyperLogLog sketch = new HyperLogLog(precision);
+        wheel.forEachViewer(nowSecond, (loggedIn, high, low, lastSeenSecond) ->
+                sketch.add(ViewerId.hash64(loggedIn, high, low))
+        );
+        return sketch;
+    }
+
+    /**
+     * 만료되지 않은 시청자와 lifetime 스케치를 기록한다.
+     * 웹 서버가 정지해 heartbeat가 더 이상 들어오지 않는 시점에 호출한다.
+     */
+    void writeTo(final DataOutput out, final int nowSecond) throws IOException {
+        final ViewerExpiryWheel wheel = exact;
+        out.writeByte(wheel == null ? APPROXIMATE : EXACT);
+        out.writeInt(streamerLastSeenSecond);
+        synchronized (this) {
+            final byte[] lifetimeBytes = lifetime.toByteArray();
+            out.writeInt(lifetimeBytes.length);
+            out.write(lifetimeBytes);
+
+            if (wheel == null) {
+                approximate.writeTo(out, nowSecond);
+                return;
+            }
+        }
+
+        final ByteArrayOutputStream viewerBytes = new ByteArrayOutputStream();
+        final DataOutputStream viewers = new DataOutputStream(viewerBytes);
+        final int[] viewerCount = new int[1];
+        try {
+            wheel.forEachViewer(nowSecond, (loggedIn, high, low, lastSeenSecond) -> {
+                try {
+                    viewers.writeBoolean(loggedIn);
+                    if (!loggedIn) {
+                        viewers.writeLong(high);
+                    }
+                    viewers.writeLong(low);
+                    viewers.writeInt(lastSeenSecond);
+                    viewerCount[0]++;
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.writeInt(viewerCount[0]);
+        out.write(viewerBytes.toByteArray());
+    }
+
+    /**
+     * writeTo로 기록한 집계를 복원한다.
+     * 서버가 내려가 있던 동안에는 heartbeat를 보낼 수 없었으므로 heartbeat 시각을 shiftSeconds만큼 뒤로 옮기고,
+     * 그래도 TTL이 지난 시청자는 버린다.
+     */
+    static HeartbeatViewerCounter readFrom(
+            final DataInput in,
+            final int ttlSeconds,
+            final int approximateThreshold,
+            final int precision,
+            final int nowSecond,
+            final int shiftSeconds
+    ) throws IOException {
+        final HeartbeatViewerCounter counter = new HeartbeatViewerCounter(ttlSeconds, approximateThreshold, precision, nowSecond);
+        final byte mode = in.readByte();
+        final int streamerLastSeenSecond = in.readInt();
+        if (streamerLastSeenSecond != NEVER) {
+            counter.streamerLastSeenSecond = Math.min(streamerLastSeenSecond + shiftSeconds, nowSecond);
+        }
+        final byte[] lifetimeBytes = new byte[in.readInt()];
+        in.readFully(lifetimeBytes);
+        final HyperLogLog lifetime = HyperLogLog.fromByteArray(lifetimeBytes);
+        if (lifetime.precision() == precision) {
+            counter.lifetime.merge(lifetime);
+        }
+
+        if (mode == APPROXIMATE) {
+            final SlidingHyperLogLog sliding = new SlidingHyperLogLog(ttlSeconds, APPROXIMATE_SLOT_SECONDS, precision);
+            sliding.readFrom(in, shiftSeconds);
+            counter.approximate = sliding;
+            counter.exact = null;
+            return counter;
+        }
+
+        final int viewerCount = in.readInt();
+        for (int i = 0; i < viewerCount; i++) {
+            final boolean loggedIn = in.readBoolean();
+            final long high = loggedIn ? 0L : in.readLong();
+            final long low = in.readLong();
+            final int second = Math.min(in.readInt() + shiftSeconds, nowSecond);
+            if (second >= nowSecond - ttlSeconds) {
+                counter.record(new ViewerId(loggedIn, high, low), second, false);
+            }
+        }
+        return counter;
+    }
+
+    private void switchToApproximate(final ViewerExpiryWheel wheel, final int nowSecond) {
+        final SlidingHyperLogLog sliding = new SlidingHyperLogLog(ttlSeconds, APPROXIMATE_SLOT_SECONDS, precision);
+        wheel.forEachViewer(nowSecond, (loggedIn, high, low, lastSeenSecond) ->
+                sliding.add(ViewerId.hash64(loggedIn, high, low), lastSeenSecond)
+        );
+        synchronized (this) {
+            approximate = sliding;
+            exact = null;
+        }
+    }
+}
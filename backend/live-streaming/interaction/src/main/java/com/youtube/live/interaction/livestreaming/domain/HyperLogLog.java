@@ -0,0 +1,233 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * 고유 시청자 수를 근사하는 HyperLogLog 스케치
+ *
+ * - 레지스터 2^p 개(byte[])만 보관하므로 시청자 수와 무관하게 크기가 고정된다. (p = 14 → 16KB)
+ * - 표준 오차는 1.04 / sqrt(2^p) 이다. (p = 14 → 약 0.81%, 추정치의 약 99.7%가 ±2.4% 안에 든다)
+ * - 추정은 레지스터 값 분포를 쓰는 Ertl의 개선 추정식으로, 작은 값부터 큰 값까지 별도 보정 없이 편향이 없다.
+ * - 레지스터별 최댓값을 취하면 합집합이 되므로, 여러 노드의 스케치를 byte[]로 주고받아 병합할 수 있다.
+ *
+ * add / merge / clear는 스레드 안전하지 않으므로 호출하는 쪽에서 직렬화한다. (여러 스레드가 락 없이 더할 때는 addConcurrently)
+ * (byte 단위 읽기는 원자적이라 동시에 추정하면 직전 값이 섞일 뿐 깨지지 않는다)
+ */
+final class HyperLogLog {
+
+    static final int MIN_PRECISION = 4;
+    static final int MAX_PRECISION = 18;
+
+    private static final int HEADER_SIZE = 2;
+    private static final byte DENSE = 0;
+    private static final byte SPARSE = 1;
+    private static final int SPARSE_ENTRY_SIZE = 4;
+    private static final VarHandle REGISTER = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final int precision;
+    private final byte[] registers;
+
+    HyperLogLog(final int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                    "precision은 " + MIN_PRECISION + " ~ " + MAX_PRECISION + " 범위여야 합니다: " + precision
+            );
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * 다른 노드에서 받은 스케치(toByteArray)를 복원한다.
+     */
+    static HyperLogLog fromByteArray(final byte[] bytes) {
+        if (bytes.length < HEADER_SIZE) {
+            throw new IllegalArgumentException("스케치 형식이 올바르지 않습니다: 길이 " + bytes.length);
+        }
+        final HyperLogLog sketch = new HyperLogLog(bytes[0]);
+        if (bytes[1] == DENSE) {
+            if (bytes.length != HEADER_SIZE + sketch.registers.length) {
+                throw new IllegalArgumentException("스케치 형식이 올바르지 않습니다: 길이 " + bytes.length);
+            }
+            System.arraycopy(bytes, HEADER_SIZE, sketch.registers, 0, sketch.registers.length);
+            return sketch;
+        }
+        if (bytes[1] != SPARSE || (bytes.length - HEADER_SIZE) % SPARSE_ENTRY_SIZE != 0) {
+            throw new IllegalArgumentException("스케치 형식이 올바르지 않습니다: 인코딩 " + bytes[1]);
+        }
+        for (int offset = HEADER_SIZE; offset < bytes.length; offset += SPARSE_ENTRY_SIZE) {
+            final int index = (bytes[offset] & 0xFF) << 16 | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF);
+            sketch.registers[index] = bytes[offset + 3];
+        }
+        return sketch;
+    }
+
+    /**
+     * @param hash 잘 섞인 64비트 해시 (ViewerId.hash64)
+     */
+    void add(final long hash) {
+        final int index = indexOf(hash);
+        final byte rank = rankOf(hash);
+        if (registers[index] < rank) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * 여러 스레드가 락 없이 동시에 더해도 큰 rank가 작은 rank로 덮어써지지 않도록 CAS로 갱신한다.
+     */
+    void addConcurrently(final long hash) {
+        final int index = indexOf(hash);
+        final byte rank = rankOf(hash);
+        byte current = (byte) REGISTER.getVolatile(registers, index);
+        while (current < rank && !REGISTER.compareAndSet(registers, index, current, rank)) {
+            current = (byte) REGISTER.getVolatile(registers, index);
+        }
+    }
+
+    private int indexOf(final long hash) {
+        return (int) (hash >>> (Long.SIZE - precision));
+    }
+
+    private byte rankOf(final long hash) {
+        // 인덱스로 쓴 상위 비트를 밀어내고, 전부 0이어도 rank가 (64 - p + 1)을 넘지 않도록 경계 비트를 둔다.
+        final long remaining = (hash << precision) | (1L << (precision - 1));
+        return (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+    }
+
+    void merge(final HyperLogLog other) {
+        requireSamePrecision(other);
+        for (int i = 0; i < registers.length; i++) {
+            if (registers[i] < other.registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(registers, (byte) 0);
+    }
+
+    long estimate() {
+        return estimateUnion(this);
+    }
+
+    /**
+     * 노드 간 전송용 인코딩: [precision, 인코딩, 본문]
+     *
+     * 시청자가 적은 라이브 스트리밍은 대부분의 레지스터가 0이므로,
+     * 0이 아닌 레지스터가 적으면 (index 3바이트 + 값 1바이트) 목록만 담는다. (p = 14, 시청자 100명 → 약 400 bytes)
+     * 그렇지 않으면 레지스터 전체를 담는다. (p = 14 → 16KB)
+     */
+    byte[] toByteArray() {
+        int nonZero = 0;
+        for (final byte register : registers) {
+            if (register != 0) {
+                nonZero++;
+            }
+        }
+
+        if (nonZero * SPARSE_ENTRY_SIZE >= registers.length) {
+            final byte[] bytes = new byte[HEADER_SIZE + registers.length];
+            bytes[0] = (byte) precision;
+            bytes[1] = DENSE;
+            System.arraycopy(registers, 0, bytes, HEADER_SIZE, registers.length);
+            return bytes;
+        }
+
+        final byte[] bytes = new byte[HEADER_SIZE + nonZero * SPARSE_ENTRY_SIZE];
+        bytes[0] = (byte) precision;
+        bytes[1] = SPARSE;
+        int offset = HEADER_SIZE;
+        for (int i = 0; i < registers.length; i++) {
+            if (registers[i] != 0) {
+                bytes[offset++] = (byte) (i >>> 16);
+                bytes[offset++] = (byte) (i >>> 8);
+                bytes[offset++] = (byte) i;
+                bytes[offset++] = registers[i];
+            }
+        }
+        return bytes;
+    }
+
+    int precision() {
+        return precision;
+    }
+
+    /**
+     * 스케치를 복사하지 않고 합집합의 고유 원소 수를 추정한다.
+     */
+    static long estimateUnion(final HyperLogLog... sketches) {
+        final int registerCount = sketches[0].registers.length;
+        for (final HyperLogLog sketch : sketches) {
+            sketches[0].requireSamePrecision(sketch);
+        }
+
+        final int precision = sketches[0].precision;
+        final int[] histogram = new int[Long.SIZE - precision + 2];
+        for (int i = 0; i < registerCount; i++) {
+            byte max = 0;
+            for (final HyperLogLog sketch : sketches) {
+                if (sketch.registers[i] > max) {
+                    max = sketch.registers[i];
+                }
+            }
+            histogram[max]++;
+        }
+        return Math.round(estimate(histogram, registerCount));
+    }
+
+    /**
+     * 레지스터 값 분포로 추정한다. (Ertl, "New cardinality estimation algorithms for HyperLogLog sketches", 2017)
+     * 기존 HyperLogLog의 linear counting 전환 구간 편향 없이 전 구간에서 표준 오차 1.04 / sqrt(m)를 유지한다.
+     */
+    private static double estimate(final int[] histogram, final int registerCount) {
+        final int maxRank = histogram.length - 1;
+        double z = registerCount * tau(1.0 - (double) histogram[maxRank] / registerCount);
+        for (int rank = maxRank - 1; rank >= 1; rank--) {
+            z = 0.5 * (z + histogram[rank]);
+        }
+        z += registerCount * sigma((double) histogram[0] / registerCount);
+        return registerCount / (2 * Math.log(2)) * registerCount / z;
+    }
+
+    private static double sigma(double x) {
+        if (x == 1.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double y = 1.0;
+        double z = x;
+        double previous;
+        do {
+            x *= x;
+            previous = z;
+            z += x * y;
+            y += y;
+        } while (z != previous);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0.0 || x == 1.0) {
+            return 0.0;
+        }
+        double y = 1.0;
+        double z = 1 - x;
+        double previous;
+        do {
+            x = Math.sqrt(x);
+            previous = z;
+            y *= 0.5;
+            z -= Math.pow(1 - x, 2) * y;
+        } while (z != previous);
+        return z / 3;
+    }
+
+    private void requireSamePrecision(final HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("정밀도가 다른 스케치는 병합할 수 없습니다: " + precision + ", " + other.precision);
+        }
+    }
+}
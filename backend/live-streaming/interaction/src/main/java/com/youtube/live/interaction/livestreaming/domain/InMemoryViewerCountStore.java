@@ -0,0 +1,61 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ViewerCountClusterProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * JVM 메모리에 보관하는 ViewerCountStore
+ *
+ * - 노드가 하나면 다른 노드의 값이 없으므로 노드 로컬 시청자 수를 그대로 쓰는 것과 같다.
+ * - 여러 ViewerCountAggregator가 이 인스턴스 하나를 공유하면 한 JVM 안에서 다중 노드 합산을 재현할 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "livestreaming.viewer.cluster.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryViewerCountStore implements ViewerCountStore {
+
+    private record Published(long publishedAtMillis, List<NodeViewerCount> viewerCounts) {
+    }
+
+    private final ConcurrentHashMap<String, Published> nodeToViewerCounts = new ConcurrentHashMap<>();
+    private final long staleAfterMillis;
+    private final LongSupplier currentTimeMillis;
+
+    @Autowired
+    public InMemoryViewerCountStore(final ViewerCountClusterProperties properties) {
+        this(properties.getStaleAfter(), System::currentTimeMillis);
+    }
+
+    InMemoryViewerCountStore(final Duration staleAfter, final LongSupplier currentTimeMillis) {
+        this.staleAfterMillis = staleAfter.toMillis();
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public void publish(final String nodeId, final List<NodeViewerCount> viewerCounts) {
+        nodeToViewerCounts.put(nodeId, new Published(currentTimeMillis.getAsLong(), List.copyOf(viewerCounts)));
+    }
+
+    @Override
+    public List<NodeViewerCount> readOthers(final String nodeId) {
+        final long freshSince = currentTimeMillis.getAsLong() - staleAfterMillis;
+        final List<NodeViewerCount> others = new ArrayList<>();
+        nodeToViewerCounts.forEach((publisher, published) -> {
+            if (published.publishedAtMillis() < freshSince) {
+                nodeToViewerCounts.remove(publisher, published);
+                return;
+            }
+            if (!publisher.equals(nodeId)) {
+                others.addAll(published.viewerCounts());
+            }
+        });
+        return others;
+    }
+}
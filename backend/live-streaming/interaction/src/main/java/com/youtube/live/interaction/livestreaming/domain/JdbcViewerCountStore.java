@@ -0,0 +1,40 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ViewerCountClusterProperties;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingViewerCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 모든 노드가 함께 쓰는 DB 테이블(live_streaming_viewer_count)로 시청자 수를 공유하는 ViewerCountStore
+ *
+ * 노드마다 (노드, 라이브 스트리밍) row를 주기적으로 교체한다.
+ * 스케치는 시청자가 적으면 수백 bytes, 많아도 라이브 스트리밍당 16KB(p = 14)를 넘지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "livestreaming.viewer.cluster.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcViewerCountStore implements ViewerCountStore {
+
+    private final LiveStreamingViewerCountRepository liveStreamingViewerCountRepository;
+    private final ViewerCountClusterProperties properties;
+
+    @Override
+    public void publish(final String nodeId, final List<NodeViewerCount> viewerCounts) {
+        final Instant now = Instant.now();
+        liveStreamingViewerCountRepository.replaceAll(nodeId, viewerCounts, now);
+        liveStreamingViewerCountRepository.deleteUpdatedBefore(now.minus(properties.getStaleAfter()));
+    }
+
+    @Override
+    public List<NodeViewerCount> readOthers(final String nodeId) {
+        return liveStreamingViewerCountRepository.findOthersUpdatedSince(
+                nodeId,
+                Instant.now().minus(properties.getStaleAfter())
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Component
+@ConditionalOnProperty(name = "livestreaming.chat.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaLiveStreamingChatAppender implements LiveStreamingChatAppender {
+
+    private final LiveStreamingReader liveStreamingReader;
+    private final LiveStreamingChatWriter liveStreamingChatWriter;
+
+    @Override
+    @Transactional
+    public Long append(
+            final Long liveStreamingId,
+            final LiveStreamingStatus liveStreamingStatus,
+            final Long userId,
+            final String username,
+            final String profileImageUrl,
+            final String message,
+            final ChatMessageType messageType,
+            final Instant now
+    ) {
+        final LiveStreaming liveStreaming = liveStreamingReader.getReferenceBy(liveStreamingId);
+
+        return liveStreamingChatWriter.write(
+                liveStreaming,
+                liveStreamingStatus,
+                userId,
+                username,
+                profileImageUrl,
+                message,
+                messageType
+        );
+    }
+}
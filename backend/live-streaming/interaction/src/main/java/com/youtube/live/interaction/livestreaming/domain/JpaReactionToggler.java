@@ -0,0 +1,27 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.core.user.domain.User;
+import com.youtube.core.user.domain.UserReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@ConditionalOnProperty(name = "livestreaming.reaction.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaReactionToggler implements ReactionToggler {
+
+    private final ReactionWriter reactionWriter;
+    private final LiveStreamingReader liveStreamingReader;
+    private final UserReader userReader;
+
+    @Override
+    @Transactional
+    public ReactionTransition toggle(final Long liveStreamingId, final Long userId, final ReactionType requestType) {
+        final LiveStreaming liveStreaming = liveStreamingReader.readBy(liveStreamingId);
+        final User user = userReader.readBy(userId);
+
+        return reactionWriter.processToggle(liveStreaming, user, requestType);
+    }
+}
@@ -0,0 +1,44 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 라이브 스트리밍별 분 단위 버스트 반응 합계 (분석용)
+ *
+ * 탭 하나하나는 저장하지 않고 (라이브 스트리밍, 분, 종류)마다 합계 한 row만 남긴다.
+ * 여러 노드가 같은 분의 합계를 나눠 가지므로 row는 덮어쓰지 않고 더한다.
+ */
+@Entity
+@Table(
+        name = "live_streaming_burst_reaction",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_live_streaming_burst_reaction_minute",
+                columnNames = {"live_streaming_id", "minute_start", "emoji"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class LiveStreamingBurstReaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "live_streaming_id", nullable = false)
+    private Long liveStreamingId;
+
+    @Column(name = "minute_start", nullable = false)
+    private Instant minuteStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BurstEmoji emoji;
+
+    @Column(nullable = false)
+    private long tapCount;
+}
@@ -4,6 +4,7 @@ import com.youtube.core.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLRestriction;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(
@@ -15,10 +16,14 @@ import org.hibernate.annotations.SQLRestriction;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLRestriction("deleted_date IS NULL")
-public class LiveStreamingChat extends BaseEntity {
+public class LiveStreamingChat extends BaseEntity implements Persistable<Long> {
 
+    /**
+     * 애플리케이션이 ChatIdGenerator로 할당하는 시간순 ID
+     *
+     * IDENTITY 전략을 사용하지 않으므로 INSERT 전에 ID를 알 수 있고, Hibernate JDBC batch도 동작합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,6 +46,13 @@ public class LiveStreamingChat extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private ChatMessageType messageType;
 
+    /**
+     * ID를 직접 할당하면 Spring Data의 save()가 merge(SELECT 후 INSERT)로 동작하므로
+     * 영속화 여부를 직접 추적하여 persist로 처리되도록 합니다.
+     */
+    @Transient
+    private boolean persisted = false;
+
     @Builder
     private LiveStreamingChat(Long id, LiveStreaming liveStreaming, LiveStreamingStatus liveStreamingStatus, Long userId, String username, String profileImageUrl, String message, ChatMessageType messageType) {
         if (liveStreamingStatus != null) {
@@ -56,4 +68,15 @@ public class LiveStreamingChat extends BaseEntity {
         this.message = message;
         this.messageType = messageType;
     }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -0,0 +1,27 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.time.Instant;
+
+/**
+ * 채팅 저장 전략
+ *
+ * - JpaLiveStreamingChatAppender: 요청 스레드에서 동기 INSERT (기본값)
+ * - WriteBehindLiveStreamingChatAppender: 메모리 버퍼 적재 후 백그라운드 batch INSERT
+ *   (livestreaming.chat.write-behind.enabled=true)
+ */
+public interface LiveStreamingChatAppender {
+
+    /**
+     * @return ChatIdGenerator가 할당한 채팅 ID (Write-Behind 모드에서는 flush 이전에도 확정됨)
+     */
+    Long append(
+            Long liveStreamingId,
+            LiveStreamingStatus liveStreamingStatus,
+            Long userId,
+            String username,
+            String profileImageUrl,
+            String message,
+            ChatMessageType messageType,
+            Instant now
+    );
+}
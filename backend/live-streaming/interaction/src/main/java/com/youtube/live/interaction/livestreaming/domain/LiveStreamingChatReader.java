@@ -7,20 +7,26 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class LiveStreamingChatReader {
 
-    private static final int DEFAULT_CHAT_SIZE = 50;
+    static final int DEFAULT_CHAT_SIZE = 50;
 
     private final LiveStreamingChatRepository liveStreamingChatRepository;
+    private final ReadCoalescer readCoalescer;
 
+    /**
+     * 채팅 ID는 시간순으로 할당되므로 createdDate 대신 ID로 정렬하여 인덱스만으로 조회합니다.
+     */
     public List<ChatMessageResponse> readRecentChats(
             final Long liveStreamingId,
             final int pageSize) {
-        return liveStreamingChatRepository.findByLiveStreamingIdOrderByCreatedDateDesc(
+        return liveStreamingChatRepository.findLatestChats(
                 liveStreamingId,
                 cursorPageable(pageSize)
         );
@@ -29,13 +35,35 @@ public class LiveStreamingChatReader {
     public List<ChatMessageResponse> readNewChatsAfter(
             final Long liveStreamingId,
             final Long lastChatId) {
-        return liveStreamingChatRepository.findNewChatsAfter(
+        return readCoalescer.coalesceCopying(
+                "newChats",
+                () -> liveStreamingChatRepository.findNewChatsAfter(
+                        liveStreamingId,
+                        lastChatId,
+                        cursorPageable(DEFAULT_CHAT_SIZE)
+                ),
+                LiveStreamingChatReader::copyOf,
                 liveStreamingId,
-                lastChatId,
-                cursorPageable(DEFAULT_CHAT_SIZE)
+                lastChatId
         );
     }
 
+    /**
+     * ChatMessageResponse는 변경 가능한 DTO이므로 병합된 조회 결과를 호출자마다 복사해서 넘긴다.
+     */
+    private static List<ChatMessageResponse> copyOf(final List<ChatMessageResponse> chats) {
+        return chats.stream()
+                .map(chat -> new ChatMessageResponse(
+                        chat.getChatId(),
+                        chat.getUsername(),
+                        chat.getMessage(),
+                        chat.getChatMessageType(),
+                        chat.getUserProfileImageUrl(),
+                        chat.getTimestamp()
+                ))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
     /**
      * 커서 기반 페이지네이션을 위한 Pageable 생성
      * offset은 항상 0으로 고정
@@ -0,0 +1,273 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.common.exception.BaseException;
+import com.youtube.live.interaction.config.ChatWriteBehindProperties;
+import com.youtube.live.interaction.exception.LiveStreamingErrorCode;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingChatBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 Write-Behind 버퍼
+ *
+ * 구조:
+ * STOMP/HTTP 요청 스레드 → offer() → [ArrayBlockingQueue] → flusher 스레드 → multi-row INSERT
+ *
+ * flush 기준:
+ * 1. 크기: batchSize 만큼 모이면 즉시 flush
+ * 2. 시간: 가장 오래된 채팅이 flushInterval 만큼 머무르면 flush
+ *
+ * Backpressure:
+ * 버퍼가 가득 차면 offerTimeout 동안 대기하고, 그래도 자리가 없으면 CHAT_WRITE_BUFFER_FULL 예외로 거절합니다.
+ *
+ * 저장 실패:
+ * 채팅은 이미 브로드캐스트되고 최근 채팅 인덱스에 들어가 있으므로 실패한 batch를 버리지 않습니다.
+ * 1. batch INSERT를 retryBackoff부터 두 배씩 늘려 가며 maxAttempts번까지 다시 시도합니다. (그동안 버퍼가 차면 Backpressure로 거절)
+ * 2. 그래도 실패하면 한 건씩 INSERT 해 문제가 있는 채팅만 골라냅니다. (이미 저장된 채팅의 중복 키 오류는 저장된 것으로 봅니다)
+ * 3. 한 건 INSERT도 실패한 채팅은 livestreaming.chat.dead-letter 로거에 모든 필드를 남겨 나중에 다시 넣을 수 있게 합니다.
+ *
+ * 종료 처리:
+ * SmartLifecycle로 웹 서버 종료 이후에 정지하며, 정지 시 남은 채팅을 모두 flush 합니다.
+ * (DataSource는 Lifecycle 정지 이후 빈 소멸 단계에서 닫힘)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "livestreaming.chat.write-behind.enabled", havingValue = "true")
+public class LiveStreamingChatWriteBuffer implements SmartLifecycle {
+
+    /**
+     * 웹 서버(WebServerStartStopLifecycle)보다 먼저 시작하고 나중에 정지하기 위한 phase
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final Logger DEAD_LETTER_LOG = LoggerFactory.getLogger("livestreaming.chat.dead-letter");
+
+    private final LiveStreamingChatBatchRepository liveStreamingChatBatchRepository;
+    private final ChatWriteBehindProperties properties;
+    private final BlockingQueue<PendingLiveStreamingChat> buffer;
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter rejectedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running = false;
+    private Thread flusher;
+
+    public LiveStreamingChatWriteBuffer(
+            final LiveStreamingChatBatchRepository liveStreamingChatBatchRepository,
+            final ChatWriteBehindProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.liveStreamingChatBatchRepository = liveStreamingChatBatchRepository;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getCapacity());
+
+        Gauge.builder("livestreaming.chat.write.buffer.size", buffer, BlockingQueue::size)
+                .description("DB 저장을 기다리는 채팅 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("livestreaming.chat.write.buffer.flush")
+                .description("채팅 batch INSERT 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("livestreaming.chat.write.buffer.flushed")
+                .description("저장된 채팅 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("livestreaming.chat.write.buffer.rejected")
+                .description("버퍼 포화로 거절된 채팅 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("livestreaming.chat.write.buffer.retried")
+                .description("batch INSERT 실패로 다시 시도한 채팅 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("livestreaming.chat.write.buffer.failed")
+                .description("저장하지 못하고 dead-letter 로그로 남긴 채팅 수")
+                .register(meterRegistry);
+    }
+
+    public void offer(final PendingLiveStreamingChat chat) {
+        if (!running) {
+            rejectedCounter.increment();
+            throw new BaseException(LiveStreamingErrorCode.CHAT_WRITE_BUFFER_FULL);
+        }
+
+        try {
+            final boolean accepted = buffer.offer(chat, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            if (!accepted) {
+                rejectedCounter.increment();
+                log.warn("채팅 Write-Behind 버퍼 포화 - liveStreamingId: {}, bufferSize: {}",
+                        chat.liveStreamingId(), buffer.size());
+                throw new BaseException(LiveStreamingErrorCode.CHAT_WRITE_BUFFER_FULL);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedCounter.increment();
+            throw new BaseException(LiveStreamingErrorCode.CHAT_WRITE_BUFFER_FULL, e);
+        }
+    }
+
+    public int size() {
+        return buffer.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "chat-write-behind-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("채팅 Write-Behind 버퍼 시작 - capacity: {}, batchSize: {}, flushInterval: {}",
+                properties.getCapacity(), properties.getBatchSize(), properties.getFlushInterval());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!buffer.isEmpty()) {
+            log.error("채팅 Write-Behind 버퍼 종료 시 flush 미완료 - 유실된 채팅 수: {}", buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * running이 false가 된 이후에도 버퍼가 빌 때까지 flush를 계속합니다.
+     */
+    private void runFlushLoop() {
+        final List<PendingLiveStreamingChat> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !buffer.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 채팅이 도착한 시점부터 flushInterval 이내에 batchSize 까지 채팅을 모읍니다.
+     */
+    private void collectBatch(final List<PendingLiveStreamingChat> batch) throws InterruptedException {
+        final long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        final PendingLiveStreamingChat first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        final int batchSize = properties.getBatchSize();
+        final long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            final long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+
+            final PendingLiveStreamingChat next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(final List<PendingLiveStreamingChat> batch) {
+        final long start = System.nanoTime();
+        try {
+            if (insertWithRetry(batch)) {
+                flushedCounter.increment(batch.size());
+                return;
+            }
+            for (final PendingLiveStreamingChat chat : batch) {
+                if (insertOne(chat)) {
+                    flushedCounter.increment();
+                } else {
+                    deadLetter(chat);
+                }
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean insertWithRetry(final List<PendingLiveStreamingChat> batch) {
+        long backoffMillis = properties.getRetryBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                liveStreamingChatBatchRepository.insertAll(batch);
+                return true;
+            } catch (Exception e) {
+                log.warn("채팅 batch INSERT 실패 - 채팅 수: {}, 시도: {}/{}, error: {}",
+                        batch.size(), attempt, properties.getMaxAttempts(), e.getMessage());
+                if (attempt >= properties.getMaxAttempts()) {
+                    return false;
+                }
+            }
+            retriedCounter.increment(batch.size());
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                return false;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, properties.getMaxRetryBackoff().toMillis());
+        }
+    }
+
+    private boolean insertOne(final PendingLiveStreamingChat chat) {
+        try {
+            liveStreamingChatBatchRepository.insertAll(List.of(chat));
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 앞선 batch INSERT가 커밋된 뒤 응답만 실패한 경우
+            return true;
+        } catch (Exception e) {
+            log.error("채팅 INSERT 실패 - chatId: {}, error: {}", chat.id(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private void deadLetter(final PendingLiveStreamingChat chat) {
+        failedCounter.increment();
+        DEAD_LETTER_LOG.error("id={} liveStreamingId={} userId={} username={} profileImageUrl={} messageType={} createdDate={} message={}",
+                chat.id(), chat.liveStreamingId(), chat.userId(), chat.username(), chat.profileImageUrl(),
+                chat.messageType(), chat.createdDate(), chat.message());
+    }
+}
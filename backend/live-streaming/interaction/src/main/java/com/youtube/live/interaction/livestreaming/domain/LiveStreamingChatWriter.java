@@ -10,10 +10,12 @@ import org.springframework.stereotype.Component;
 public class LiveStreamingChatWriter {
 
     private final LiveStreamingChatRepository liveStreamingChatRepository;
+    private final ChatIdGenerator chatIdGenerator;
 
     public Long write(final LiveStreaming liveStreaming, final User user, final String message,
                       final ChatMessageType messageType) {
         final LiveStreamingChat chat = LiveStreamingChat.builder()
+                .id(chatIdGenerator.nextId())
                 .liveStreaming(liveStreaming)
                 .userId(user.getId())
                 .username(user.getUsername())
@@ -35,6 +37,7 @@ public class LiveStreamingChatWriter {
             final ChatMessageType messageType
     ) {
         final LiveStreamingChat chat = LiveStreamingChat.builder()
+                .id(chatIdGenerator.nextId())
                 .liveStreaming(liveStreaming)
                 .liveStreamingStatus(liveStreamingStatus)
                 .userId(userId)
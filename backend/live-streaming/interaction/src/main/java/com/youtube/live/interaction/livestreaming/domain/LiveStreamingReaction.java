@@ -11,6 +11,10 @@ import org.hibernate.annotations.SQLRestriction;
     name = "live_streaming_reaction",
     uniqueConstraints = @UniqueConstraint(
         columnNames = {"live_streaming_id", "user_id"}
+    ),
+    indexes = @Index(
+        name = "idx_live_streaming_reaction_live_streaming_id_last_modified_date",
+        columnList = "live_streaming_id, last_modified_date"
     )
 )
 @Getter
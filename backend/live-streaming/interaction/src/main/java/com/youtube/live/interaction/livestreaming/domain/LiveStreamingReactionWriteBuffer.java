@@ -0,0 +1,488 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.common.exception.BaseException;
+import com.youtube.core.user.domain.UserReader;
+import com.youtube.live.interaction.config.ReactionWriteBehindProperties;
+import com.youtube.live.interaction.exception.LiveStreamingErrorCode;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingReactionBatchRepository;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingReactionRepository;
+import com.youtube.live.interaction.livestreaming.service.dto.ReactionToggleResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반응 토글 Write-Behind 버퍼
+ *
+ * 구조:
+ * 토글 요청 스레드 → toggle() → [(라이브 스트리밍, 사용자)별 메모리 상태] → flusher 스레드 → multi-row upsert
+ *
+ * 메모리 상태:
+ * - 처음 토글할 때 DB에서 현재 반응을 한 번 읽고, 이후 토글은 메모리 상태만 바꾼 뒤 바로 응답합니다.
+ * - 저장을 기다리는 동안 같은 사용자가 여러 번 토글하면 마지막 상태 하나만 저장합니다. (좋아요 연타 → 쓰기 1회)
+ * - 저장이 끝나고 idleTimeout 동안 토글이 없으면 메모리 상태를 버립니다.
+ * - 저장에 성공하면 마지막으로 저장한 반응과의 차이만 live_streaming_stats 증감으로 넘깁니다.
+ *
+ * 저장 실패:
+ * 토글은 이미 응답했고 ReactionCounter에도 반영되었으므로 실패한 상태를 버리지 않습니다.
+ * 1. 실패한 batch의 상태는 다시 저장 대기(dirty)로 두고, retryBackoff부터 두 배씩 늘린 시간이 지난 뒤 다시 저장합니다.
+ * 2. 한 번이라도 실패한 상태는 batch에 섞지 않고 한 건씩 저장하여, 문제가 있는 row가 다른 row의 저장을 막지 않게 합니다.
+ * 3. maxAttempts번 실패한 상태는 livestreaming.reaction.dead-letter 로거에 남기고 메모리에서 버립니다.
+ *    저장되지 않은 토글이 반영된 ReactionCounter 집계도 버려, 다음 조회 때 live_streaming_stats에서 다시 채웁니다.
+ * 저장을 기다리는 동안에는 capacity에 포함되므로 DB 장애가 길어지면 Backpressure로 새 토글을 거절합니다.
+ *
+ * Backpressure:
+ * 저장을 기다리는 (라이브 스트리밍, 사용자)가 capacity에 도달하면 새로운 토글을 REACTION_WRITE_BUFFER_FULL 예외로 거절합니다.
+ * (이미 저장을 기다리는 사용자의 토글은 쓰기가 늘지 않으므로 받음)
+ *
+ * 종료 처리:
+ * SmartLifecycle로 웹 서버 종료 이후에 정지하며, 정지 시 남은 토글을 모두 flush 합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "livestreaming.reaction.write-behind.enabled", havingValue = "true")
+public class LiveStreamingReactionWriteBuffer implements SmartLifecycle {
+
+    /**
+     * 웹 서버(WebServerStartStopLifecycle)보다 먼저 시작하고 나중에 정지하기 위한 phase
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final Logger DEAD_LETTER_LOG = LoggerFactory.getLogger("livestreaming.reaction.dead-letter");
+
+    private static final Comparator<PendingLiveStreamingReaction> UNIQUE_KEY_ORDER = Comparator
+            .comparing(PendingLiveStreamingReaction::liveStreamingId)
+            .thenComparing(PendingLiveStreamingReaction::userId);
+
+    private record ReactionKey(Long liveStreamingId, Long userId) {
+    }
+
+    /**
+     * (라이브 스트리밍, 사용자)별 반응 상태 (이 객체를 잠그고 읽고 쓴다)
+     */
+    private static final class ReactionState {
+
+        /**
+         * 현재 반응 (null: 반응 없음)
+         */
+        private ReactionType type;
+
+        /**
+         * 마지막으로 남긴 반응 (취소 상태를 저장할 때 type 컬럼 값)
+         */
+        private ReactionType lastType;
+
+        /**
+         * DB에 저장된 반응 (live_streaming_stats 증감 계산용)
+         */
+        private ReactionType persistedType;
+
+        private Instant modifiedDate;
+        private long lastAccessMillis;
+
+        /**
+         * 저장을 기다리는 중
+         */
+        private boolean dirty;
+
+        /**
+         * flusher가 저장하는 중
+         */
+        private boolean flushing;
+
+        /**
+         * 메모리에서 버려짐 (잡고 있던 토글은 새 상태로 다시 시도)
+         */
+        private boolean evicted;
+
+        /**
+         * 연속으로 저장에 실패한 횟수 (0보다 크면 한 건씩 저장)
+         */
+        private int failedAttempts;
+
+        /**
+         * 이 시각 이후에 다시 저장 (실패 후 backoff)
+         */
+        private long retryAtMillis;
+
+        private ReactionState(final ReactionType type, final long nowMillis) {
+            this.type = type;
+            this.lastType = type;
+            this.persistedType = type;
+            this.lastAccessMillis = nowMillis;
+        }
+    }
+
+    private final ConcurrentHashMap<ReactionKey, ReactionState> states = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ReactionKey, ReactionState> dirtyStates = new ConcurrentHashMap<>();
+
+    /**
+     * 라이브 스트리밍별 저장 중이거나 저장을 기다리는 반응 수 (ReactionCounter 보정 판단용)
+     */
+    private final ConcurrentHashMap<Long, Integer> pendingCounts = new ConcurrentHashMap<>();
+
+    private final LiveStreamingReactionRepository liveStreamingReactionRepository;
+    private final LiveStreamingReactionBatchRepository liveStreamingReactionBatchRepository;
+    private final LiveStreamingReader liveStreamingReader;
+    private final UserReader userReader;
+    private final LiveStreamingStatsWriter liveStreamingStatsWriter;
+    private final ReactionCounter reactionCounter;
+    private final ReactionWriteBehindProperties properties;
+
+    private final Timer flushTimer;
+    private final Counter toggledCounter;
+    private final Counter flushedCounter;
+    private final Counter rejectedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running = false;
+    private Thread flusher;
+
+    public LiveStreamingReactionWriteBuffer(
+            final LiveStreamingReactionRepository liveStreamingReactionRepository,
+            final LiveStreamingReactionBatchRepository liveStreamingReactionBatchRepository,
+            final LiveStreamingReader liveStreamingReader,
+            final UserReader userReader,
+            final LiveStreamingStatsWriter liveStreamingStatsWriter,
+            final ReactionCounter reactionCounter,
+            final ReactionWriteBehindProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.liveStreamingReactionRepository = liveStreamingReactionRepository;
+        this.liveStreamingReactionBatchRepository = liveStreamingReactionBatchRepository;
+        this.liveStreamingReader = liveStreamingReader;
+        this.userReader = userReader;
+        this.liveStreamingStatsWriter = liveStreamingStatsWriter;
+        this.reactionCounter = reactionCounter;
+        this.properties = properties;
+
+        Gauge.builder("livestreaming.reaction.write.buffer.size", dirtyStates, Map::size)
+                .description("DB 저장을 기다리는 반응 수")
+                .register(meterRegistry);
+        Gauge.builder("livestreaming.reaction.write.buffer.states", states, Map::size)
+                .description("메모리에 보관 중인 (라이브 스트리밍, 사용자)별 반응 상태 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("livestreaming.reaction.write.buffer.flush")
+                .description("반응 batch upsert 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.toggledCounter = Counter.builder("livestreaming.reaction.write.buffer.toggled")
+                .description("메모리 상태에 반영된 토글 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("livestreaming.reaction.write.buffer.flushed")
+                .description("저장된 반응 row 수 (toggled 대비 비율이 연타 병합 효과)")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("livestreaming.reaction.write.buffer.rejected")
+                .description("버퍼 포화로 거절된 토글 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("livestreaming.reaction.write.buffer.retried")
+                .description("저장 실패로 다시 저장 대기에 넣은 반응 row 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("livestreaming.reaction.write.buffer.failed")
+                .description("저장하지 못하고 dead-letter 로그로 남긴 반응 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청한 타입과 같은 반응이면 취소하고, 없거나 다르면 요청한 타입으로 바꿉니다.
+     * DB에는 flushInterval 이내에 마지막 상태만 저장됩니다.
+     */
+    public ReactionTransition toggle(final Long liveStreamingId, final Long userId, final ReactionType requestType) {
+        if (!running) {
+            rejectedCounter.increment();
+            throw new BaseException(LiveStreamingErrorCode.REACTION_WRITE_BUFFER_FULL);
+        }
+
+        final ReactionKey key = new ReactionKey(liveStreamingId, userId);
+        while (true) {
+            final ReactionState state = stateOf(key);
+            synchronized (state) {
+                if (state.evicted) {
+                    continue;
+                }
+                if (!state.dirty && dirtyStates.size() >= properties.getCapacity()) {
+                    rejectedCounter.increment();
+                    log.warn("반응 Write-Behind 버퍼 포화 - liveStreamingId: {}, bufferSize: {}",
+                            liveStreamingId, dirtyStates.size());
+                    throw new BaseException(LiveStreamingErrorCode.REACTION_WRITE_BUFFER_FULL);
+                }
+
+                final ReactionType previousType = state.type;
+                final ReactionType currentType = previousType == requestType ? null : requestType;
+                state.type = currentType;
+                if (currentType != null) {
+                    state.lastType = currentType;
+                }
+                state.modifiedDate = Instant.now();
+                state.lastAccessMillis = System.currentTimeMillis();
+                markDirty(key, state);
+                toggledCounter.increment();
+                return new ReactionTransition(previousType, currentType);
+            }
+        }
+    }
+
+    /**
+     * 메모리에 상태가 있으면 저장 전이라도 그 반응을 반환합니다. (없으면 DB에서 읽어야 함)
+     */
+    public Optional<ReactionToggleResult> findUserReaction(final Long liveStreamingId, final Long userId) {
+        final ReactionState state = states.get(new ReactionKey(liveStreamingId, userId));
+        if (state == null) {
+            return Optional.empty();
+        }
+        synchronized (state) {
+            return state.evicted ? Optional.empty() : Optional.of(new ReactionToggleResult(state.type));
+        }
+    }
+
+    /**
+     * 저장 중이거나 저장을 기다리는 반응이 있는지 (있으면 DB 집계가 메모리 상태보다 늦음)
+     */
+    public boolean hasPendingWrites(final Long liveStreamingId) {
+        return pendingCounts.containsKey(liveStreamingId);
+    }
+
+    public int size() {
+        return dirtyStates.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "reaction-write-behind-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("반응 Write-Behind 버퍼 시작 - capacity: {}, batchSize: {}, flushInterval: {}",
+                properties.getCapacity(), properties.getBatchSize(), properties.getFlushInterval());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!dirtyStates.isEmpty()) {
+            log.error("반응 Write-Behind 버퍼 종료 시 flush 미완료 - 유실된 반응 수: {}", dirtyStates.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * running이 false가 된 이후에도 저장을 기다리는 반응이 없어질 때까지 flush를 계속합니다.
+     */
+    private void runFlushLoop() {
+        while (running || !dirtyStates.isEmpty()) {
+            if (running) {
+                try {
+                    Thread.sleep(properties.getFlushInterval().toMillis());
+                } catch (InterruptedException e) {
+                    // stop()이 깨운 경우: 남은 반응을 flush 하고 종료
+                }
+            }
+
+            flushDirtyStates();
+            evictIdleStates();
+        }
+    }
+
+    /**
+     * 정지 중에는 backoff를 기다리지 않고 바로 다시 저장합니다. (shutdownTimeout 안에 끝내도록)
+     */
+    private void flushDirtyStates() {
+        final long nowMillis = System.currentTimeMillis();
+        final List<PendingLiveStreamingReaction> batch = new ArrayList<>(properties.getBatchSize());
+        final List<ReactionKey> keys = new ArrayList<>(properties.getBatchSize());
+        for (final Map.Entry<ReactionKey, ReactionState> entry : dirtyStates.entrySet()) {
+            final ReactionKey key = entry.getKey();
+            final ReactionState state = entry.getValue();
+            final PendingLiveStreamingReaction pending;
+            final boolean retrying;
+            synchronized (state) {
+                if (running && state.retryAtMillis > nowMillis) {
+                    continue;
+                }
+                dirtyStates.remove(key, state);
+                state.dirty = false;
+                state.flushing = true;
+                pending = new PendingLiveStreamingReaction(
+                        key.liveStreamingId(), key.userId(), state.lastType, state.type == null, state.modifiedDate
+                );
+                retrying = state.failedAttempts > 0;
+            }
+
+            if (retrying) {
+                flush(List.of(pending), List.of(key));
+                continue;
+            }
+            batch.add(pending);
+            keys.add(key);
+
+            if (batch.size() >= properties.getBatchSize()) {
+                flush(batch, keys);
+                batch.clear();
+                keys.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch, keys);
+        }
+    }
+
+    /**
+     * 여러 노드의 batch가 unique key를 같은 순서로 잠그도록 정렬해서 저장합니다.
+     */
+    private void flush(final List<PendingLiveStreamingReaction> batch, final List<ReactionKey> keys) {
+        final long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            final List<PendingLiveStreamingReaction> sorted = new ArrayList<>(batch);
+            sorted.sort(UNIQUE_KEY_ORDER);
+            liveStreamingReactionBatchRepository.upsertAll(sorted);
+            flushedCounter.increment(batch.size());
+            succeeded = true;
+        } catch (Exception e) {
+            log.warn("반응 batch upsert 실패 - 반응 수: {}, error: {}", batch.size(), e.getMessage());
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            final ReactionKey key = keys.get(i);
+            final ReactionState state = states.get(key);
+            if (state != null) {
+                synchronized (state) {
+                    state.flushing = false;
+                    if (succeeded) {
+                        final PendingLiveStreamingReaction flushed = batch.get(i);
+                        final ReactionType flushedType = flushed.deleted() ? null : flushed.type();
+                        liveStreamingStatsWriter.addReactionAfterCommit(key.liveStreamingId(), state.persistedType, flushedType);
+                        state.persistedType = flushedType;
+                        state.failedAttempts = 0;
+                        state.retryAtMillis = 0;
+                    } else {
+                        onFlushFailed(key, state);
+                    }
+                }
+            }
+            releasePending(key.liveStreamingId());
+        }
+    }
+
+    /**
+     * state를 잠근 상태에서 호출합니다.
+     */
+    private void onFlushFailed(final ReactionKey key, final ReactionState state) {
+        state.failedAttempts++;
+        if (state.failedAttempts < properties.getMaxAttempts()) {
+            state.retryAtMillis = System.currentTimeMillis() + retryBackoffMillis(state.failedAttempts);
+            markDirty(key, state);
+            retriedCounter.increment();
+            return;
+        }
+
+        deadLetter(key, state);
+        if (state.dirty) {
+            dirtyStates.remove(key, state);
+            state.dirty = false;
+            releasePending(key.liveStreamingId());
+        }
+        evict(key, state);
+        reactionCounter.evict(key.liveStreamingId());
+    }
+
+    private long retryBackoffMillis(final int failedAttempts) {
+        final long backoffMillis = properties.getRetryBackoff().toMillis() << Math.min(failedAttempts - 1, 20);
+        return Math.min(backoffMillis, properties.getMaxRetryBackoff().toMillis());
+    }
+
+    private void deadLetter(final ReactionKey key, final ReactionState state) {
+        failedCounter.increment();
+        DEAD_LETTER_LOG.error("liveStreamingId={} userId={} type={} deleted={} persistedType={} modifiedDate={} attempts={}",
+                key.liveStreamingId(), key.userId(), state.lastType, state.type == null, state.persistedType,
+                state.modifiedDate, state.failedAttempts);
+    }
+
+    private void evictIdleStates() {
+        final long nowMillis = System.currentTimeMillis();
+        final long idleTimeoutMillis = properties.getIdleTimeout().toMillis();
+        states.forEach((key, state) -> {
+            synchronized (state) {
+                if (!state.dirty && !state.flushing && nowMillis - state.lastAccessMillis > idleTimeoutMillis) {
+                    evict(key, state);
+                }
+            }
+        });
+    }
+
+    private void evict(final ReactionKey key, final ReactionState state) {
+        state.evicted = true;
+        states.remove(key, state);
+    }
+
+    private void markDirty(final ReactionKey key, final ReactionState state) {
+        if (state.dirty) {
+            return;
+        }
+        state.dirty = true;
+        dirtyStates.put(key, state);
+        pendingCounts.merge(key.liveStreamingId(), 1, Integer::sum);
+    }
+
+    private void releasePending(final Long liveStreamingId) {
+        pendingCounts.computeIfPresent(liveStreamingId, (id, pendingCount) -> pendingCount == 1 ? null : pendingCount - 1);
+    }
+
+    private ReactionState stateOf(final ReactionKey key) {
+        final ReactionState state = states.get(key);
+        if (state != null) {
+            return state;
+        }
+        final ReactionState loaded = new ReactionState(loadType(key), System.currentTimeMillis());
+        final ReactionState existing = states.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 반응이 없으면 저장 시점에 외래 키 오류가 나지 않도록 라이브 스트리밍과 사용자가 있는지 확인합니다.
+     */
+    private ReactionType loadType(final ReactionKey key) {
+        return liveStreamingReactionRepository.findByLiveStreamingIdAndUserId(key.liveStreamingId(), key.userId())
+                .map(LiveStreamingReaction::getType)
+                .orElseGet(() -> {
+                    liveStreamingReader.readCachedStatusBy(key.liveStreamingId());
+                    userReader.readBy(key.userId());
+                    return null;
+                });
+    }
+}
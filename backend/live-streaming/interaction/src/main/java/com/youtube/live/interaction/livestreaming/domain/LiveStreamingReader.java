@@ -1,6 +1,7 @@
 package com.youtube.live.interaction.livestreaming.domain;
 
 import com.youtube.common.exception.BaseException;
+import com.youtube.core.channel.domain.ChannelStatsReader;
 import com.youtube.live.interaction.exception.LiveStreamingErrorCode;
 import com.youtube.live.interaction.livestreaming.repository.LiveStreamingRepository;
 import com.youtube.live.interaction.livestreaming.repository.dto.LiveStreamingMetadataResponse;
@@ -13,6 +14,8 @@ import org.springframework.stereotype.Component;
 public class LiveStreamingReader {
 
     private final LiveStreamingRepository liveStreamingRepository;
+    private final ChannelStatsReader channelStatsReader;
+    private final ReadCoalescer readCoalescer;
 
     public LiveStreaming readBy(final Long liveStreamingId) {
         return liveStreamingRepository.findById(liveStreamingId)
@@ -30,6 +33,20 @@ public class LiveStreamingReader {
     }
 
     public LiveStreamingMetadataResponse readMetadataBy(final Long liveStreamingId) {
-        return liveStreamingRepository.findMetadataById(liveStreamingId);
+        return readCoalescer.coalesce(
+                "metadata",
+                () -> fillSubscriberCount(liveStreamingRepository.findMetadataById(liveStreamingId)),
+                liveStreamingId
+        );
+    }
+
+    /**
+     * channel_stats 집계 row가 아직 없는 채널은 구독자를 한 번 세어 row를 만든다.
+     */
+    private LiveStreamingMetadataResponse fillSubscriberCount(final LiveStreamingMetadataResponse metadata) {
+        if (metadata == null || metadata.subscriberCount() != null) {
+            return metadata;
+        }
+        return metadata.withSubscriberCount(channelStatsReader.readSubscriberCount(metadata.channelId()));
     }
 }
@@ -0,0 +1,194 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.RecentChatCacheProperties;
+import com.youtube.live.interaction.livestreaming.repository.dto.ChatMessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라이브 스트리밍별 최근 채팅 캐시
+ *
+ * 대형 라이브 시작 직후 수만 명의 시청자가 동시에 초기 채팅을 조회하고, V2 시청자는 4초마다 새 채팅을 폴링하므로
+ * 최근 채팅을 노드 메모리의 링 버퍼(RecentChatRingBuffer)에 보관하고 여기서 응답한다.
+ * 폴링 커서(lastChatId)가 보관 범위보다 오래된 경우에만 DB로 fallback 한다.
+ *
+ * 채우는 시점:
+ * 1. 채팅 작성: 저장이 끝난 채팅을 즉시 추가 (Write-Behind 모드에서는 flush 이전 채팅도 포함)
+ * 2. cold miss: 최초 조회 시 DB에서 capacity 만큼 읽어와 병합
+ *
+ * 제거 시점:
+ * 1. 라이브 스트리밍 종료
+ * 2. idleTimeout 동안 작성/조회가 없는 경우 (스케줄러)
+ *
+ * 여러 노드 배포:
+ * 채팅은 작성한 노드의 버퍼에만 추가되므로, 다른 노드에서 작성된 채팅이 빠져 있어도 버퍼는 알 수 없다.
+ * 그래서 메모리 응답은 RecentChatCacheProperties#singleNode = true 일 때만 사용하고,
+ * false이면 버퍼를 만들지 않고 DB에서 응답한다. (versionOf도 -1을 돌려주어 응답 캐시는 짧은 TTL로만 공유한다)
+ */
+@Slf4j
+@Component
+public class LiveStreamingRecentChatCache {
+
+    private final LiveStreamingChatReader liveStreamingChatReader;
+    private final RecentChatCacheProperties properties;
+
+    private final ConcurrentHashMap<Long, RecentChatRingBuffer> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * 버퍼 생성 순번 (상위 비트를 초기 버전으로 사용하여 다시 생성된 버퍼와 버전이 겹치지 않게 함)
+     */
+    private final AtomicLong bufferGeneration = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter pollMemoryCounter;
+    private final Counter pollDatabaseCounter;
+
+    public LiveStreamingRecentChatCache(
+            final LiveStreamingChatReader liveStreamingChatReader,
+            final RecentChatCacheProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.liveStreamingChatReader = liveStreamingChatReader;
+        this.properties = properties;
+
+        Gauge.builder("livestreaming.chat.recent.cache.streams", buffers, Map::size)
+                .description("최근 채팅을 보관 중인 라이브 스트리밍 수")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("livestreaming.chat.recent.cache.requests")
+                .tag("result", "hit")
+                .description("메모리에서 응답한 초기 채팅 조회 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("livestreaming.chat.recent.cache.requests")
+                .tag("result", "miss")
+                .description("DB 조회가 필요했던 초기 채팅 조회 수")
+                .register(meterRegistry);
+        this.pollMemoryCounter = Counter.builder("livestreaming.chat.recent.cache.polls")
+                .tag("source", "memory")
+                .description("메모리에서 응답한 새 채팅 폴링 수")
+                .register(meterRegistry);
+        this.pollDatabaseCounter = Counter.builder("livestreaming.chat.recent.cache.polls")
+                .tag("source", "database")
+                .description("커서가 보관 범위를 벗어나 DB로 fallback 한 새 채팅 폴링 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장이 끝난 채팅을 추가합니다.
+     * 유휴 제거와 경합하지 않도록 버퍼 생성/추가를 compute 안에서 수행합니다.
+     */
+    public void append(final Long liveStreamingId, final ChatMessageResponse chat) {
+        if (!properties.isSingleNode()) {
+            return;
+        }
+        buffers.compute(liveStreamingId, (id, buffer) -> {
+            final RecentChatRingBuffer target = buffer != null ? buffer : newBuffer();
+            target.add(chat);
+            target.touch();
+            return target;
+        });
+    }
+
+    /**
+     * @return 최근 채팅 최대 size개 (chatId 오름차순)
+     */
+    public List<ChatMessageResponse> readRecent(final Long liveStreamingId, final int size) {
+        if (!properties.isSingleNode()) {
+            missCounter.increment();
+            final List<ChatMessageResponse> chats = new ArrayList<>(liveStreamingChatReader.readRecentChats(liveStreamingId, size));
+            Collections.reverse(chats);
+            return chats;
+        }
+        final RecentChatRingBuffer buffer = touchBuffer(liveStreamingId);
+        (loadIfNecessary(liveStreamingId, buffer) ? missCounter : hitCounter).increment();
+        return buffer.latest(size);
+    }
+
+    /**
+     * @return lastChatId 이후 채팅 (chatId 오름차순, 최대 LiveStreamingChatReader.DEFAULT_CHAT_SIZE개)
+     */
+    public List<ChatMessageResponse> readNewChatsAfter(final Long liveStreamingId, final Long lastChatId) {
+        if (!properties.isSingleNode()) {
+            pollDatabaseCounter.increment();
+            return liveStreamingChatReader.readNewChatsAfter(liveStreamingId, lastChatId);
+        }
+        final RecentChatRingBuffer buffer = touchBuffer(liveStreamingId);
+        loadIfNecessary(liveStreamingId, buffer);
+
+        final List<ChatMessageResponse> chats = buffer.after(lastChatId, LiveStreamingChatReader.DEFAULT_CHAT_SIZE);
+        if (chats != null) {
+            pollMemoryCounter.increment();
+            return chats;
+        }
+
+        pollDatabaseCounter.increment();
+        return liveStreamingChatReader.readNewChatsAfter(liveStreamingId, lastChatId);
+    }
+
+    private RecentChatRingBuffer touchBuffer(final Long liveStreamingId) {
+        final RecentChatRingBuffer buffer = buffers.computeIfAbsent(
+                liveStreamingId,
+                id -> newBuffer()
+        );
+        buffer.touch();
+        return buffer;
+    }
+
+    private RecentChatRingBuffer newBuffer() {
+        return new RecentChatRingBuffer(properties.getCapacity(), bufferGeneration.incrementAndGet() << 32);
+    }
+
+    private boolean loadIfNecessary(final Long liveStreamingId, final RecentChatRingBuffer buffer) {
+        return buffer.loadIfNecessary(
+                properties.getCapacity(),
+                () -> liveStreamingChatReader.readRecentChats(liveStreamingId, properties.getCapacity())
+        );
+    }
+
+    /**
+     * @return 라이브 스트리밍의 최근 채팅 버전 (채팅이 추가되면 증가, 버퍼가 없거나 DB와 병합 전이거나 여러 노드 배포이면 -1)
+     */
+    public long versionOf(final Long liveStreamingId) {
+        if (!properties.isSingleNode()) {
+            return -1;
+        }
+        final RecentChatRingBuffer buffer = buffers.get(liveStreamingId);
+        return buffer == null || !buffer.isLoaded() ? -1 : buffer.version();
+    }
+
+    public void evict(final Long liveStreamingId) {
+        buffers.remove(liveStreamingId);
+    }
+
+    public void clear() {
+        buffers.clear();
+    }
+
+    /**
+     * 스케줄러: idleTimeout 동안 사용되지 않은 버퍼 제거
+     * 종료 이벤트 없이 중단된 라이브 스트리밍과 종료 후 조회로 다시 채워진 버퍼의 메모리 누수 방지
+     */
+    @Scheduled(fixedRate = 60000) // 1분마다
+    public void evictIdleStreams() {
+        final long cutoffNanos = System.nanoTime() - properties.getIdleTimeout().toNanos();
+
+        buffers.keySet().forEach(liveStreamingId ->
+                buffers.computeIfPresent(liveStreamingId, (id, buffer) ->
+                        buffer.isIdleSince(cutoffNanos) ? null : buffer
+                )
+        );
+
+        log.debug("유휴 최근 채팅 버퍼 정리 완료 - 남은 라이브 스트리밍 수: {}", buffers.size());
+    }
+}
@@ -0,0 +1,264 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.youtube.live.interaction.config.ViewerStateSnapshotProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+
+/**
+ * 재배포(rolling restart) 시 노드 메모리 상태 스냅샷
+ *
+ * 정상 종료 시 아래 상태를 로컬 바이너리 파일 하나에 쓰고, 기동 시 트래픽을 받기 전에 읽어서 복원한 뒤 파일을 지운다.
+ * 1. LiveStreamingViewerManager: heartbeat 시청자 (primitive 그대로), 스트리머 등록, 누적 고유 시청자 스케치
+ * 2. LiveStreamingSubscriberManager: 스트리머 등록, 누적 고유 시청자 스케치 (WebSocket 세션은 재연결되므로 제외)
+ * 3. liveStreamingStatus 캐시: 상태와 남은 TTL
+ *
+ * 내려가 있던 시간 반영:
+ * - heartbeat 시청자는 내려가 있던 동안 heartbeat를 보낼 수 없었으므로 그 시간만큼 heartbeat 시각을 뒤로 옮긴다.
+ *   maxDowntime보다 오래 내려가 있었다면 옮기지 않으므로 모두 만료된다.
+ * - 상태 캐시의 TTL은 DB 값과 어긋날 수 있는 시간의 상한이므로 내려가 있던 시간도 TTL에서 뺀다. (다 지났으면 버림)
+ *
+ * 파일 형식: [MAGIC][VERSION][저장 시각 ms][시청자 관리자][구독자 관리자][상태 캐시][CRC32]
+ * 쓰는 도중 종료되더라도 이전 파일이 깨지지 않도록 임시 파일에 쓴 뒤 이름을 바꾼다.
+ * CRC가 맞지 않거나 형식이 다르면 복원하지 않고 빈 상태로 시작한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "livestreaming.snapshot.enabled", havingValue = "true")
+public class LiveStreamingStateSnapshot implements SmartLifecycle {
+
+    /**
+     * 웹 서버(WebServerStartStopLifecycle)보다 먼저 시작(복원)하고 나중에 정지(저장)하기 위한 phase
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final int MAGIC = 0x4C535353; // "LSSS"
+    private static final byte VERSION = 1;
+    private static final String STATUS_CACHE_NAME = "liveStreamingStatus";
+
+    private final LiveStreamingViewerManager liveStreamingViewerManager;
+    private final LiveStreamingSubscriberManager liveStreamingSubscriberManager;
+    private final CacheManager cacheManager;
+    private final ViewerStateSnapshotProperties properties;
+    private final LongSupplier currentTimeMillis;
+
+    private volatile boolean running = false;
+
+    @Autowired
+    public LiveStreamingStateSnapshot(
+            final LiveStreamingViewerManager liveStreamingViewerManager,
+            final LiveStreamingSubscriberManager liveStreamingSubscriberManager,
+            final CacheManager cacheManager,
+            final ViewerStateSnapshotProperties properties
+    ) {
+        this(liveStreamingViewerManager, liveStreamingSubscriberManager, cacheManager, properties, System::currentTimeMillis);
+    }
+
+    LiveStreamingStateSnapshot(
+            final LiveStreamingViewerManager liveStreamingViewerManager,
+            final LiveStreamingSubscriberManager liveStreamingSubscriberManager,
+            final CacheManager cacheManager,
+            final ViewerStateSnapshotProperties properties,
+            final LongSupplier currentTimeMillis
+    ) {
+        this.liveStreamingViewerManager = liveStreamingViewerManager;
+        this.liveStreamingSubscriberManager = liveStreamingSubscriberManager;
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public void start() {
+        restore();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        save();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    void save() {
+        final Path path = Path.of(properties.getPath());
+        try {
+            final byte[] snapshot = write();
+            final Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(temporary, snapshot);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("메모리 상태 스냅샷 저장 - path: {}, bytes: {}", path, snapshot.length);
+        } catch (final IOException | RuntimeException e) {
+            log.error("메모리 상태 스냅샷 저장 실패 - path: {}", path, e);
+        }
+    }
+
+    void restore() {
+        final Path path = Path.of(properties.getPath());
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try {
+            final byte[] snapshot = Files.readAllBytes(path);
+            read(snapshot);
+            log.info("메모리 상태 스냅샷 복원 - path: {}, bytes: {}", path, snapshot.length);
+        } catch (final IOException | RuntimeException e) {
+            log.warn("메모리 상태 스냅샷 복원 실패, 빈 상태로 시작 - path: {}", path, e);
+        } finally {
+            deleteQuietly(path);
+        }
+    }
+
+    private byte[] write() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(currentTimeMillis.getAsLong());
+        liveStreamingViewerManager.writeSnapshot(out);
+        liveStreamingSubscriberManager.writeSnapshot(out);
+        writeStatusCache(out);
+
+        final CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        return bytes.toByteArray();
+    }
+
+    private void read(final byte[] snapshot) throws IOException {
+        if (snapshot.length < Long.BYTES) {
+            throw new IOException("스냅샷이 너무 짧습니다: " + snapshot.length);
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(snapshot, 0, snapshot.length - Long.BYTES);
+        final long expectedCrc = new DataInputStream(
+                new ByteArrayInputStream(snapshot, snapshot.length - Long.BYTES, Long.BYTES)
+        ).readLong();
+        if (crc.getValue() != expectedCrc) {
+            throw new IOException("스냅샷 CRC 불일치");
+        }
+
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot, 0, snapshot.length - Long.BYTES));
+        if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 형식");
+        }
+        final long downtimeMillis = Math.max(0, currentTimeMillis.getAsLong() - in.readLong());
+        final int shiftSeconds = downtimeMillis <= properties.getMaxDowntime().toMillis()
+                ? (int) TimeUnit.MILLISECONDS.toSeconds(downtimeMillis)
+                : 0;
+
+        liveStreamingViewerManager.restoreSnapshot(in, shiftSeconds);
+        liveStreamingSubscriberManager.restoreSnapshot(in);
+        readStatusCache(in, downtimeMillis);
+        log.info("메모리 상태 복원 - 중단 시간: {}ms, heartbeat 시각 보정: {}s", downtimeMillis, shiftSeconds);
+    }
+
+    /**
+     * [항목 수][(liveStreamingId, 상태 이름, 남은 TTL ms)...]
+     */
+    private void writeStatusCache(final DataOutputStream out) throws IOException {
+        final Optional<com.github.benmanes.caffeine.cache.Cache<Object, Object>> statusCache = statusCache();
+        final Optional<Policy.VarExpiration<Object, Object>> expiration = statusCache
+                .flatMap(cache -> cache.policy().expireVariably());
+        if (statusCache.isEmpty() || expiration.isEmpty()) {
+            out.writeInt(0);
+            return;
+        }
+
+        final List<Map.Entry<Long, LiveStreamingStatus>> entries = new ArrayList<>();
+        final List<Duration> remainingTtls = new ArrayList<>();
+        statusCache.get().asMap().forEach((key, value) -> {
+            if (key instanceof Long liveStreamingId && value instanceof LiveStreamingStatus status) {
+                expiration.get().getExpiresAfter(key).ifPresent(remaining -> {
+                    entries.add(Map.entry(liveStreamingId, status));
+                    remainingTtls.add(remaining);
+                });
+            }
+        });
+
+        out.writeInt(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            out.writeLong(entries.get(i).getKey());
+            out.writeUTF(entries.get(i).getValue().name());
+            out.writeLong(remainingTtls.get(i).toMillis());
+        }
+    }
+
+    private void readStatusCache(final DataInputStream in, final long downtimeMillis) throws IOException {
+        final Optional<Policy.VarExpiration<Object, Object>> expiration = statusCache()
+                .flatMap(cache -> cache.policy().expireVariably());
+
+        final int entryCount = in.readInt();
+        for (int i = 0; i < entryCount; i++) {
+            final long liveStreamingId = in.readLong();
+            final String statusName = in.readUTF();
+            final long remainingMillis = in.readLong() - downtimeMillis;
+            if (remainingMillis <= 0 || expiration.isEmpty()) {
+                continue;
+            }
+            try {
+                expiration.get().putIfAbsent(
+                        liveStreamingId,
+                        LiveStreamingStatus.valueOf(statusName),
+                        Duration.ofMillis(remainingMillis)
+                );
+            } catch (final IllegalArgumentException e) {
+                log.debug("알 수 없는 라이브 상태는 복원하지 않음 - liveStreamingId: {}, status: {}", liveStreamingId, statusName);
+            }
+        }
+    }
+
+    private Optional<com.github.benmanes.caffeine.cache.Cache<Object, Object>> statusCache() {
+        final Cache cache = cacheManager.getCache(STATUS_CACHE_NAME);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            return Optional.of(caffeineCache.getNativeCache());
+        }
+        return Optional.empty();
+    }
+
+    private static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            log.warn("메모리 상태 스냅샷 삭제 실패 - path: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 라이브 스트리밍별 집계 (라이브 스트리밍당 한 row)
+ *
+ * 좋아요 / 싫어요 수를 live_streaming_reaction COUNT 대신 이 row에서 읽는다.
+ * 값은 LiveStreamingStatsWriter가 증감을 모아 갱신하고, 주기적으로 원본 테이블에서 다시 계산해 바로잡는다.
+ */
+@Entity
+@Table(name = "live_streaming_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class LiveStreamingStats {
+
+    @Id
+    @Column(name = "live_streaming_id")
+    private Long liveStreamingId;
+
+    @Column(nullable = false)
+    private long likeCount;
+
+    @Column(nullable = false)
+    private long dislikeCount;
+
+    public long countOf(final ReactionType type) {
+        return type == ReactionType.LIKE ? likeCount : dislikeCount;
+    }
+}
@@ -0,0 +1,198 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.LiveStreamingStatsProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 라이브 스트리밍별 시청자 수 / 좋아요 수 시계열과 종료 요약
+ *
+ * 시청자 수는 sampleInterval마다 샘플러가 ViewerCountAggregator에서 직접 읽는다.
+ * heartbeat / 구독 처리 경로는 건드리지 않으므로 시청자 입장/폴링에 락이 추가되지 않는다.
+ *
+ * 시계열과 최대 / 평균 시청자 수는 접속 수 기준이다. (WebSocket 시청자 수 + heartbeat 시청자 수, 스트리머 제외)
+ * 두 방식으로 동시에 시청 중인 사용자는 양쪽에서 한 번씩 세어진다. 현재 시청자 ID 집합을 합치려면
+ * 표본마다 양쪽 시청자 맵을 훑어야 하므로, 중복 제거는 누적 고유 시청자 수(HyperLogLog 합집합)에만 적용한다.
+ *
+ * 좋아요 수는 이미 계산된 값을 받아 두기만 한다. (recordLikeCount: volatile 쓰기 한 번)
+ * 샘플링 때문에 좋아요 수를 DB에서 다시 세지 않기 위함이다.
+ * 시계열은 샘플러가 추적하는 라이브 스트리밍(시청자가 있거나 이미 시계열이 있는 경우)에만 만들고,
+ * 종료되었거나 존재하지 않는 라이브 스트리밍의 좋아요 수는 기록하지 않는다.
+ */
+@Component
+public class LiveStreamingStatsHistory {
+
+    private static final class Stats {
+
+        private final ViewerCountTimeSeries series;
+        private volatile int likeCount;
+
+        /**
+         * 샘플러 스레드만 읽고 쓴다.
+         */
+        private long lastViewerSeenMillis;
+
+        private Stats(final ViewerCountTimeSeries series, final long createdAtMillis) {
+            this.series = series;
+            this.lastViewerSeenMillis = createdAtMillis;
+        }
+    }
+
+    private final ConcurrentHashMap<Long, Stats> liveStreamingToStats = new ConcurrentHashMap<>();
+
+    private final LiveStreamingSubscriberManager liveStreamingSubscriberManager;
+    private final LiveStreamingViewerManager liveStreamingViewerManager;
+    private final ViewerCountAggregator viewerCountAggregator;
+    private final LiveStreamingStatsProperties properties;
+    private final LongSupplier currentTimeMillis;
+
+    @Autowired
+    public LiveStreamingStatsHistory(
+            final LiveStreamingSubscriberManager liveStreamingSubscriberManager,
+            final LiveStreamingViewerManager liveStreamingViewerManager,
+            final ViewerCountAggregator viewerCountAggregator,
+            final LiveStreamingStatsProperties properties
+    ) {
+        this(liveStreamingSubscriberManager, liveStreamingViewerManager, viewerCountAggregator, properties, System::currentTimeMillis);
+    }
+
+    LiveStreamingStatsHistory(
+            final LiveStreamingSubscriberManager liveStreamingSubscriberManager,
+            final LiveStreamingViewerManager liveStreamingViewerManager,
+            final ViewerCountAggregator viewerCountAggregator,
+            final LiveStreamingStatsProperties properties,
+            final LongSupplier currentTimeMillis
+    ) {
+        this.liveStreamingSubscriberManager = liveStreamingSubscriberManager;
+        this.liveStreamingViewerManager = liveStreamingViewerManager;
+        this.viewerCountAggregator = viewerCountAggregator;
+        this.properties = properties;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    public void recordLikeCount(final Long liveStreamingId, final int likeCount) {
+        final Stats stats = liveStreamingToStats.get(liveStreamingId);
+        if (stats != null) {
+            stats.likeCount = likeCount;
+            return;
+        }
+        if (currentViewerCount(liveStreamingId) > 0) {
+            statsOf(liveStreamingId).likeCount = likeCount;
+        }
+    }
+
+    /**
+     * 시청자가 있는 라이브 스트리밍과 시계열을 쌓고 있는 라이브 스트리밍의 표본을 하나씩 추가한다.
+     * 종료 처리 없이 idleTimeout 동안 시청자가 없었던 라이브 스트리밍은 시계열을 버린다.
+     */
+    @Scheduled(fixedRateString = "${livestreaming.stats.sample-interval:10s}")
+    public void sample() {
+        final long nowMillis = currentTimeMillis.getAsLong();
+        final Set<Long> liveStreamingIds = new HashSet<>(liveStreamingToStats.keySet());
+        liveStreamingIds.addAll(liveStreamingSubscriberManager.getActiveLivestreamIds());
+        liveStreamingIds.addAll(liveStreamingViewerManager.getActiveLivestreamIds());
+
+        for (final Long liveStreamingId : liveStreamingIds) {
+            final int viewerCount = currentViewerCount(liveStreamingId);
+            final Stats stats = statsOf(liveStreamingId);
+            if (viewerCount > 0) {
+                stats.lastViewerSeenMillis = nowMillis;
+            } else if (nowMillis - stats.lastViewerSeenMillis > properties.getIdleTimeout().toMillis()) {
+                liveStreamingToStats.remove(liveStreamingId, stats);
+                continue;
+            }
+            stats.series.add(TimeUnit.MILLISECONDS.toSeconds(nowMillis), viewerCount, stats.likeCount);
+        }
+    }
+
+    public List<ViewerCountSample> getSeries(final Long liveStreamingId) {
+        final Stats stats = liveStreamingToStats.get(liveStreamingId);
+        return stats == null ? List.of() : stats.series.samples();
+    }
+
+    /**
+     * 마지막 표본을 추가하고 요약을 반환한다.
+     * 누적 고유 시청자 수를 읽어야 하므로 시청자 관리자에서 라이브 스트리밍을 정리하기 전에 호출한다.
+     *
+     * 트랜잭션 안에서 호출되면 시계열은 커밋된 뒤에 정리한다.
+     * 요약 저장이 롤백되면 라이브 스트리밍은 계속 진행 중이므로 시계열을 남겨 둔다.
+     */
+    public ViewerCountSummary finish(final Long liveStreamingId) {
+        final long totalUniqueViewerCount = totalUniqueViewerCount(liveStreamingId);
+        final Stats stats = liveStreamingToStats.get(liveStreamingId);
+        discardAfterCommit(liveStreamingId, stats);
+        if (stats == null) {
+            return new ViewerCountSummary(0, 0, totalUniqueViewerCount);
+        }
+
+        stats.series.add(
+                TimeUnit.MILLISECONDS.toSeconds(currentTimeMillis.getAsLong()),
+                currentViewerCount(liveStreamingId),
+                stats.likeCount
+        );
+        return new ViewerCountSummary(
+                stats.series.peakViewerCount(),
+                stats.series.averageViewerCount(),
+                totalUniqueViewerCount
+        );
+    }
+
+    private void discardAfterCommit(final Long liveStreamingId, final Stats stats) {
+        if (stats == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            liveStreamingToStats.remove(liveStreamingId, stats);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                liveStreamingToStats.remove(liveStreamingId, stats);
+            }
+        });
+    }
+
+    private int currentViewerCount(final Long liveStreamingId) {
+        return viewerCountAggregator.getSubscriberCount(liveStreamingId)
+                + viewerCountAggregator.getHeartbeatViewerCount(liveStreamingId);
+    }
+
+    /**
+     * WebSocket / heartbeat 누적 고유 시청자의 합집합 (양쪽으로 모두 시청한 사용자는 한 번만 센다)
+     */
+    private long totalUniqueViewerCount(final Long liveStreamingId) {
+        final List<HyperLogLog> sketches = new ArrayList<>(2);
+        final HyperLogLog subscribers = liveStreamingSubscriberManager.lifetimeViewers(liveStreamingId);
+        if (subscribers != null) {
+            sketches.add(subscribers);
+        }
+        final HyperLogLog heartbeatViewers = liveStreamingViewerManager.lifetimeViewers(liveStreamingId);
+        if (heartbeatViewers != null) {
+            sketches.add(heartbeatViewers);
+        }
+        return sketches.isEmpty() ? 0 : HyperLogLog.estimateUnion(sketches.toArray(HyperLogLog[]::new));
+    }
+
+    private Stats statsOf(final Long liveStreamingId) {
+        final Stats stats = liveStreamingToStats.get(liveStreamingId);
+        if (stats != null) {
+            return stats;
+        }
+        return liveStreamingToStats.computeIfAbsent(liveStreamingId, id -> new Stats(
+                new ViewerCountTimeSeries(properties.getCapacity(), (int) properties.getSampleInterval().toSeconds()),
+                currentTimeMillis.getAsLong()
+        ));
+    }
+}
@@ -0,0 +1,31 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingReactionRepository;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LiveStreamingStatsReader {
+
+    private final LiveStreamingStatsRepository liveStreamingStatsRepository;
+    private final LiveStreamingReactionRepository liveStreamingReactionRepository;
+
+    /**
+     * 집계 row가 없으면 live_streaming_reaction을 한 번 세어 row를 만든다. (이후 증감은 LiveStreamingStatsWriter가 반영)
+     * 읽기 전용 트랜잭션에서 호출되므로 row는 insertIfAbsent의 별도 쓰기 트랜잭션으로 만든다.
+     */
+    public LiveStreamingStats readBy(final Long liveStreamingId) {
+        return liveStreamingStatsRepository.findById(liveStreamingId)
+                .orElseGet(() -> {
+                    final LiveStreamingStats counted = LiveStreamingStats.builder()
+                            .liveStreamingId(liveStreamingId)
+                            .likeCount(liveStreamingReactionRepository.countByLiveStreamingIdAndType(liveStreamingId, ReactionType.LIKE))
+                            .dislikeCount(liveStreamingReactionRepository.countByLiveStreamingIdAndType(liveStreamingId, ReactionType.DISLIKE))
+                            .build();
+                    liveStreamingStatsRepository.insertIfAbsent(liveStreamingId, counted.getLikeCount(), counted.getDislikeCount());
+                    return counted;
+                });
+    }
+}
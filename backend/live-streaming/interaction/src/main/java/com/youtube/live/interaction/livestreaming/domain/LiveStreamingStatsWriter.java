@@ -0,0 +1,179 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.core.common.CounterDeltas;
+import com.youtube.core.common.NamedLock;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * 라이브 스트리밍별 집계 갱신
+ *
+ * 반응 변경이 저장되면 라이브 스트리밍별 좋아요 / 싫어요 증감을 메모리에 모으고,
+ * flushInterval마다 라이브 스트리밍당 UPDATE ... SET like_count = like_count + ? 한 번으로 반영한다.
+ * 반영에 실패한 증감은 되돌려 놓고 다음 주기에 다시 시도한다.
+ *
+ * 보정: repairCron마다 live_streaming_stats 전체를 live_streaming_reaction에서 다시 계산한다.
+ * - 모든 노드에서 cron이 돌지만 NamedLock을 잡은 한 노드만 보정한다.
+ * - 다시 계산한 값에는 이미 커밋된 반응이 모두 들어 있으므로, 구간을 계산하기 직전에 그 구간의 모아 둔 증감을 버린다.
+ *   (증감은 커밋된 뒤에 모이므로, 버리지 않으면 다음 flush에서 두 번 더해진다)
+ *   다른 노드가 아직 반영하지 않은 증감(최대 flushInterval)과 구간 계산 중에 모인 증감은 다음 보정에서 바로잡힌다.
+ *
+ * 종료 처리: SmartLifecycle로 웹 서버 종료 이후에 정지하며, 정지 시 남은 증감을 반영한다.
+ * (반응 Write-Behind 버퍼보다 나중에 정지하므로 버퍼의 마지막 flush에서 나온 증감도 반영)
+ */
+@Slf4j
+@Component
+public class LiveStreamingStatsWriter implements SmartLifecycle {
+
+    /**
+     * 웹 서버(WebServerStartStopLifecycle)와 반응 Write-Behind 버퍼보다 나중에 정지하기 위한 phase
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 8192;
+
+    private static final int REPAIR_CHUNK_SIZE = 1_000;
+    private static final String REPAIR_LOCK = "live_streaming_stats.repair";
+
+    private final LiveStreamingStatsRepository liveStreamingStatsRepository;
+    private final NamedLock namedLock;
+    private final CounterDeltas likeCountDeltas = new CounterDeltas();
+    private final CounterDeltas dislikeCountDeltas = new CounterDeltas();
+
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running = false;
+
+    public LiveStreamingStatsWriter(
+            final LiveStreamingStatsRepository liveStreamingStatsRepository,
+            final NamedLock namedLock,
+            final MeterRegistry meterRegistry
+    ) {
+        this.liveStreamingStatsRepository = liveStreamingStatsRepository;
+        this.namedLock = namedLock;
+
+        this.flushedCounter = Counter.builder("livestreaming.reaction.stats.flushed")
+                .description("집계에 반영한 라이브 스트리밍 row 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("livestreaming.reaction.stats.failed")
+                .description("집계 반영에 실패한 라이브 스트리밍 row 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 반응이 previousType에서 currentType으로 바뀐 것을 모은다. (null: 반응 없음)
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 모은다.
+     */
+    public void addReactionAfterCommit(final Long liveStreamingId, final ReactionType previousType, final ReactionType currentType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addReaction(liveStreamingId, previousType, currentType);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addReaction(liveStreamingId, previousType, currentType);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${livestreaming.reaction.stats.flush-interval:1s}")
+    public synchronized void flush() {
+        final Map<Long, Long> likeDeltas = likeCountDeltas.drain();
+        final Map<Long, Long> dislikeDeltas = dislikeCountDeltas.drain();
+        if (likeDeltas.isEmpty() && dislikeDeltas.isEmpty()) {
+            return;
+        }
+        try {
+            liveStreamingStatsRepository.incrementReactionCounts(likeDeltas, dislikeDeltas);
+            flushedCounter.increment(likeDeltas.size() + dislikeDeltas.size());
+        } catch (Exception e) {
+            likeCountDeltas.addAll(likeDeltas);
+            dislikeCountDeltas.addAll(dislikeDeltas);
+            failedCounter.increment(likeDeltas.size() + dislikeDeltas.size());
+            log.error("라이브 스트리밍 반응 수 반영 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모아 둔 증감을 먼저 반영한 뒤 라이브 스트리밍 id 구간별로 다시 계산한다. (다른 노드가 보정 중이면 건너뜀)
+     */
+    @Scheduled(cron = "${livestreaming.reaction.stats.repair-cron:0 40 4 * * *}")
+    public void repair() {
+        if (!namedLock.runIfAcquired(REPAIR_LOCK, this::recomputeAll)) {
+            log.info("라이브 스트리밍 반응 수 보정 건너뜀 - 다른 노드에서 보정 중");
+        }
+    }
+
+    /**
+     * 테스트 격리용
+     */
+    public void clear() {
+        likeCountDeltas.clear();
+        dislikeCountDeltas.clear();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void recomputeAll() {
+        flush();
+        final long maxLiveStreamingId = liveStreamingStatsRepository.findMaxLiveStreamingId();
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxLiveStreamingId; fromId += REPAIR_CHUNK_SIZE) {
+            repaired += recompute(fromId, fromId + REPAIR_CHUNK_SIZE - 1);
+        }
+        log.info("라이브 스트리밍 반응 수 보정 완료 - maxLiveStreamingId: {}, affectedRows: {}", maxLiveStreamingId, repaired);
+    }
+
+    /**
+     * flush와 같은 lock 안에서 구간의 증감을 버리고 다시 계산한다.
+     */
+    private synchronized int recompute(final long fromId, final long toId) {
+        likeCountDeltas.drainBetween(fromId, toId);
+        dislikeCountDeltas.drainBetween(fromId, toId);
+        return liveStreamingStatsRepository.recomputeReactionCounts(fromId, toId);
+    }
+
+    private void addReaction(final Long liveStreamingId, final ReactionType previousType, final ReactionType currentType) {
+        if (previousType == currentType) {
+            return;
+        }
+        if (previousType != null) {
+            deltasOf(previousType).add(liveStreamingId, -1);
+        }
+        if (currentType != null) {
+            deltasOf(currentType).add(liveStreamingId, 1);
+        }
+    }
+
+    private CounterDeltas deltasOf(final ReactionType type) {
+        return type == ReactionType.LIKE ? likeCountDeltas : dislikeCountDeltas;
+    }
+}
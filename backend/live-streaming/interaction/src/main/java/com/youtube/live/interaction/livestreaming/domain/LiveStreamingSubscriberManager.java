@@ -1,11 +1,17 @@
 package com.youtube.live.interaction.livestreaming.domain;
 
+import com.youtube.live.interaction.config.ViewerCountProperties;
 import jakarta.annotation.Nullable;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -16,11 +22,20 @@ public class LiveStreamingSubscriberManager {
     /**
      * 라이브 스트리밍별 시청자 추적 (카운팅용)
      *
-     * 구조: Map<liveStreamingId, Map<viewerId, Set<simpSessionId>>>
+     * 구조: Map<liveStreamingId, ViewerSessionCounts(viewerId -> 세션 수)>
      *
      * - liveStreamingId: 라이브 스트리밍 고유 ID
-     * - viewerId: 고유 시청자 식별자 ("user:{userId}" 또는 "client:{clientId}")
-     * - simpSessionId: WebSocket 세션 ID (탭/브라우저 창 단위)
+     * - viewerId: 고유 시청자 식별자 (userId 또는 clientId 128비트, ViewerId 참고)
+     * - 세션 수: WebSocket 세션(탭/브라우저 창) 개수
+     *
+     * 어떤 세션이 어떤 시청자인지는 sessionToViewerSession이 보관하므로,
+     * 라이브 스트리밍별로는 시청자마다 세션 ID 집합 대신 세션 수만 primitive 맵에 보관한다.
+     *
+     * 동시성:
+     * 입장/퇴장은 세션 단위 compute(sessionToViewerSession) 안에서 ViewerSessionCounts의 stripe 락만 잡는다.
+     * 같은 라이브 스트리밍에 대한 liveStreamingToViewers.compute로 직렬화하지 않으므로,
+     * 서로 다른 stripe의 시청자는 같은 락을 잡지 않는다.
+     * (코어 1개 환경에서는 처리량 개선이 측정되지 않았다. 결과는 LiveStreamingSubscriberManagerBenchmark 참고)
      *
      * 설계 이유:
      * 1. 시청자 수는 고유 사용자(viewerId) 기준으로 카운트
@@ -33,7 +48,7 @@ public class LiveStreamingSubscriberManager {
      * user:123이 3개 탭으로 liveStreaming=1을 시청하는 경우
      * {
      *   1L → {
-     *     "user:123" → {"session-A", "session-B", "session-C"}
+     *     user 123 → 3
      *   }
      * }
      * → getSubscriberCount(1) = 1 (viewerId 개수, simpSessionId 개수가 아님)
@@ -41,18 +56,15 @@ public class LiveStreamingSubscriberManager {
      * 탭 하나(session-B) 닫으면:
      * {
      *   1L → {
-     *     "user:123" → {"session-A", "session-C"}
+     *     user 123 → 2
      *   }
      * }
      * → getSubscriberCount(1) = 1 (여전히 1명)
      *
-     * 모든 탭 닫으면:
-     * {
-     *   1L → {}
-     * }
+     * 모든 탭 닫으면 liveStreamingId 자체를 제거 (ViewerSessionCounts 폐기)
      * → getSubscriberCount(1) = 0
      */
-    private final ConcurrentHashMap<Long, ConcurrentHashMap<String, Set<String>>> liveStreamingToViewers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, ViewerSessionCounts> liveStreamingToViewers = new ConcurrentHashMap<>();
 
     /**
      * 라이브 스트리밍별 스트리머 userId 저장
@@ -60,11 +72,23 @@ public class LiveStreamingSubscriberManager {
      */
     private final ConcurrentHashMap<Long, Long> liveStreamingToStreamer = new ConcurrentHashMap<>();
 
+    /**
+     * 라이브 스트리밍별 누적 고유 시청자 (HyperLogLog, 종료 요약용)
+     * 입장이 stripe 단위로 병렬 처리되므로 락 없이 addConcurrently로 더한다.
+     *
+     * 스케치(2^p bytes, p = 14 → 16KB)는 방송을 시작할 때(registerStreamer)만 만들고 종료할 때 지운다.
+     * 입장은 있는 스케치에만 더하므로, 종료 뒤에 늦게 도착한 구독이 끝난 방송의 스케치를 다시 만들지 않는다.
+     */
+    private final ConcurrentHashMap<Long, HyperLogLog> liveStreamingToLifetimeViewers = new ConcurrentHashMap<>();
 
-    private record ViewerSession(Long liveStreamingId, String viewerId) {
-        public boolean isDifferentLiveStreaming(final Long otherLiveStreamingId) {
-            return !this.liveStreamingId.equals(otherLiveStreamingId);
-        }
+    private final ViewerCountProperties viewerCountProperties;
+
+    public LiveStreamingSubscriberManager(final ViewerCountProperties viewerCountProperties) {
+        this.viewerCountProperties = viewerCountProperties;
+    }
+
+
+    private record ViewerSession(Long liveStreamingId, ViewerId viewerId) {
     }
 
     /**
@@ -73,50 +97,34 @@ public class LiveStreamingSubscriberManager {
      */
     private final ConcurrentHashMap<String, ViewerSession> sessionToViewerSession = new ConcurrentHashMap<>();
 
-    private static final String USER_PREFIX = "user:";
-    private static final String CLIENT_PREFIX = "client:";
-
-    private String createViewerId(final Long userId, final String clientId) {
-        return userId != null ? USER_PREFIX + userId : CLIENT_PREFIX + clientId;
-    }
-
     public void addSubscriber(
             final Long liveStreamingId,
             final String simpSessionId,
             @Nullable final Long userId,
             @NonNull final String clientId
     ) {
-        final String viewerId = createViewerId(userId, clientId);
+        final ViewerId viewerId = ViewerId.of(userId, clientId);
 
         sessionToViewerSession.compute(simpSessionId, (key, oldSession) -> {
+            final ViewerSession newSession = new ViewerSession(liveStreamingId, viewerId);
+            // 같은 세션이 같은 라이브를 다시 구독한 경우 (세션 수를 중복으로 세지 않음)
+            if (newSession.equals(oldSession)) {
+                return oldSession;
+            }
+
             // 1. 이전 라이브스트리밍에서 제거 (다른 라이브로 이동한 경우)
-            if (oldSession != null && oldSession.isDifferentLiveStreaming(liveStreamingId)) {
+            if (oldSession != null) {
                 removeSessionFromLiveStreaming(
                         oldSession.liveStreamingId(),
-                        oldSession.viewerId(),
-                        simpSessionId
+                        oldSession.viewerId()
                 );
             }
 
             // 2. 새 라이브스트리밍에 추가
-            liveStreamingToViewers.compute(liveStreamingId, (id, viewers) -> {
-                if (viewers == null) {
-                    viewers = new ConcurrentHashMap<>();
-                }
-
-                viewers.compute(viewerId, (vId, sessions) -> {
-                    if (sessions == null) {
-                        sessions = ConcurrentHashMap.newKeySet();
-                    }
-                    sessions.add(simpSessionId);
-                    return sessions;
-                });
-
-                return viewers;
-            });
+            addSessionToLiveStreaming(liveStreamingId, viewerId);
 
             // 3. 새로운 세션 정보 반환
-            return new ViewerSession(liveStreamingId, viewerId);
+            return newSession;
         });
     }
 
@@ -124,54 +132,162 @@ public class LiveStreamingSubscriberManager {
         sessionToViewerSession.computeIfPresent(simpSessionId, (key, session) -> {
             removeSessionFromLiveStreaming(
                     session.liveStreamingId(),
-                    session.viewerId(),
-                    simpSessionId
+                    session.viewerId()
             );
 
             return null;
         });
     }
 
-    private void removeSessionFromLiveStreaming(
-            final Long liveStreamingId,
-            final String viewerId,
-            final String simpSessionId
-    ) {
-        liveStreamingToViewers.computeIfPresent(liveStreamingId, (id, viewers) -> {
-            viewers.computeIfPresent(viewerId, (vId, sessions) -> {
-                sessions.remove(simpSessionId);
-                // 마지막 세션이면 viewerId 자체를 제거
-                return sessions.isEmpty() ? null : sessions;
-            });
-            // 시청자가 없으면 liveStreamingId 자체를 제거
-            return viewers.isEmpty() ? null : viewers;
-        });
+    private void addSessionToLiveStreaming(final Long liveStreamingId, final ViewerId viewerId) {
+        final HyperLogLog lifetimeViewers = liveStreamingToLifetimeViewers.get(liveStreamingId);
+        if (lifetimeViewers != null) {
+            lifetimeViewers.addConcurrently(viewerId.hash64());
+        }
+
+        while (true) {
+            ViewerSessionCounts viewers = liveStreamingToViewers.get(liveStreamingId);
+            if (viewers == null) {
+                viewers = liveStreamingToViewers.computeIfAbsent(liveStreamingId, id -> new ViewerSessionCounts());
+            }
+            if (viewers.addSession(viewerId)) {
+                return;
+            }
+            // 방금 폐기된 인스턴스를 잡은 경우: 맵에서 빠질 때까지 기다리지 않고 교체 후 재시도
+            liveStreamingToViewers.remove(liveStreamingId, viewers);
+        }
+    }
+
+    private void removeSessionFromLiveStreaming(final Long liveStreamingId, final ViewerId viewerId) {
+        final ViewerSessionCounts viewers = liveStreamingToViewers.get(liveStreamingId);
+        if (viewers == null) {
+            return;
+        }
+
+        // 마지막 세션이면 viewerId 자체를 제거
+        viewers.removeSession(viewerId);
+
+        // 시청자가 없으면 liveStreamingId 자체를 제거
+        if (viewers.isEmpty()) {
+            retireIfEmpty(liveStreamingId, viewers);
+        }
+    }
+
+    private void retireIfEmpty(final Long liveStreamingId, final ViewerSessionCounts viewers) {
+        liveStreamingToViewers.computeIfPresent(liveStreamingId, (id, current) ->
+                current == viewers && viewers.retireIfEmpty() ? null : current
+        );
     }
 
+    /**
+     * 방송 시작 시 스트리머를 등록하고 누적 고유 시청자 스케치를 만든다.
+     */
     public void registerStreamer(final Long liveStreamingId, final Long streamerUserId) {
         liveStreamingToStreamer.put(liveStreamingId, streamerUserId);
+        liveStreamingToLifetimeViewers.computeIfAbsent(
+                liveStreamingId,
+                id -> new HyperLogLog(viewerCountProperties.getHllPrecision())
+        );
     }
 
     public void unregisterStreamer(final Long liveStreamingId) {
         liveStreamingToStreamer.remove(liveStreamingId);
     }
 
+    /**
+     * 라이브 스트리밍 종료 시 스트리머 등록과 누적 고유 시청자를 정리한다.
+     * 접속 중인 세션은 연결이 끊길 때 SessionDisconnectEvent로 정리된다.
+     */
+    public void endLiveStreaming(final Long liveStreamingId) {
+        liveStreamingToStreamer.remove(liveStreamingId);
+        liveStreamingToLifetimeViewers.remove(liveStreamingId);
+    }
+
+    /**
+     * 라이브 스트리밍 시작 이후 WebSocket으로 입장한 누적 고유 시청자 (스트리머 포함, 이 노드에서 시작한 방송만)
+     */
+    @Nullable
+    HyperLogLog lifetimeViewers(final Long liveStreamingId) {
+        return liveStreamingToLifetimeViewers.get(liveStreamingId);
+    }
+
+    /**
+     * 재시작 스냅샷: [스트리머 수][(liveStreamingId, userId)...][라이브 수][(liveStreamingId, 누적 고유 시청자 스케치)...]
+     *
+     * WebSocket 세션은 재시작하면 모두 끊기고 클라이언트가 다시 구독하므로 저장하지 않는다.
+     * (복원하면 연결 해제 이벤트를 받지 못하는 세션이 시청자 수에 남는다)
+     */
+    void writeSnapshot(final DataOutput out) throws IOException {
+        final Map<Long, Long> streamers = Map.copyOf(liveStreamingToStreamer);
+        out.writeInt(streamers.size());
+        for (final Map.Entry<Long, Long> entry : streamers.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+
+        final Map<Long, HyperLogLog> lifetimeViewers = Map.copyOf(liveStreamingToLifetimeViewers);
+        out.writeInt(lifetimeViewers.size());
+        for (final Map.Entry<Long, HyperLogLog> entry : lifetimeViewers.entrySet()) {
+            final byte[] bytes = entry.getValue().toByteArray();
+            out.writeLong(entry.getKey());
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * writeSnapshot으로 기록한 상태를 복원한다. (트래픽을 받기 전에 호출)
+     * 정밀도 설정이 바뀐 스케치는 다른 스케치와 합칠 수 없으므로 버린다.
+     */
+    void restoreSnapshot(final DataInput in) throws IOException {
+        final int streamerCount = in.readInt();
+        for (int i = 0; i < streamerCount; i++) {
+            liveStreamingToStreamer.putIfAbsent(in.readLong(), in.readLong());
+        }
+
+        final int liveStreamingCount = in.readInt();
+        for (int i = 0; i < liveStreamingCount; i++) {
+            final long liveStreamingId = in.readLong();
+            final byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            final HyperLogLog sketch = HyperLogLog.fromByteArray(bytes);
+            if (sketch.precision() == viewerCountProperties.getHllPrecision()) {
+                liveStreamingToLifetimeViewers.putIfAbsent(liveStreamingId, sketch);
+            }
+        }
+    }
+
     public int getSubscriberCount(final Long liveStreamingId) {
-        final ConcurrentHashMap<String, Set<String>> viewers =
-                liveStreamingToViewers.getOrDefault(liveStreamingId, new ConcurrentHashMap<>());
+        final ViewerSessionCounts viewers = liveStreamingToViewers.get(liveStreamingId);
+        if (viewers == null) {
+            return 0;
+        }
+
+        final int viewerCount = viewers.viewerCount();
         final Long streamerUserId = liveStreamingToStreamer.get(liveStreamingId);
 
         if (streamerUserId == null) {
-            return viewers.size();
+            return viewerCount;
         }
 
-        final String streamerViewerId = USER_PREFIX + streamerUserId;
-        final boolean hasStreamer = viewers.containsKey(streamerViewerId);
+        final boolean hasStreamer = viewers.containsUser(streamerUserId);
 
-        return hasStreamer ? Math.max(0, viewers.size() - 1) : viewers.size();
+        return hasStreamer ? Math.max(0, viewerCount - 1) : viewerCount;
     }
 
+    /**
+     * 시청자가 있는 라이브 스트리밍 ID
+     * 동시 입장/퇴장으로 제거 시점을 놓친 빈 라이브 스트리밍은 이때 정리한다.
+     */
     public Set<Long> getActiveLivestreamIds() {
-        return Collections.unmodifiableSet(liveStreamingToViewers.keySet());
+        final Set<Long> activeLivestreamIds = new HashSet<>();
+        liveStreamingToViewers.forEach((liveStreamingId, viewers) -> {
+            if (viewers.isEmpty()) {
+                retireIfEmpty(liveStreamingId, viewers);
+            } else {
+                activeLivestreamIds.add(liveStreamingId);
+            }
+        });
+        return Collections.unmodifiableSet(activeLivestreamIds);
     }
 }
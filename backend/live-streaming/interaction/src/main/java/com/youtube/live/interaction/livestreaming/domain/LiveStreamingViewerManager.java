@@ -1,19 +1,30 @@
 package com.youtube.live.interaction.livestreaming.domain;
 
+import com.youtube.live.interaction.config.ViewerCountProperties;
+import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.time.Instant;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 @Component
 @Slf4j
 public class LiveStreamingViewerManager {
 
-    private static final String USER_PREFIX = "user:";
-    private static final String CLIENT_PREFIX = "client:";
+    /**
+     * heartbeat 시각을 int 초로 보관하기 위한 기준 시각 (2025-01-01T00:00:00Z, 약 68년 표현 가능)
+     */
+    private static final long EPOCH_SECOND = 1_735_689_600L;
 
     /**
      * 시청자 만료 TTL (Time To Live)
@@ -29,11 +40,14 @@ public class LiveStreamingViewerManager {
 
     /**
      * 라이브 스트리밍별 시청자 목록
-     * Key: liveStreamingId, Value: (viewerId -> lastSeen timestamp)
+     * Key: liveStreamingId, Value: heartbeat 시청자 수 집계 (HeartbeatViewerCounter)
      *
      * 폴링 방식(V2)에서 시청자 수를 관리하기 위한 Heartbeat 기반 TTL 시스템
+     * - 기본: 초 단위 버킷으로 heartbeat를 관리하는 타이밍 휠 (시청자는 ViewerId의 long 값, 시각은 int 초)
+     *   만료는 시간이 흐른 버킷만 비우는 방식으로 점진적으로 처리하고, 시청자 수 조회는 O(1)이다.
+     * - 시청자가 approximateThreshold 명을 넘으면 HyperLogLog 근사 집계로 전환한다.
      */
-    private final ConcurrentHashMap<Long, ConcurrentHashMap<String, Instant>> liveStreamingToViewers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, HeartbeatViewerCounter> liveStreamingToViewers = new ConcurrentHashMap<>();
 
     /**
      * 라이브 스트리밍별 스트리머 userId 저장
@@ -41,6 +55,19 @@ public class LiveStreamingViewerManager {
      */
     private final ConcurrentHashMap<Long, Long> liveStreamingToStreamer = new ConcurrentHashMap<>();
 
+    private final ViewerCountProperties viewerCountProperties;
+    private final LongSupplier currentTimeMillis;
+
+    @Autowired
+    public LiveStreamingViewerManager(final ViewerCountProperties viewerCountProperties) {
+        this(viewerCountProperties, System::currentTimeMillis);
+    }
+
+    LiveStreamingViewerManager(final ViewerCountProperties viewerCountProperties, final LongSupplier currentTimeMillis) {
+        this.viewerCountProperties = viewerCountProperties;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
     /**
      * Heartbeat 기록 (하이브리드 방식)
      *
@@ -49,19 +76,29 @@ public class LiveStreamingViewerManager {
      * @param userId 로그인한 사용자 ID (Optional)
      *
      * viewerId 우선순위: userId > clientId
-     * - 로그인 유저: "user:{userId}" 형식으로 저장 (여러 탭 = 1명)
-     * - 비로그인 유저: "client:{clientId}" 형식으로 저장 (여러 탭 = 1명)
+     * - 로그인 유저: userId 로 저장 (여러 탭 = 1명)
+     * - 비로그인 유저: clientId 128비트 값으로 저장 (여러 탭 = 1명)
      */
     public void recordHeartbeat(final Long liveStreamingId, final String clientId, final Long userId) {
-        final String viewerId = userId != null
-                ? USER_PREFIX + userId
-                : CLIENT_PREFIX + clientId;
+        final ViewerId viewerId = ViewerId.of(userId, clientId);
+
+        final boolean streamer = userId != null && userId.equals(liveStreamingToStreamer.get(liveStreamingId));
 
+        final int nowSecond = nowSecond();
         liveStreamingToViewers.compute(liveStreamingId, (id, viewers) -> {
             if (viewers == null) {
-                viewers = new ConcurrentHashMap<>();
+                viewers = new HeartbeatViewerCounter(
+                        VIEWER_TTL_SECONDS,
+                        viewerCountProperties.getApproximateThreshold(),
+                        viewerCountProperties.getHllPrecision(),
+                        nowSecond
+                );
+            }
+            final boolean wasApproximate = viewers.isApproximate();
+            viewers.record(viewerId, nowSecond, streamer);
+            if (!wasApproximate && viewers.isApproximate()) {
+                log.info("시청자 수 근사 집계로 전환 - liveStreamingId: {}", liveStreamingId);
             }
-            viewers.put(viewerId, Instant.now());
             return viewers;
         });
 
@@ -78,36 +115,130 @@ public class LiveStreamingViewerManager {
     }
 
     public int getViewerCountExcludingStreamer(final Long liveStreamingId) {
-        cleanupExpiredViewers(liveStreamingId);
+        final HeartbeatViewerCounter viewers = liveStreamingToViewers.get(liveStreamingId);
+        if (viewers == null) {
+            return 0;
+        }
 
-        final ConcurrentHashMap<String, Instant> viewers = liveStreamingToViewers.getOrDefault(liveStreamingId, new ConcurrentHashMap<>());
+        final int nowSecond = nowSecond();
+        final int viewerCount = viewers.count(nowSecond);
         final Long streamerUserId = liveStreamingToStreamer.get(liveStreamingId);
 
         if (streamerUserId == null) {
-            return viewers.size();
+            return viewerCount;
         }
 
-        final String streamerViewerId = USER_PREFIX + streamerUserId;
-        final boolean hasStreamer = viewers.containsKey(streamerViewerId);
+        final boolean hasStreamer = viewers.containsStreamer(streamerUserId, nowSecond);
+
+        return hasStreamer ? Math.max(0, viewerCount - 1) : viewerCount;
+    }
 
-        return hasStreamer ? Math.max(0, viewers.size() - 1) : viewers.size();
+    /**
+     * 라이브 스트리밍 시작 이후 누적 고유 시청자 수 (HyperLogLog 근사, 스트리머 포함)
+     */
+    public long getTotalUniqueViewerCount(final Long liveStreamingId) {
+        final HeartbeatViewerCounter viewers = liveStreamingToViewers.get(liveStreamingId);
+        return viewers == null ? 0 : viewers.totalUniqueViewers();
     }
 
-    private void cleanupExpiredViewers(final Long liveStreamingId) {
-        final Instant cutoffTime = Instant.now().minus(Duration.ofSeconds(VIEWER_TTL_SECONDS));
+    /**
+     * 라이브 스트리밍이 끝나기 전에 다른 집계 결과와 합집합을 구할 때 사용한다. (종료 요약)
+     */
+    @Nullable
+    HyperLogLog lifetimeViewers(final Long liveStreamingId) {
+        final HeartbeatViewerCounter viewers = liveStreamingToViewers.get(liveStreamingId);
+        return viewers == null ? null : viewers.lifetimeViewers();
+    }
 
-        liveStreamingToViewers.computeIfPresent(liveStreamingId, (id, viewers) -> {
-            viewers.entrySet().removeIf(entry -> entry.getValue().isBefore(cutoffTime));
-            return viewers.isEmpty() ? null : viewers;
+    /**
+     * heartbeat 시청자가 있는 라이브 스트리밍 ID
+     */
+    public Set<Long> getActiveLivestreamIds() {
+        return Set.copyOf(liveStreamingToViewers.keySet());
+    }
+
+    /**
+     * 다른 노드와 병합하기 위한 라이브 스트리밍별 현재 heartbeat 시청자 스케치 (스트리머 포함)
+     */
+    Map<Long, HeartbeatViewerSketch> snapshotHeartbeatViewers() {
+        final int nowSecond = nowSecond();
+        final Map<Long, HeartbeatViewerSketch> sketches = new HashMap<>();
+        liveStreamingToViewers.forEach((liveStreamingId, viewers) -> {
+            if (viewers.isEmpty(nowSecond)) {
+                return;
+            }
+            final Long streamerUserId = liveStreamingToStreamer.get(liveStreamingId);
+            final boolean streamerWatching = streamerUserId != null && viewers.containsStreamer(streamerUserId, nowSecond);
+            sketches.put(liveStreamingId, new HeartbeatViewerSketch(viewers.sketch(nowSecond), streamerWatching));
         });
+        return sketches;
+    }
+
+    record HeartbeatViewerSketch(HyperLogLog sketch, boolean streamerWatching) {
+    }
+
+    /**
+     * 재시작 스냅샷: [스트리머 수][(liveStreamingId, userId)...][라이브 수][(liveStreamingId, HeartbeatViewerCounter)...]
+     */
+    void writeSnapshot(final DataOutput out) throws IOException {
+        final int nowSecond = nowSecond();
+        final Map<Long, Long> streamers = Map.copyOf(liveStreamingToStreamer);
+        out.writeInt(streamers.size());
+        for (final Map.Entry<Long, Long> entry : streamers.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+
+        final Map<Long, HeartbeatViewerCounter> viewers = Map.copyOf(liveStreamingToViewers);
+        out.writeInt(viewers.size());
+        for (final Map.Entry<Long, HeartbeatViewerCounter> entry : viewers.entrySet()) {
+            out.writeLong(entry.getKey());
+            entry.getValue().writeTo(out, nowSecond);
+        }
     }
 
     /**
-     * 스케줄러: 주기적으로 모든 라이브 스트리밍의 만료된 시청자 정리
+     * writeSnapshot으로 기록한 상태를 복원한다. (트래픽을 받기 전에 호출)
+     *
+     * @param shiftSeconds heartbeat 시각을 뒤로 옮길 시간 (서버가 내려가 있던 시간)
+     */
+    void restoreSnapshot(final DataInput in, final int shiftSeconds) throws IOException {
+        final int nowSecond = nowSecond();
+        final int streamerCount = in.readInt();
+        for (int i = 0; i < streamerCount; i++) {
+            liveStreamingToStreamer.putIfAbsent(in.readLong(), in.readLong());
+        }
+
+        final int liveStreamingCount = in.readInt();
+        for (int i = 0; i < liveStreamingCount; i++) {
+            final long liveStreamingId = in.readLong();
+            final HeartbeatViewerCounter viewers = HeartbeatViewerCounter.readFrom(
+                    in,
+                    VIEWER_TTL_SECONDS,
+                    viewerCountProperties.getApproximateThreshold(),
+                    viewerCountProperties.getHllPrecision(),
+                    nowSecond,
+                    shiftSeconds
+            );
+            liveStreamingToViewers.putIfAbsent(liveStreamingId, viewers);
+        }
+    }
+
+    /**
+     * 스케줄러: 주기적으로 시청자가 모두 만료된 라이브 스트리밍 정리
      * 갑자기 종료된 라이브 스트리밍의 메모리 누수 방지
      */
     @Scheduled(fixedRate = 1800000) // 30분마다
     public void cleanupAllExpiredViewers() {
-        liveStreamingToViewers.keySet().forEach(this::cleanupExpiredViewers);
+        final int nowSecond = nowSecond();
+        liveStreamingToViewers.keySet().forEach(liveStreamingId ->
+                liveStreamingToViewers.computeIfPresent(liveStreamingId, (id, viewers) ->
+                        viewers.isEmpty(nowSecond) ? null : viewers
+                )
+        );
+    }
+
+    private int nowSecond() {
+        return (int) (TimeUnit.MILLISECONDS.toSeconds(currentTimeMillis.getAsLong()) - EPOCH_SECOND);
     }
 }
@@ -0,0 +1,36 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.core.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
+
+/**
+ * 종료된 라이브 스트리밍의 시청자 수 요약 (라이브 스트리밍당 한 row)
+ */
+@Entity
+@Table(name = "live_streaming_viewer_summary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@SQLRestriction("deleted_date IS NULL")
+public class LiveStreamingViewerSummary extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "live_streaming_id", nullable = false, unique = true)
+    private LiveStreaming liveStreaming;
+
+    @Column(nullable = false)
+    private int peakViewerCount;
+
+    @Column(nullable = false)
+    private int averageViewerCount;
+
+    @Column(nullable = false)
+    private long totalUniqueViewerCount;
+}
@@ -2,6 +2,7 @@ package com.youtube.live.interaction.livestreaming.domain;
 
 import com.youtube.core.channel.domain.Channel;
 import com.youtube.live.interaction.livestreaming.repository.LiveStreamingRepository;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingViewerSummaryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class LiveStreamingWriter {
 
     private final LiveStreamingRepository liveStreamingRepository;
+    private final LiveStreamingViewerSummaryRepository liveStreamingViewerSummaryRepository;
 
     public LiveStreaming write(
             final Channel channel,
@@ -41,4 +43,24 @@ public class LiveStreamingWriter {
         log.info("LiveStreaming 상태 변경 - liveStreamingId: {}, newStatus: {}",
                 liveStreaming.getId(), newStatus);
     }
+
+    /**
+     * 이미 요약이 저장된 라이브 스트리밍(중복 종료 요청)이면 저장하지 않는다.
+     */
+    public void writeViewerSummary(final LiveStreaming liveStreaming, final ViewerCountSummary summary) {
+        if (liveStreamingViewerSummaryRepository.findByLiveStreamingId(liveStreaming.getId()).isPresent()) {
+            return;
+        }
+
+        liveStreamingViewerSummaryRepository.save(LiveStreamingViewerSummary.builder()
+                .liveStreaming(liveStreaming)
+                .peakViewerCount(summary.peakViewerCount())
+                .averageViewerCount(summary.averageViewerCount())
+                .totalUniqueViewerCount(summary.totalUniqueViewerCount())
+                .build());
+
+        log.info("LiveStreaming 시청자 요약 저장 - liveStreamingId: {}, peak: {}, average: {}, totalUnique: {}",
+                liveStreaming.getId(), summary.peakViewerCount(), summary.averageViewerCount(),
+                summary.totalUniqueViewerCount());
+    }
 }
@@ -0,0 +1,146 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.util.Arrays;
+
+/**
+ * long → int open addressing 해시 맵 (선형 탐사)
+ *
+ * 로그인 시청자(userId)별 heartbeat 시각 / 세션 수를 boxing 없이 보관한다.
+ * - 빈 slot은 값이 MISSING 인 것으로 구분하므로 MISSING 은 값으로 저장할 수 없다.
+ * - 삭제는 tombstone 없이 뒤따르는 항목을 당겨오는 backward shift 방식이다.
+ * - 부하율 0.75 를 넘으면 두 배로 늘린다. (항목당 16 ~ 32 bytes)
+ * - 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = Integer.MIN_VALUE;
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(final long key) {
+        int index = indexOf(key);
+        while (values[index] != MISSING) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    /**
+     * @return 이전 값, 없었다면 MISSING
+     */
+    int put(final long key, final int value) {
+        if (value == MISSING) {
+            throw new IllegalArgumentException("MISSING은 값으로 저장할 수 없습니다.");
+        }
+
+        int index = indexOf(key);
+        while (values[index] != MISSING) {
+            if (keys[index] == key) {
+                final int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size > ((mask + 1) >> 2) * 3) {
+            resize((mask + 1) << 1);
+        }
+        return MISSING;
+    }
+
+    /**
+     * @return 삭제된 값, 없었다면 MISSING
+     */
+    int remove(final long key) {
+        int index = indexOf(key);
+        while (values[index] != MISSING) {
+            if (keys[index] == key) {
+                final int previous = values[index];
+                shiftBackward(index);
+                size--;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    void forEach(final Consumer consumer) {
+        for (int index = 0; index <= mask; index++) {
+            if (values[index] != MISSING) {
+                consumer.accept(keys[index], values[index]);
+            }
+        }
+    }
+
+    /**
+     * 삭제된 slot 뒤에 이어진 항목 중, 자신의 시작 위치에서 빈 slot을 지나쳐 온 항목을 당겨온다.
+     */
+    private void shiftBackward(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            if (values[index] == MISSING) {
+                break;
+            }
+            final int home = indexOf(keys[index]);
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        values[gap] = MISSING;
+    }
+
+    private void resize(final int capacity) {
+        final long[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(capacity);
+        for (int index = 0; index < oldValues.length; index++) {
+            if (oldValues[index] != MISSING) {
+                int target = indexOf(oldKeys[index]);
+                while (values[target] != MISSING) {
+                    target = (target + 1) & mask;
+                }
+                keys[target] = oldKeys[index];
+                values[target] = oldValues[index];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+    }
+
+    private int indexOf(final long key) {
+        return (int) ViewerId.mix(key) & mask;
+    }
+
+    @FunctionalInterface
+    interface Consumer {
+        void accept(long key, int value);
+    }
+}
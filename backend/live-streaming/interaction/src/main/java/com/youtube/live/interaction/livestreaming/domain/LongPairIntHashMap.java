@@ -0,0 +1,155 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.util.Arrays;
+
+/**
+ * (long, long) → int open addressing 해시 맵 (선형 탐사)
+ *
+ * 비로그인 시청자(clientId 128비트)별 heartbeat 시각 / 세션 수를 boxing 없이 보관한다.
+ * - 빈 slot은 값이 MISSING 인 것으로 구분하므로 MISSING 은 값으로 저장할 수 없다.
+ * - 삭제는 tombstone 없이 뒤따르는 항목을 당겨오는 backward shift 방식이다.
+ * - 부하율 0.75 를 넘으면 두 배로 늘린다. (항목당 27 ~ 53 bytes)
+ * - 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+final class LongPairIntHashMap {
+
+    static final int MISSING = Integer.MIN_VALUE;
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongPairIntHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(final long high, final long low) {
+        int index = indexOf(high, low);
+        while (values[index] != MISSING) {
+            if (matches(index, high, low)) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    /**
+     * @return 이전 값, 없었다면 MISSING
+     */
+    int put(final long high, final long low, final int value) {
+        if (value == MISSING) {
+            throw new IllegalArgumentException("MISSING은 값으로 저장할 수 없습니다.");
+        }
+
+        int index = indexOf(high, low);
+        while (values[index] != MISSING) {
+            if (matches(index, high, low)) {
+                final int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index << 1] = high;
+        keys[(index << 1) + 1] = low;
+        values[index] = value;
+        if (++size > ((mask + 1) >> 2) * 3) {
+            resize((mask + 1) << 1);
+        }
+        return MISSING;
+    }
+
+    /**
+     * @return 삭제된 값, 없었다면 MISSING
+     */
+    int remove(final long high, final long low) {
+        int index = indexOf(high, low);
+        while (values[index] != MISSING) {
+            if (matches(index, high, low)) {
+                final int previous = values[index];
+                shiftBackward(index);
+                size--;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    void forEach(final Consumer consumer) {
+        for (int index = 0; index <= mask; index++) {
+            if (values[index] != MISSING) {
+                consumer.accept(keys[index << 1], keys[(index << 1) + 1], values[index]);
+            }
+        }
+    }
+
+    /**
+     * 삭제된 slot 뒤에 이어진 항목 중, 자신의 시작 위치에서 빈 slot을 지나쳐 온 항목을 당겨온다.
+     */
+    private void shiftBackward(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            if (values[index] == MISSING) {
+                break;
+            }
+            final int home = indexOf(keys[index << 1], keys[(index << 1) + 1]);
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap << 1] = keys[index << 1];
+                keys[(gap << 1) + 1] = keys[(index << 1) + 1];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        values[gap] = MISSING;
+    }
+
+    private void resize(final int capacity) {
+        final long[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(capacity);
+        for (int index = 0; index < oldValues.length; index++) {
+            if (oldValues[index] != MISSING) {
+                final long high = oldKeys[index << 1];
+                final long low = oldKeys[(index << 1) + 1];
+                int target = indexOf(high, low);
+                while (values[target] != MISSING) {
+                    target = (target + 1) & mask;
+                }
+                keys[target << 1] = high;
+                keys[(target << 1) + 1] = low;
+                values[target] = oldValues[index];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity << 1];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+    }
+
+    private boolean matches(final int index, final long high, final long low) {
+        return keys[index << 1] == high && keys[(index << 1) + 1] == low;
+    }
+
+    private int indexOf(final long high, final long low) {
+        return (int) ViewerId.mix(high * 0x9E3779B97F4A7C15L ^ low) & mask;
+    }
+
+    @FunctionalInterface
+    interface Consumer {
+        void accept(long high, long low, int value);
+    }
+}
@@ -0,0 +1,21 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * 노드 하나가 ViewerCountStore에 올리는 라이브 스트리밍 하나의 시청자 수
+ *
+ * @param subscriberCount 이 노드에 WebSocket으로 접속한 고유 시청자 수 (스트리머 제외).
+ *                        WebSocket 세션은 한 노드에 고정되므로 노드별 값을 더한다.
+ * @param heartbeatSketch 이 노드가 받은 최근 heartbeat 시청자의 HyperLogLog 스케치 (HyperLogLog.toByteArray).
+ *                        폴링 요청은 노드를 가리지 않고 분산되어 같은 시청자가 여러 노드에 나타나므로 합집합으로 병합한다.
+ * @param streamerWatching heartbeatSketch에 스트리머가 포함되어 있으면 true
+ */
+public record NodeViewerCount(
+        String nodeId,
+        Long liveStreamingId,
+        int subscriberCount,
+        @Nullable byte[] heartbeatSketch,
+        boolean streamerWatching
+) {
+}
@@ -0,0 +1,18 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.time.Instant;
+
+/**
+ * Write-Behind 버퍼에 적재되어 DB 저장을 기다리는 채팅
+ */
+public record PendingLiveStreamingChat(
+        Long id,
+        Long liveStreamingId,
+        Long userId,
+        String username,
+        String profileImageUrl,
+        String message,
+        ChatMessageType messageType,
+        Instant createdDate
+) {
+}
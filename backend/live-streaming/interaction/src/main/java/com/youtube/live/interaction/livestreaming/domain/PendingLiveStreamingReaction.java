@@ -0,0 +1,18 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.time.Instant;
+
+/**
+ * Write-Behind 버퍼에서 DB 저장을 기다리는 반응의 마지막 상태
+ *
+ * @param type    마지막으로 남긴 반응 (deleted이면 삭제된 row의 type 컬럼 값)
+ * @param deleted 반응을 취소한 상태인지 여부
+ */
+public record PendingLiveStreamingReaction(
+        Long liveStreamingId,
+        Long userId,
+        ReactionType type,
+        boolean deleted,
+        Instant modifiedDate
+) {
+}
@@ -0,0 +1,356 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.common.exception.BaseException;
+import com.youtube.live.interaction.config.ReactionBitmapProperties;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingReactionBitmapRepository;
+import com.youtube.live.interaction.livestreaming.service.dto.ReactionToggleResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 라이브 스트리밍별 좋아요 / 싫어요 사용자 bitmap
+ *
+ * 시청자가 라이브 스트리밍을 열 때마다 (live_streaming_id, user_id)로 반응을 조회하지 않도록
+ * 라이브 스트리밍별로 좋아요 / 싫어요를 누른 사용자 id를 UserIdBitmap 두 개에 보관하고 여기서 응답한다.
+ *
+ * 적재 시점: 방송 중인 라이브 스트리밍을 처음 조회할 때 반응 전체를 한 번 읽는다.
+ * - 적재하는 동안 들어온 조회는 기다리지 않고 DB에서 읽는다.
+ * - 적재하는 동안 커밋된 이 노드의 변경은 모아 두었다가 적재가 끝나면 이어서 반영한다.
+ * 갱신 시점:
+ * - 이 노드에서 바뀐 반응: ReactionWriter가 반응을 바꾼 트랜잭션이 커밋된 뒤 반영한다.
+ * - 다른 노드에서 바뀐 반응, Write-Behind 버퍼가 저장한 반응: syncInterval마다 last_modified_date 이후 바뀐 row를 읽어 반영한다.
+ * (사용자별 상태를 덮어쓰므로 같은 변경을 여러 번 반영해도 결과가 같다)
+ * 정리 시점: 방송이 종료되면 바로 버리고, idleTimeout 동안 조회가 없어도 버린다.
+ *
+ * 메모리: livestreaming.reaction.bitmap.bytes.per.million 게이지로 반응 100만 개당 크기를 노출한다. (UserIdBitmap 참고)
+ */
+@Slf4j
+@Component
+public class ReactionBitmaps {
+
+    private static final int SYNC_CHUNK_SIZE = 500;
+    private static final double MILLION = 1_000_000d;
+
+    private record PendingChange(long userId, ReactionType type) {
+    }
+
+    /**
+     * 라이브 스트리밍 하나의 bitmap (적재가 끝난 뒤에는 이 객체를 잠그고 읽고 쓴다)
+     */
+    private static final class Bitmaps {
+
+        private final UserIdBitmap likes = new UserIdBitmap();
+        private final UserIdBitmap dislikes = new UserIdBitmap();
+
+        /**
+         * 적재하는 동안 커밋된 변경 (적재가 끝나면 null)
+         */
+        private List<PendingChange> pendingChanges = new ArrayList<>();
+        private volatile boolean loaded;
+
+        /**
+         * 다음 동기화에서 이 시각 이후 바뀐 row부터 읽는다.
+         */
+        private volatile long syncFromMillis;
+        private volatile long lastAccessMillis;
+
+        private Bitmaps(final long nowMillis) {
+            this.lastAccessMillis = nowMillis;
+        }
+
+        private void set(final long userId, final ReactionType type) {
+            likes.remove(userId);
+            dislikes.remove(userId);
+            if (type != null) {
+                of(type).add(userId);
+            }
+        }
+
+        private ReactionType typeOf(final long userId) {
+            if (likes.contains(userId)) {
+                return ReactionType.LIKE;
+            }
+            return dislikes.contains(userId) ? ReactionType.DISLIKE : null;
+        }
+
+        private UserIdBitmap of(final ReactionType type) {
+            return type == ReactionType.LIKE ? likes : dislikes;
+        }
+    }
+
+    private final ConcurrentHashMap<Long, Bitmaps> liveStreamingToBitmaps = new ConcurrentHashMap<>();
+
+    private final LiveStreamingReactionBitmapRepository liveStreamingReactionBitmapRepository;
+    private final LiveStreamingReader liveStreamingReader;
+    private final ReactionBitmapProperties properties;
+    private final LongSupplier currentTimeMillis;
+
+    private final Timer loadTimer;
+    private final Counter syncedCounter;
+
+    @Autowired
+    public ReactionBitmaps(
+            final LiveStreamingReactionBitmapRepository liveStreamingReactionBitmapRepository,
+            final LiveStreamingReader liveStreamingReader,
+            final ReactionBitmapProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this(liveStreamingReactionBitmapRepository, liveStreamingReader, properties, meterRegistry,
+                System::currentTimeMillis);
+    }
+
+    ReactionBitmaps(
+            final LiveStreamingReactionBitmapRepository liveStreamingReactionBitmapRepository,
+            final LiveStreamingReader liveStreamingReader,
+            final ReactionBitmapProperties properties,
+            final MeterRegistry meterRegistry,
+            final LongSupplier currentTimeMillis
+    ) {
+        this.liveStreamingReactionBitmapRepository = liveStreamingReactionBitmapRepository;
+        this.liveStreamingReader = liveStreamingReader;
+        this.properties = properties;
+        this.currentTimeMillis = currentTimeMillis;
+
+        Gauge.builder("livestreaming.reaction.bitmap.streams", liveStreamingToBitmaps, Map::size)
+                .description("반응 bitmap을 보관 중인 라이브 스트리밍 수")
+                .register(meterRegistry);
+        Gauge.builder("livestreaming.reaction.bitmap.reactions", this, ReactionBitmaps::reactionCount)
+                .description("bitmap에 담긴 반응 수")
+                .register(meterRegistry);
+        Gauge.builder("livestreaming.reaction.bitmap.bytes", this, ReactionBitmaps::sizeInBytes)
+                .description("반응 bitmap이 차지하는 대략의 heap 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("livestreaming.reaction.bitmap.bytes.per.million", this, ReactionBitmaps::bytesPerMillionReactions)
+                .description("반응 100만 개당 bitmap 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("livestreaming.reaction.bitmap.load")
+                .description("라이브 스트리밍 하나의 반응 bitmap 적재 소요 시간")
+                .register(meterRegistry);
+        this.syncedCounter = Counter.builder("livestreaming.reaction.bitmap.synced")
+                .description("동기화로 다시 반영한 반응 row 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * bitmap이 준비되어 있으면 사용자의 반응을 반환한다. (적재 중이거나 방송 중이 아니면 비어 있으므로 DB에서 읽어야 함)
+     */
+    public Optional<ReactionToggleResult> findUserReaction(final Long liveStreamingId, final Long userId) {
+        final Bitmaps bitmaps = loadedBitmapsOf(liveStreamingId);
+        if (bitmaps == null) {
+            return Optional.empty();
+        }
+        bitmaps.lastAccessMillis = currentTimeMillis.getAsLong();
+        synchronized (bitmaps) {
+            return Optional.of(new ReactionToggleResult(bitmaps.typeOf(userId)));
+        }
+    }
+
+    /**
+     * 사용자의 반응이 currentType이 된 것을 반영한다. (null: 반응 없음)
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 반영한다.
+     */
+    public void applyAfterCommit(final Long liveStreamingId, final Long userId, final ReactionType currentType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(liveStreamingId, userId, currentType);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(liveStreamingId, userId, currentType);
+            }
+        });
+    }
+
+    /**
+     * 종료된 라이브 스트리밍의 bitmap을 버린다.
+     */
+    public void evict(final Long liveStreamingId) {
+        if (liveStreamingToBitmaps.remove(liveStreamingId) != null) {
+            log.info("반응 bitmap 정리 - liveStreamingId: {}", liveStreamingId);
+        }
+    }
+
+    /**
+     * 유휴 bitmap을 버리고, 나머지는 다른 노드에서 바뀐 반응을 따라잡는다.
+     */
+    @Scheduled(fixedDelayString = "${livestreaming.reaction.bitmap.sync-interval:5s}")
+    public void sync() {
+        final long syncStartMillis = currentTimeMillis.getAsLong();
+        final long idleTimeoutMillis = properties.getIdleTimeout().toMillis();
+        liveStreamingToBitmaps.values().removeIf(bitmaps -> syncStartMillis - bitmaps.lastAccessMillis > idleTimeoutMillis);
+
+        final List<Long> liveStreamingIds = new ArrayList<>();
+        liveStreamingToBitmaps.forEach((liveStreamingId, bitmaps) -> {
+            if (bitmaps.loaded) {
+                liveStreamingIds.add(liveStreamingId);
+            }
+        });
+        for (int from = 0; from < liveStreamingIds.size(); from += SYNC_CHUNK_SIZE) {
+            sync(liveStreamingIds.subList(from, Math.min(from + SYNC_CHUNK_SIZE, liveStreamingIds.size())), syncStartMillis);
+        }
+    }
+
+    /**
+     * 테스트 격리용
+     */
+    public void clear() {
+        liveStreamingToBitmaps.clear();
+    }
+
+    private void sync(final List<Long> liveStreamingIds, final long syncStartMillis) {
+        long syncFromMillis = Long.MAX_VALUE;
+        for (final Long liveStreamingId : liveStreamingIds) {
+            final Bitmaps bitmaps = liveStreamingToBitmaps.get(liveStreamingId);
+            if (bitmaps != null) {
+                syncFromMillis = Math.min(syncFromMillis, bitmaps.syncFromMillis);
+            }
+        }
+        if (syncFromMillis == Long.MAX_VALUE) {
+            return;
+        }
+
+        try {
+            liveStreamingReactionBitmapRepository.forEachChangedSince(
+                    liveStreamingIds,
+                    Instant.ofEpochMilli(syncFromMillis),
+                    (liveStreamingId, userId, type) -> {
+                        apply(liveStreamingId, userId, type);
+                        syncedCounter.increment();
+                    }
+            );
+        } catch (Exception e) {
+            log.error("반응 bitmap 동기화 실패 - 라이브 스트리밍 수: {}, error: {}", liveStreamingIds.size(), e.getMessage(), e);
+            return;
+        }
+
+        final long nextSyncFromMillis = syncStartMillis - properties.getSyncOverlap().toMillis();
+        for (final Long liveStreamingId : liveStreamingIds) {
+            final Bitmaps bitmaps = liveStreamingToBitmaps.get(liveStreamingId);
+            if (bitmaps != null) {
+                bitmaps.syncFromMillis = nextSyncFromMillis;
+            }
+        }
+    }
+
+    private void apply(final long liveStreamingId, final long userId, final ReactionType currentType) {
+        // 아직 조회한 적 없는 라이브 스트리밍은 처음 조회할 때 DB에서 적재한다.
+        final Bitmaps bitmaps = liveStreamingToBitmaps.get(liveStreamingId);
+        if (bitmaps == null) {
+            return;
+        }
+        synchronized (bitmaps) {
+            if (bitmaps.loaded) {
+                bitmaps.set(userId, currentType);
+            } else {
+                bitmaps.pendingChanges.add(new PendingChange(userId, currentType));
+            }
+        }
+    }
+
+    private Bitmaps loadedBitmapsOf(final Long liveStreamingId) {
+        final Bitmaps bitmaps = liveStreamingToBitmaps.get(liveStreamingId);
+        if (bitmaps != null) {
+            return bitmaps.loaded ? bitmaps : null;
+        }
+        if (!isLive(liveStreamingId)) {
+            return null;
+        }
+
+        final long loadStartMillis = currentTimeMillis.getAsLong();
+        final Bitmaps loading = new Bitmaps(loadStartMillis);
+        if (liveStreamingToBitmaps.putIfAbsent(liveStreamingId, loading) != null) {
+            return null;
+        }
+        return load(liveStreamingId, loading, loadStartMillis) ? loading : null;
+    }
+
+    /**
+     * 적재가 끝날 때까지 bitmap은 이 스레드만 만지고, 끝난 뒤 잠금 안에서 모아 둔 변경을 반영하고 공개한다.
+     */
+    private boolean load(final Long liveStreamingId, final Bitmaps bitmaps, final long loadStartMillis) {
+        final long start = System.nanoTime();
+        try {
+            liveStreamingReactionBitmapRepository.forEachReaction(
+                    liveStreamingId,
+                    (id, userId, type) -> bitmaps.of(type).add(userId)
+            );
+        } catch (Exception e) {
+            liveStreamingToBitmaps.remove(liveStreamingId, bitmaps);
+            log.error("반응 bitmap 적재 실패 - liveStreamingId: {}, error: {}", liveStreamingId, e.getMessage(), e);
+            return false;
+        } finally {
+            loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        synchronized (bitmaps) {
+            bitmaps.pendingChanges.forEach(change -> bitmaps.set(change.userId(), change.type()));
+            bitmaps.pendingChanges = null;
+            bitmaps.loaded = true;
+            bitmaps.syncFromMillis = loadStartMillis - properties.getSyncOverlap().toMillis();
+            log.info("반응 bitmap 적재 - liveStreamingId: {}, likes: {}, dislikes: {}, bytes: {}",
+                    liveStreamingId, bitmaps.likes.cardinality(), bitmaps.dislikes.cardinality(),
+                    bitmaps.likes.sizeInBytes() + bitmaps.dislikes.sizeInBytes());
+        }
+        return true;
+    }
+
+    /**
+     * 방송이 끝났거나 없는 라이브 스트리밍은 bitmap을 만들지 않는다.
+     */
+    private boolean isLive(final Long liveStreamingId) {
+        try {
+            return liveStreamingReader.readCachedStatusBy(liveStreamingId) == LiveStreamingStatus.LIVE;
+        } catch (BaseException e) {
+            return false;
+        }
+    }
+
+    private double reactionCount() {
+        long reactions = 0;
+        for (final Bitmaps bitmaps : liveStreamingToBitmaps.values()) {
+            synchronized (bitmaps) {
+                if (bitmaps.loaded) {
+                    reactions += bitmaps.likes.cardinality() + bitmaps.dislikes.cardinality();
+                }
+            }
+        }
+        return reactions;
+    }
+
+    private double sizeInBytes() {
+        long bytes = 0;
+        for (final Bitmaps bitmaps : liveStreamingToBitmaps.values()) {
+            synchronized (bitmaps) {
+                if (bitmaps.loaded) {
+                    bytes += bitmaps.likes.sizeInBytes() + bitmaps.dislikes.sizeInBytes();
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private double bytesPerMillionReactions() {
+        final double reactions = reactionCount();
+        return reactions == 0 ? 0 : sizeInBytes() / reactions * MILLION;
+    }
+}
@@ -0,0 +1,247 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ReactionCountProperties;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingReactionRepository;
+import com.youtube.live.interaction.livestreaming.repository.dto.ReactionCountResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 라이브 스트리밍별 좋아요 / 싫어요 수 메모리 집계
+ *
+ * 시청자의 20초 폴링, 좋아요 브로드캐스트, 좋아요 상태 조회마다 live_streaming_reaction을 COUNT 하지 않도록
+ * 라이브 스트리밍별 LongAdder에 보관하고 여기서 응답한다.
+ *
+ * 채우는 시점: 처음 조회할 때 live_streaming_stats 집계 row에서 읽는다. (동시에 몰린 조회는 ReadCoalescer로 한 번만 읽는다)
+ * 갱신 시점: ReactionWriter가 반응을 바꾼 트랜잭션이 커밋된 뒤 증감한다. (롤백되면 반영하지 않음)
+ * 보정 시점: reconcileInterval마다 집계 중인 라이브 스트리밍을 한 번의 GROUP BY로 세어 어긋난 값을 고친다.
+ * - 다른 노드에서 바뀐 반응, 집계를 채우는 동안 커밋된 반응처럼 증감으로 반영되지 못한 차이를 바로잡는다.
+ * - DB를 세는 동안 증감이 있었던 라이브 스트리밍은 어느 쪽이 최신인지 알 수 없으므로 다음 주기로 미룬다.
+ * - Write-Behind 버퍼에 저장을 기다리는 반응이 있는 라이브 스트리밍은 DB 값이 늦으므로 다음 주기로 미룬다.
+ *
+ * idleTimeout 동안 조회가 없는 라이브 스트리밍은 집계를 버린다.
+ */
+@Slf4j
+@Component
+public class ReactionCounter {
+
+    private static final String COALESCING_GROUP = "reactionCount";
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private static final class Counts {
+
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder dislikes = new LongAdder();
+
+        /**
+         * 적용된 증감 횟수 (보정하는 동안 증감이 있었는지 판단)
+         */
+        private final LongAdder updates = new LongAdder();
+
+        private volatile long lastAccessMillis;
+
+        private Counts(final Map<ReactionType, Long> counts, final long nowMillis) {
+            likes.add(counts.getOrDefault(ReactionType.LIKE, 0L));
+            dislikes.add(counts.getOrDefault(ReactionType.DISLIKE, 0L));
+            lastAccessMillis = nowMillis;
+        }
+
+        private LongAdder of(final ReactionType type) {
+            return type == ReactionType.LIKE ? likes : dislikes;
+        }
+    }
+
+    private final ConcurrentHashMap<Long, Counts> liveStreamingToCounts = new ConcurrentHashMap<>();
+
+    private final LiveStreamingReactionRepository liveStreamingReactionRepository;
+    private final LiveStreamingStatsReader liveStreamingStatsReader;
+    private final ReadCoalescer readCoalescer;
+    private final ReactionCountProperties properties;
+    private final ObjectProvider<LiveStreamingReactionWriteBuffer> liveStreamingReactionWriteBuffer;
+    private final LongSupplier currentTimeMillis;
+
+    private final Counter reconciledCounter;
+
+    @Autowired
+    public ReactionCounter(
+            final LiveStreamingReactionRepository liveStreamingReactionRepository,
+            final LiveStreamingStatsReader liveStreamingStatsReader,
+            final ReadCoalescer readCoalescer,
+            final ReactionCountProperties properties,
+            final ObjectProvider<LiveStreamingReactionWriteBuffer> liveStreamingReactionWriteBuffer,
+            final MeterRegistry meterRegistry
+    ) {
+        this(liveStreamingReactionRepository, liveStreamingStatsReader, readCoalescer, properties,
+                liveStreamingReactionWriteBuffer, meterRegistry, System::currentTimeMillis);
+    }
+
+    ReactionCounter(
+            final LiveStreamingReactionRepository liveStreamingReactionRepository,
+            final LiveStreamingStatsReader liveStreamingStatsReader,
+            final ReadCoalescer readCoalescer,
+            final ReactionCountProperties properties,
+            final ObjectProvider<LiveStreamingReactionWriteBuffer> liveStreamingReactionWriteBuffer,
+            final MeterRegistry meterRegistry,
+            final LongSupplier currentTimeMillis
+    ) {
+        this.liveStreamingReactionRepository = liveStreamingReactionRepository;
+        this.liveStreamingStatsReader = liveStreamingStatsReader;
+        this.readCoalescer = readCoalescer;
+        this.properties = properties;
+        this.liveStreamingReactionWriteBuffer = liveStreamingReactionWriteBuffer;
+        this.currentTimeMillis = currentTimeMillis;
+
+        Gauge.builder("livestreaming.reaction.count.streams", liveStreamingToCounts, Map::size)
+                .description("반응 수를 메모리에서 집계 중인 라이브 스트리밍 수")
+                .register(meterRegistry);
+        this.reconciledCounter = Counter.builder("livestreaming.reaction.count.reconciled")
+                .description("보정으로 고친 반응 수의 차이 (절댓값 합)")
+                .register(meterRegistry);
+    }
+
+    public int count(final Long liveStreamingId, final ReactionType type) {
+        Counts counts = liveStreamingToCounts.get(liveStreamingId);
+        if (counts == null) {
+            counts = seed(liveStreamingId);
+        }
+        counts.lastAccessMillis = currentTimeMillis.getAsLong();
+        return (int) counts.of(type).sum();
+    }
+
+    /**
+     * 반응이 previousType에서 currentType으로 바뀐 것을 반영한다. (null: 반응 없음)
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 반영한다.
+     */
+    public void applyAfterCommit(final Long liveStreamingId, final ReactionType previousType, final ReactionType currentType) {
+        if (previousType == currentType) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(liveStreamingId, previousType, currentType);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(liveStreamingId, previousType, currentType);
+            }
+        });
+    }
+
+    /**
+     * 집계 중인 라이브 스트리밍을 DB 값으로 보정한다.
+     */
+    @Scheduled(fixedDelayString = "${livestreaming.reaction.count.reconcile-interval:60s}")
+    public void reconcile() {
+        final long nowMillis = currentTimeMillis.getAsLong();
+        final long idleTimeoutMillis = properties.getIdleTimeout().toMillis();
+        liveStreamingToCounts.values().removeIf(counts -> nowMillis - counts.lastAccessMillis > idleTimeoutMillis);
+
+        final List<Long> liveStreamingIds = new ArrayList<>(liveStreamingToCounts.keySet());
+        for (int from = 0; from < liveStreamingIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            reconcile(liveStreamingIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, liveStreamingIds.size())));
+        }
+    }
+
+    /**
+     * 집계를 버리고 다음 조회 때 live_streaming_stats에서 다시 채운다.
+     * 반영했던 증감이 저장되지 못한 경우(Write-Behind dead-letter)에 사용한다.
+     */
+    public void evict(final Long liveStreamingId) {
+        liveStreamingToCounts.remove(liveStreamingId);
+    }
+
+    /**
+     * 테스트 격리용
+     */
+    public void clear() {
+        liveStreamingToCounts.clear();
+    }
+
+    private void reconcile(final List<Long> liveStreamingIds) {
+        final LiveStreamingReactionWriteBuffer writeBuffer = liveStreamingReactionWriteBuffer.getIfAvailable();
+        final Map<Long, Long> updatesBefore = new HashMap<>();
+        liveStreamingIds.forEach(liveStreamingId -> {
+            final Counts counts = liveStreamingToCounts.get(liveStreamingId);
+            if (counts != null && (writeBuffer == null || !writeBuffer.hasPendingWrites(liveStreamingId))) {
+                updatesBefore.put(liveStreamingId, counts.updates.sum());
+            }
+        });
+
+        final Map<Long, Map<ReactionType, Long>> databaseCounts = countFromDatabase(updatesBefore.keySet());
+
+        updatesBefore.forEach((liveStreamingId, updates) -> {
+            final Counts counts = liveStreamingToCounts.get(liveStreamingId);
+            if (counts == null || counts.updates.sum() != updates) {
+                return;
+            }
+            final Map<ReactionType, Long> expected = databaseCounts.getOrDefault(liveStreamingId, Map.of());
+            for (final ReactionType type : ReactionType.values()) {
+                final long drift = expected.getOrDefault(type, 0L) - counts.of(type).sum();
+                if (drift != 0) {
+                    counts.of(type).add(drift);
+                    reconciledCounter.increment(Math.abs(drift));
+                    log.debug("반응 수 보정 - liveStreamingId: {}, type: {}, drift: {}", liveStreamingId, type, drift);
+                }
+            }
+        });
+    }
+
+    private void apply(final Long liveStreamingId, final ReactionType previousType, final ReactionType currentType) {
+        // 아직 조회한 적 없는 라이브 스트리밍은 처음 조회할 때 DB에서 센다.
+        final Counts counts = liveStreamingToCounts.get(liveStreamingId);
+        if (counts == null) {
+            return;
+        }
+        if (previousType != null) {
+            counts.of(previousType).decrement();
+        }
+        if (currentType != null) {
+            counts.of(currentType).increment();
+        }
+        counts.updates.increment();
+    }
+
+    private Counts seed(final Long liveStreamingId) {
+        // 엔티티 대신 불변 Map을 병합해 follower끼리 같은 엔티티를 공유하지 않게 한다.
+        final Map<ReactionType, Long> storedCounts = readCoalescer.coalesce(
+                COALESCING_GROUP,
+                () -> {
+                    final LiveStreamingStats stats = liveStreamingStatsReader.readBy(liveStreamingId);
+                    return Map.of(ReactionType.LIKE, stats.getLikeCount(), ReactionType.DISLIKE, stats.getDislikeCount());
+                },
+                liveStreamingId
+        );
+        final Counts seeded = new Counts(storedCounts, currentTimeMillis.getAsLong());
+        final Counts existing = liveStreamingToCounts.putIfAbsent(liveStreamingId, seeded);
+        return existing != null ? existing : seeded;
+    }
+
+    private Map<Long, Map<ReactionType, Long>> countFromDatabase(final Collection<Long> liveStreamingIds) {
+        final Map<Long, Map<ReactionType, Long>> counts = new HashMap<>();
+        if (liveStreamingIds.isEmpty()) {
+            return counts;
+        }
+        for (final ReactionCountResponse row : liveStreamingReactionRepository.countGroupByType(liveStreamingIds)) {
+            counts.computeIfAbsent(row.liveStreamingId(), id -> new HashMap<>()).put(row.type(), row.count());
+        }
+        return counts;
+    }
+}
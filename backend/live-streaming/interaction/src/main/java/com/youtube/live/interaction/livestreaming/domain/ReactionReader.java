@@ -3,6 +3,7 @@ package com.youtube.live.interaction.livestreaming.domain;
 import com.youtube.live.interaction.livestreaming.repository.LiveStreamingReactionRepository;
 import com.youtube.live.interaction.livestreaming.service.dto.ReactionToggleResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -12,6 +13,9 @@ import java.util.Optional;
 public class ReactionReader {
 
     private final LiveStreamingReactionRepository liveStreamingReactionRepository;
+    private final ReactionCounter reactionCounter;
+    private final ReactionBitmaps reactionBitmaps;
+    private final ObjectProvider<LiveStreamingReactionWriteBuffer> liveStreamingReactionWriteBuffer;
 
     public Optional<LiveStreamingReaction> readBy(final Long liveStreamingId, final Long userId) {
         return liveStreamingReactionRepository.findByLiveStreamingIdAndUserId(liveStreamingId, userId);
@@ -21,15 +25,35 @@ public class ReactionReader {
         return liveStreamingReactionRepository.findDeletedByLiveStreamingIdAndUserId(liveStreamingId, userId);
     }
 
+    /**
+     * 메모리 집계에서 읽는다. (처음 조회할 때만 DB에서 센다, ReactionCounter 참고)
+     */
     public int countBy(final Long liveStreamingId, final ReactionType type) {
-        return (int) liveStreamingReactionRepository.countByLiveStreamingIdAndType(liveStreamingId, type);
+        return reactionCounter.count(liveStreamingId, type);
     }
 
+    /**
+     * Write-Behind 모드에서는 저장 전인 토글도 보이도록 메모리 상태를 먼저 읽는다.
+     * 그다음 라이브 스트리밍별 반응 bitmap에서 읽고, bitmap이 준비되지 않았을 때만 DB에서 읽는다.
+     */
     public ReactionToggleResult readUserReaction(final Long liveStreamingId, final Long userId) {
         if (userId == null) {
             return new ReactionToggleResult(null);
         }
 
+        final LiveStreamingReactionWriteBuffer writeBuffer = liveStreamingReactionWriteBuffer.getIfAvailable();
+        if (writeBuffer != null) {
+            final Optional<ReactionToggleResult> bufferedReaction = writeBuffer.findUserReaction(liveStreamingId, userId);
+            if (bufferedReaction.isPresent()) {
+                return bufferedReaction.get();
+            }
+        }
+
+        final Optional<ReactionToggleResult> bitmapReaction = reactionBitmaps.findUserReaction(liveStreamingId, userId);
+        if (bitmapReaction.isPresent()) {
+            return bitmapReaction.get();
+        }
+
         return readBy(liveStreamingId, userId)
                 .map(reaction -> new ReactionToggleResult(reaction.getType()))
                 .orElse(new ReactionToggleResult(null));
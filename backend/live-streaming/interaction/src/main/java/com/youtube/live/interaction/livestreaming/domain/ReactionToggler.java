@@ -0,0 +1,18 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+/**
+ * 반응 토글 저장 전략
+ *
+ * - JpaReactionToggler: 요청 스레드에서 트랜잭션으로 조회 후 INSERT / UPDATE (기본값)
+ * - WriteBehindReactionToggler: 메모리 상태에 즉시 반영 후 백그라운드에서 마지막 상태만 upsert
+ *   (livestreaming.reaction.write-behind.enabled=true)
+ */
+public interface ReactionToggler {
+
+    /**
+     * 요청한 타입과 같은 반응이 있으면 취소하고, 없거나 다르면 요청한 타입으로 바꿉니다.
+     *
+     * @return 변경 전 / 후의 타입 (반응이 없으면 null)
+     */
+    ReactionTransition toggle(Long liveStreamingId, Long userId, ReactionType requestType);
+}
@@ -0,0 +1,14 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+/**
+ * 토글 한 번으로 바뀐 반응 (null: 반응 없음)
+ */
+public record ReactionTransition(ReactionType previousType, ReactionType currentType) {
+
+    /**
+     * 이 토글로 type의 개수가 바뀌었는지 (예: 좋아요 → 싫어요는 좋아요 수를 줄인다)
+     */
+    public boolean changes(final ReactionType type) {
+        return previousType != currentType && (previousType == type || currentType == type);
+    }
+}
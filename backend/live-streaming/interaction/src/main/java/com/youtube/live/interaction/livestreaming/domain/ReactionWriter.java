@@ -17,6 +17,9 @@ public class ReactionWriter {
 
     private final LiveStreamingReactionRepository liveStreamingReactionRepository;
     private final ReactionReader reactionReader;
+    private final ReactionCounter reactionCounter;
+    private final LiveStreamingStatsWriter liveStreamingStatsWriter;
+    private final ReactionBitmaps reactionBitmaps;
 
     public LiveStreamingReaction write(final LiveStreamingReaction reaction) {
         return liveStreamingReactionRepository.save(reaction);
@@ -50,10 +53,11 @@ public class ReactionWriter {
      * 기존 리액션이 있으면 타입을 토글하고, 없으면 생성 또는 복원합니다.
      *
      * 주의: 이 메서드는 반드시 트랜잭션 범위 내에서 호출되어야 합니다.
+     * 좋아요 / 싫어요 수 메모리 집계, live_streaming_stats 증감, 반응 bitmap은 트랜잭션이 커밋된 뒤에 반영됩니다.
      *
-     * @return 변경 후의 타입 (삭제된 경우 null)
+     * @return 변경 전 / 후의 타입 (반응이 없거나 삭제된 경우 null)
      */
-    public ReactionType processToggle(
+    public ReactionTransition processToggle(
             final LiveStreaming liveStreaming,
             final User user,
             final ReactionType requestType
@@ -74,31 +78,34 @@ public class ReactionWriter {
      * reaction 파라미터는 영속 상태(managed)여야 합니다.
      *
      * @param reaction 토글할 reaction (영속 상태여야 함)
-     * @return 변경 후의 타입 (삭제된 경우 null)
+     * @return 변경 전 / 후의 타입 (삭제된 경우 변경 후 null)
      */
-    public ReactionType toggleType(final LiveStreamingReaction reaction, final ReactionType requestType) {
+    public ReactionTransition toggleType(final LiveStreamingReaction reaction, final ReactionType requestType) {
+        final Long liveStreamingId = reaction.getLiveStreaming().getId();
+        final Long userId = reaction.getUser().getId();
+        final ReactionType previousType = reaction.getType();
         if (reaction.isSameType(requestType)) {
             remove(reaction);
-            return null;
+            applyAfterCommit(liveStreamingId, userId, previousType, null);
+            return new ReactionTransition(previousType, null);
         }
-        final ReactionType previousType = reaction.getType();
         reaction.changeType(requestType);
+        applyAfterCommit(liveStreamingId, userId, previousType, requestType);
         log.info("LiveStreamingReaction 타입 변경 - liveStreamingId: {}, userId: {}, {} -> {}",
-                reaction.getLiveStreaming().getId(), reaction.getUser().getId(), previousType, requestType);
-        return requestType;
+                liveStreamingId, userId, previousType, requestType);
+        return new ReactionTransition(previousType, requestType);
     }
 
-    private ReactionType handleNoExistingReaction(
+    private ReactionTransition handleNoExistingReaction(
             final LiveStreaming liveStreaming,
             final User user,
             final ReactionType requestType
     ) {
-        if (restoreAndChangeType(liveStreaming.getId(), user.getId(), requestType)) {
-            return requestType;
+        if (!restoreAndChangeType(liveStreaming.getId(), user.getId(), requestType)) {
+            createReaction(liveStreaming, user, requestType);
         }
-
-        createReaction(liveStreaming, user, requestType);
-        return requestType;
+        applyAfterCommit(liveStreaming.getId(), user.getId(), null, requestType);
+        return new ReactionTransition(null, requestType);
     }
 
     private void createReaction(final LiveStreaming liveStreaming, final User user, final ReactionType type) {
@@ -111,4 +118,15 @@ public class ReactionWriter {
         log.info("LiveStreamingReaction 생성 - liveStreamingId: {}, userId: {}, type: {}",
                 liveStreaming.getId(), user.getId(), type);
     }
+
+    private void applyAfterCommit(
+            final Long liveStreamingId,
+            final Long userId,
+            final ReactionType previousType,
+            final ReactionType currentType
+    ) {
+        reactionCounter.applyAfterCommit(liveStreamingId, previousType, currentType);
+        liveStreamingStatsWriter.addReactionAfterCommit(liveStreamingId, previousType, currentType);
+        reactionBitmaps.applyAfterCommit(liveStreamingId, userId, currentType);
+    }
 }
@@ -0,0 +1,123 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ReadCoalescingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 동일 조회 병합기 (Single-Flight)
+ *
+ * 라이브 시작 직후나 폴링 주기가 겹칠 때 같은 조회가 동시에 몰리면,
+ * 먼저 들어온 요청(leader)만 DB를 조회하고 나머지(follower)는 그 결과를 공유한다.
+ * 결과를 보관하지 않으므로 캐시와 달리 조회가 끝난 뒤에 들어온 요청은 새로 조회한다.
+ *
+ * - follower는 group별 timeout 동안만 기다리고, 초과하면 직접 조회한다.
+ * - 쓰기 트랜잭션 안에서는 자신의 변경 사항을 읽어야 하므로 병합하지 않는다.
+ * - 조회 인자에는 null이 올 수 있다. (null끼리는 같은 조회로 본다)
+ *
+ * 결과 공유 규칙
+ * - leader와 follower는 같은 결과 객체를 받으므로, coalesce로는 record나 불변 컬렉션처럼 변경할 수 없는 결과만 병합한다.
+ * - JPA 엔티티는 영속성 컨텍스트에 묶여 있으므로 그대로 병합하지 않고, 필요한 값만 불변 DTO로 옮겨서 반환한다.
+ * - 변경 가능한 DTO를 돌려줘야 하면 coalesceCopying으로 follower마다 복사본을 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadCoalescer {
+
+    private final ReadCoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param group 조회 종류 (timeout 설정과 메트릭 태그에 사용)
+     * @param keyParts 조회 인자 (equals/hashCode로 동일 조회를 판단)
+     */
+    public <T> T coalesce(final String group, final Supplier<T> query, final Object... keyParts) {
+        return coalesceCopying(group, query, UnaryOperator.identity(), keyParts);
+    }
+
+    /**
+     * 결과가 변경 가능한 객체일 때 사용한다. leader는 조회한 결과를, follower는 copier로 만든 복사본을 받는다.
+     *
+     * @param copier 공유된 결과로 호출자 전용 복사본을 만드는 함수
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T coalesceCopying(
+            final String group,
+            final Supplier<T> query,
+            final UnaryOperator<T> copier,
+            final Object... keyParts
+    ) {
+        if (!properties.isEnabled() || isInWriteTransaction()) {
+            return query.get();
+        }
+
+        final FlightKey key = new FlightKey(group, Arrays.asList(keyParts));
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing == null) {
+            return (T) lead(key, flight, query);
+        }
+
+        meterRegistry.counter("livestreaming.read.coalesced", "group", group).increment();
+        return copier.apply((T) follow(group, existing, query));
+    }
+
+    private Object lead(final FlightKey key, final CompletableFuture<Object> flight, final Supplier<?> query) {
+        try {
+            final Object result = query.get();
+            flight.complete(result);
+            return result;
+        } catch (final RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object follow(final String group, final CompletableFuture<Object> flight, final Supplier<?> query) {
+        try {
+            return flight.get(properties.timeoutOf(group).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            meterRegistry.counter("livestreaming.read.coalescing.timeouts", "group", group).increment();
+            log.debug("병합 조회 대기 시간 초과로 직접 조회 - group: {}", group);
+            return query.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("병합 조회 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private boolean isInWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private record FlightKey(String group, List<Object> keyParts) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.livestreaming.repository.dto.ChatMessageResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 라이브 스트리밍 하나의 최근 채팅을 chatId 오름차순으로 보관하는 고정 크기 링 버퍼
+ *
+ * - chatId는 primitive long[]에, 채팅은 같은 위치의 slot에 보관하여 lastChatId 이분 탐색 시 객체를 참조하지 않는다.
+ * - 가득 차면 가장 오래된 채팅을 덮어쓴다.
+ * - 동시 요청으로 chatId 순서가 뒤바뀌어 들어오면 정렬 위치에 삽입한다. (대부분 tail 추가)
+ * - cold 상태에서는 작성된 채팅만 담겨 있으므로, 최초 조회 시 DB 결과를 병합한 뒤에야 응답에 사용한다.
+ *
+ * 보관 범위(coveredFromId):
+ * chatId >= coveredFromId 인 채팅은 모두 버퍼에 있음을 보장한다.
+ * 채팅이 밀려나거나 DB에서 capacity 만큼만 읽어온 경우 그 다음 chatId로 올라간다.
+ *
+ * 버전(version):
+ * 내용이 바뀔 때마다 증가하므로, 같은 버전에서 만든 응답은 재사용할 수 있다.
+ * 제거 후 다시 생성된 버퍼와 버전이 겹치지 않도록 생성 시 초기 버전을 받는다.
+ */
+final class RecentChatRingBuffer {
+
+    private final long[] ids;
+    private final ChatMessageResponse[] slots;
+    private final Object loadLock = new Object();
+
+    /**
+     * 가장 오래된 채팅의 slot 위치
+     */
+    private int head;
+    private int size;
+    private long coveredFromId = Long.MIN_VALUE;
+
+    private volatile long version;
+    private volatile boolean loaded;
+    private volatile long lastAccessNanos;
+
+    RecentChatRingBuffer(final int capacity, final long initialVersion) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 양수여야 합니다: " + capacity);
+        }
+        this.ids = new long[capacity];
+        this.slots = new ChatMessageResponse[capacity];
+        this.version = initialVersion;
+        touch();
+    }
+
+    synchronized void add(final ChatMessageResponse chat) {
+        final long chatId = chat.getChatId();
+
+        int position = size;
+        while (position > 0) {
+            final long previousId = idAt(position - 1);
+            if (previousId == chatId) {
+                return;
+            }
+            if (previousId < chatId) {
+                break;
+            }
+            position--;
+        }
+
+        if (size == slots.length) {
+            if (position == 0) {
+                markDropped(chatId); // 보관 범위보다 오래된 채팅
+                return;
+            }
+            markDropped(idAt(0));
+            slots[head] = null;
+            head = (head + 1) % slots.length;
+            size--;
+            position--;
+        }
+
+        for (int i = size; i > position; i--) {
+            set(i, idAt(i - 1), chatAt(i - 1));
+        }
+        set(position, chatId, chat);
+        size++;
+        version++;
+    }
+
+    /**
+     * cold 상태일 때 한 번만 loader를 실행하여 DB 결과를 병합한다.
+     * 동시에 들어온 다른 요청은 로딩이 끝날 때까지 대기하므로 DB 조회는 한 번만 발생한다.
+     *
+     * @param loader 최근 채팅 최대 limit개 조회 (chatId 내림차순)
+     * @return 이 호출에서 loader를 실행했으면 true
+     */
+    boolean loadIfNecessary(final int limit, final Supplier<List<ChatMessageResponse>> loader) {
+        if (loaded) {
+            return false;
+        }
+        synchronized (loadLock) {
+            if (loaded) {
+                return false;
+            }
+            final List<ChatMessageResponse> chats = loader.get();
+            synchronized (this) {
+                for (int i = chats.size() - 1; i >= 0; i--) {
+                    add(chats.get(i));
+                }
+                if (chats.size() >= limit) {
+                    // DB에는 조회된 가장 오래된 채팅보다 이전 채팅이 더 있을 수 있음
+                    markDropped(chats.get(chats.size() - 1).getChatId() - 1);
+                }
+                version++;
+            }
+            loaded = true;
+            return true;
+        }
+    }
+
+    /**
+     * @return 최근 채팅 최대 limit개 (chatId 오름차순)
+     */
+    synchronized List<ChatMessageResponse> latest(final int limit) {
+        final int count = Math.min(limit, size);
+        return copy(size - count, size);
+    }
+
+    /**
+     * @return lastChatId 이후 채팅 최대 limit개 (chatId 오름차순),
+     *         lastChatId가 보관 범위보다 오래되어 누락 없이 응답할 수 없으면 null
+     */
+    synchronized List<ChatMessageResponse> after(final long lastChatId, final int limit) {
+        if (!loaded || lastChatId + 1 < coveredFromId) {
+            return null;
+        }
+
+        final int from = upperBound(lastChatId);
+        return copy(from, Math.min(size, from + limit));
+    }
+
+    long version() {
+        return version;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    boolean isIdleSince(final long cutoffNanos) {
+        return lastAccessNanos - cutoffNanos <= 0;
+    }
+
+    /**
+     * @return chatId가 lastChatId보다 큰 첫 번째 논리 위치
+     */
+    private int upperBound(final long lastChatId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (idAt(mid) <= lastChatId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void markDropped(final long droppedChatId) {
+        coveredFromId = Math.max(coveredFromId, droppedChatId + 1);
+    }
+
+    private List<ChatMessageResponse> copy(final int from, final int to) {
+        final List<ChatMessageResponse> chats = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            chats.add(chatAt(i));
+        }
+        return chats;
+    }
+
+    private long idAt(final int index) {
+        return ids[(head + index) % ids.length];
+    }
+
+    private ChatMessageResponse chatAt(final int index) {
+        return slots[(head + index) % slots.length];
+    }
+
+    private void set(final int index, final long chatId, final ChatMessageResponse chat) {
+        final int slot = (head + index) % slots.length;
+        ids[slot] = chatId;
+        slots[slot] = chat;
+    }
+}
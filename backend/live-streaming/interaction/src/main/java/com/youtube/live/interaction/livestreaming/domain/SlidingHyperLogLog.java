@@ -0,0 +1,138 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 최근 windowSeconds 동안 heartbeat를 보낸 고유 시청자 수를 근사하는 슬라이딩 윈도우 HyperLogLog
+ *
+ * - 시간을 slotSeconds 단위 슬롯으로 나누고 슬롯마다 스케치를 하나씩 둔다.
+ * - heartbeat는 현재 슬롯의 스케치에만 더하고, 슬롯이 바뀌면 가장 오래된 스케치를 비워 재사용한다.
+ * - 추정은 윈도우를 덮는 슬롯 스케치들의 합집합으로 한다.
+ *
+ * 오차:
+ * - HyperLogLog 표준 오차 1.04 / sqrt(2^p)
+ * - 슬롯 경계 때문에 실제 윈도우는 windowSeconds ~ windowSeconds + slotSeconds 이다.
+ *   (마지막 slotSeconds 동안 떠난 시청자가 더 세어질 수 있다)
+ *
+ * 스레드 안전하지 않으므로 쓰기는 호출하는 쪽에서 직렬화한다.
+ */
+final class SlidingHyperLogLog {
+
+    private final int slotSeconds;
+    private final HyperLogLog[] slots;
+
+    /**
+     * slots[i]가 담고 있는 슬롯 번호 (second / slotSeconds)
+     */
+    private final int[] slotNumbers;
+
+    SlidingHyperLogLog(final int windowSeconds, final int slotSeconds, final int precision) {
+        if (windowSeconds <= 0 || slotSeconds <= 0) {
+            throw new IllegalArgumentException("windowSeconds, slotSeconds는 양수여야 합니다.");
+        }
+        this.slotSeconds = slotSeconds;
+        // 윈도우를 덮는 이전 슬롯들 + 현재 진행 중인 슬롯
+        final int slotCount = (windowSeconds + slotSeconds - 1) / slotSeconds + 1;
+        this.slots = new HyperLogLog[slotCount];
+        this.slotNumbers = new int[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new HyperLogLog(precision);
+            slotNumbers[i] = Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * @param second heartbeat 시각 (초). 윈도우보다 오래된 시각은 무시한다.
+     */
+    void add(final long hash, final int second) {
+        final int slotNumber = Math.floorDiv(second, slotSeconds);
+        final int index = Math.floorMod(slotNumber, slots.length);
+        if (slotNumbers[index] > slotNumber) {
+            return;
+        }
+        if (slotNumbers[index] != slotNumber) {
+            slots[index].clear();
+            slotNumbers[index] = slotNumber;
+        }
+        slots[index].add(hash);
+    }
+
+    long estimate(final int nowSecond) {
+        final int currentSlot = Math.floorDiv(nowSecond, slotSeconds);
+        final HyperLogLog[] live = new HyperLogLog[slots.length];
+        int liveCount = 0;
+        for (int i = 0; i < slots.length; i++) {
+            if (slotNumbers[i] > currentSlot - slots.length) {
+                live[liveCount++] = slots[i];
+            }
+        }
+        if (liveCount == 0) {
+            return 0;
+        }
+        final HyperLogLog[] sketches = new HyperLogLog[liveCount];
+        System.arraycopy(live, 0, sketches, 0, liveCount);
+        return HyperLogLog.estimateUnion(sketches);
+    }
+
+    /**
+     * 윈도우 안의 슬롯을 하나로 합친 스케치 (다른 노드와 병합할 때 사용)
+     */
+    HyperLogLog snapshot(final int nowSecond) {
+        final int currentSlot = Math.floorDiv(nowSecond, slotSeconds);
+        final HyperLogLog union = new HyperLogLog(slots[0].precision());
+        for (int i = 0; i < slots.length; i++) {
+            if (slotNumbers[i] > currentSlot - slots.length) {
+                union.merge(slots[i]);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * 윈도우 안의 슬롯을 (슬롯 번호, 스케치) 순서로 기록한다. (재시작 스냅샷)
+     */
+    void writeTo(final DataOutput out, final int nowSecond) throws IOException {
+        final int currentSlot = Math.floorDiv(nowSecond, slotSeconds);
+        int liveCount = 0;
+        for (final int slotNumber : slotNumbers) {
+            if (slotNumber > currentSlot - slots.length) {
+                liveCount++;
+            }
+        }
+        out.writeInt(liveCount);
+        for (int i = 0; i < slots.length; i++) {
+            if (slotNumbers[i] > currentSlot - slots.length) {
+                out.writeInt(slotNumbers[i]);
+                final byte[] bytes = slots[i].toByteArray();
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * writeTo로 기록한 슬롯을 shiftSeconds만큼 뒤로 옮겨 채운다. (중단된 시간만큼 슬롯을 미룬다)
+     */
+    void readFrom(final DataInput in, final int shiftSeconds) throws IOException {
+        final int shiftSlots = Math.floorDiv(shiftSeconds, slotSeconds);
+        final int slotCount = in.readInt();
+        for (int i = 0; i < slotCount; i++) {
+            final int slotNumber = in.readInt() + shiftSlots;
+            final byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            final HyperLogLog sketch = HyperLogLog.fromByteArray(bytes);
+
+            final int index = Math.floorMod(slotNumber, slots.length);
+            if (slotNumbers[index] > slotNumber || sketch.precision() != slots[index].precision()) {
+                continue;
+            }
+            if (slotNumbers[index] != slotNumber) {
+                slots[index].clear();
+                slotNumbers[index] = slotNumber;
+            }
+            slots[index].merge(sketch);
+        }
+    }
+}
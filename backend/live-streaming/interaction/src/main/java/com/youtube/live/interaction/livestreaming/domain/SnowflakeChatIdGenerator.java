@@ -0,0 +1,78 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식의 시간순 채팅 ID 생성기
+ *
+ * 비트 구성 (총 53비트, 부호 비트 제외):
+ * | timestamp (41) | nodeId (5) | sequence (7) |
+ *
+ * - timestamp: EPOCH(2025-01-01T00:00:00Z) 이후 경과 밀리초 (약 69년)
+ * - nodeId: 노드 식별자 (0 ~ 31)
+ * - sequence: 같은 밀리초 안의 순번 (노드당 밀리초당 128개)
+ *
+ * 64비트를 모두 쓰지 않는 이유:
+ * chatId는 JSON으로 브라우저에 전달되어 lastChatId 커서로 다시 돌아옵니다.
+ * JavaScript Number는 2^53 - 1 까지만 정확히 표현하므로 53비트 안에 맞춥니다.
+ *
+ * 단조 증가 보장:
+ * (timestamp, sequence)를 하나의 long 상태로 묶어 CAS로 갱신합니다.
+ * - 시계가 뒤로 가면 마지막 timestamp를 계속 사용합니다.
+ * - sequence가 넘치면 자연스럽게 다음 밀리초로 올림되어 (미래 시간을 빌려) 순서를 유지합니다.
+ *
+ * 노드 간 순서와 lastChatId 커서:
+ * 단조 증가는 노드 안에서만 보장되고, 노드 사이에는 각 노드 시계 기준의 대략적인 시간순입니다.
+ * "id > lastChatId" 커서는 커서를 만든 조회 이후에 커서보다 작은 ID의 채팅이 새로 보이면 그 채팅을 건너뜁니다.
+ * - 시계 오차: 노드 A의 시계가 노드 B보다 δ 늦으면, B의 채팅을 본 직후 δ 안에 A가 발급한 ID는 커서보다 작을 수 있습니다.
+ * - 저장 지연: Write-Behind flush 간격(flushInterval)이나 복제 지연 동안 늦게 보인 채팅도 같습니다.
+ * 커서는 이 범위(노드 간 시계 오차 + 저장 지연, 보통 수 ms ~ flushInterval) 안의 누락을 허용하는 근사 커서이므로,
+ * 노드 시계는 NTP로 맞추고 이 범위를 폴링 간격보다 충분히 작게 유지해야 합니다.
+ */
+public class SnowflakeChatIdGenerator implements ChatIdGenerator {
+
+    private static final long EPOCH_MILLIS = 1_735_689_600_000L;
+
+    private static final int NODE_ID_BITS = 5;
+    private static final int SEQUENCE_BITS = 7;
+    private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
+
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier currentTimeMillis;
+
+    /**
+     * (timestamp << SEQUENCE_BITS) | sequence
+     */
+    private final AtomicLong lastState = new AtomicLong(0);
+
+    public SnowflakeChatIdGenerator(final long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeChatIdGenerator(final long nodeId, final LongSupplier currentTimeMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            final long previous = lastState.get();
+            final long candidate = (currentTimeMillis.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            final long next = candidate > previous ? candidate : previous + 1;
+
+            if (lastState.compareAndSet(previous, next)) {
+                final long timestamp = next >>> SEQUENCE_BITS;
+                final long sequence = next & SEQUENCE_MASK;
+                return (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+}
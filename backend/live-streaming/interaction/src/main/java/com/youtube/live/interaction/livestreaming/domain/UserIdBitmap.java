@@ -0,0 +1,270 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 id(long) 집합을 담는 압축 bitmap (Roaring bitmap 방식)
+ *
+ * - id의 상위 48비트로 container를 나누고, container는 하위 16비트 값 최대 65,536개를 담는다.
+ * - container에 값이 4,096개 이하이면 정렬된 char[] (값당 2 bytes), 넘으면 1,024개의 long bitmap (8KB 고정)으로 바꾼다.
+ *   (4,096개일 때 두 형태의 크기가 8KB로 같아지므로 어느 쪽이든 값당 최대 2 bytes)
+ * - container는 상위 48비트 순으로 정렬된 배열에 두고 이진 탐색하므로 contains / add / remove는 O(log container 수)이다.
+ *
+ * 반응 100만 개 기준 크기 (UserIdBitmapTest 참고):
+ * - 가입 순서대로 몰린 id (1 ~ 1,000,000): bitmap container 16개 → 약 130KB
+ * - 1억 명 중 무작위 id: array container 약 1,500개 → 약 2.3MB
+ * (HashSet&lt;Long&gt;은 항목당 약 48 ~ 64 bytes → 약 50MB)
+ *
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+final class UserIdBitmap {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final int ARRAY_CONTAINER_MAX = 4_096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    /**
+     * JVM 객체 / 배열 헤더 크기 (compressed oops 기준 근사값)
+     */
+    private static final int OBJECT_HEADER_BYTES = 16;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private long[] highs = new long[MIN_CAPACITY];
+    private Container[] containers = new Container[MIN_CAPACITY];
+    private int containerCount;
+    private long cardinality;
+
+    boolean contains(final long userId) {
+        final int index = Arrays.binarySearch(highs, 0, containerCount, highOf(userId));
+        return index >= 0 && containers[index].contains(lowOf(userId));
+    }
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    boolean add(final long userId) {
+        final long high = highOf(userId);
+        final char low = lowOf(userId);
+        int index = Arrays.binarySearch(highs, 0, containerCount, high);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, high, new ArrayContainer());
+        }
+
+        Container container = containers[index];
+        if (container instanceof ArrayContainer array && array.size == ARRAY_CONTAINER_MAX && !array.contains(low)) {
+            container = array.toBitmap();
+            containers[index] = container;
+        }
+        if (!container.add(low)) {
+            return false;
+        }
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * @return 있던 값을 삭제했으면 true
+     */
+    boolean remove(final long userId) {
+        final int index = Arrays.binarySearch(highs, 0, containerCount, highOf(userId));
+        if (index < 0) {
+            return false;
+        }
+
+        final Container container = containers[index];
+        if (!container.remove(lowOf(userId))) {
+            return false;
+        }
+        cardinality--;
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else if (container instanceof BitmapContainer bitmap && bitmap.cardinality <= ARRAY_CONTAINER_MAX) {
+            containers[index] = bitmap.toArray();
+        }
+        return true;
+    }
+
+    long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 보관에 쓰는 대략의 heap 크기 (객체 / 배열 헤더 포함)
+     */
+    long sizeInBytes() {
+        long bytes = OBJECT_HEADER_BYTES + 2L * ARRAY_HEADER_BYTES + (long) highs.length * Long.BYTES
+                + (long) containers.length * Integer.BYTES;
+        for (int index = 0; index < containerCount; index++) {
+            bytes += containers[index].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private void insertContainer(final int index, final long high, final Container container) {
+        if (containerCount == highs.length) {
+            highs = Arrays.copyOf(highs, containerCount << 1);
+            containers = Arrays.copyOf(containers, containerCount << 1);
+        }
+        System.arraycopy(highs, index, highs, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        highs[index] = high;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(final int index) {
+        System.arraycopy(highs, index + 1, highs, index, containerCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+        containers[--containerCount] = null;
+    }
+
+    private static long highOf(final long userId) {
+        return userId >>> 16;
+    }
+
+    private static char lowOf(final long userId) {
+        return (char) userId;
+    }
+
+    private abstract static class Container {
+
+        abstract boolean contains(char low);
+
+        abstract boolean add(char low);
+
+        abstract boolean remove(char low);
+
+        abstract int cardinality();
+
+        abstract long sizeInBytes();
+    }
+
+    /**
+     * 정렬된 하위 16비트 값 (최대 ARRAY_CONTAINER_MAX개)
+     */
+    private static final class ArrayContainer extends Container {
+
+        private char[] values = new char[MIN_CAPACITY];
+        private int size;
+
+        @Override
+        boolean contains(final char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        boolean add(final char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                return false;
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grownCapacity());
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = low;
+            size++;
+            return true;
+        }
+
+        @Override
+        boolean remove(final char low) {
+            final int index = Arrays.binarySearch(values, 0, size, low);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return OBJECT_HEADER_BYTES + ARRAY_HEADER_BYTES + (long) values.length * Character.BYTES;
+        }
+
+        /**
+         * 작을 때는 두 배로, 클수록 조금씩 늘려 빈 slot을 줄인다.
+         */
+        private int grownCapacity() {
+            final int grown = size < 64 ? size << 1 : size < 1_024 ? size + (size >> 1) : size + (size >> 2);
+            return Math.min(grown, ARRAY_CONTAINER_MAX);
+        }
+
+        private BitmapContainer toBitmap() {
+            final BitmapContainer bitmap = new BitmapContainer();
+            for (int index = 0; index < size; index++) {
+                bitmap.add(values[index]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 하위 16비트 값 65,536개에 대한 bit 배열
+     */
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        boolean contains(final char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        boolean add(final char low) {
+            final long word = words[low >>> 6];
+            final long updated = word | (1L << low);
+            if (word == updated) {
+                return false;
+            }
+            words[low >>> 6] = updated;
+            cardinality++;
+            return true;
+        }
+
+        @Override
+        boolean remove(final char low) {
+            final long word = words[low >>> 6];
+            final long updated = word & ~(1L << low);
+            if (word == updated) {
+                return false;
+            }
+            words[low >>> 6] = updated;
+            cardinality--;
+            return true;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return OBJECT_HEADER_BYTES + ARRAY_HEADER_BYTES + (long) BITMAP_WORDS * Long.BYTES;
+        }
+
+        private ArrayContainer toArray() {
+            final ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(cardinality, MIN_CAPACITY)];
+            for (int wordIndex = 0; wordIndex < BITMAP_WORDS; wordIndex++) {
+                long word = words[wordIndex];
+                while (word != 0) {
+                    array.values[array.size++] = (char) ((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
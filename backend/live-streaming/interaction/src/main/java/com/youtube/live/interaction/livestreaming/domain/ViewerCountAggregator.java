@@ -0,0 +1,142 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ViewerCountClusterProperties;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingViewerManager.HeartbeatViewerSketch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 모든 노드의 시청자 수를 합산한 값
+ *
+ * LiveStreamingSubscriberManager / LiveStreamingViewerManager는 노드(JVM)마다 따로 있으므로
+ * 노드가 여러 대면 각 노드는 자신에게 접속한 시청자만 알고 있다.
+ *
+ * 동기화 (syncInterval마다):
+ * 1. 이 노드의 라이브 스트리밍별 WebSocket 시청자 수와 heartbeat 시청자 스케치를 ViewerCountStore에 올린다.
+ * 2. 다른 노드가 올린 값을 읽어 WebSocket 시청자 수는 더하고, heartbeat 스케치는 합집합으로 병합한다.
+ *
+ * 조회:
+ * - WebSocket 시청자 수 = 이 노드의 현재 값 + 다른 노드들의 마지막 동기화 값
+ * - heartbeat 시청자 수 = 다른 노드에도 시청자가 있으면 마지막 동기화 시점의 합집합 추정치,
+ *   이 노드에만 있으면 이 노드의 현재 값 (단일 노드에서는 기존과 동일하게 정확한 값)
+ *
+ * 동기화에 실패하면 다른 노드 값을 버리고 노드 로컬 시청자 수로 대체한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewerCountAggregator {
+
+    private final LiveStreamingSubscriberManager liveStreamingSubscriberManager;
+    private final LiveStreamingViewerManager liveStreamingViewerManager;
+    private final ViewerCountStore viewerCountStore;
+    private final ViewerCountClusterProperties properties;
+
+    /**
+     * 다른 노드들의 WebSocket 시청자 수 합
+     * Key: liveStreamingId, Value: 시청자 수 (스트리머 제외)
+     */
+    private volatile Map<Long, Integer> remoteSubscriberCounts = Map.of();
+
+    /**
+     * 다른 노드에도 heartbeat 시청자가 있는 라이브 스트리밍의 전체 노드 합집합 시청자 수
+     * Key: liveStreamingId, Value: 시청자 수 (스트리머 제외)
+     */
+    private volatile Map<Long, Integer> mergedHeartbeatViewerCounts = Map.of();
+
+    public int getSubscriberCount(final Long liveStreamingId) {
+        return liveStreamingSubscriberManager.getSubscriberCount(liveStreamingId)
+                + remoteSubscriberCounts.getOrDefault(liveStreamingId, 0);
+    }
+
+    public int getHeartbeatViewerCount(final Long liveStreamingId) {
+        final Integer merged = mergedHeartbeatViewerCounts.get(liveStreamingId);
+        if (merged == null) {
+            return liveStreamingViewerManager.getViewerCountExcludingStreamer(liveStreamingId);
+        }
+        return merged;
+    }
+
+    @Scheduled(fixedDelayString = "${livestreaming.viewer.cluster.sync-interval:5s}")
+    public void synchronize() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            final Map<Long, HeartbeatViewerSketch> localSketches = liveStreamingViewerManager.snapshotHeartbeatViewers();
+            viewerCountStore.publish(properties.getNodeId(), toNodeViewerCounts(localSketches));
+            merge(localSketches, viewerCountStore.readOthers(properties.getNodeId()));
+        } catch (RuntimeException e) {
+            log.warn("노드 간 시청자 수 동기화 실패 - 노드 로컬 시청자 수로 대체합니다.", e);
+            remoteSubscriberCounts = Map.of();
+            mergedHeartbeatViewerCounts = Map.of();
+        }
+    }
+
+    private List<NodeViewerCount> toNodeViewerCounts(final Map<Long, HeartbeatViewerSketch> localSketches) {
+        final Set<Long> liveStreamingIds = new HashSet<>(liveStreamingSubscriberManager.getActiveLivestreamIds());
+        liveStreamingIds.addAll(localSketches.keySet());
+
+        final List<NodeViewerCount> viewerCounts = new ArrayList<>(liveStreamingIds.size());
+        for (final Long liveStreamingId : liveStreamingIds) {
+            final HeartbeatViewerSketch sketch = localSketches.get(liveStreamingId);
+            viewerCounts.add(new NodeViewerCount(
+                    properties.getNodeId(),
+                    liveStreamingId,
+                    liveStreamingSubscriberManager.getSubscriberCount(liveStreamingId),
+                    sketch == null ? null : sketch.sketch().toByteArray(),
+                    sketch != null && sketch.streamerWatching()
+            ));
+        }
+        return viewerCounts;
+    }
+
+    private void merge(final Map<Long, HeartbeatViewerSketch> localSketches, final List<NodeViewerCount> others) {
+        final Map<Long, Integer> subscriberCounts = new HashMap<>();
+        final Map<Long, HyperLogLog> sketches = new HashMap<>();
+        final Set<Long> streamerWatching = new HashSet<>();
+
+        for (final NodeViewerCount other : others) {
+            if (other.subscriberCount() > 0) {
+                subscriberCounts.merge(other.liveStreamingId(), other.subscriberCount(), Integer::sum);
+            }
+            if (other.heartbeatSketch() == null) {
+                continue;
+            }
+            final HyperLogLog sketch = HyperLogLog.fromByteArray(other.heartbeatSketch());
+            sketches.merge(other.liveStreamingId(), sketch, (merged, next) -> {
+                merged.merge(next);
+                return merged;
+            });
+            if (other.streamerWatching()) {
+                streamerWatching.add(other.liveStreamingId());
+            }
+        }
+
+        final Map<Long, Integer> heartbeatViewerCounts = new HashMap<>();
+        sketches.forEach((liveStreamingId, sketch) -> {
+            final HeartbeatViewerSketch local = localSketches.get(liveStreamingId);
+            if (local != null) {
+                sketch.merge(local.sketch());
+                if (local.streamerWatching()) {
+                    streamerWatching.add(liveStreamingId);
+                }
+            }
+            final long viewerCount = sketch.estimate() - (streamerWatching.contains(liveStreamingId) ? 1 : 0);
+            heartbeatViewerCounts.put(liveStreamingId, Math.clamp(viewerCount, 0, Integer.MAX_VALUE));
+        });
+
+        remoteSubscriberCounts = subscriberCounts;
+        mergedHeartbeatViewerCounts = heartbeatViewerCounts;
+    }
+}
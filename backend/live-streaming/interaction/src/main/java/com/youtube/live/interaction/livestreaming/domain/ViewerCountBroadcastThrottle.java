@@ -0,0 +1,156 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ViewerCountBroadcastProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 라이브 스트리밍별 시청자 수 발행 여부 판단
+ *
+ * 1. 화면에 보이는 값(displayBucket: 1,234 → 1.2K, 12,345 → 12K)이 마지막 발행 값과 같으면 발행하지 않는다.
+ *    단, maxInterval이 지나면 같은 값이라도 발행한다. (keepalive)
+ *    새로 구독한 세션은 구독 시점에 현재 값을 따로 받는다. (LiveStreamingViewerCountPublisher)
+ * 2. 값이 바뀌었어도 시청자 규모에 따른 간격이 지나지 않았으면 다음 tick으로 미룬다. (deferred)
+ *    대형 라이브는 입장/퇴장이 끊이지 않아 값이 거의 매번 바뀌므로 간격을 늘려 발행 횟수를 줄인다.
+ * 3. 마지막 발행 값 대비 churnRatio 이상 급변한 경우(방송 시작 직후, 대규모 이탈)는 minInterval 간격으로 발행한다.
+ *
+ * 판단 결과는 livestreaming.viewer.count.broadcast{decision} 카운터로 남긴다.
+ * (라이브 스트리밍 ID를 태그로 쓰면 시계열이 라이브 수만큼 늘어나므로 결정 종류로만 구분한다)
+ *
+ * 발행 스케줄러 스레드 하나에서만 호출한다.
+ */
+@Component
+public class ViewerCountBroadcastThrottle {
+
+    private record Published(int viewerCount, long bucket, long publishedAtMillis) {
+    }
+
+    private final ViewerCountBroadcastProperties properties;
+    private final LongSupplier currentTimeMillis;
+
+    private final Map<Long, Published> liveStreamingToPublished = new ConcurrentHashMap<>();
+
+    private final Counter publishedCounter;
+    private final Counter keepaliveCounter;
+    private final Counter unchangedCounter;
+    private final Counter deferredCounter;
+
+    @Autowired
+    public ViewerCountBroadcastThrottle(
+            final ViewerCountBroadcastProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    ViewerCountBroadcastThrottle(
+            final ViewerCountBroadcastProperties properties,
+            final MeterRegistry meterRegistry,
+            final LongSupplier currentTimeMillis
+    ) {
+        this.properties = properties;
+        this.currentTimeMillis = currentTimeMillis;
+
+        Gauge.builder("livestreaming.viewer.count.broadcast.streams", liveStreamingToPublished, Map::size)
+                .description("시청자 수 발행 상태를 추적 중인 라이브 스트리밍 수")
+                .register(meterRegistry);
+        this.publishedCounter = decisionCounter(meterRegistry, "published", "표시 값이 바뀌어 발행한 횟수");
+        this.keepaliveCounter = decisionCounter(meterRegistry, "keepalive", "값은 같지만 maxInterval이 지나 발행한 횟수");
+        this.unchangedCounter = decisionCounter(meterRegistry, "unchanged", "표시 값이 같아 생략한 횟수");
+        this.deferredCounter = decisionCounter(meterRegistry, "deferred", "값이 바뀌었지만 발행 간격이 지나지 않아 미룬 횟수");
+    }
+
+    /**
+     * @return true이면 호출자가 viewerCount를 발행해야 한다. (발행한 것으로 기록됨)
+     */
+    public boolean shouldPublish(final Long liveStreamingId, final int viewerCount) {
+        final long nowMillis = currentTimeMillis.getAsLong();
+        final long bucket = displayBucket(viewerCount);
+        final Published last = liveStreamingToPublished.get(liveStreamingId);
+
+        if (last == null) {
+            return publish(liveStreamingId, viewerCount, bucket, nowMillis, publishedCounter);
+        }
+
+        final long elapsedMillis = nowMillis - last.publishedAtMillis();
+        if (bucket == last.bucket()) {
+            if (elapsedMillis >= properties.getMaxInterval().toMillis()) {
+                return publish(liveStreamingId, viewerCount, bucket, nowMillis, keepaliveCounter);
+            }
+            unchangedCounter.increment();
+            return false;
+        }
+
+        if (elapsedMillis >= intervalMillis(last.viewerCount(), viewerCount)) {
+            return publish(liveStreamingId, viewerCount, bucket, nowMillis, publishedCounter);
+        }
+        deferredCounter.increment();
+        return false;
+    }
+
+    /**
+     * 더 이상 발행 대상이 아닌 라이브 스트리밍의 상태를 정리한다.
+     */
+    public void retainAll(final Set<Long> liveStreamingIds) {
+        liveStreamingToPublished.keySet().retainAll(liveStreamingIds);
+    }
+
+    /**
+     * 화면 표기 단위로 내림한 값
+     * 1,000 미만은 그대로, 1만 미만은 100 단위(1.2K), 100만 미만은 1,000 단위(12K, 123K),
+     * 1,000만 미만은 10만 단위(1.2M), 그 이상은 100만 단위(12M)
+     */
+    static long displayBucket(final int viewerCount) {
+        if (viewerCount < 1_000) {
+            return viewerCount;
+        }
+        if (viewerCount < 10_000) {
+            return viewerCount / 100 * 100L;
+        }
+        if (viewerCount < 1_000_000) {
+            return viewerCount / 1_000 * 1_000L;
+        }
+        if (viewerCount < 10_000_000) {
+            return viewerCount / 100_000 * 100_000L;
+        }
+        return viewerCount / 1_000_000 * 1_000_000L;
+    }
+
+    private long intervalMillis(final int lastViewerCount, final int viewerCount) {
+        final long minIntervalMillis = properties.getMinInterval().toMillis();
+        final double changeRatio = Math.abs(viewerCount - lastViewerCount) / (double) Math.max(lastViewerCount, 1);
+        if (changeRatio >= properties.getChurnRatio()) {
+            return minIntervalMillis;
+        }
+
+        final long sizeMultiplier = viewerCount < 1_000 ? 1 : viewerCount < 100_000 ? 2 : 4;
+        return Math.min(minIntervalMillis * sizeMultiplier, properties.getMaxInterval().toMillis());
+    }
+
+    private boolean publish(
+            final Long liveStreamingId,
+            final int viewerCount,
+            final long bucket,
+            final long nowMillis,
+            final Counter decisionCounter
+    ) {
+        liveStreamingToPublished.put(liveStreamingId, new Published(viewerCount, bucket, nowMillis));
+        decisionCounter.increment();
+        return true;
+    }
+
+    private static Counter decisionCounter(final MeterRegistry meterRegistry, final String decision, final String description) {
+        return Counter.builder("livestreaming.viewer.count.broadcast")
+                .tag("decision", decision)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
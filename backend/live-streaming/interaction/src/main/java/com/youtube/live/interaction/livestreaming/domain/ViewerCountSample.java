@@ -0,0 +1,18 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.time.Instant;
+
+/**
+ * 시계열 표본 하나 (startedAt부터 intervalSeconds 동안)
+ * 시청자 수는 접속 수 기준이다. (WebSocket + heartbeat, LiveStreamingStatsHistory 참고)
+ *
+ * @param likeCount 구간이 끝날 때의 좋아요 수
+ */
+public record ViewerCountSample(
+        Instant startedAt,
+        int intervalSeconds,
+        int averageViewerCount,
+        int peakViewerCount,
+        int likeCount
+) {
+}
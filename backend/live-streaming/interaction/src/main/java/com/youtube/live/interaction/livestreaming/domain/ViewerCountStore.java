@@ -0,0 +1,22 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.util.List;
+
+/**
+ * 노드별 시청자 수를 모아 두는 저장소
+ *
+ * 노드는 주기적으로 자신의 값 전체를 올리고(publish), 다른 노드의 값을 읽어 합산한다. (ViewerCountAggregator)
+ * 증감분이 아닌 노드별 현재 값을 덮어쓰므로, 전송이 유실되거나 노드가 죽어도 값이 누적되어 틀어지지 않는다.
+ */
+public interface ViewerCountStore {
+
+    /**
+     * 노드의 이전 값을 viewerCounts로 교체한다. (viewerCounts에 없는 라이브 스트리밍은 제거)
+     */
+    void publish(String nodeId, List<NodeViewerCount> viewerCounts);
+
+    /**
+     * nodeId를 제외한 노드들이 올린 값 중 만료되지 않은 값
+     */
+    List<NodeViewerCount> readOthers(String nodeId);
+}
@@ -0,0 +1,17 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+/**
+ * 라이브 스트리밍 종료 시점의 시청자 수 요약
+ *
+ * 최대 / 평균은 접속 수 기준이다. (WebSocket + heartbeat, 두 방식으로 동시에 시청한 사용자는 두 번 센다)
+ *
+ * @param peakViewerCount 최대 동시 접속 수 (스트리머 제외)
+ * @param averageViewerCount 평균 동시 접속 수 (스트리머 제외)
+ * @param totalUniqueViewerCount 누적 고유 시청자 수 (HyperLogLog 근사, 스트리머 포함)
+ */
+public record ViewerCountSummary(
+        int peakViewerCount,
+        int averageViewerCount,
+        long totalUniqueViewerCount
+) {
+}
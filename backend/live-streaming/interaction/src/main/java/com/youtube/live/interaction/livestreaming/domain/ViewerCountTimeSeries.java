@@ -0,0 +1,138 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 라이브 스트리밍 하나의 시청자 수 / 좋아요 수 시계열
+ *
+ * - 표본(시작 시각, 평균 시청자 수, 최대 시청자 수, 좋아요 수)을 primitive 배열에 순서대로 쌓는다.
+ * - 배열이 capacity개로 가득 차면 이웃한 두 표본을 하나로 합치고(평균은 평균, 최대는 최대, 좋아요는 나중 값)
+ *   이후 표본 하나가 담는 간격을 두 배로 늘린다. 오래된 구간일수록 해상도가 낮아지는 대신 방송 전체를 덮는다.
+ * - 최대 / 평균 시청자 수는 합치기 전의 원본 표본으로 따로 누적하므로 다운샘플링의 영향을 받지 않는다.
+ *
+ * 쓰기는 샘플러 스레드 하나만 하고, 조회는 API 스레드에서 하므로 메서드 단위로 동기화한다.
+ */
+final class ViewerCountTimeSeries {
+
+    private final int baseIntervalSeconds;
+    private final long[] startEpochSeconds;
+    private final int[] averageViewerCounts;
+    private final int[] peakViewerCounts;
+    private final int[] likeCounts;
+    private int size;
+
+    /**
+     * 저장된 표본 하나에 합쳐진 원본 표본 수
+     */
+    private int samplesPerSlot = 1;
+
+    /**
+     * 아직 samplesPerSlot개를 채우지 못한 표본
+     */
+    private long pendingStartEpochSecond;
+    private int pendingSamples;
+    private long pendingViewerCountSum;
+    private int pendingPeakViewerCount;
+    private int pendingLikeCount;
+
+    private int peakViewerCount;
+    private long viewerCountSum;
+    private int sampleCount;
+
+    ViewerCountTimeSeries(final int capacity, final int baseIntervalSeconds) {
+        if (capacity < 2 || capacity % 2 != 0) {
+            throw new IllegalArgumentException("capacity는 2 이상의 짝수여야 합니다: " + capacity);
+        }
+        this.baseIntervalSeconds = baseIntervalSeconds;
+        this.startEpochSeconds = new long[capacity];
+        this.averageViewerCounts = new int[capacity];
+        this.peakViewerCounts = new int[capacity];
+        this.likeCounts = new int[capacity];
+    }
+
+    synchronized void add(final long epochSecond, final int viewerCount, final int likeCount) {
+        peakViewerCount = Math.max(peakViewerCount, viewerCount);
+        viewerCountSum += viewerCount;
+        sampleCount++;
+
+        if (pendingSamples == 0) {
+            pendingStartEpochSecond = epochSecond;
+            pendingPeakViewerCount = 0;
+            pendingViewerCountSum = 0;
+        }
+        pendingSamples++;
+        pendingViewerCountSum += viewerCount;
+        pendingPeakViewerCount = Math.max(pendingPeakViewerCount, viewerCount);
+        pendingLikeCount = likeCount;
+
+        if (pendingSamples == samplesPerSlot) {
+            append(pendingStartEpochSecond, average(pendingViewerCountSum, pendingSamples), pendingPeakViewerCount, pendingLikeCount);
+            pendingSamples = 0;
+        }
+    }
+
+    /**
+     * 오래된 순서의 표본 목록 (마지막 표본은 아직 간격을 다 채우지 못했을 수 있다)
+     */
+    synchronized List<ViewerCountSample> samples() {
+        final int intervalSeconds = baseIntervalSeconds * samplesPerSlot;
+        final List<ViewerCountSample> samples = new ArrayList<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            samples.add(new ViewerCountSample(
+                    Instant.ofEpochSecond(startEpochSeconds[i]),
+                    intervalSeconds,
+                    averageViewerCounts[i],
+                    peakViewerCounts[i],
+                    likeCounts[i]
+            ));
+        }
+        if (pendingSamples > 0) {
+            samples.add(new ViewerCountSample(
+                    Instant.ofEpochSecond(pendingStartEpochSecond),
+                    baseIntervalSeconds * pendingSamples,
+                    average(pendingViewerCountSum, pendingSamples),
+                    pendingPeakViewerCount,
+                    pendingLikeCount
+            ));
+        }
+        return samples;
+    }
+
+    synchronized int peakViewerCount() {
+        return peakViewerCount;
+    }
+
+    synchronized int averageViewerCount() {
+        return sampleCount == 0 ? 0 : average(viewerCountSum, sampleCount);
+    }
+
+    private void append(final long startEpochSecond, final int averageViewerCount, final int peakViewerCount, final int likeCount) {
+        startEpochSeconds[size] = startEpochSecond;
+        averageViewerCounts[size] = averageViewerCount;
+        peakViewerCounts[size] = peakViewerCount;
+        likeCounts[size] = likeCount;
+        size++;
+        if (size == startEpochSeconds.length) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        for (int i = 0; i < size / 2; i++) {
+            final int earlier = i * 2;
+            final int later = earlier + 1;
+            startEpochSeconds[i] = startEpochSeconds[earlier];
+            averageViewerCounts[i] = average((long) averageViewerCounts[earlier] + averageViewerCounts[later], 2);
+            peakViewerCounts[i] = Math.max(peakViewerCounts[earlier], peakViewerCounts[later]);
+            likeCounts[i] = likeCounts[later];
+        }
+        size /= 2;
+        samplesPerSlot *= 2;
+    }
+
+    private static int average(final long sum, final int count) {
+        return (int) Math.round((double) sum / count);
+    }
+}
@@ -0,0 +1,196 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.util.Arrays;
+
+/**
+ * 라이브 스트리밍 하나의 heartbeat 시청자를 초 단위 버킷으로 관리하는 타이밍 휠
+ *
+ * - 버킷은 (ttlSeconds + 1)개이며, heartbeat 시각(초) % 버킷 수 위치에 시청자를 담는다.
+ * - 시간이 흐르면 만료 시각이 지난 버킷만 비운다. 각 heartbeat는 한 번만 만료 처리되므로
+ *   전체 시청자를 훑는 removeIf 없이 만료 비용이 시간에 걸쳐 분산된다.
+ * - 시청자 수는 추가/만료 시점에 갱신하므로 조회는 O(1)이다.
+ *
+ * 메모리 구성 (시청자 문자열 / Instant 객체 없음):
+ * - 마지막 heartbeat 시각은 int 초로 primitive 맵(userId / clientId 128비트 → 초)에 보관한다.
+ * - 버킷은 long[] 배열에 시청자 키를 덧붙이기만 한다. 다시 heartbeat를 보낸 시청자의 이전 항목은
+ *   그대로 두고, 버킷을 비울 때 마지막 heartbeat 시각까지 만료된 시청자만 제거한다.
+ *
+ * 만료 기준: 마지막 heartbeat 시각 < 현재 시각 - ttlSeconds
+ */
+final class ViewerExpiryWheel {
+
+    private final int ttlSeconds;
+    private final Bucket[] buckets;
+
+    private final LongIntHashMap userLastSeenSeconds = new LongIntHashMap();
+    private final LongPairIntHashMap clientLastSeenSeconds = new LongPairIntHashMap();
+
+    /**
+     * 이 시각(포함)까지의 버킷은 이미 비워졌다.
+     */
+    private volatile int expiredUntilSecond;
+
+    private volatile int viewerCount;
+
+    ViewerExpiryWheel(final int ttlSeconds, final int nowSecond) {
+        if (ttlSeconds <= 0) {
+            throw new IllegalArgumentException("ttlSeconds는 양수여야 합니다: " + ttlSeconds);
+        }
+        this.ttlSeconds = ttlSeconds;
+        this.buckets = new Bucket[ttlSeconds + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.expiredUntilSecond = nowSecond - ttlSeconds - 1;
+    }
+
+    synchronized void record(final ViewerId viewerId, final int nowSecond) {
+        advance(nowSecond);
+        // 시계가 뒤로 가더라도 이미 비운 버킷에는 넣지 않는다.
+        final int second = Math.max(nowSecond, expiredUntilSecond + 1);
+
+        final int previousSecond = lastSeenOf(viewerId);
+        if (previousSecond == LongIntHashMap.MISSING) {
+            viewerCount++;
+        } else if (previousSecond >= second) {
+            return;
+        }
+
+        final Bucket bucket = buckets[indexOf(second)];
+        if (viewerId.loggedIn()) {
+            userLastSeenSeconds.put(viewerId.low(), second);
+            bucket.addUser(viewerId.low());
+        } else {
+            clientLastSeenSeconds.put(viewerId.high(), viewerId.low(), second);
+            bucket.addClient(viewerId.high(), viewerId.low());
+        }
+    }
+
+    synchronized boolean containsUser(final long userId, final int nowSecond) {
+        advance(nowSecond);
+        return userLastSeenSeconds.get(userId) != LongIntHashMap.MISSING;
+    }
+
+    /**
+     * 만료를 반영한 현재 시청자 수
+     */
+    int count(final int nowSecond) {
+        // 이번 초의 만료가 이미 끝났다면 락 없이 읽는다.
+        if (nowSecond - ttlSeconds - 1 > expiredUntilSecond) {
+            synchronized (this) {
+                advance(nowSecond);
+            }
+        }
+        return viewerCount;
+    }
+
+    synchronized boolean isEmpty(final int nowSecond) {
+        advance(nowSecond);
+        return viewerCount == 0;
+    }
+
+    /**
+     * 만료되지 않은 시청자와 마지막 heartbeat 시각을 순회한다.
+     */
+    synchronized void forEachViewer(final int nowSecond, final ViewerConsumer consumer) {
+        advance(nowSecond);
+        userLastSeenSeconds.forEach((userId, lastSeen) -> consumer.accept(true, 0L, userId, lastSeen));
+        clientLastSeenSeconds.forEach((high, low, lastSeen) -> consumer.accept(false, high, low, lastSeen));
+    }
+
+    private int lastSeenOf(final ViewerId viewerId) {
+        return viewerId.loggedIn()
+                ? userLastSeenSeconds.get(viewerId.low())
+                : clientLastSeenSeconds.get(viewerId.high(), viewerId.low());
+    }
+
+    /**
+     * nowSecond 기준으로 만료된 버킷을 비운다.
+     * 오랫동안 조회가 없었더라도 버킷 수 이상은 돌지 않는다.
+     */
+    private void advance(final int nowSecond) {
+        final int expireUntil = nowSecond - ttlSeconds - 1;
+        if (expireUntil <= expiredUntilSecond) {
+            return;
+        }
+
+        final int from = Math.max(expiredUntilSecond + 1, expireUntil - buckets.length + 1);
+        for (int second = from; second <= expireUntil; second++) {
+            expire(buckets[indexOf(second)], expireUntil);
+        }
+        expiredUntilSecond = expireUntil;
+    }
+
+    /**
+     * 버킷에 담긴 시청자 중 마지막 heartbeat 시각이 expireUntil 이하인 시청자만 제거한다.
+     * 이후 heartbeat를 보낸 시청자는 더 늦은 버킷에 다시 담겨 있으므로 남겨둔다.
+     */
+    private void expire(final Bucket bucket, final int expireUntil) {
+        for (int i = 0; i < bucket.userCount; i++) {
+            final long userId = bucket.userIds[i];
+            final int lastSeen = userLastSeenSeconds.get(userId);
+            if (lastSeen != LongIntHashMap.MISSING && lastSeen <= expireUntil) {
+                userLastSeenSeconds.remove(userId);
+                viewerCount--;
+            }
+        }
+        for (int i = 0; i < bucket.clientKeyCount; i += 2) {
+            final long high = bucket.clientKeys[i];
+            final long low = bucket.clientKeys[i + 1];
+            final int lastSeen = clientLastSeenSeconds.get(high, low);
+            if (lastSeen != LongPairIntHashMap.MISSING && lastSeen <= expireUntil) {
+                clientLastSeenSeconds.remove(high, low);
+                viewerCount--;
+            }
+        }
+        bucket.clear();
+    }
+
+    private int indexOf(final int second) {
+        return Math.floorMod(second, buckets.length);
+    }
+
+    @FunctionalInterface
+    interface ViewerConsumer {
+        void accept(boolean loggedIn, long high, long low, int lastSeenSecond);
+    }
+
+    private static final class Bucket {
+
+        private static final long[] EMPTY = new long[0];
+
+        private long[] userIds = EMPTY;
+        private int userCount;
+        private long[] clientKeys = EMPTY;
+        private int clientKeyCount;
+
+        void addUser(final long userId) {
+            if (userCount == userIds.length) {
+                userIds = Arrays.copyOf(userIds, Math.max(8, userCount << 1));
+            }
+            userIds[userCount++] = userId;
+        }
+
+        void addClient(final long high, final long low) {
+            if (clientKeyCount == clientKeys.length) {
+                clientKeys = Arrays.copyOf(clientKeys, Math.max(16, clientKeyCount << 1));
+            }
+            clientKeys[clientKeyCount++] = high;
+            clientKeys[clientKeyCount++] = low;
+        }
+
+        /**
+         * 시청자 수가 줄어든 뒤에도 큰 배열을 계속 붙잡지 않도록, 직전 사용량의 두 배를 넘으면 줄인다.
+         */
+        void clear() {
+            if (userIds.length > Math.max(8, userCount << 1)) {
+                userIds = userCount == 0 ? EMPTY : new long[userCount];
+            }
+            if (clientKeys.length > Math.max(16, clientKeyCount << 1)) {
+                clientKeys = clientKeyCount == 0 ? EMPTY : new long[clientKeyCount];
+            }
+            userCount = 0;
+            clientKeyCount = 0;
+        }
+    }
+}
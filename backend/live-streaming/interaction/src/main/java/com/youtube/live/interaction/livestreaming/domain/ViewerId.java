@@ -0,0 +1,105 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import jakarta.annotation.Nullable;
+
+import java.util.UUID;
+
+/**
+ * 시청자 식별자의 primitive 표현
+ *
+ * "user:{userId}" / "client:{clientId}" 문자열 대신 long 두 개로 시청자를 구분한다.
+ * - 로그인 사용자: loggedIn = true, low = userId
+ * - 비로그인 사용자: clientId(128비트)를 high / low 로 나누어 보관
+ *
+ * clientId 변환 규칙:
+ * 1. UUID 형식(36자) → UUID의 상위/하위 64비트
+ * 2. 16진수 32자 (Tomcat 기본 세션 ID) → 앞/뒤 16자를 각각 64비트로 해석
+ * 3. 그 외 (jvmRoute 접미사 등) → 서로 독립적인 64비트 해시 두 개
+ *    (시청자 1억 명 기준 충돌 확률 약 1.5 × 10^-23)
+ */
+record ViewerId(boolean loggedIn, long high, long low) {
+
+    private static final int UUID_LENGTH = 36;
+    private static final int HEX_128_LENGTH = 32;
+
+    static ViewerId of(@Nullable final Long userId, final String clientId) {
+        if (userId != null) {
+            return user(userId);
+        }
+        return client(clientId);
+    }
+
+    static ViewerId user(final long userId) {
+        return new ViewerId(true, 0L, userId);
+    }
+
+    static ViewerId client(final String clientId) {
+        if (clientId.length() == UUID_LENGTH && clientId.charAt(8) == '-') {
+            try {
+                final UUID uuid = UUID.fromString(clientId);
+                return new ViewerId(false, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+            } catch (final IllegalArgumentException ignored) {
+                // 해시로 처리
+            }
+        }
+        if (clientId.length() == HEX_128_LENGTH && isHex(clientId)) {
+            return new ViewerId(
+                    false,
+                    Long.parseUnsignedLong(clientId, 0, 16, 16),
+                    Long.parseUnsignedLong(clientId, 16, 32, 16)
+            );
+        }
+        return new ViewerId(false, fnv1a(clientId), rotateMultiply(clientId));
+    }
+
+    /**
+     * HyperLogLog 등에 넣기 위한 잘 섞인 64비트 해시
+     */
+    long hash64() {
+        return hash64(loggedIn, high, low);
+    }
+
+    static long hash64(final boolean loggedIn, final long high, final long low) {
+        return mix(mix(loggedIn ? ~high : high) ^ low);
+    }
+
+    private static boolean isHex(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a 64비트
+     */
+    private static long fnv1a(final String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * FNV와 독립적인 회전-곱셈 방식 64비트 해시 (xxHash 라운드)
+     */
+    private static long rotateMultiply(final String value) {
+        long hash = 0x27D4EB2F165667C5L + value.length();
+        for (int i = 0; i < value.length(); i++) {
+            hash = Long.rotateLeft(hash ^ (value.charAt(i) * 0x9E3779B97F4A7C15L), 31) * 0xC2B2AE3D27D4EB4FL;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * 64비트 finalizer (SplitMix64)
+     */
+    static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,168 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라이브 스트리밍 하나의 WebSocket 시청자별 세션(탭) 수
+ *
+ * 시청자는 ViewerId의 long 값으로, 세션은 개수(int)로만 보관한다.
+ * 어떤 세션이 어떤 시청자인지는 LiveStreamingSubscriberManager의 세션 맵이 알고 있으므로
+ * 시청자마다 세션 ID 집합을 들고 있을 필요가 없다.
+ *
+ * stripe 분할:
+ * - 시청자를 해시로 STRIPE_COUNT 개의 stripe에 나누고, stripe마다 별도 락과 primitive 맵을 둔다.
+ *   서로 다른 stripe의 시청자는 같은 락을 잡지 않는다.
+ * - 코어 1개 환경에서는 스레드 수에 따른 처리량 차이가 오차 범위 안이었다. (LiveStreamingSubscriberManagerBenchmark 참고, 여러 코어에서는 아직 측정하지 않음)
+ * - 고유 시청자 수는 LongAdder로 첫 세션 추가 / 마지막 세션 제거 시점에 증감하므로 조회 시 맵을 훑지 않는다.
+ *
+ * 폐기(retire):
+ * 시청자가 모두 떠난 인스턴스는 모든 stripe 락을 잡은 상태에서 비어 있음을 확인한 뒤 폐기 표시한다.
+ * 폐기된 인스턴스에는 더 이상 추가되지 않으며(addSession이 false 반환), 호출하는 쪽은 새 인스턴스로 다시 시도한다.
+ */
+final class ViewerSessionCounts {
+
+    /**
+     * 2의 거듭제곱 (코어 수보다 넉넉하게)
+     */
+    static final int STRIPE_COUNT = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final LongAdder viewerCount = new LongAdder();
+
+    /**
+     * 모든 stripe 락을 잡은 상태에서만 true로 바뀐다.
+     */
+    private volatile boolean retired;
+
+    ViewerSessionCounts() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * @return 폐기된 인스턴스라 추가하지 못했다면 false
+     */
+    boolean addSession(final ViewerId viewerId) {
+        final Stripe stripe = stripeOf(viewerId);
+        synchronized (stripe) {
+            if (retired) {
+                return false;
+            }
+            if (stripe.increment(viewerId)) {
+                viewerCount.increment();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 마지막 세션이면 시청자 자체를 제거한다.
+     */
+    void removeSession(final ViewerId viewerId) {
+        final Stripe stripe = stripeOf(viewerId);
+        synchronized (stripe) {
+            if (stripe.decrement(viewerId)) {
+                viewerCount.decrement();
+            }
+        }
+    }
+
+    boolean containsUser(final long userId) {
+        final Stripe stripe = stripes[stripeIndex(ViewerId.hash64(true, 0L, userId))];
+        synchronized (stripe) {
+            return stripe.userSessionCounts.get(userId) != LongIntHashMap.MISSING;
+        }
+    }
+
+    int viewerCount() {
+        return (int) Math.max(0, viewerCount.sum());
+    }
+
+    boolean isEmpty() {
+        return viewerCount() == 0;
+    }
+
+    /**
+     * 비어 있으면 폐기 표시하고 true를 반환한다.
+     * 모든 stripe 락을 순서대로 잡으므로 진행 중인 추가가 없음을 보장한다. (시청자가 0명이 될 때만 호출)
+     */
+    boolean retireIfEmpty() {
+        return retireIfEmpty(0);
+    }
+
+    private boolean retireIfEmpty(final int stripeIndex) {
+        if (stripeIndex == STRIPE_COUNT) {
+            for (final Stripe stripe : stripes) {
+                if (!stripe.isEmpty()) {
+                    return false;
+                }
+            }
+            retired = true;
+            return true;
+        }
+        synchronized (stripes[stripeIndex]) {
+            return retireIfEmpty(stripeIndex + 1);
+        }
+    }
+
+    private Stripe stripeOf(final ViewerId viewerId) {
+        return stripes[stripeIndex(viewerId.hash64())];
+    }
+
+    private static int stripeIndex(final long hash) {
+        return (int) (hash >>> (Long.SIZE - Integer.numberOfTrailingZeros(STRIPE_COUNT)));
+    }
+
+    private static final class Stripe {
+
+        private final LongIntHashMap userSessionCounts = new LongIntHashMap();
+        private final LongPairIntHashMap clientSessionCounts = new LongPairIntHashMap();
+
+        /**
+         * @return 새로운 시청자면 true
+         */
+        boolean increment(final ViewerId viewerId) {
+            if (viewerId.loggedIn()) {
+                final int previous = userSessionCounts.get(viewerId.low());
+                userSessionCounts.put(viewerId.low(), previous == LongIntHashMap.MISSING ? 1 : previous + 1);
+                return previous == LongIntHashMap.MISSING;
+            }
+            final int previous = clientSessionCounts.get(viewerId.high(), viewerId.low());
+            clientSessionCounts.put(viewerId.high(), viewerId.low(), previous == LongPairIntHashMap.MISSING ? 1 : previous + 1);
+            return previous == LongPairIntHashMap.MISSING;
+        }
+
+        /**
+         * @return 시청자의 마지막 세션이 제거되었으면 true
+         */
+        boolean decrement(final ViewerId viewerId) {
+            if (viewerId.loggedIn()) {
+                final int previous = userSessionCounts.get(viewerId.low());
+                if (previous == LongIntHashMap.MISSING) {
+                    return false;
+                }
+                if (previous > 1) {
+                    userSessionCounts.put(viewerId.low(), previous - 1);
+                    return false;
+                }
+                userSessionCounts.remove(viewerId.low());
+                return true;
+            }
+            final int previous = clientSessionCounts.get(viewerId.high(), viewerId.low());
+            if (previous == LongPairIntHashMap.MISSING) {
+                return false;
+            }
+            if (previous > 1) {
+                clientSessionCounts.put(viewerId.high(), viewerId.low(), previous - 1);
+                return false;
+            }
+            clientSessionCounts.remove(viewerId.high(), viewerId.low());
+            return true;
+        }
+
+        boolean isEmpty() {
+            return userSessionCounts.size() == 0 && clientSessionCounts.size() == 0;
+        }
+    }
+}
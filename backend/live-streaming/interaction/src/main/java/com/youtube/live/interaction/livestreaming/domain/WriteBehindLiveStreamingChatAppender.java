@@ -0,0 +1,50 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 채팅을 Write-Behind 버퍼에 적재합니다.
+ *
+ * 트랜잭션을 열지 않으므로 STOMP 인바운드 스레드가 Hikari 커넥션을 점유하지 않습니다.
+ * 채팅 정책 검증은 적재 전에 수행하여 거절된 채팅이 브로드캐스트되지 않도록 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "livestreaming.chat.write-behind.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WriteBehindLiveStreamingChatAppender implements LiveStreamingChatAppender {
+
+    private final LiveStreamingChatWriteBuffer liveStreamingChatWriteBuffer;
+    private final ChatIdGenerator chatIdGenerator;
+
+    @Override
+    public Long append(
+            final Long liveStreamingId,
+            final LiveStreamingStatus liveStreamingStatus,
+            final Long userId,
+            final String username,
+            final String profileImageUrl,
+            final String message,
+            final ChatMessageType messageType,
+            final Instant now
+    ) {
+        LiveStreamingChatPolicy.validate(liveStreamingStatus);
+
+        final long chatId = chatIdGenerator.nextId();
+        liveStreamingChatWriteBuffer.offer(new PendingLiveStreamingChat(
+                chatId,
+                liveStreamingId,
+                userId,
+                username,
+                profileImageUrl,
+                message,
+                messageType,
+                now
+        ));
+
+        return chatId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 반응 토글을 Write-Behind 버퍼의 메모리 상태에 반영합니다.
+ *
+ * 트랜잭션을 열지 않으므로 좋아요 연타가 Hikari 커넥션을 점유하지 않습니다.
+ * 좋아요 / 싫어요 수 메모리 집계는 저장을 기다리지 않고 바로 반영합니다. (저장 전 보정은 ReactionCounter가 미룸)
+ */
+@Component
+@ConditionalOnProperty(name = "livestreaming.reaction.write-behind.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WriteBehindReactionToggler implements ReactionToggler {
+
+    private final LiveStreamingReactionWriteBuffer liveStreamingReactionWriteBuffer;
+    private final ReactionCounter reactionCounter;
+
+    @Override
+    public ReactionTransition toggle(final Long liveStreamingId, final Long userId, final ReactionType requestType) {
+        final ReactionTransition transition = liveStreamingReactionWriteBuffer.toggle(liveStreamingId, userId, requestType);
+        reactionCounter.applyAfterCommit(liveStreamingId, transition.previousType(), transition.currentType());
+        return transition;
+    }
+}
@@ -0,0 +1,22 @@
+package com.youtube.live.interaction.livestreaming.event;
+
+import com.youtube.live.interaction.livestreaming.domain.BurstReactionAccumulator;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class BurstReactionEventListener {
+
+    private final BurstReactionAccumulator burstReactionAccumulator;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStatusChanged(final LiveStreamingStatusChangedEvent event) {
+        if (event.status() == LiveStreamingStatus.ENDED) {
+            burstReactionAccumulator.evict(event.liveStreamingId());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.youtube.live.interaction.livestreaming.repository;
+
+import com.youtube.live.interaction.livestreaming.domain.BurstEmoji;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingBurstReaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 분 단위 버스트 반응 합계 저장소
+ *
+ * <pre>
+ * CREATE TABLE live_streaming_burst_reaction (
+ *     id                BIGINT      NOT NULL AUTO_INCREMENT,
+ *     live_streaming_id BIGINT      NOT NULL,
+ *     minute_start      DATETIME(6) NOT NULL,
+ *     emoji             VARCHAR(20) NOT NULL,
+ *     tap_count         BIGINT      NOT NULL,
+ *     PRIMARY KEY (id),
+ *     UNIQUE KEY uk_live_streaming_burst_reaction_minute (live_streaming_id, minute_start, emoji)
+ * );
+ * </pre>
+ *
+ * 같은 분의 합계가 여러 노드 / 여러 번에 나눠 들어오므로 unique key가 겹치면 tap_count에 더한다.
+ * Instant 컬럼은 LiveStreamingReactionBatchRepository와 동일하게 UTC 기준으로 바인딩한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LiveStreamingBurstReactionRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO live_streaming_burst_reaction " +
+            "(live_streaming_id, minute_start, emoji, tap_count) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = " AS incoming ON DUPLICATE KEY UPDATE " +
+            "tap_count = live_streaming_burst_reaction.tap_count + incoming.tap_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int addAll(final List<LiveStreamingBurstReaction> minuteTotals) {
+        if (minuteTotals.isEmpty()) {
+            return 0;
+        }
+
+        final String sql = INSERT_PREFIX
+                + String.join(", ", Collections.nCopies(minuteTotals.size(), ROW_PLACEHOLDER))
+                + UPSERT_SUFFIX;
+        final Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (final LiveStreamingBurstReaction minuteTotal : minuteTotals) {
+                ps.setLong(index++, minuteTotal.getLiveStreamingId());
+                ps.setTimestamp(index++, Timestamp.from(minuteTotal.getMinuteStart()), utc);
+                ps.setString(index++, minuteTotal.getEmoji().name());
+                ps.setLong(index++, minuteTotal.getTapCount());
+            }
+        });
+    }
+
+    public List<LiveStreamingBurstReaction> findAllBy(final Long liveStreamingId) {
+        final Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        return jdbcTemplate.query(
+                "SELECT live_streaming_id, minute_start, emoji, tap_count FROM live_streaming_burst_reaction " +
+                        "WHERE live_streaming_id = ? ORDER BY minute_start, emoji",
+                (rs, rowNum) -> LiveStreamingBurstReaction.builder()
+                        .liveStreamingId(rs.getLong("live_streaming_id"))
+                        .minuteStart(rs.getTimestamp("minute_start", utc).toInstant())
+                        .emoji(BurstEmoji.valueOf(rs.getString("emoji")))
+                        .tapCount(rs.getLong("tap_count"))
+                        .build(),
+                liveStreamingId
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.youtube.live.interaction.livestreaming.repository;
+
+import com.youtube.live.interaction.livestreaming.domain.PendingLiveStreamingChat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 채팅 multi-row INSERT 전용 저장소
+ *
+ * 채팅 ID는 ChatIdGenerator가 미리 할당하므로 하나의 INSERT 문에 여러 row를 담을 수 있다.
+ * Instant 컬럼은 Hibernate와 동일하게 UTC 기준으로 바인딩한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LiveStreamingChatBatchRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO live_streaming_chat " +
+            "(id, live_streaming_id, user_id, username, profile_image_url, message, message_type, created_date, last_modified_date) " +
+            "VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertAll(final List<PendingLiveStreamingChat> chats) {
+        if (chats.isEmpty()) {
+            return 0;
+        }
+
+        final String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chats.size(), ROW_PLACEHOLDER));
+        final Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (final PendingLiveStreamingChat chat : chats) {
+                final Timestamp createdDate = Timestamp.from(chat.createdDate());
+                ps.setLong(index++, chat.id());
+                ps.setLong(index++, chat.liveStreamingId());
+                ps.setLong(index++, chat.userId());
+                ps.setString(index++, chat.username());
+                ps.setString(index++, chat.profileImageUrl());
+                ps.setString(index++, chat.message());
+                ps.setString(index++, chat.messageType().name());
+                ps.setTimestamp(index++, createdDate, utc);
+                ps.setTimestamp(index++, createdDate, utc);
+            }
+        });
+    }
+}
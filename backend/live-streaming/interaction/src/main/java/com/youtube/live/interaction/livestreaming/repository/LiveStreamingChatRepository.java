@@ -21,6 +21,16 @@ public interface LiveStreamingChatRepository extends JpaRepository<LiveStreaming
             final Pageable pageable
     );
 
+    @Query("SELECT new com.youtube.live.interaction.livestreaming.repository.dto.ChatMessageResponse(" +
+            "c.id, c.username, c.message, c.messageType, c.profileImageUrl, c.createdDate) " +
+            "FROM LiveStreamingChat c " +
+            "WHERE c.liveStreaming.id = :livestreamId " +
+            "ORDER BY c.id DESC")
+    List<ChatMessageResponse> findLatestChats(
+            @Param("livestreamId") final Long livestreamId,
+            final Pageable pageable
+    );
+
     @Query("SELECT new com.youtube.live.interaction.livestreaming.repository.dto.ChatMessageResponse(" +
             "c.id, c.username, c.message, c.messageType, c.profileImageUrl, c.createdDate) " +
             "FROM LiveStreamingChat c " +
@@ -0,0 +1,67 @@
+package com.youtube.live.interaction.livestreaming.repository;
+
+import com.youtube.live.interaction.livestreaming.domain.PendingLiveStreamingReaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 반응 multi-row upsert 전용 저장소
+ *
+ * (live_streaming_id, user_id) unique key로 기존 row(소프트 삭제된 row 포함)가 있으면 type과 삭제 여부만 덮어쓴다.
+ * 취소는 deleted_date를 채운 row로 쓰므로 JPA 경로의 소프트 삭제 / 복원과 같은 결과가 된다.
+ * Instant 컬럼은 LiveStreamingChatBatchRepository와 동일하게 UTC 기준으로 바인딩한다.
+ *
+ * last_modified_date는 토글 시각이 아니라 저장 시각(UTC_TIMESTAMP)으로 쓴다.
+ * ReactionBitmaps는 last_modified_date로 바뀐 row를 따라잡으므로, 재시도나 느린 DB로 flush가 syncOverlap보다
+ * 늦게 끝나도 토글 시각으로 쓰면 동기화 범위를 벗어나 다른 노드의 bitmap에 반영되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LiveStreamingReactionBatchRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO live_streaming_reaction " +
+            "(live_streaming_id, user_id, type, created_date, last_modified_date, deleted_date) " +
+            "VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, UTC_TIMESTAMP(6), ?)";
+    private static final String UPSERT_SUFFIX = " AS incoming ON DUPLICATE KEY UPDATE " +
+            "type = incoming.type, " +
+            "last_modified_date = incoming.last_modified_date, " +
+            "deleted_date = incoming.deleted_date";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int upsertAll(final List<PendingLiveStreamingReaction> reactions) {
+        if (reactions.isEmpty()) {
+            return 0;
+        }
+
+        final String sql = INSERT_PREFIX
+                + String.join(", ", Collections.nCopies(reactions.size(), ROW_PLACEHOLDER))
+                + UPSERT_SUFFIX;
+        final Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (final PendingLiveStreamingReaction reaction : reactions) {
+                final Timestamp modifiedDate = Timestamp.from(reaction.modifiedDate());
+                ps.setLong(index++, reaction.liveStreamingId());
+                ps.setLong(index++, reaction.userId());
+                ps.setString(index++, reaction.type().name());
+                ps.setTimestamp(index++, modifiedDate, utc);
+                if (reaction.deleted()) {
+                    ps.setTimestamp(index++, modifiedDate, utc);
+                } else {
+                    ps.setNull(index++, Types.TIMESTAMP);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.youtube.live.interaction.livestreaming.repository;
+
+import com.youtube.live.interaction.livestreaming.domain.ReactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.TimeZone;
+
+/**
+ * 반응 bitmap 적재 / 동기화 전용 저장소
+ *
+ * 라이브 스트리밍 하나의 반응 전체를 엔티티로 만들지 않고 (user_id, type)만 한 줄씩 넘긴다.
+ * 동기화는 last_modified_date 이후 바뀐 row를 소프트 삭제된 row까지 읽어 다른 노드의 변경을 따라잡는다.
+ *
+ * <pre>
+ * CREATE INDEX idx_live_streaming_reaction_live_streaming_id_last_modified_date
+ *     ON live_streaming_reaction (live_streaming_id, last_modified_date);
+ * </pre>
+ *
+ * Instant 컬럼은 LiveStreamingReactionBatchRepository와 동일하게 UTC 기준으로 바인딩한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LiveStreamingReactionBitmapRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEachReaction(final Long liveStreamingId, final ReactionHandler handler) {
+        jdbcTemplate.query(
+                "SELECT user_id, type FROM live_streaming_reaction WHERE live_streaming_id = ? AND deleted_date IS NULL",
+                (RowCallbackHandler) rs -> handler.handle(liveStreamingId, rs.getLong("user_id"), ReactionType.valueOf(rs.getString("type"))),
+                liveStreamingId
+        );
+    }
+
+    /**
+     * @param handler 취소된 반응은 type을 null로 넘긴다.
+     */
+    public void forEachChangedSince(final Collection<Long> liveStreamingIds, final Instant since, final ReactionHandler handler) {
+        if (liveStreamingIds.isEmpty()) {
+            return;
+        }
+
+        final String sql = "SELECT live_streaming_id, user_id, type, deleted_date FROM live_streaming_reaction " +
+                "WHERE live_streaming_id IN (" + String.join(", ", Collections.nCopies(liveStreamingIds.size(), "?")) + ") " +
+                "AND last_modified_date >= ?";
+        final Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+        jdbcTemplate.query(
+                sql,
+                ps -> {
+                    int index = 1;
+                    for (final Long liveStreamingId : liveStreamingIds) {
+                        ps.setLong(index++, liveStreamingId);
+                    }
+                    ps.setTimestamp(index, Timestamp.from(since), utc);
+                },
+                rs -> {
+                    final ReactionType type = rs.getTimestamp("deleted_date") == null
+                            ? ReactionType.valueOf(rs.getString("type"))
+                            : null;
+                    handler.handle(rs.getLong("live_streaming_id"), rs.getLong("user_id"), type);
+                }
+        );
+    }
+
+    @FunctionalInterface
+    public interface ReactionHandler {
+        void handle(long liveStreamingId, long userId, ReactionType type);
+    }
+}
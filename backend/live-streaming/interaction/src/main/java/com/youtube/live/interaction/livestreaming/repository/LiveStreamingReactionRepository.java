@@ -2,10 +2,13 @@ package com.youtube.live.interaction.livestreaming.repository;
 
 import com.youtube.live.interaction.livestreaming.domain.LiveStreamingReaction;
 import com.youtube.live.interaction.livestreaming.domain.ReactionType;
+import com.youtube.live.interaction.livestreaming.repository.dto.ReactionCountResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LiveStreamingReactionRepository extends JpaRepository<LiveStreamingReaction, Long> {
@@ -13,7 +16,17 @@ public interface LiveStreamingReactionRepository extends JpaRepository<LiveStrea
     Optional<LiveStreamingReaction> findByLiveStreamingIdAndUserId(Long liveStreamingId, Long userId);
 
     long countByLiveStreamingIdAndType(Long liveStreamingId, ReactionType type);
-    
+
+    @Query("""
+    SELECT new com.youtube.live.interaction.livestreaming.repository.dto.ReactionCountResponse(
+        r.liveStreaming.id, r.type, COUNT(r)
+    )
+    FROM LiveStreamingReaction r
+    WHERE r.liveStreaming.id IN :liveStreamingIds
+    GROUP BY r.liveStreaming.id, r.type
+    """)
+    List<ReactionCountResponse> countGroupByType(@Param("liveStreamingIds") Collection<Long> liveStreamingIds);
+
     @Query(value = "SELECT * FROM live_streaming_reaction " +
             "WHERE live_streaming_id = :liveStreamingId " +
             "AND user_id = :userId " +
@@ -14,16 +14,17 @@ public interface LiveStreamingRepository extends JpaRepository<LiveStreaming, Lo
     @Query("SELECT ls.status FROM LiveStreaming ls WHERE ls.id = :liveStreamingId")
     Optional<LiveStreamingStatus> findStatusById(@Param("liveStreamingId") final Long liveStreamingId);
 
+    /**
+     * 구독자 수는 channel_stats 집계 row에서 읽는다. (row가 없으면 null)
+     */
     @Query("""
     SELECT new com.youtube.live.interaction.livestreaming.repository.dto.LiveStreamingMetadataResponse(
-        c.id, c.channelName, c.profileImageUrl, ls.title, ls.description, ls.createdDate, COUNT(s.id)
+        c.id, c.channelName, c.profileImageUrl, ls.title, ls.description, ls.createdDate, cs.subscriberCount
     )
     FROM LiveStreaming ls
     JOIN ls.channel c
-    LEFT JOIN Subscription s ON s.channel.id = c.id
+    LEFT JOIN ChannelStats cs ON cs.channelId = c.id
     WHERE ls.id = :liveStreamingId
-    GROUP BY c.id, c.channelName, c.profileImageUrl,
-             ls.title, ls.description, ls.createdDate
     """)
     LiveStreamingMetadataResponse findMetadataById(@Param("liveStreamingId") final Long liveStreamingId);
 }
@@ -0,0 +1,109 @@
+package com.youtube.live.interaction.livestreaming.repository;
+
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 라이브 스트리밍별 집계 저장소
+ *
+ * <pre>
+ * CREATE TABLE live_streaming_stats (
+ *     live_streaming_id BIGINT NOT NULL,
+ *     like_count        BIGINT NOT NULL,
+ *     dislike_count     BIGINT NOT NULL,
+ *     PRIMARY KEY (live_streaming_id)
+ * );
+ * </pre>
+ *
+ * 증감은 row가 있을 때만 반영한다. row는 처음 읽을 때 원본 COUNT로 만들거나(insertIfAbsent) 보정 작업이 만든다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LiveStreamingStatsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<LiveStreamingStats> findById(final Long liveStreamingId) {
+        return jdbcTemplate.query(
+                "SELECT live_streaming_id, like_count, dislike_count FROM live_streaming_stats WHERE live_streaming_id = ?",
+                (rs, rowNum) -> LiveStreamingStats.builder()
+                        .liveStreamingId(rs.getLong("live_streaming_id"))
+                        .likeCount(rs.getLong("like_count"))
+                        .dislikeCount(rs.getLong("dislike_count"))
+                        .build(),
+                liveStreamingId
+        ).stream().findFirst();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션(복제본 커넥션) 안에서 호출되므로 새 쓰기 트랜잭션에서 Primary에 만든다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insertIfAbsent(final Long liveStreamingId, final long likeCount, final long dislikeCount) {
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO live_streaming_stats (live_streaming_id, like_count, dislike_count) VALUES (?, ?, ?)",
+                liveStreamingId, likeCount, dislikeCount
+        );
+    }
+
+    /**
+     * 일부만 반영된 채로 재시도하면 두 번 더해지므로 한 트랜잭션으로 반영한다.
+     */
+    @Transactional
+    public void incrementReactionCounts(final Map<Long, Long> likeDeltas, final Map<Long, Long> dislikeDeltas) {
+        final Set<Long> liveStreamingIds = new HashSet<>(likeDeltas.keySet());
+        liveStreamingIds.addAll(dislikeDeltas.keySet());
+        if (liveStreamingIds.isEmpty()) {
+            return;
+        }
+
+        final List<Object[]> rows = new ArrayList<>(liveStreamingIds.size());
+        liveStreamingIds.forEach(liveStreamingId -> rows.add(new Object[]{
+                likeDeltas.getOrDefault(liveStreamingId, 0L),
+                dislikeDeltas.getOrDefault(liveStreamingId, 0L),
+                liveStreamingId
+        }));
+        jdbcTemplate.batchUpdate(
+                "UPDATE live_streaming_stats " +
+                        "SET like_count = like_count + ?, dislike_count = dislike_count + ? " +
+                        "WHERE live_streaming_id = ?",
+                rows
+        );
+    }
+
+    public long findMaxLiveStreamingId() {
+        final Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM live_streaming", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    /**
+     * [fromId, toId] 범위 라이브 스트리밍의 좋아요 / 싫어요 수를 live_streaming_reaction에서 다시 계산해 덮어쓴다. (row가 없으면 만든다)
+     */
+    public int recomputeReactionCounts(final long fromId, final long toId) {
+        return jdbcTemplate.update("""
+                INSERT INTO live_streaming_stats (live_streaming_id, like_count, dislike_count)
+                SELECT computed.live_streaming_id, computed.like_count, computed.dislike_count
+                FROM (
+                    SELECT ls.id AS live_streaming_id,
+                           COUNT(CASE WHEN r.type = 'LIKE' THEN 1 END) AS like_count,
+                           COUNT(CASE WHEN r.type = 'DISLIKE' THEN 1 END) AS dislike_count
+                    FROM live_streaming ls
+                    LEFT JOIN live_streaming_reaction r ON r.live_streaming_id = ls.id AND r.deleted_date IS NULL
+                    WHERE ls.id BETWEEN ? AND ?
+                    GROUP BY ls.id
+                ) AS computed
+                ON DUPLICATE KEY UPDATE like_count = computed.like_count, dislike_count = computed.dislike_count
+                """, fromId, toId);
+    }
+}
@@ -0,0 +1,101 @@
+package com.youtube.live.interaction.livestreaming.repository;
+
+import com.youtube.live.interaction.livestreaming.domain.NodeViewerCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 노드별 시청자 수 저장소 (JdbcViewerCountStore 전용)
+ *
+ * <pre>
+ * CREATE TABLE live_streaming_viewer_count (
+ *     node_id           VARCHAR(64)     NOT NULL,
+ *     live_streaming_id BIGINT          NOT NULL,
+ *     subscriber_count  INT             NOT NULL,
+ *     heartbeat_sketch  VARBINARY(16386) NULL,
+ *     streamer_watching BOOLEAN         NOT NULL,
+ *     updated_at        DATETIME(3)     NOT NULL,
+ *     PRIMARY KEY (node_id, live_streaming_id),
+ *     INDEX idx_live_streaming_viewer_count_updated_at (updated_at)
+ * );
+ * </pre>
+ *
+ * updated_at은 LiveStreamingChatBatchRepository와 동일하게 UTC 기준으로 바인딩한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LiveStreamingViewerCountRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO live_streaming_viewer_count " +
+            "(node_id, live_streaming_id, subscriber_count, heartbeat_sketch, streamer_watching, updated_at) " +
+            "VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 스케치가 최대 16KB이므로 max_allowed_packet을 넘지 않도록 INSERT 문 하나에 담는 row 수를 제한한다.
+     */
+    private static final int ROWS_PER_INSERT = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void replaceAll(final String nodeId, final List<NodeViewerCount> viewerCounts, final Instant updatedAt) {
+        jdbcTemplate.update("DELETE FROM live_streaming_viewer_count WHERE node_id = ?", nodeId);
+
+        final Timestamp timestamp = Timestamp.from(updatedAt);
+        final Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        for (int from = 0; from < viewerCounts.size(); from += ROWS_PER_INSERT) {
+            final List<NodeViewerCount> rows = viewerCounts.subList(from, Math.min(from + ROWS_PER_INSERT, viewerCounts.size()));
+            final String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDER));
+
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (final NodeViewerCount row : rows) {
+                    ps.setString(index++, nodeId);
+                    ps.setLong(index++, row.liveStreamingId());
+                    ps.setInt(index++, row.subscriberCount());
+                    ps.setBytes(index++, row.heartbeatSketch());
+                    ps.setBoolean(index++, row.streamerWatching());
+                    ps.setTimestamp(index++, timestamp, utc);
+                }
+            });
+        }
+    }
+
+    public List<NodeViewerCount> findOthersUpdatedSince(final String nodeId, final Instant since) {
+        return jdbcTemplate.query(
+                "SELECT node_id, live_streaming_id, subscriber_count, heartbeat_sketch, streamer_watching " +
+                        "FROM live_streaming_viewer_count WHERE node_id <> ? AND updated_at >= ?",
+                ps -> {
+                    ps.setString(1, nodeId);
+                    ps.setTimestamp(2, Timestamp.from(since), Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+                },
+                (rs, rowNum) -> new NodeViewerCount(
+                        rs.getString("node_id"),
+                        rs.getLong("live_streaming_id"),
+                        rs.getInt("subscriber_count"),
+                        rs.getBytes("heartbeat_sketch"),
+                        rs.getBoolean("streamer_watching")
+                )
+        );
+    }
+
+    /**
+     * 종료되었거나 장애로 더 이상 갱신하지 않는 노드의 row 정리
+     */
+    public int deleteUpdatedBefore(final Instant before) {
+        return jdbcTemplate.update(
+                "DELETE FROM live_streaming_viewer_count WHERE updated_at < ?",
+                ps -> ps.setTimestamp(1, Timestamp.from(before), Calendar.getInstance(TimeZone.getTimeZone("UTC")))
+        );
+    }
+}
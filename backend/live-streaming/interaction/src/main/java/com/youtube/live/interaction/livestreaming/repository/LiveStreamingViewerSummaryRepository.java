@@ -0,0 +1,11 @@
+package com.youtube.live.interaction.livestreaming.repository;
+
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingViewerSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface LiveStreamingViewerSummaryRepository extends JpaRepository<LiveStreamingViewerSummary, Long> {
+
+    Optional<LiveStreamingViewerSummary> findByLiveStreamingId(Long liveStreamingId);
+}
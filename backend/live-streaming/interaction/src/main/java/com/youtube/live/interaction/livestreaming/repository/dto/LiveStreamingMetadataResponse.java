@@ -11,4 +11,12 @@ public record LiveStreamingMetadataResponse(
         Instant liveStreamingStartedAt,
         Long subscriberCount
 ) {
+
+    public LiveStreamingMetadataResponse withSubscriberCount(final Long subscriberCount) {
+        return new LiveStreamingMetadataResponse(
+                channelId, channelName, channelProfileImageUrl,
+                liveStreamingTitle, liveStreamingDescription, liveStreamingStartedAt,
+                subscriberCount
+        );
+    }
 }
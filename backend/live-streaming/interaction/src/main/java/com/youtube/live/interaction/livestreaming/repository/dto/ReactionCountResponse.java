@@ -0,0 +1,10 @@
+package com.youtube.live.interaction.livestreaming.repository.dto;
+
+import com.youtube.live.interaction.livestreaming.domain.ReactionType;
+
+public record ReactionCountResponse(
+        Long liveStreamingId,
+        ReactionType type,
+        Long count
+) {
+}
@@ -0,0 +1,199 @@
+package com.youtube.live.interaction.livestreaming.service;
+
+import com.youtube.live.interaction.config.ChatLongPollProperties;
+import com.youtube.live.interaction.config.RecentChatCacheProperties;
+import com.youtube.live.interaction.livestreaming.service.dto.ChatsResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * V2 채팅 Long Polling
+ *
+ * 구조:
+ * GET 요청 → 새 채팅이 있으면 즉시 응답, 없으면 라이브 스트리밍별 대기 목록에 DeferredResult 등록 (서블릿 스레드 반환)
+ * 채팅 작성 → notifyNewChat() → waker 스레드가 대기 중인 요청을 한 번에 응답
+ *
+ * - 같은 lastChatId로 대기 중인 요청은 한 번 조회하고 직렬화한 같은 응답 byte[](batch)를 공유한다.
+ * - 채팅이 몰려도 라이브 스트리밍별로 대기 중인 깨우기 작업은 하나만 유지한다.
+ * - timeout 시에는 빈 목록과 기존 lastChatId를 응답하므로 클라이언트는 바로 다시 요청하면 된다.
+ *
+ * notifyNewChat은 이 노드에서 작성된 채팅에만 호출되며, singleNode 설정과 관계없이 대기 요청을 바로 깨운다.
+ * 여러 노드 배포(RecentChatCacheProperties#singleNode = false)에서는 다른 노드의 채팅을 알 수 없으므로
+ * recheckInterval마다 대기 요청이 있는 라이브 스트리밍을 깨워 DB를 다시 확인한다.
+ * (깨웠을 때 아직 DB에 보이지 않던 채팅 - Write-Behind 버퍼에 있는 채팅 등 - 도 이 재확인으로 응답한다)
+ */
+@Slf4j
+@Service
+public class LiveStreamingChatLongPollService {
+
+    private final LiveStreamingChatQueryService liveStreamingChatQueryService;
+    private final LiveStreamingChatResponseCache liveStreamingChatResponseCache;
+    private final ChatLongPollProperties properties;
+
+    /**
+     * 라이브 스트리밍별 대기 중인 요청
+     * Key: liveStreamingId, Value: 대기 요청 목록
+     */
+    private final ConcurrentHashMap<Long, Set<ChatWaiter>> liveStreamingToWaiters = new ConcurrentHashMap<>();
+
+    /**
+     * 깨우기 작업이 예약된 라이브 스트리밍 (중복 예약 방지)
+     */
+    private final Set<Long> pendingWakeUps = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService wakeUpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "chat-long-poll-waker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LiveStreamingChatLongPollService(
+            final LiveStreamingChatQueryService liveStreamingChatQueryService,
+            final LiveStreamingChatResponseCache liveStreamingChatResponseCache,
+            final ChatLongPollProperties properties,
+            final RecentChatCacheProperties recentChatCacheProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.liveStreamingChatQueryService = liveStreamingChatQueryService;
+        this.liveStreamingChatResponseCache = liveStreamingChatResponseCache;
+        this.properties = properties;
+
+        Gauge.builder("livestreaming.chat.long.poll.waiters", liveStreamingToWaiters,
+                        waiters -> waiters.values().stream().mapToInt(Set::size).sum())
+                .description("새 채팅을 기다리며 보류 중인 Long Polling 요청 수")
+                .register(meterRegistry);
+
+        if (!recentChatCacheProperties.isSingleNode()) {
+            final long recheckMillis = properties.getRecheckInterval().toMillis();
+            wakeUpExecutor.scheduleWithFixedDelay(
+                    () -> liveStreamingToWaiters.keySet().forEach(this::notifyNewChat),
+                    recheckMillis,
+                    recheckMillis,
+                    TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    public DeferredResult<byte[]> waitNewChats(final Long liveStreamingId, final Long lastChatId) {
+        final ChatsResponse newChats = liveStreamingChatQueryService.getNewChats(liveStreamingId, lastChatId);
+        if (!newChats.chats().isEmpty()) {
+            final DeferredResult<byte[]> result = new DeferredResult<>();
+            result.setResult(liveStreamingChatResponseCache.encode(newChats));
+            return result;
+        }
+
+        final DeferredResult<byte[]> result = new DeferredResult<>(
+                properties.getTimeout().toMillis(),
+                () -> emptyResponse(lastChatId)
+        );
+        final ChatWaiter waiter = new ChatWaiter(lastChatId, result);
+        result.onCompletion(() -> removeWaiter(liveStreamingId, waiter));
+
+        liveStreamingToWaiters.compute(liveStreamingId, (id, waiters) -> {
+            if (waiters == null) {
+                waiters = ConcurrentHashMap.newKeySet();
+            }
+            waiters.add(waiter);
+            return waiters;
+        });
+
+        // 첫 조회와 등록 사이에 작성된 채팅을 놓치지 않도록 한 번 더 확인
+        final ChatsResponse recheck = liveStreamingChatQueryService.getNewChats(liveStreamingId, lastChatId);
+        if (!recheck.chats().isEmpty() && result.setResult(liveStreamingChatResponseCache.encode(recheck))) {
+            removeWaiter(liveStreamingId, waiter);
+        }
+
+        return result;
+    }
+
+    /**
+     * 새 채팅이 저장된 뒤 호출합니다. 대기 중인 요청이 없으면 아무 작업도 하지 않습니다.
+     */
+    public void notifyNewChat(final Long liveStreamingId) {
+        if (!liveStreamingToWaiters.containsKey(liveStreamingId)) {
+            return;
+        }
+        if (pendingWakeUps.add(liveStreamingId)) {
+            wakeUpExecutor.execute(() -> {
+                pendingWakeUps.remove(liveStreamingId);
+                wakeUp(liveStreamingId);
+            });
+        }
+    }
+
+    /**
+     * 라이브 스트리밍 종료 시 대기 중인 요청을 빈 목록으로 모두 응답합니다.
+     */
+    public void releaseAll(final Long liveStreamingId) {
+        final Set<ChatWaiter> waiters = liveStreamingToWaiters.remove(liveStreamingId);
+        if (waiters == null) {
+            return;
+        }
+        waiters.forEach(waiter -> waiter.result().setResult(emptyResponse(waiter.lastChatId())));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wakeUpExecutor.shutdownNow();
+    }
+
+    private void wakeUp(final Long liveStreamingId) {
+        final Set<ChatWaiter> waiters = liveStreamingToWaiters.get(liveStreamingId);
+        if (waiters == null) {
+            return;
+        }
+
+        try {
+            final Map<Long, byte[]> batches = new HashMap<>();
+            for (final ChatWaiter waiter : waiters) {
+                final Long lastChatId = waiter.lastChatId();
+                if (!batches.containsKey(lastChatId)) {
+                    batches.put(lastChatId, encodeIfPresent(liveStreamingChatQueryService.getNewChats(liveStreamingId, lastChatId)));
+                }
+                final byte[] batch = batches.get(lastChatId);
+                if (batch == null) {
+                    continue;
+                }
+                waiter.result().setResult(batch);
+                removeWaiter(liveStreamingId, waiter);
+            }
+            log.debug("Long Polling 응답 - liveStreamingId: {}, cursor 수: {}", liveStreamingId, batches.size());
+        } catch (final Exception e) {
+            log.error("Long Polling 응답 실패 - liveStreamingId: {}", liveStreamingId, e);
+        }
+    }
+
+    /**
+     * @return 새 채팅이 없으면 null
+     */
+    private byte[] encodeIfPresent(final ChatsResponse response) {
+        return response.chats().isEmpty() ? null : liveStreamingChatResponseCache.encode(response);
+    }
+
+    private byte[] emptyResponse(final Long lastChatId) {
+        return liveStreamingChatResponseCache.encode(new ChatsResponse(List.of(), lastChatId));
+    }
+
+    private void removeWaiter(final Long liveStreamingId, final ChatWaiter waiter) {
+        liveStreamingToWaiters.computeIfPresent(liveStreamingId, (id, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    private record ChatWaiter(Long lastChatId, DeferredResult<byte[]> result) {
+    }
+}
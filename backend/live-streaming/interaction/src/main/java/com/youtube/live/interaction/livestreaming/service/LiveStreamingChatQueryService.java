@@ -2,25 +2,26 @@ package com.youtube.live.interaction.livestreaming.service;
 
 import com.youtube.live.interaction.livestreaming.repository.dto.ChatMessageResponse;
 import com.youtube.live.interaction.livestreaming.service.dto.ChatsResponse;
-import com.youtube.live.interaction.livestreaming.domain.LiveStreamingChatReader;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingRecentChatCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class LiveStreamingChatQueryService {
 
-    private final LiveStreamingChatReader liveStreamingChatReader;
+    private static final int INITIAL_CHAT_SIZE = 30;
 
+    private final LiveStreamingRecentChatCache liveStreamingRecentChatCache;
+
+    /**
+     * 최근 채팅 캐시에서 응답하므로 트랜잭션(DB 커넥션)을 열지 않습니다.
+     * (cold miss 또는 커서가 보관 범위를 벗어난 경우에만 단건 조회 쿼리 실행)
+     */
     public List<ChatMessageResponse> getInitialMessages(final Long liveStreamingId) {
-        final List<ChatMessageResponse> recentChats = liveStreamingChatReader.readRecentChats(liveStreamingId, 30);
-        Collections.reverse(recentChats);
-        return recentChats;
+        return liveStreamingRecentChatCache.readRecent(liveStreamingId, INITIAL_CHAT_SIZE);
     }
 
     public ChatsResponse getInitialChats(final Long liveStreamingId) {
@@ -28,8 +29,11 @@ public class LiveStreamingChatQueryService {
         return new ChatsResponse(recentChats, extractLastChatId(recentChats));
     }
 
+    /**
+     * 커서가 최근 채팅 캐시의 보관 범위 안이면 DB를 조회하지 않습니다.
+     */
     public ChatsResponse getNewChats(final Long liveStreamingId, final Long lastChatId) {
-        final List<ChatMessageResponse> newChats = liveStreamingChatReader.readNewChatsAfter(liveStreamingId, lastChatId);
+        final List<ChatMessageResponse> newChats = liveStreamingRecentChatCache.readNewChatsAfter(liveStreamingId, lastChatId);
         final Long latestChatId = newChats.isEmpty() ? lastChatId : extractLastChatId(newChats);
         return new ChatsResponse(newChats, latestChatId);
     }
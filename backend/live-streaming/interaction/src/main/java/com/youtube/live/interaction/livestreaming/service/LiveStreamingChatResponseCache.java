@@ -0,0 +1,143 @@
+package com.youtube.live.interaction.livestreaming.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.youtube.live.interaction.config.ChatResponseCacheProperties;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingRecentChatCache;
+import com.youtube.live.interaction.livestreaming.service.dto.ChatsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 채팅 폴링 응답을 JSON byte[]로 직렬화하여 공유하는 캐시
+ *
+ * 한 라이브 스트리밍의 시청자 대부분은 몇 초 안에 같은 lastChatId로 폴링하므로,
+ * (liveStreamingId, lastChatId, 최근 채팅 버전) 단위로 한 번만 직렬화하고 그대로 응답 본문에 쓴다.
+ *
+ * 무효화:
+ * 새 채팅이 추가되면 LiveStreamingRecentChatCache의 버전이 바뀌어 이전 키는 더 이상 조회되지 않고,
+ * 크기 상한/만료 시간에 따라 제거된다.
+ *
+ * 버전은 이 노드에서 작성된 채팅으로만 바뀌므로, 여러 노드 배포(버전 -1)에서는 버전 대신
+ * (liveStreamingId, lastChatId) 단위로 ChatResponseCacheProperties#unversionedTtl 동안만 응답을 공유한다.
+ * 새 채팅이 이 시간만큼 늦게 보일 수 있지만 누락되지는 않는다. (다음 조회는 DB에서 다시 읽는다)
+ */
+@Component
+public class LiveStreamingChatResponseCache {
+
+    /**
+     * lastChatId 없이 요청하는 초기 채팅 조회의 키
+     */
+    private static final long INITIAL_CURSOR = 0L;
+
+    private static final long UNVERSIONED = -1L;
+
+    private final LiveStreamingChatQueryService liveStreamingChatQueryService;
+    private final LiveStreamingRecentChatCache liveStreamingRecentChatCache;
+    private final ObjectMapper objectMapper;
+    private final Cache<ResponseKey, byte[]> responses;
+
+    /**
+     * 버전을 쓸 수 없을 때 짧게 공유하는 응답 (unversionedTtl이 0이면 null)
+     */
+    private final Cache<ResponseKey, byte[]> unversionedResponses;
+
+    @Autowired
+    public LiveStreamingChatResponseCache(
+            final LiveStreamingChatQueryService liveStreamingChatQueryService,
+            final LiveStreamingRecentChatCache liveStreamingRecentChatCache,
+            final ObjectMapper objectMapper,
+            final ChatResponseCacheProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this(liveStreamingChatQueryService, liveStreamingRecentChatCache, objectMapper, properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    LiveStreamingChatResponseCache(
+            final LiveStreamingChatQueryService liveStreamingChatQueryService,
+            final LiveStreamingRecentChatCache liveStreamingRecentChatCache,
+            final ObjectMapper objectMapper,
+            final ChatResponseCacheProperties properties,
+            final MeterRegistry meterRegistry,
+            final Ticker ticker
+    ) {
+        this.liveStreamingChatQueryService = liveStreamingChatQueryService;
+        this.liveStreamingRecentChatCache = liveStreamingRecentChatCache;
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumSize().toBytes())
+                .weigher((ResponseKey key, byte[] body) -> body.length)
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.unversionedResponses = properties.getUnversionedTtl().isZero() ? null : Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumSize().toBytes())
+                .weigher((ResponseKey key, byte[] body) -> body.length)
+                .expireAfterWrite(properties.getUnversionedTtl())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "chatResponseBytes");
+        if (unversionedResponses != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, unversionedResponses, "chatResponseBytesUnversioned");
+        }
+    }
+
+    public byte[] getInitialChats(final Long liveStreamingId) {
+        return cached(
+                liveStreamingId,
+                INITIAL_CURSOR,
+                () -> liveStreamingChatQueryService.getInitialChats(liveStreamingId)
+        );
+    }
+
+    public byte[] getNewChats(final Long liveStreamingId, final Long lastChatId) {
+        return cached(
+                liveStreamingId,
+                lastChatId,
+                () -> liveStreamingChatQueryService.getNewChats(liveStreamingId, lastChatId)
+        );
+    }
+
+    public byte[] encode(final ChatsResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("채팅 응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 버전을 응답 생성보다 먼저 읽으므로, 캐시된 응답은 항상 키의 버전 이상으로 최신이다.
+     */
+    private byte[] cached(final Long liveStreamingId, final long cursor, final Supplier<ChatsResponse> loader) {
+        final long version = liveStreamingRecentChatCache.versionOf(liveStreamingId);
+        if (version < 0) {
+            // 버전을 신뢰할 수 없으므로 unversionedTtl 동안만 공유
+            if (unversionedResponses == null) {
+                return encode(loader.get());
+            }
+            return unversionedResponses.get(
+                    new ResponseKey(liveStreamingId, cursor, UNVERSIONED),
+                    key -> encode(loader.get())
+            );
+        }
+
+        return responses.get(
+                new ResponseKey(liveStreamingId, cursor, version),
+                key -> encode(loader.get())
+        );
+    }
+
+    private record ResponseKey(Long liveStreamingId, long cursor, long version) {
+    }
+}
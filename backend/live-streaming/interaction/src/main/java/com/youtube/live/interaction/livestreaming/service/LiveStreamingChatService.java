@@ -1,10 +1,10 @@
 package com.youtube.live.interaction.livestreaming.service;
 
 import com.youtube.live.interaction.livestreaming.domain.*;
+import com.youtube.live.interaction.livestreaming.repository.dto.ChatMessageResponse;
 import com.youtube.live.interaction.livestreaming.service.dto.LiveStreamingChatInfo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 
@@ -13,9 +13,14 @@ import java.time.Instant;
 public class LiveStreamingChatService {
 
     private final LiveStreamingReader liveStreamingReader;
-    private final LiveStreamingChatWriter liveStreamingChatWriter;
+    private final LiveStreamingChatAppender liveStreamingChatAppender;
+    private final LiveStreamingRecentChatCache liveStreamingRecentChatCache;
+    private final LiveStreamingChatLongPollService liveStreamingChatLongPollService;
 
-    @Transactional
+    /**
+     * 트랜잭션 경계는 LiveStreamingChatAppender 구현체가 결정합니다.
+     * (Write-Behind 모드에서는 요청 스레드가 DB 커넥션을 점유하지 않음)
+     */
     public LiveStreamingChatInfo sendMessage(
             final Long liveStreamingId,
             final Long userId,
@@ -26,18 +31,24 @@ public class LiveStreamingChatService {
             final Instant now
     ) {
         final LiveStreamingStatus status = liveStreamingReader.readCachedStatusBy(liveStreamingId);
-        final LiveStreaming liveStreaming = liveStreamingReader.getReferenceBy(liveStreamingId);
 
-        liveStreamingChatWriter.write(
-                liveStreaming,
+        final Long chatId = liveStreamingChatAppender.append(
+                liveStreamingId,
                 status,
                 userId,
                 username,
                 profileImageUrl,
                 message,
-                messageType
+                messageType,
+                now
         );
 
-        return LiveStreamingChatInfo.of(userId, username, profileImageUrl, message, messageType, now);
+        liveStreamingRecentChatCache.append(
+                liveStreamingId,
+                new ChatMessageResponse(chatId, username, message, messageType, profileImageUrl, now)
+        );
+        liveStreamingChatLongPollService.notifyNewChat(liveStreamingId);
+
+        return LiveStreamingChatInfo.of(chatId, userId, username, profileImageUrl, message, messageType, now);
     }
 }
@@ -1,14 +1,20 @@
 package com.youtube.live.interaction.livestreaming.service;
 
 import com.youtube.live.interaction.livestreaming.service.dto.LiveStatsResponse;
+import com.youtube.live.interaction.livestreaming.service.dto.ViewerCountSeriesResponse;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreamingReader;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingStatsHistory;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreamingViewerManager;
 import com.youtube.live.interaction.livestreaming.domain.ReactionReader;
 import com.youtube.live.interaction.livestreaming.domain.ReactionType;
+import com.youtube.live.interaction.livestreaming.domain.ViewerCountAggregator;
+import com.youtube.live.interaction.livestreaming.domain.ViewerCountSample;
 import com.youtube.live.interaction.livestreaming.repository.dto.LiveStreamingMetadataResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class LiveStreamingQueryService {
@@ -16,6 +22,8 @@ public class LiveStreamingQueryService {
     private final LiveStreamingReader liveStreamingReader;
     private final LiveStreamingViewerManager liveStreamingViewerManager;
     private final ReactionReader reactionReader;
+    private final ViewerCountAggregator viewerCountAggregator;
+    private final LiveStreamingStatsHistory liveStreamingStatsHistory;
 
     public LiveStreamingMetadataResponse getMetadata(final Long liveStreamingId) {
         return liveStreamingReader.readMetadataBy(liveStreamingId);
@@ -28,8 +36,14 @@ public class LiveStreamingQueryService {
     ) {
         liveStreamingViewerManager.recordHeartbeat(liveStreamingId, clientId, userId);
 
-        final int viewerCount = liveStreamingViewerManager.getViewerCountExcludingStreamer(liveStreamingId);
+        final int viewerCount = viewerCountAggregator.getHeartbeatViewerCount(liveStreamingId);
         final int likeCount = reactionReader.countBy(liveStreamingId, ReactionType.LIKE);
+        liveStreamingStatsHistory.recordLikeCount(liveStreamingId, likeCount);
         return new LiveStatsResponse(viewerCount, likeCount);
     }
+
+    public ViewerCountSeriesResponse getViewerCountSeries(final Long liveStreamingId) {
+        final List<ViewerCountSample> samples = liveStreamingStatsHistory.getSeries(liveStreamingId);
+        return new ViewerCountSeriesResponse(liveStreamingId, samples);
+    }
 }
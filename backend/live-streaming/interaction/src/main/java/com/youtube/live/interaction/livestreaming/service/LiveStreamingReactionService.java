@@ -1,39 +1,35 @@
 package com.youtube.live.interaction.livestreaming.service;
 
-import com.youtube.core.user.domain.User;
-import com.youtube.core.user.domain.UserReader;
 import com.youtube.live.interaction.livestreaming.domain.*;
 import com.youtube.live.interaction.livestreaming.service.dto.ReactionToggleResult;
 import com.youtube.live.interaction.websocket.event.dto.ReactionEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 트랜잭션은 저장 전략(ReactionToggler)이 결정한다. (Write-Behind 모드는 트랜잭션을 열지 않음)
+ * 좋아요 수가 바뀐 토글(좋아요 생성 / 취소, 좋아요 ↔ 싫어요)마다 이벤트를 발행하고,
+ * 브로드캐스트는 LiveStreamingReactionCountPublisher가 주기적으로 모아서 보낸다.
+ */
 @Service
 @RequiredArgsConstructor
 public class LiveStreamingReactionService {
 
-    private final ReactionWriter reactionWriter;
-    private final LiveStreamingReader liveStreamingReader;
-    private final UserReader userReader;
+    private final ReactionToggler reactionToggler;
     private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
     public ReactionToggleResult toggleReaction(
         final Long liveStreamingId, final Long userId, final ReactionType requestType
     ) {
-        final LiveStreaming liveStreaming = liveStreamingReader.readBy(liveStreamingId);
-        final User user = userReader.readBy(userId);
+        final ReactionTransition transition = reactionToggler.toggle(liveStreamingId, userId, requestType);
+        publishLikeCountEventIfNeeded(liveStreamingId, transition);
 
-        final ReactionType resultType = reactionWriter.processToggle(liveStreaming, user, requestType);
-        publishLikeCountEventIfNeeded(liveStreamingId, resultType);
-
-        return new ReactionToggleResult(resultType);
+        return new ReactionToggleResult(transition.currentType());
     }
 
-    private void publishLikeCountEventIfNeeded(final Long liveStreamingId, final ReactionType resultType) {
-        if (resultType == ReactionType.LIKE) {
+    private void publishLikeCountEventIfNeeded(final Long liveStreamingId, final ReactionTransition transition) {
+        if (transition.changes(ReactionType.LIKE)) {
             eventPublisher.publishEvent(new ReactionEvent(liveStreamingId));
         }
     }
@@ -8,6 +8,8 @@ import com.youtube.live.interaction.livestreaming.service.dto.LiveStreamingCreat
 import com.youtube.live.interaction.livestreaming.service.dto.LiveStreamingCreateResponse;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreaming;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreamingReader;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingRecentChatCache;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingStatsHistory;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreamingStatus;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreamingSubscriberManager;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreamingViewerManager;
@@ -30,6 +32,9 @@ public class LiveStreamingService {
     private final ChannelReader channelReader;
     private final LiveStreamingSubscriberManager liveStreamingSubscriberManager;
     private final LiveStreamingViewerManager liveStreamingViewerManager;
+    private final LiveStreamingRecentChatCache liveStreamingRecentChatCache;
+    private final LiveStreamingStatsHistory liveStreamingStatsHistory;
+    private final LiveStreamingChatLongPollService liveStreamingChatLongPollService;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
@@ -111,9 +116,13 @@ public class LiveStreamingService {
         }
 
         liveStreamingWriter.updateStatus(liveStreaming, LiveStreamingStatus.ENDED);
+        // 시청자 관리자를 정리하기 전에 누적 고유 시청자 수를 읽는다.
+        liveStreamingWriter.writeViewerSummary(liveStreaming, liveStreamingStatsHistory.finish(liveStreamingId));
 
-        liveStreamingSubscriberManager.unregisterStreamer(liveStreamingId);
+        liveStreamingSubscriberManager.endLiveStreaming(liveStreamingId);
         liveStreamingViewerManager.endLiveStreaming(liveStreamingId);
+        liveStreamingRecentChatCache.evict(liveStreamingId);
+        liveStreamingChatLongPollService.releaseAll(liveStreamingId);
 
         eventPublisher.publishEvent(new LiveStreamingStatusChangedEvent(
                 liveStreamingId,
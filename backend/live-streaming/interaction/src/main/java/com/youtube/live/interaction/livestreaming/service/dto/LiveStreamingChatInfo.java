@@ -11,6 +11,7 @@ import java.time.Instant;
 @AllArgsConstructor
 public class LiveStreamingChatInfo {
 
+    private Long chatId;
     private String username;
     private String message;
     private ChatMessageType chatMessageType;
@@ -18,15 +19,17 @@ public class LiveStreamingChatInfo {
     private Instant timestamp;
 
     public static LiveStreamingChatInfo of(
+            final Long chatId,
             final User user,
             final String message,
             final ChatMessageType chatMessageType,
             final Instant timestamp)
     {
-        return new LiveStreamingChatInfo(user.getUsername(), message, chatMessageType, user.getProfileImageUrl(), timestamp);
+        return new LiveStreamingChatInfo(chatId, user.getUsername(), message, chatMessageType, user.getProfileImageUrl(), timestamp);
     }
 
     public static LiveStreamingChatInfo of(
+            final Long chatId,
             final Long userId,
             final String username,
             final String profileImageUrl,
@@ -34,6 +37,6 @@ public class LiveStreamingChatInfo {
             final ChatMessageType chatMessageType,
             final Instant timestamp)
     {
-        return new LiveStreamingChatInfo(username, message, chatMessageType, profileImageUrl, timestamp);
+        return new LiveStreamingChatInfo(chatId, username, message, chatMessageType, profileImageUrl, timestamp);
     }
 }
@@ -0,0 +1,14 @@
+package com.youtube.live.interaction.livestreaming.service.dto;
+
+import com.youtube.live.interaction.livestreaming.domain.ViewerCountSample;
+
+import java.util.List;
+
+/**
+ * @param samples 오래된 순서의 표본 (라이브 스트리밍이 종료되었거나 시청 기록이 없으면 빈 목록)
+ */
+public record ViewerCountSeriesResponse(
+        Long liveStreamingId,
+        List<ViewerCountSample> samples
+) {
+}
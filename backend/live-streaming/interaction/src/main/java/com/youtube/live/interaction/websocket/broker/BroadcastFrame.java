@@ -0,0 +1,140 @@
+package com.youtube.live.interaction.websocket.broker;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 브로드캐스트 한 번의 STOMP MESSAGE 프레임 템플릿
+ *
+ * 구독자마다 다른 것은 subscription 헤더 값뿐이므로, 발행할 때 프레임을 subscription 값 앞(prefix)과 뒤(suffix)로 한 번만 인코딩해 두고
+ * 세션별 인코딩(BroadcastFrameStompEncoder)은 두 조각 사이에 subscription 값만 끼워 넣는다.
+ * message-id도 세션마다 만들지 않고 브로드캐스트당 하나를 쓴다.
+ *
+ * stomp.js 등은 구독 순서대로 sub-0, sub-1 ... 을 쓰므로 같은 목적지의 subscription 값은 대부분 몇 개로 겹친다.
+ * subscription 값별로 완성된 프레임을 캐시해 같은 값을 쓰는 세션은 같은 byte[]를 공유한다. (값 종류가 많으면 캐시하지 않고 조립만 한다)
+ */
+public final class BroadcastFrame {
+
+    /**
+     * 세션별 메시지에 이 프레임을 실어 보내는 헤더 이름 (STOMP native 헤더가 아니므로 클라이언트에는 나가지 않는다)
+     */
+    public static final String HEADER = "broadcastFrame";
+
+    private static final int MAX_CACHED_SUBSCRIPTIONS = 64;
+
+    private final byte[] prefix;
+    private final byte[] suffix;
+    private final ConcurrentHashMap<String, byte[]> subscriptionToFrame = new ConcurrentHashMap<>();
+
+    private BroadcastFrame(final byte[] prefix, final byte[] suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    /**
+     * 본문이 byte[]이고 발행자가 STOMP native 헤더를 따로 지정하지 않은 메시지만 템플릿으로 만든다.
+     * (SimpMessagingTemplate.convertAndSend로 발행한 브로드캐스트)
+     *
+     * @return 템플릿으로 만들 수 없으면 null (세션별로 기존처럼 인코딩한다)
+     */
+    public static BroadcastFrame of(final String destination, final Message<?> message, final String messageId) {
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            return null;
+        }
+        final MessageHeaders headers = message.getHeaders();
+        if (headers.get(SimpMessageHeaderAccessor.NATIVE_HEADERS) != null) {
+            return null;
+        }
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(128);
+        writeAscii(output, "MESSAGE\n");
+        writeHeader(output, "destination", destination);
+        final MimeType contentType = contentTypeOf(headers);
+        if (contentType != null) {
+            writeHeader(output, "content-type", contentType.toString());
+        }
+        writeHeader(output, "message-id", messageId);
+        writeAscii(output, "subscription:");
+        final byte[] prefix = output.toByteArray();
+
+        output.reset();
+        writeAscii(output, "\ncontent-length:" + payload.length + "\n\n");
+        output.writeBytes(payload);
+        output.write(0);
+        return new BroadcastFrame(prefix, output.toByteArray());
+    }
+
+    /**
+     * MessageHeaderAccessor#getContentType과 같이 MimeType / 문자열 값을 모두 받는다.
+     */
+    private static MimeType contentTypeOf(final MessageHeaders headers) {
+        final Object value = headers.get(MessageHeaders.CONTENT_TYPE);
+        if (value instanceof MimeType mimeType) {
+            return mimeType;
+        }
+        return value == null ? null : MimeTypeUtils.parseMimeType(value.toString());
+    }
+
+    /**
+     * @return subscription 값을 채운 프레임 (같은 값이면 같은 byte[]를 돌려주므로 호출자는 수정하면 안 된다)
+     */
+    public byte[] encodeFor(final String subscriptionId) {
+        final byte[] cached = subscriptionToFrame.get(subscriptionId);
+        if (cached != null) {
+            return cached;
+        }
+        final byte[] frame = assemble(subscriptionId);
+        if (subscriptionToFrame.size() < MAX_CACHED_SUBSCRIPTIONS) {
+            subscriptionToFrame.putIfAbsent(subscriptionId, frame);
+        }
+        return frame;
+    }
+
+    private byte[] assemble(final String subscriptionId) {
+        final byte[] subscription = escape(subscriptionId).getBytes(StandardCharsets.UTF_8);
+        final byte[] frame = Arrays.copyOf(prefix, prefix.length + subscription.length + suffix.length);
+        System.arraycopy(subscription, 0, frame, prefix.length, subscription.length);
+        System.arraycopy(suffix, 0, frame, prefix.length + subscription.length, suffix.length);
+        return frame;
+    }
+
+    private static void writeHeader(final ByteArrayOutputStream output, final String name, final String value) {
+        output.writeBytes(name.getBytes(StandardCharsets.UTF_8));
+        output.write(':');
+        output.writeBytes(escape(value).getBytes(StandardCharsets.UTF_8));
+        output.write('\n');
+    }
+
+    private static void writeAscii(final ByteArrayOutputStream output, final String value) {
+        output.writeBytes(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * StompEncoder와 같은 헤더 값 escape (STOMP 1.2)
+     */
+    private static String escape(final String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf(':') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        final StringBuilder builder = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> builder.append("\\\\");
+                case ':' -> builder.append("\\c");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                default -> builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
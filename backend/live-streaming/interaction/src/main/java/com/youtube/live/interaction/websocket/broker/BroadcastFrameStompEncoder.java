@@ -0,0 +1,25 @@
+package com.youtube.live.interaction.websocket.broker;
+
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+
+import java.util.Map;
+
+/**
+ * BroadcastFrame이 실린 메시지는 템플릿에 subscription 값만 채워 보내고, 나머지는 StompEncoder로 인코딩한다.
+ *
+ * StompSubProtocolHandler가 세션마다 헤더 + 본문을 새 byte[]로 다시 인코딩하던 비용을 브로드캐스트당 한 번으로 줄인다.
+ * 같은 subscription 값을 쓰는 세션은 같은 byte[]를 받는다.
+ * (텍스트 WebSocket 전송은 TextMessage가 세션마다 String으로 바꾸므로 그 복사는 남는다. 바이너리 / 프레임 공유는 전송 계층이 허용하지 않는다)
+ */
+public class BroadcastFrameStompEncoder extends StompEncoder {
+
+    @Override
+    public byte[] encode(final Map<String, Object> headers, final byte[] payload) {
+        if (headers.get(BroadcastFrame.HEADER) instanceof BroadcastFrame frame
+                && headers.get(SimpMessageHeaderAccessor.SUBSCRIPTION_ID_HEADER) instanceof String subscriptionId) {
+            return frame.encodeFor(subscriptionId);
+        }
+        return super.encode(headers, payload);
+    }
+}
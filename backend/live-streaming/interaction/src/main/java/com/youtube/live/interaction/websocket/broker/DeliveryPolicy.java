@@ -0,0 +1,17 @@
+package com.youtube.live.interaction.websocket.broker;
+
+/**
+ * 느린 세션에 메시지가 밀렸을 때 목적지별로 무엇을 남길지
+ */
+public enum DeliveryPolicy {
+
+    /**
+     * 구독마다 마지막 값 하나만 남긴다. (시청자 수 / 좋아요 수처럼 최신 상태만 의미 있는 목적지)
+     */
+    CONFLATE,
+
+    /**
+     * 세션 큐가 가득 차면 가장 오래된 메시지를 버리고, 그 구독의 다음 메시지에 버린 개수를 붙인다. (채팅처럼 이벤트인 목적지)
+     */
+    DROP_OLDEST
+}
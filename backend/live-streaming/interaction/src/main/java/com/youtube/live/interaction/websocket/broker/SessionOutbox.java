@@ -0,0 +1,189 @@
+package com.youtube.live.interaction.websocket.broker;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세션 하나의 /topic 전송 큐
+ *
+ * 전송 채널에는 한 번에 하나의 메시지만 넘기고, 그 메시지의 처리(소켓 쓰기)가 끝나면 다음 메시지를 넘긴다.
+ * 그동안 도착한 메시지는 목적지의 DeliveryPolicy에 따라 남긴다.
+ * - CONFLATE: 구독마다 마지막 메시지 하나 (밀린 동안의 중간 값은 버린다)
+ * - DROP_OLDEST: 최대 maxQueuedMessages개, 넘치면 가장 오래된 것을 버리고
+ *   그 구독의 다음 메시지에 버린 개수를 dropped-messages 헤더로 붙인다. (클라이언트가 빈 구간을 알 수 있도록)
+ *
+ * 그래서 느린 클라이언트가 있어도 세션별로 쌓이는 메시지 수에 상한이 있고, 상태 값은 항상 최신 값이 먼저 나간다.
+ * (Spring의 setPreservePublishOrder는 세션별 큐에 상한이 없다)
+ *
+ * 여러 샤드 스레드가 넣고 전송 스레드가 꺼내므로 상태는 this로 동기화한다. 전송은 락 밖에서 한다.
+ */
+@Slf4j
+final class SessionOutbox {
+
+    /**
+     * 전송 완료 콜백을 위해 메시지에 이 큐를 실어 보내는 헤더 이름
+     */
+    static final String HEADER = "sessionOutbox";
+
+    /**
+     * 직전까지 버린 메시지 수를 알리는 STOMP 헤더
+     */
+    static final String DROPPED_MESSAGES_HEADER = "dropped-messages";
+
+    private final MessageChannel channel;
+    private final boolean awaitsHandled;
+    private final int maxQueuedMessages;
+    private final Counter conflatedCounter;
+    private final Counter droppedCounter;
+
+    /**
+     * subscriptionId → 마지막 상태 메시지
+     */
+    private final LinkedHashMap<String, Message<?>> latestStates = new LinkedHashMap<>();
+    private final ArrayDeque<Message<?>> events = new ArrayDeque<>();
+
+    /**
+     * subscriptionId → 아직 알리지 않은 버린 메시지 수
+     */
+    private final Map<String, Integer> droppedBySubscription = new HashMap<>();
+
+    private boolean sending;
+    private boolean closed;
+
+    /**
+     * @param awaitsHandled true면 HEADER가 붙은 메시지의 처리 완료(onHandled)를 기다렸다가 다음 메시지를 보낸다.
+     *                      false면 send가 돌아오는 것을 완료로 본다. (동기 채널)
+     */
+    SessionOutbox(
+            final MessageChannel channel,
+            final boolean awaitsHandled,
+            final int maxQueuedMessages,
+            final Counter conflatedCounter,
+            final Counter droppedCounter
+    ) {
+        this.channel = channel;
+        this.awaitsHandled = awaitsHandled;
+        this.maxQueuedMessages = maxQueuedMessages;
+        this.conflatedCounter = conflatedCounter;
+        this.droppedCounter = droppedCounter;
+    }
+
+    void offer(final Message<?> message, final String subscriptionId, final DeliveryPolicy policy) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (policy == DeliveryPolicy.CONFLATE) {
+                if (latestStates.put(subscriptionId, message) != null) {
+                    conflatedCounter.increment();
+                }
+            } else {
+                if (events.size() >= maxQueuedMessages) {
+                    final Message<?> oldest = events.poll();
+                    droppedBySubscription.merge(SimpMessageHeaderAccessor.getSubscriptionId(oldest.getHeaders()), 1, Integer::sum);
+                    droppedCounter.increment();
+                }
+                events.add(message);
+            }
+            if (sending) {
+                return;
+            }
+            sending = true;
+        }
+        drain();
+    }
+
+    /**
+     * 전송 채널이 이 큐의 메시지 처리를 끝냈을 때 호출된다.
+     */
+    void onHandled() {
+        drain();
+    }
+
+    /**
+     * 세션이 끊기면 남은 메시지를 버린다.
+     */
+    synchronized void close() {
+        closed = true;
+        latestStates.clear();
+        events.clear();
+        droppedBySubscription.clear();
+    }
+
+    synchronized int size() {
+        return latestStates.size() + events.size();
+    }
+
+    private void drain() {
+        while (true) {
+            final Message<?> next;
+            synchronized (this) {
+                next = closed ? null : poll();
+                if (next == null) {
+                    sending = false;
+                    return;
+                }
+            }
+            if (send(next) && awaitsHandled) {
+                return;
+            }
+        }
+    }
+
+    private Message<?> poll() {
+        if (!latestStates.isEmpty()) {
+            final Iterator<Message<?>> iterator = latestStates.values().iterator();
+            final Message<?> state = iterator.next();
+            iterator.remove();
+            return state;
+        }
+        final Message<?> event = events.poll();
+        if (event == null) {
+            return null;
+        }
+        final Integer dropped = droppedBySubscription.remove(SimpMessageHeaderAccessor.getSubscriptionId(event.getHeaders()));
+        return dropped == null ? event : withDroppedMessages(event, dropped);
+    }
+
+    private boolean send(final Message<?> message) {
+        try {
+            return channel.send(message);
+        } catch (Exception e) {
+            log.warn("브로커 메시지 전달 실패 - sessionId: {}, destination: {}, error: {}",
+                    SimpMessageHeaderAccessor.getSessionId(message.getHeaders()),
+                    SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 헤더가 달라지므로 공유 프레임(BroadcastFrame)은 떼고, native 헤더는 다른 세션과 공유하지 않도록 복사해서 붙인다.
+     */
+    @SuppressWarnings("unchecked")
+    private static Message<?> withDroppedMessages(final Message<?> message, final int dropped) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.copyHeaders(message.getHeaders());
+        accessor.removeHeader(BroadcastFrame.HEADER);
+        final Map<String, List<String>> nativeHeaders =
+                (Map<String, List<String>>) message.getHeaders().get(SimpMessageHeaderAccessor.NATIVE_HEADERS);
+        accessor.setHeader(SimpMessageHeaderAccessor.NATIVE_HEADERS,
+                nativeHeaders == null ? new LinkedMultiValueMap<>() : new LinkedMultiValueMap<>(nativeHeaders));
+        accessor.setNativeHeader(DROPPED_MESSAGES_HEADER, String.valueOf(dropped));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+}
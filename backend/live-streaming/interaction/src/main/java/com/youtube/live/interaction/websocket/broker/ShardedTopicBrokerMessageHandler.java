@@ -0,0 +1,452 @@
+package com.youtube.live.interaction.websocket.broker;
+
+import com.youtube.live.interaction.config.OutboundDeliveryProperties;
+import com.youtube.live.interaction.config.WebSocketConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * /topic 구독 전용 브로커
+ *
+ * SimpleBroker(DefaultSubscriptionRegistry)는 메시지마다 목적지 패턴 매칭 결과를 찾고 구독 세션을 모아 MultiValueMap을 만든 뒤,
+ * 발행한 스레드(브로커 채널)에서 전달까지 끝낸다. 채팅 / 시청자 수 / 좋아요 수가 모두 이 경로를 탄다.
+ *
+ * 이 브로커는
+ * - 목적지 문자열 그대로를 키로 (세션, 구독 id) 배열을 미리 만들어 두고, 발행 시 배열을 순회하기만 한다. (패턴 매칭 없음)
+ * - /topic/livestreams/{id}/... 목적지를 라이브 스트리밍 id로 샤드에 나누고, 샤드마다 전용 스레드 하나가
+ *   구독 / 구독 해제 / 전달을 순서대로 처리한다. 샤드 상태는 그 스레드만 만지므로 락이 없고,
+ *   같은 라이브 스트리밍의 구독과 메시지는 같은 큐를 지나므로 순서가 유지된다.
+ * - 발행 스레드는 샤드 큐에 넣고 바로 돌아온다. (스케줄러 / 요청 스레드가 전달을 기다리지 않는다)
+ * - 샤드 큐에 쌓인 작업이 maxPendingBroadcasts 이상이면 새 브로드캐스트는 넣지 않고 버린다. (livestreaming.broker.dropped)
+ *   구독 / 구독 해제 / 연결 종료는 버리면 구독 상태가 어긋나므로 상한과 관계없이 넣는다. (세션 수만큼만 생긴다)
+ *   livestreaming.broker.pending이 계속 상한 근처에 있으면 샤드 스레드가 발행 속도를 따라가지 못하는 것이다.
+ *
+ * 전달할 때 STOMP 프레임은 브로드캐스트당 한 번만 만들고(BroadcastFrame) 세션별 메시지에 실어 보낸다.
+ * BroadcastFrameStompEncoder가 subscription 헤더 값만 채워 전송하므로 세션마다 헤더 + 본문을 다시 인코딩하지 않는다.
+ *
+ * 세션별 메시지는 SessionOutbox를 거쳐 전송 채널로 나간다. 세션마다 전송 중인 메시지는 하나이고,
+ * 느린 세션에 밀린 메시지는 목적지의 DeliveryPolicy(OutboundDeliveryProperties)에 따라 최신 값만 남기거나 오래된 것부터 버린다.
+ *
+ * STOMP 호환: 클라이언트가 받는 MESSAGE 프레임(destination, subscription, payload, 헤더)은 SimpleBroker와 같다.
+ * 와일드카드 목적지 구독과 selector 헤더는 지원하지 않는다. (이 서비스의 클라이언트는 정확한 목적지만 구독한다)
+ * CONNECT / heartbeat / /queue 목적지는 계속 SimpleBroker가 처리한다.
+ */
+@Slf4j
+public class ShardedTopicBrokerMessageHandler extends AbstractBrokerMessageHandler {
+
+    private static final String LIVESTREAMS_TOPIC_PREFIX = WebSocketConfig.Destinations.TOPIC_PREFIX + "/livestreams/";
+
+    private final Shard[] shards;
+    private final int maxPendingBroadcasts;
+    private final AtomicLong broadcastSequence = new AtomicLong();
+    private final OutboundDeliveryProperties outboundDeliveryProperties;
+
+    /**
+     * 전송 채널이 스레드 풀로 처리하면 처리 완료 콜백(OutboxCallbackInterceptor)을 받아 다음 메시지를 보낸다.
+     */
+    private final boolean awaitsHandled;
+    private final ConcurrentHashMap<String, SessionOutbox> sessionOutboxes = new ConcurrentHashMap<>();
+    private final Counter conflatedCounter;
+    private final Counter droppedCounter;
+    private final Counter rejectedBroadcastCounter;
+
+    /**
+     * sessionId → (subscriptionId → 샤드 번호)
+     * UNSUBSCRIBE 프레임에는 목적지가 없으므로 구독이 어느 샤드에 있는지 여기서 찾는다.
+     */
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Integer>> sessionToSubscriptionShards = new ConcurrentHashMap<>();
+
+    public ShardedTopicBrokerMessageHandler(
+            final SubscribableChannel clientInboundChannel,
+            final MessageChannel clientOutboundChannel,
+            final SubscribableChannel brokerChannel,
+            final int shardCount,
+            final int maxPendingBroadcasts,
+            final OutboundDeliveryProperties outboundDeliveryProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        super(clientInboundChannel, clientOutboundChannel, brokerChannel, List.of(WebSocketConfig.Destinations.TOPIC_PREFIX));
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount는 1 이상이어야 합니다: " + shardCount);
+        }
+        if (maxPendingBroadcasts <= 0) {
+            throw new IllegalArgumentException("maxPendingBroadcasts는 1 이상이어야 합니다: " + maxPendingBroadcasts);
+        }
+        this.maxPendingBroadcasts = maxPendingBroadcasts;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+        }
+        this.outboundDeliveryProperties = outboundDeliveryProperties;
+        this.awaitsHandled = clientOutboundChannel instanceof ExecutorSubscribableChannel channel && channel.getExecutor() != null;
+        if (awaitsHandled) {
+            ((ExecutorSubscribableChannel) clientOutboundChannel).addInterceptor(new OutboxCallbackInterceptor());
+        }
+
+        Gauge.builder("livestreaming.broker.subscriptions", shards, ShardedTopicBrokerMessageHandler::countSubscriptions)
+                .description("샤드 브로커의 /topic 구독 수")
+                .register(meterRegistry);
+        Gauge.builder("livestreaming.broker.pending", shards, ShardedTopicBrokerMessageHandler::countPendingTasks)
+                .description("샤드 큐에서 처리를 기다리는 구독 / 전달 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("livestreaming.broker.outbound.queued", sessionOutboxes, ShardedTopicBrokerMessageHandler::countQueuedMessages)
+                .description("세션 큐에서 전송을 기다리는 메시지 수")
+                .register(meterRegistry);
+        this.conflatedCounter = Counter.builder("livestreaming.broker.outbound.conflated")
+                .description("느린 세션에서 최신 값으로 대체된 상태 메시지 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("livestreaming.broker.outbound.dropped")
+                .description("느린 세션의 큐가 넘쳐 버린 메시지 수")
+                .register(meterRegistry);
+        this.rejectedBroadcastCounter = Counter.builder("livestreaming.broker.dropped")
+                .description("샤드 큐가 maxPendingBroadcasts에 닿아 버린 브로드캐스트 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void startInternal() {
+        publishBrokerAvailableEvent();
+    }
+
+    @Override
+    protected void stopInternal() {
+        for (final Shard shard : shards) {
+            shard.executor.shutdown();
+        }
+        for (final Shard shard : shards) {
+            try {
+                if (!shard.executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    shard.executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                shard.executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    protected void handleMessageInternal(final Message<?> message) {
+        final MessageHeaders headers = message.getHeaders();
+        final SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+        final String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+
+        if (SimpMessageType.DISCONNECT.equals(messageType)) {
+            removeSession(sessionId);
+            return;
+        }
+        if (SimpMessageType.UNSUBSCRIBE.equals(messageType)) {
+            unsubscribe(sessionId, SimpMessageHeaderAccessor.getSubscriptionId(headers));
+            return;
+        }
+
+        final String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !checkDestinationPrefix(destination)) {
+            return;
+        }
+        if (SimpMessageType.MESSAGE.equals(messageType)) {
+            final Shard shard = shardOf(destination);
+            shard.executeBroadcast(() -> shard.fanOut(destination, message));
+        } else if (SimpMessageType.SUBSCRIBE.equals(messageType)) {
+            subscribe(sessionId, SimpMessageHeaderAccessor.getSubscriptionId(headers), destination);
+        }
+    }
+
+    private void subscribe(final String sessionId, final String subscriptionId, final String destination) {
+        if (sessionId == null || subscriptionId == null) {
+            log.warn("세션 / 구독 id가 없는 구독 요청 - destination: {}", destination);
+            return;
+        }
+        final Shard shard = shardOf(destination);
+        sessionToSubscriptionShards.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, shard.index);
+        sessionOutboxes.computeIfAbsent(sessionId, id -> new SessionOutbox(
+                getClientOutboundChannel(),
+                awaitsHandled,
+                outboundDeliveryProperties.getMaxQueuedMessages(),
+                conflatedCounter,
+                droppedCounter
+        ));
+        shard.execute(() -> shard.subscribe(destination, sessionId, subscriptionId));
+    }
+
+    private void unsubscribe(final String sessionId, final String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        final Map<String, Integer> subscriptionShards = sessionToSubscriptionShards.get(sessionId);
+        if (subscriptionShards == null) {
+            return;
+        }
+        final Integer shardIndex = subscriptionShards.remove(subscriptionId);
+        if (shardIndex == null) {
+            return;
+        }
+        final Shard shard = shards[shardIndex];
+        shard.execute(() -> shard.unsubscribe(sessionId, subscriptionId));
+    }
+
+    private void removeSession(final String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        final SessionOutbox outbox = sessionOutboxes.remove(sessionId);
+        if (outbox != null) {
+            outbox.close();
+        }
+        final Map<String, Integer> subscriptionShards = sessionToSubscriptionShards.remove(sessionId);
+        if (subscriptionShards == null) {
+            return;
+        }
+        for (final Integer shardIndex : new HashSet<>(subscriptionShards.values())) {
+            final Shard shard = shards[shardIndex];
+            shard.execute(() -> shard.removeSession(sessionId));
+        }
+    }
+
+    /**
+     * /topic/livestreams/{id}/... 는 라이브 스트리밍 id로, 나머지 /topic 목적지는 목적지 해시로 샤드를 고른다.
+     */
+    private Shard shardOf(final String destination) {
+        if (destination.startsWith(LIVESTREAMS_TOPIC_PREFIX)) {
+            final int idEnd = destination.indexOf('/', LIVESTREAMS_TOPIC_PREFIX.length());
+            final String id = destination.substring(LIVESTREAMS_TOPIC_PREFIX.length(), idEnd < 0 ? destination.length() : idEnd);
+            try {
+                return shards[(int) Math.floorMod(Long.parseLong(id), (long) shards.length)];
+            } catch (NumberFormatException e) {
+                return shards[Math.floorMod(id.hashCode(), shards.length)];
+            }
+        }
+        return shards[Math.floorMod(destination.hashCode(), shards.length)];
+    }
+
+    private static double countSubscriptions(final Shard[] shards) {
+        return Arrays.stream(shards).mapToInt(shard -> shard.subscriptionCount).sum();
+    }
+
+    private static double countPendingTasks(final Shard[] shards) {
+        return Arrays.stream(shards).mapToInt(shard -> shard.executor.getQueue().size()).sum();
+    }
+
+    private static double countQueuedMessages(final Map<String, SessionOutbox> sessionOutboxes) {
+        return sessionOutboxes.values().stream().mapToInt(SessionOutbox::size).sum();
+    }
+
+    /**
+     * 전송 채널이 세션 큐의 메시지를 처리하고 나면(성공 / 실패 모두) 그 세션 큐의 다음 메시지를 보낸다.
+     */
+    private static final class OutboxCallbackInterceptor implements ExecutorChannelInterceptor {
+
+        @Override
+        public void afterMessageHandled(
+                final Message<?> message,
+                final MessageChannel channel,
+                final MessageHandler handler,
+                final Exception ex
+        ) {
+            if (message.getHeaders().get(SessionOutbox.HEADER) instanceof SessionOutbox outbox) {
+                outbox.onHandled();
+            }
+        }
+    }
+
+    /**
+     * 목적지 하나의 구독자 배열
+     * 구독 해제는 마지막 원소를 빈자리로 옮겨 O(1)로 처리한다. (순서는 보장하지 않는다)
+     */
+    private static final class Subscribers {
+
+        private String[] sessionIds = new String[4];
+        private String[] subscriptionIds = new String[4];
+        private int size;
+
+        /**
+         * "sessionId subscriptionId" → 배열 위치
+         */
+        private final Map<String, Integer> positions = new HashMap<>();
+
+        private boolean add(final String sessionId, final String subscriptionId) {
+            final String key = keyOf(sessionId, subscriptionId);
+            if (positions.containsKey(key)) {
+                return false;
+            }
+            if (size == sessionIds.length) {
+                sessionIds = Arrays.copyOf(sessionIds, size * 2);
+                subscriptionIds = Arrays.copyOf(subscriptionIds, size * 2);
+            }
+            sessionIds[size] = sessionId;
+            subscriptionIds[size] = subscriptionId;
+            positions.put(key, size);
+            size++;
+            return true;
+        }
+
+        private boolean remove(final String sessionId, final String subscriptionId) {
+            final Integer position = positions.remove(keyOf(sessionId, subscriptionId));
+            if (position == null) {
+                return false;
+            }
+            final int last = --size;
+            if (position != last) {
+                sessionIds[position] = sessionIds[last];
+                subscriptionIds[position] = subscriptionIds[last];
+                positions.put(keyOf(sessionIds[position], subscriptionIds[position]), position);
+            }
+            sessionIds[last] = null;
+            subscriptionIds[last] = null;
+            return true;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private static String keyOf(final String sessionId, final String subscriptionId) {
+            return sessionId + ' ' + subscriptionId;
+        }
+    }
+
+    /**
+     * 전용 스레드 하나가 아래 상태를 모두 소유한다.
+     */
+    private final class Shard {
+
+        private final int index;
+        private final ThreadPoolExecutor executor;
+        private final Map<String, Subscribers> destinationToSubscribers = new HashMap<>();
+
+        /**
+         * sessionId → (subscriptionId → 목적지)
+         */
+        private final Map<String, Map<String, String>> sessionToDestinations = new HashMap<>();
+
+        private volatile int subscriptionCount;
+
+        private Shard(final int index) {
+            this.index = index;
+            this.executor = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(),
+                    new CustomizableThreadFactory("topic-broker-" + index + "-")
+            );
+        }
+
+        private void execute(final Runnable task) {
+            try {
+                executor.execute(task);
+            } catch (Exception e) {
+                log.warn("브로커 샤드 작업 추가 실패 - shard: {}, error: {}", index, e.getMessage());
+            }
+        }
+
+        /**
+         * 큐가 maxPendingBroadcasts 이상 쌓여 있으면 버린다. (상한은 구독 작업까지 센 근사치)
+         */
+        private void executeBroadcast(final Runnable task) {
+            if (executor.getQueue().size() >= maxPendingBroadcasts) {
+                rejectedBroadcastCounter.increment();
+                return;
+            }
+            execute(task);
+        }
+
+        private void subscribe(final String destination, final String sessionId, final String subscriptionId) {
+            final Map<String, String> subscriptions = sessionToDestinations.computeIfAbsent(sessionId, id -> new HashMap<>());
+            final String previousDestination = subscriptions.put(subscriptionId, destination);
+            if (previousDestination != null) {
+                removeFrom(previousDestination, sessionId, subscriptionId);
+            }
+            if (destinationToSubscribers.computeIfAbsent(destination, d -> new Subscribers()).add(sessionId, subscriptionId)) {
+                subscriptionCount++;
+            }
+        }
+
+        private void unsubscribe(final String sessionId, final String subscriptionId) {
+            final Map<String, String> subscriptions = sessionToDestinations.get(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            final String destination = subscriptions.remove(subscriptionId);
+            if (subscriptions.isEmpty()) {
+                sessionToDestinations.remove(sessionId);
+            }
+            if (destination != null) {
+                removeFrom(destination, sessionId, subscriptionId);
+            }
+        }
+
+        private void removeSession(final String sessionId) {
+            final Map<String, String> subscriptions = sessionToDestinations.remove(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            subscriptions.forEach((subscriptionId, destination) -> removeFrom(destination, sessionId, subscriptionId));
+        }
+
+        private void removeFrom(final String destination, final String sessionId, final String subscriptionId) {
+            final Subscribers subscribers = destinationToSubscribers.get(destination);
+            if (subscribers == null || !subscribers.remove(sessionId, subscriptionId)) {
+                return;
+            }
+            subscriptionCount--;
+            if (subscribers.isEmpty()) {
+                destinationToSubscribers.remove(destination);
+            }
+        }
+
+        private void fanOut(final String destination, final Message<?> message) {
+            final Subscribers subscribers = destinationToSubscribers.get(destination);
+            if (subscribers == null) {
+                return;
+            }
+            final Object payload = message.getPayload();
+            final DeliveryPolicy policy = outboundDeliveryProperties.policyOf(destination);
+            final BroadcastFrame frame = BroadcastFrame.of(destination, message, "broadcast-" + broadcastSequence.incrementAndGet());
+            for (int i = 0; i < subscribers.size; i++) {
+                final String sessionId = subscribers.sessionIds[i];
+                final String subscriptionId = subscribers.subscriptionIds[i];
+                final SessionOutbox outbox = sessionOutboxes.get(sessionId);
+                if (outbox == null) {
+                    continue;
+                }
+                final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+                accessor.setSessionId(sessionId);
+                accessor.setSubscriptionId(subscriptionId);
+                if (frame != null) {
+                    accessor.setHeader(BroadcastFrame.HEADER, frame);
+                }
+                if (awaitsHandled) {
+                    accessor.setHeader(SessionOutbox.HEADER, outbox);
+                }
+                accessor.copyHeadersIfAbsent(message.getHeaders());
+                accessor.setLeaveMutable(true);
+                outbox.offer(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()), subscriptionId, policy);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.youtube.live.interaction.websocket.event;
+
+import com.youtube.live.interaction.config.SchedulingConfig;
+import com.youtube.live.interaction.config.WebSocketConfig;
+import com.youtube.live.interaction.livestreaming.domain.BurstEmoji;
+import com.youtube.live.interaction.livestreaming.domain.BurstReactionAccumulator;
+import com.youtube.live.interaction.websocket.event.dto.BurstReactionBroadcastResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 라이브 스트리밍 버스트 반응 발행
+ * <p>
+ * 탭마다 발행하지 않고 tickInterval마다 탭이 있었던 라이브 스트리밍별로 종류별 합계를 한 번만 브로드캐스트
+ * (클라이언트는 합계만큼 애니메이션을 재생한다)
+ */
+@Component
+@Slf4j
+public class LiveStreamingBurstReactionPublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BurstReactionAccumulator burstReactionAccumulator;
+
+    private final Counter broadcastCounter;
+
+    public LiveStreamingBurstReactionPublisher(
+            final SimpMessagingTemplate messagingTemplate,
+            final BurstReactionAccumulator burstReactionAccumulator,
+            final MeterRegistry meterRegistry
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.burstReactionAccumulator = burstReactionAccumulator;
+
+        this.broadcastCounter = Counter.builder("livestreaming.reaction.burst.broadcasts")
+                .description("버스트 반응 브로드캐스트 수 (taps 대비 비율이 병합 효과)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedRateString = "${livestreaming.reaction.burst.tick-interval:200ms}", scheduler = SchedulingConfig.BROADCAST_TASK_SCHEDULER)
+    public void publishBursts() {
+        burstReactionAccumulator.tick().forEach(this::publishBurst);
+    }
+
+    private void publishBurst(final Long liveStreamingId, final Map<BurstEmoji, Long> counts) {
+        try {
+            messagingTemplate.convertAndSend(
+                    WebSocketConfig.Destinations.getLivestreamBurstsTopic(liveStreamingId),
+                    new BurstReactionBroadcastResponse(counts)
+            );
+            broadcastCounter.increment();
+        } catch (Exception e) {
+            log.warn("버스트 반응 브로드캐스트 실패 - liveStreamingId: {}, error: {}",
+                    liveStreamingId, e.getMessage(), e);
+        }
+    }
+}
@@ -1,41 +1,98 @@
 package com.youtube.live.interaction.websocket.event;
 
+import com.youtube.live.interaction.config.SchedulingConfig;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingStatsHistory;
 import com.youtube.live.interaction.livestreaming.domain.ReactionReader;
 import com.youtube.live.interaction.livestreaming.domain.ReactionType;
 import com.youtube.live.interaction.websocket.event.dto.LikeCountBroadcastResponse;
 import com.youtube.live.interaction.websocket.event.dto.ReactionEvent;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * 라이브 스트리밍 좋아요 카운트 발행
  * <p>
- * 좋아요 이벤트를 리스닝하고, 좋아요 카운트를 WebSocket으로 브로드캐스트
+ * 좋아요 이벤트는 라이브 스트리밍을 dirty로 표시만 하고, interval마다 dirty인 라이브 스트리밍별로 좋아요 수를 한 번만 브로드캐스트
+ * (좋아요 연타가 몰려도 라이브 스트리밍당 발행 횟수는 interval당 한 번으로 제한됨)
+ * <p>
+ * Write-Behind 모드의 토글처럼 트랜잭션 밖에서 발행된 이벤트도 처리
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class LiveStreamingReactionCountPublisher {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ReactionReader reactionReader;
+    private final LiveStreamingStatsHistory liveStreamingStatsHistory;
+
+    private final Set<Long> dirtyLiveStreamingIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter eventCounter;
+    private final Counter broadcastCounter;
+
+    public LiveStreamingReactionCountPublisher(
+            final SimpMessagingTemplate messagingTemplate,
+            final ReactionReader reactionReader,
+            final LiveStreamingStatsHistory liveStreamingStatsHistory,
+            final MeterRegistry meterRegistry
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.reactionReader = reactionReader;
+        this.liveStreamingStatsHistory = liveStreamingStatsHistory;
+
+        Gauge.builder("livestreaming.reaction.like-count.dirty", dirtyLiveStreamingIds, Set::size)
+                .description("좋아요 수 발행을 기다리는 라이브 스트리밍 수")
+                .register(meterRegistry);
+        this.eventCounter = Counter.builder("livestreaming.reaction.like-count.events")
+                .description("좋아요 수가 바뀐 토글 수")
+                .register(meterRegistry);
+        this.broadcastCounter = Counter.builder("livestreaming.reaction.like-count.broadcasts")
+                .description("좋아요 수 브로드캐스트 수 (events 대비 비율이 병합 효과)")
+                .register(meterRegistry);
+    }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void onReactionEvent(final ReactionEvent event) {
+        dirtyLiveStreamingIds.add(event.liveStreamingId());
+        eventCounter.increment();
+    }
+
+    /**
+     * dirty 표시를 먼저 지우고 좋아요 수를 읽으므로, 읽는 도중 들어온 토글은 다음 주기에 다시 발행된다.
+     */
+    @Scheduled(fixedRateString = "${livestreaming.reaction.broadcast.interval:500ms}", scheduler = SchedulingConfig.BROADCAST_TASK_SCHEDULER)
+    public void publishLikeCounts() {
+        final Iterator<Long> iterator = dirtyLiveStreamingIds.iterator();
+        while (iterator.hasNext()) {
+            final Long liveStreamingId = iterator.next();
+            iterator.remove();
+            publishLikeCount(liveStreamingId);
+        }
+    }
+
+    private void publishLikeCount(final Long liveStreamingId) {
         try {
+            final int likeCount = reactionReader.countBy(liveStreamingId, ReactionType.LIKE);
+            liveStreamingStatsHistory.recordLikeCount(liveStreamingId, likeCount);
             messagingTemplate.convertAndSend(
-                    "/topic/livestreams/" + event.liveStreamingId() + "/like-count",
-                    new LikeCountBroadcastResponse(reactionReader.countBy(event.liveStreamingId(), ReactionType.LIKE))
+                    "/topic/livestreams/" + liveStreamingId + "/like-count",
+                    new LikeCountBroadcastResponse(likeCount)
             );
+            broadcastCounter.increment();
         } catch (Exception e) {
             log.warn("좋아요 카운트 브로드캐스트 실패 - liveStreamingId: {}, error: {}",
-                    event.liveStreamingId(), e.getMessage(), e);
+                    liveStreamingId, e.getMessage(), e);
         }
     }
 }
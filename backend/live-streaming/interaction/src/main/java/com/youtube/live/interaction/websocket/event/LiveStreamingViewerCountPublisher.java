@@ -1,9 +1,16 @@
 package com.youtube.live.interaction.websocket.event;
 
+import com.youtube.live.interaction.config.SchedulingConfig;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreamingSubscriberManager;
-import lombok.RequiredArgsConstructor;
+import com.youtube.live.interaction.livestreaming.domain.ViewerCountAggregator;
+import com.youtube.live.interaction.livestreaming.domain.ViewerCountBroadcastThrottle;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
@@ -12,18 +19,42 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
+import java.util.Set;
+import java.util.regex.Pattern;
+
 /**
  * 라이브 스트리밍 시청자 수 발행
  *
  * WebSocket 세션의 구독/연결해제 이벤트를 리스닝하고, 시청자 수를 주기적으로 발행
+ *
+ * 주기 발행은 값이 바뀔 때만 나가므로(ViewerCountBroadcastThrottle), 새로 구독한 세션에는
+ * 구독 시점의 시청자 수를 그 세션에만 바로 보낸다. (다음 발행이나 keepalive까지 기다리지 않도록)
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class LiveStreamingViewerCountPublisher {
 
+    private static final Pattern VIEWER_COUNT_DESTINATION = Pattern.compile("/topic/livestreams/\\d+/viewer-count");
+
     private final SimpMessagingTemplate messagingTemplate;
+    private final MessageChannel clientOutboundChannel;
     private final LiveStreamingSubscriberManager liveStreamingSubscriberManager;
+    private final ViewerCountAggregator viewerCountAggregator;
+    private final ViewerCountBroadcastThrottle viewerCountBroadcastThrottle;
+
+    public LiveStreamingViewerCountPublisher(
+            final SimpMessagingTemplate messagingTemplate,
+            @Qualifier("clientOutboundChannel") final MessageChannel clientOutboundChannel,
+            final LiveStreamingSubscriberManager liveStreamingSubscriberManager,
+            final ViewerCountAggregator viewerCountAggregator,
+            final ViewerCountBroadcastThrottle viewerCountBroadcastThrottle
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.liveStreamingSubscriberManager = liveStreamingSubscriberManager;
+        this.viewerCountAggregator = viewerCountAggregator;
+        this.viewerCountBroadcastThrottle = viewerCountBroadcastThrottle;
+    }
 
     /**
      * 클라이언트가 특정 토픽을 구독할 때 호출
@@ -58,6 +89,36 @@ public class LiveStreamingViewerCountPublisher {
         );
     }
 
+    /**
+     * 시청자 수 토픽을 구독하면 현재 시청자 수를 구독한 세션에만 보낸다.
+     *
+     * 토픽으로 발행하면 기존 구독자 모두에게 같은 값이 다시 나가므로, 브로커를 거치지 않고
+     * 해당 세션의 구독 ID로 clientOutboundChannel에 직접 보낸다. (브로커 구독 등록 순서와 무관)
+     */
+    @EventListener
+    public void handleViewerCountSubscribe(final SessionSubscribeEvent event) {
+        final StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(event.getMessage(), StompHeaderAccessor.class);
+        if (accessor == null) {
+            return;
+        }
+        final String destination = accessor.getDestination();
+        if (destination == null || !VIEWER_COUNT_DESTINATION.matcher(destination).matches()) {
+            return;
+        }
+
+        final SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(accessor.getSessionId());
+        headers.setSubscriptionId(accessor.getSubscriptionId());
+        headers.setDestination(destination);
+        headers.setLeaveMutable(true);
+
+        final int viewerCount = viewerCountAggregator.getSubscriberCount(extractLivestreamId(destination));
+        final Message<?> message = messagingTemplate.getMessageConverter().toMessage(viewerCount, headers.getMessageHeaders());
+        if (message != null) {
+            clientOutboundChannel.send(message);
+        }
+    }
+
     /**
      * 클라이언트 연결이 끊어질 때 호출
      *
@@ -68,10 +129,22 @@ public class LiveStreamingViewerCountPublisher {
         liveStreamingSubscriberManager.removeSubscriber(event.getSessionId());
     }
 
-    @Scheduled(fixedRate = 20000)
+    /**
+     * SimpleBroker는 노드마다 따로 있으므로 이 노드에 구독자가 있는 라이브 스트리밍에만 발행하고,
+     * 시청자 수는 모든 노드를 합산한 값을 보낸다.
+     *
+     * 모든 구독자에게 같은 값을 반복해서 보내지 않도록 발행 여부는 ViewerCountBroadcastThrottle이 판단한다.
+     */
+    @Scheduled(fixedRateString = "${livestreaming.viewer.broadcast.tick-interval:5s}", scheduler = SchedulingConfig.BROADCAST_TASK_SCHEDULER)
     public void publishViewerCounts() {
-        liveStreamingSubscriberManager.getActiveLivestreamIds().forEach(livestreamId -> {
-            final int viewerCount = liveStreamingSubscriberManager.getSubscriberCount(livestreamId);
+        final Set<Long> livestreamIds = liveStreamingSubscriberManager.getActiveLivestreamIds();
+        viewerCountBroadcastThrottle.retainAll(livestreamIds);
+
+        livestreamIds.forEach(livestreamId -> {
+            final int viewerCount = viewerCountAggregator.getSubscriberCount(livestreamId);
+            if (!viewerCountBroadcastThrottle.shouldPublish(livestreamId, viewerCount)) {
+                return;
+            }
 
             messagingTemplate.convertAndSend(
                     "/topic/livestreams/" + livestreamId + "/viewer-count",
@@ -0,0 +1,13 @@
+package com.youtube.live.interaction.websocket.event.dto;
+
+import com.youtube.live.interaction.livestreaming.domain.BurstEmoji;
+
+import java.util.Map;
+
+/**
+ * @param counts 직전 tick 이후 모인 종류별 탭 수 (탭이 없던 종류는 빠진다)
+ */
+public record BurstReactionBroadcastResponse(
+    Map<BurstEmoji, Long> counts
+) {
+}
@@ -1,8 +1,14 @@
 package com.youtube.live.interaction.config;
 
+import com.youtube.core.channel.domain.ChannelStatsWriter;
 import com.youtube.core.testfixtures.support.DatabaseCleanup;
 import com.youtube.core.testfixtures.support.TestContainer;
 import com.youtube.core.testfixtures.support.TestSupport;
+import com.youtube.live.interaction.livestreaming.domain.BurstReactionAccumulator;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingRecentChatCache;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingStatsWriter;
+import com.youtube.live.interaction.livestreaming.domain.ReactionBitmaps;
+import com.youtube.live.interaction.livestreaming.domain.ReactionCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -17,9 +23,33 @@ public class IntegrationTest extends TestContainer {
     @Autowired
     private DatabaseCleanup databaseCleanup;
 
+    @Autowired
+    private LiveStreamingRecentChatCache liveStreamingRecentChatCache;
+
+    @Autowired
+    private ReactionCounter reactionCounter;
+
+    @Autowired
+    private ReactionBitmaps reactionBitmaps;
+
+    @Autowired
+    private BurstReactionAccumulator burstReactionAccumulator;
+
+    @Autowired
+    private LiveStreamingStatsWriter liveStreamingStatsWriter;
+
+    @Autowired
+    private ChannelStatsWriter channelStatsWriter;
+
     @BeforeEach
     public void cleanup() {
         databaseCleanup.execute();
+        liveStreamingRecentChatCache.clear();
+        reactionCounter.clear();
+        reactionBitmaps.clear();
+        burstReactionAccumulator.clear();
+        liveStreamingStatsWriter.clear();
+        channelStatsWriter.clear();
     }
 
     @Autowired
@@ -3,6 +3,7 @@ package com.youtube.live.interaction.config;
 import com.youtube.core.testfixtures.support.DatabaseCleanup;
 import com.youtube.core.testfixtures.support.TestSupport;
 import com.youtube.core.testfixtures.support.TestContainer;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingRecentChatCache;
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +26,9 @@ public abstract class WebSocketStompTest extends TestContainer {
     @Autowired
     private DatabaseCleanup databaseCleanup;
 
+    @Autowired
+    private LiveStreamingRecentChatCache liveStreamingRecentChatCache;
+
     @Autowired
     protected TestSupport testSupport;
 
@@ -42,5 +46,6 @@ public abstract class WebSocketStompTest extends TestContainer {
     @AfterEach
     public void cleanup() {
         databaseCleanup.execute();
+        liveStreamingRecentChatCache.clear();
     }
 }
@@ -0,0 +1,58 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BurstRateLimiterTest {
+
+    @Test
+    @DisplayName("초당 상한까지만 허용하고, 남은 한도보다 많이 요청하면 남은 만큼만 허용한다")
+    void allowsUpToMaxTapsPerSecond() {
+        // given
+        final BurstRateLimiter sut = new BurstRateLimiter(1 << 10, 20);
+
+        // when & then
+        assertThat(sut.tryAcquire(1L, 15, 1_000)).isEqualTo(15);
+        assertThat(sut.tryAcquire(1L, 15, 1_500)).isEqualTo(5);
+        assertThat(sut.tryAcquire(1L, 1, 1_999)).isZero();
+    }
+
+    @Test
+    @DisplayName("초가 바뀌면 한도가 다시 채워진다")
+    void refillsEverySecond() {
+        // given
+        final BurstRateLimiter sut = new BurstRateLimiter(1 << 10, 20);
+        sut.tryAcquire(1L, 20, 1_000);
+
+        // when
+        final int allowed = sut.tryAcquire(1L, 20, 2_000);
+
+        // then
+        assertThat(allowed).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("사용자마다 한도를 따로 가진다")
+    void limitsEachUserSeparately() {
+        // given
+        final BurstRateLimiter sut = new BurstRateLimiter(1 << 10, 20);
+        sut.tryAcquire(1L, 20, 1_000);
+
+        // when
+        final int allowed = sut.tryAcquire(2L, 20, 1_000);
+
+        // then
+        assertThat(allowed).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("슬롯 수는 2의 거듭제곱이어야 한다")
+    void rejectsNonPowerOfTwoSlotCount() {
+        // when & then
+        assertThatThrownBy(() -> new BurstRateLimiter(1_000, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,172 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.core.channel.domain.Channel;
+import com.youtube.core.user.domain.User;
+import com.youtube.live.interaction.config.BurstReactionProperties;
+import com.youtube.live.interaction.config.IntegrationTest;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingBurstReactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.youtube.core.testfixtures.builder.ChannelBuilder.Channel;
+import static com.youtube.core.testfixtures.builder.UserBuilder.User;
+import static com.youtube.live.interaction.builder.LiveStreamingBuilder.LiveStreaming;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class BurstReactionAccumulatorTest extends IntegrationTest {
+
+    /**
+     * 분의 시작 시각 + 1초
+     */
+    private static final long START_MILLIS = 28_333_333L * 60_000 + 1_000;
+
+    @Autowired
+    private LiveStreamingReader liveStreamingReader;
+
+    @Autowired
+    private LiveStreamingBurstReactionRepository liveStreamingBurstReactionRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final AtomicLong now = new AtomicLong(START_MILLIS);
+    private final BurstReactionProperties properties = new BurstReactionProperties();
+    private BurstReactionAccumulator sut;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames()
+                .forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        sut = new BurstReactionAccumulator(
+                liveStreamingReader,
+                liveStreamingBurstReactionRepository,
+                properties,
+                new SimpleMeterRegistry(),
+                now::get
+        );
+    }
+
+    @Test
+    @DisplayName("tick마다 직전 tick 이후의 탭을 종류별 합계로 돌려주고 비운다")
+    void tickReturnsTapsPerEmoji() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming(LiveStreamingStatus.LIVE);
+        sut.tap(liveStreaming.getId(), 1L, BurstEmoji.HEART, 1);
+        sut.tap(liveStreaming.getId(), 2L, BurstEmoji.HEART, 2);
+        sut.tap(liveStreaming.getId(), 2L, BurstEmoji.FIRE, 1);
+
+        // when
+        final Map<Long, Map<BurstEmoji, Long>> firstTick = sut.tick();
+        final Map<Long, Map<BurstEmoji, Long>> secondTick = sut.tick();
+
+        // then
+        assertThat(firstTick).containsOnlyKeys(liveStreaming.getId());
+        assertThat(firstTick.get(liveStreaming.getId()))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(BurstEmoji.HEART, 3L, BurstEmoji.FIRE, 1L));
+        assertThat(secondTick).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자당 초당 상한을 넘는 탭은 버린다")
+    void dropsTapsOverRateLimit() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming(LiveStreamingStatus.LIVE);
+
+        // when
+        final int first = sut.tap(liveStreaming.getId(), 1L, BurstEmoji.HEART, 15);
+        final int second = sut.tap(liveStreaming.getId(), 1L, BurstEmoji.HEART, 15);
+        now.addAndGet(TimeUnit.SECONDS.toMillis(1));
+        final int nextSecond = sut.tap(liveStreaming.getId(), 1L, BurstEmoji.HEART, 15);
+
+        // then
+        assertThat(first).isEqualTo(15);
+        assertThat(second).isEqualTo(5);
+        assertThat(nextSecond).isEqualTo(15);
+        assertThat(sut.tick().get(liveStreaming.getId())).containsEntry(BurstEmoji.HEART, 35L);
+    }
+
+    @Test
+    @DisplayName("방송 중이 아니거나 없는 라이브 스트리밍의 탭은 받지 않는다")
+    void ignoresTapsOnNonLiveStreams() {
+        // given
+        final LiveStreaming ended = saveLiveStreaming(LiveStreamingStatus.ENDED);
+
+        // when
+        final int endedTaps = sut.tap(ended.getId(), 1L, BurstEmoji.HEART, 1);
+        final int unknownTaps = sut.tap(999L, 1L, BurstEmoji.HEART, 1);
+
+        // then
+        assertThat(endedTaps).isZero();
+        assertThat(unknownTaps).isZero();
+        assertThat(sut.tick()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("분이 바뀌면 지난 분의 종류별 합계만 저장하고, 정리할 때 진행 중인 분의 합계를 저장한다")
+    void savesMinuteTotals() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming(LiveStreamingStatus.LIVE);
+        final Instant firstMinute = Instant.ofEpochMilli(START_MILLIS - 1_000);
+        sut.tap(liveStreaming.getId(), 1L, BurstEmoji.HEART, 3);
+        sut.tick();
+        sut.tap(liveStreaming.getId(), 2L, BurstEmoji.HEART, 2);
+        sut.tap(liveStreaming.getId(), 2L, BurstEmoji.WOW, 1);
+        sut.tick();
+
+        // when
+        now.addAndGet(TimeUnit.MINUTES.toMillis(1));
+        sut.tick();
+        final List<LiveStreamingBurstReaction> beforeSave = liveStreamingBurstReactionRepository.findAllBy(liveStreaming.getId());
+        sut.saveMinuteTotals();
+        final List<LiveStreamingBurstReaction> afterMinute = liveStreamingBurstReactionRepository.findAllBy(liveStreaming.getId());
+        sut.tap(liveStreaming.getId(), 1L, BurstEmoji.HEART, 4);
+        sut.evict(liveStreaming.getId());
+
+        // then
+        assertThat(beforeSave).isEmpty();
+        assertThat(afterMinute)
+                .extracting(LiveStreamingBurstReaction::getMinuteStart, LiveStreamingBurstReaction::getEmoji, LiveStreamingBurstReaction::getTapCount)
+                .containsExactlyInAnyOrder(
+                        tuple(firstMinute, BurstEmoji.HEART, 5L),
+                        tuple(firstMinute, BurstEmoji.WOW, 1L)
+                );
+        assertThat(liveStreamingBurstReactionRepository.findAllBy(liveStreaming.getId()))
+                .extracting(LiveStreamingBurstReaction::getMinuteStart, LiveStreamingBurstReaction::getEmoji, LiveStreamingBurstReaction::getTapCount)
+                .contains(tuple(firstMinute.plusSeconds(60), BurstEmoji.HEART, 4L));
+    }
+
+    @Test
+    @DisplayName("같은 분의 합계가 여러 번 저장되면 더한다")
+    void addsMinuteTotalsOfSameMinute() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming(LiveStreamingStatus.LIVE);
+        sut.tap(liveStreaming.getId(), 1L, BurstEmoji.CLAP, 2);
+        sut.evict(liveStreaming.getId());
+
+        // when
+        sut.tap(liveStreaming.getId(), 2L, BurstEmoji.CLAP, 3);
+        sut.evict(liveStreaming.getId());
+
+        // then
+        assertThat(liveStreamingBurstReactionRepository.findAllBy(liveStreaming.getId()))
+                .extracting(LiveStreamingBurstReaction::getEmoji, LiveStreamingBurstReaction::getTapCount)
+                .containsExactly(tuple(BurstEmoji.CLAP, 5L));
+    }
+
+    private LiveStreaming saveLiveStreaming(final LiveStreamingStatus status) {
+        final User user = testSupport.save(User().build());
+        final Channel channel = testSupport.save(Channel().withUser(user).build());
+        return testSupport.save(LiveStreaming().withChannel(channel).withStatus(status).build());
+    }
+}
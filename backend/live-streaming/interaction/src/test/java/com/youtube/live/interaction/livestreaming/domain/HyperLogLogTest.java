@@ -0,0 +1,70 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1_000, 100_000, 1_000_000})
+    @DisplayName("고유 원소 수를 표준 오차의 3배 이내로 추정한다")
+    void estimatesWithinErrorBound(final int cardinality) {
+        // given
+        final HyperLogLog sut = new HyperLogLog(14);
+
+        // when
+        for (int i = 0; i < cardinality; i++) {
+            sut.add(ViewerId.user(i).hash64());
+            sut.add(ViewerId.user(i).hash64());
+        }
+
+        // then
+        assertThat((double) sut.estimate()).isCloseTo(cardinality, within(Math.max(1, cardinality * 0.0243)));
+    }
+
+    @Test
+    @DisplayName("여러 노드의 스케치를 byte[]로 주고받아 병합하면 합집합의 크기를 추정한다")
+    void mergedSketchEstimatesUnion() {
+        // given
+        final HyperLogLog node1 = new HyperLogLog(14);
+        final HyperLogLog node2 = new HyperLogLog(14);
+        for (int i = 0; i < 60_000; i++) {
+            node1.add(ViewerId.user(i).hash64());
+        }
+        for (int i = 40_000; i < 100_000; i++) {
+            node2.add(ViewerId.user(i).hash64());
+        }
+
+        // when
+        final HyperLogLog sut = HyperLogLog.fromByteArray(node1.toByteArray());
+        sut.merge(HyperLogLog.fromByteArray(node2.toByteArray()));
+
+        // then
+        assertThat((double) sut.estimate()).isCloseTo(100_000, within(2_430.0));
+        assertThat(HyperLogLog.estimateUnion(node1, node2)).isEqualTo(sut.estimate());
+    }
+
+    @Test
+    @DisplayName("시청자가 적은 스케치는 0이 아닌 레지스터만 담아 작게 인코딩하고 그대로 복원한다")
+    void smallSketchIsEncodedSparsely() {
+        // given
+        final HyperLogLog sketch = new HyperLogLog(14);
+        for (int i = 0; i < 100; i++) {
+            sketch.add(ViewerId.user(i).hash64());
+        }
+
+        // when
+        final byte[] bytes = sketch.toByteArray();
+        final HyperLogLog sut = HyperLogLog.fromByteArray(bytes);
+
+        // then
+        assertThat(bytes.length).isLessThan(1_000);
+        assertThat(sut.estimate()).isEqualTo(sketch.estimate());
+        assertThat(sut.toByteArray()).isEqualTo(bytes);
+    }
+}
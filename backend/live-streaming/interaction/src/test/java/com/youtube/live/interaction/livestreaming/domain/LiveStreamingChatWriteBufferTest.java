@@ -0,0 +1,219 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.common.exception.BaseException;
+import com.youtube.live.interaction.config.ChatWriteBehindProperties;
+import com.youtube.live.interaction.exception.LiveStreamingErrorCode;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingChatBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class LiveStreamingChatWriteBufferTest {
+
+    private RecordingBatchRepository batchRepository;
+    private ChatWriteBehindProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private LiveStreamingChatWriteBuffer sut;
+
+    @BeforeEach
+    void setUp() {
+        batchRepository = new RecordingBatchRepository();
+        properties = new ChatWriteBehindProperties();
+        properties.setCapacity(100);
+        properties.setBatchSize(10);
+        properties.setFlushInterval(Duration.ofMillis(100));
+        properties.setOfferTimeout(Duration.ofMillis(10));
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null && sut.isRunning()) {
+            sut.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("batchSize 만큼 채팅이 모이면 한 번의 INSERT로 저장한다")
+    void flushesWhenBatchSizeReached() {
+        // given
+        properties.setFlushInterval(Duration.ofSeconds(10));
+        sut = new LiveStreamingChatWriteBuffer(batchRepository, properties, meterRegistry);
+        sut.start();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            sut.offer(pendingChat("메시지 " + i));
+        }
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> batchRepository.totalInserted() == 10);
+        assertThat(batchRepository.batches).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("batchSize에 도달하지 않아도 flushInterval이 지나면 저장한다")
+    void flushesWhenIntervalElapsed() {
+        // given
+        sut = new LiveStreamingChatWriteBuffer(batchRepository, properties, meterRegistry);
+        sut.start();
+
+        // when
+        sut.offer(pendingChat("메시지"));
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> batchRepository.totalInserted() == 1);
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼에 남은 채팅을 모두 저장한다")
+    void flushesRemainingChatsOnStop() {
+        // given
+        properties.setFlushInterval(Duration.ofSeconds(10));
+        properties.setBatchSize(1_000);
+        sut = new LiveStreamingChatWriteBuffer(batchRepository, properties, meterRegistry);
+        sut.start();
+        for (int i = 0; i < 25; i++) {
+            sut.offer(pendingChat("메시지 " + i));
+        }
+
+        // when
+        sut.stop();
+
+        // then
+        assertThat(batchRepository.totalInserted()).isEqualTo(25);
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 offerTimeout 이후 채팅을 거절한다")
+    void rejectsWhenBufferIsFull() {
+        // given
+        properties.setCapacity(1);
+        properties.setBatchSize(1);
+        batchRepository.blockInserts();
+        sut = new LiveStreamingChatWriteBuffer(batchRepository, properties, meterRegistry);
+        sut.start();
+
+        sut.offer(pendingChat("flusher가 가져갈 메시지"));
+        await().atMost(2, TimeUnit.SECONDS).until(() -> sut.size() == 0);
+        sut.offer(pendingChat("버퍼에 남는 메시지"));
+
+        // when & then
+        assertThatThrownBy(() -> sut.offer(pendingChat("거절될 메시지")))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(LiveStreamingErrorCode.CHAT_WRITE_BUFFER_FULL);
+        assertThat(meterRegistry.counter("livestreaming.chat.write.buffer.rejected").count()).isEqualTo(1.0);
+
+        batchRepository.releaseInserts();
+    }
+
+    @Test
+    @DisplayName("batch INSERT가 일시적으로 실패하면 다시 시도해 저장한다")
+    void retriesFailedBatch() {
+        // given
+        batchRepository.failNextInserts(2);
+        sut = new LiveStreamingChatWriteBuffer(batchRepository, properties, meterRegistry);
+        sut.start();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            sut.offer(pendingChat("메시지 " + i));
+        }
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> batchRepository.totalInserted() == 3);
+        assertThat(meterRegistry.counter("livestreaming.chat.write.buffer.retried").count()).isPositive();
+        assertThat(meterRegistry.counter("livestreaming.chat.write.buffer.failed").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도해도 batch INSERT가 실패하면 한 건씩 저장하고, 저장할 수 없는 채팅만 dead-letter로 남긴다")
+    void isolatesPoisonChat() {
+        // given
+        properties.setMaxAttempts(2);
+        properties.setBatchSize(3);
+        properties.setFlushInterval(Duration.ofSeconds(10));
+        batchRepository.rejectMessage("저장할 수 없는 메시지");
+        sut = new LiveStreamingChatWriteBuffer(batchRepository, properties, meterRegistry);
+        sut.start();
+
+        // when
+        sut.offer(pendingChat("메시지 1"));
+        sut.offer(pendingChat("저장할 수 없는 메시지"));
+        sut.offer(pendingChat("메시지 2"));
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.counter("livestreaming.chat.write.buffer.failed").count() == 1.0);
+        assertThat(batchRepository.batches)
+                .flatExtracting(batch -> batch)
+                .extracting(PendingLiveStreamingChat::message)
+                .containsExactly("메시지 1", "메시지 2");
+    }
+
+    private PendingLiveStreamingChat pendingChat(final String message) {
+        return new PendingLiveStreamingChat(null, 1L, 1L, "테스트유저", null, message, ChatMessageType.CHAT, Instant.now());
+    }
+
+    private static class RecordingBatchRepository extends LiveStreamingChatBatchRepository {
+
+        private final List<List<PendingLiveStreamingChat>> batches = new CopyOnWriteArrayList<>();
+        private volatile boolean blocked = false;
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private volatile String rejectedMessage;
+
+        RecordingBatchRepository() {
+            super(null);
+        }
+
+        @Override
+        public int insertAll(final List<PendingLiveStreamingChat> chats) {
+            while (blocked) {
+                Thread.onSpinWait();
+            }
+            if (failuresLeft.getAndUpdate(left -> Math.max(left - 1, 0)) > 0
+                    || chats.stream().anyMatch(chat -> chat.message().equals(rejectedMessage))) {
+                throw new IllegalStateException("INSERT 실패");
+            }
+            batches.add(new ArrayList<>(chats));
+            return chats.size();
+        }
+
+        int totalInserted() {
+            return batches.stream().mapToInt(List::size).sum();
+        }
+
+        void blockInserts() {
+            blocked = true;
+        }
+
+        void releaseInserts() {
+            blocked = false;
+        }
+
+        void failNextInserts(final int count) {
+            failuresLeft.set(count);
+        }
+
+        void rejectMessage(final String message) {
+            rejectedMessage = message;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.common.exception.BaseException;
+import com.youtube.core.channel.domain.Channel;
+import com.youtube.core.user.domain.User;
+import com.youtube.core.user.domain.UserReader;
+import com.youtube.live.interaction.config.IntegrationTest;
+import com.youtube.live.interaction.config.ReactionWriteBehindProperties;
+import com.youtube.live.interaction.exception.LiveStreamingErrorCode;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingReactionBatchRepository;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingReactionRepository;
+import com.youtube.live.interaction.livestreaming.service.dto.ReactionToggleResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static com.youtube.core.testfixtures.builder.ChannelBuilder.Channel;
+import static com.youtube.core.testfixtures.builder.UserBuilder.User;
+import static com.youtube.live.interaction.builder.LiveStreamingBuilder.LiveStreaming;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LiveStreamingReactionWriteBufferTest extends IntegrationTest {
+
+    @Autowired
+    private LiveStreamingReactionRepository liveStreamingReactionRepository;
+
+    @Autowired
+    private LiveStreamingReactionBatchRepository liveStreamingReactionBatchRepository;
+
+    @Autowired
+    private LiveStreamingReader liveStreamingReader;
+
+    @Autowired
+    private UserReader userReader;
+
+    @Autowired
+    private LiveStreamingStatsWriter liveStreamingStatsWriter;
+
+    @Autowired
+    private ReactionCounter reactionCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LiveStreamingReactionWriteBuffer sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = createWriteBuffer(liveStreamingReactionBatchRepository);
+        sut.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sut.isRunning()) {
+            sut.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("저장 전 여러 번 토글하면 마지막 상태 하나만 저장한다")
+    void coalescesTogglesToLastState() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User user = testSupport.save(User().build());
+
+        // when
+        sut.toggle(liveStreaming.getId(), user.getId(), ReactionType.LIKE);
+        sut.toggle(liveStreaming.getId(), user.getId(), ReactionType.LIKE);
+        sut.toggle(liveStreaming.getId(), user.getId(), ReactionType.LIKE);
+        final ReactionTransition last = sut.toggle(liveStreaming.getId(), user.getId(), ReactionType.DISLIKE);
+        sut.stop();
+
+        // then
+        assertThat(last).isEqualTo(new ReactionTransition(ReactionType.LIKE, ReactionType.DISLIKE));
+        assertThat(liveStreamingReactionRepository.findByLiveStreamingIdAndUserId(liveStreaming.getId(), user.getId()))
+                .get()
+                .extracting(LiveStreamingReaction::getType)
+                .isEqualTo(ReactionType.DISLIKE);
+        assertThat(meterRegistry.counter("livestreaming.reaction.write.buffer.toggled").count()).isEqualTo(4.0);
+        assertThat(meterRegistry.counter("livestreaming.reaction.write.buffer.flushed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DB에 있던 반응을 취소하면 소프트 삭제하고, 다시 누르면 삭제된 row를 복원한다")
+    void upsertsOverExistingRow() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User user = testSupport.save(User().build());
+        testSupport.save(LiveStreamingReaction.builder()
+                .liveStreaming(liveStreaming)
+                .user(user)
+                .type(ReactionType.LIKE)
+                .build());
+
+        // when
+        final ReactionTransition cancelled = sut.toggle(liveStreaming.getId(), user.getId(), ReactionType.LIKE);
+        sut.stop();
+        final Optional<LiveStreamingReaction> afterCancel =
+                liveStreamingReactionRepository.findByLiveStreamingIdAndUserId(liveStreaming.getId(), user.getId());
+        final Optional<LiveStreamingReaction> deleted =
+                liveStreamingReactionRepository.findDeletedByLiveStreamingIdAndUserId(liveStreaming.getId(), user.getId());
+
+        sut.start();
+        sut.toggle(liveStreaming.getId(), user.getId(), ReactionType.DISLIKE);
+        sut.stop();
+
+        // then
+        assertThat(cancelled).isEqualTo(new ReactionTransition(ReactionType.LIKE, null));
+        assertThat(afterCancel).isEmpty();
+        assertThat(deleted).isPresent();
+        assertThat(liveStreamingReactionRepository.findByLiveStreamingIdAndUserId(liveStreaming.getId(), user.getId()))
+                .get()
+                .extracting(LiveStreamingReaction::getType)
+                .isEqualTo(ReactionType.DISLIKE);
+        assertThat(liveStreamingReactionRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장 전에도 메모리 상태로 사용자의 반응을 읽고, 저장을 기다리는 라이브 스트리밍을 알려준다")
+    void exposesPendingState() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User user = testSupport.save(User().build());
+
+        // when
+        sut.toggle(liveStreaming.getId(), user.getId(), ReactionType.LIKE);
+
+        // then
+        assertThat(sut.findUserReaction(liveStreaming.getId(), user.getId()))
+                .get()
+                .extracting(ReactionToggleResult::isLiked)
+                .isEqualTo(true);
+        assertThat(sut.hasPendingWrites(liveStreaming.getId())).isTrue();
+        assertThat(liveStreamingReactionRepository.count()).isZero();
+
+        sut.stop();
+        assertThat(sut.hasPendingWrites(liveStreaming.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 라이브 스트리밍에 토글하면 예외가 발생하고 저장을 기다리지 않는다")
+    void rejectsUnknownLiveStreaming() {
+        // given
+        final User user = testSupport.save(User().build());
+
+        // when & then
+        assertThatThrownBy(() -> sut.toggle(999L, user.getId(), ReactionType.LIKE))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(LiveStreamingErrorCode.LIVE_STREAMING_NOT_FOUND);
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("batch upsert가 실패하면 버리지 않고 다시 저장한다")
+    void retriesFailedBatch() {
+        // given
+        final FlakyBatchRepository batchRepository = new FlakyBatchRepository(jdbcTemplate);
+        batchRepository.failuresLeft = 2;
+        sut.stop();
+        sut = createWriteBuffer(batchRepository);
+        sut.start();
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User first = testSupport.save(User().build());
+        final User second = testSupport.save(User().build());
+
+        // when
+        sut.toggle(liveStreaming.getId(), first.getId(), ReactionType.LIKE);
+        sut.toggle(liveStreaming.getId(), second.getId(), ReactionType.LIKE);
+        sut.stop();
+
+        // then
+        assertThat(liveStreamingReactionRepository.findByLiveStreamingIdAndUserId(liveStreaming.getId(), first.getId())).isPresent();
+        assertThat(liveStreamingReactionRepository.findByLiveStreamingIdAndUserId(liveStreaming.getId(), second.getId())).isPresent();
+        assertThat(meterRegistry.counter("livestreaming.reaction.write.buffer.retried").count()).isGreaterThan(0);
+        assertThat(meterRegistry.counter("livestreaming.reaction.write.buffer.failed").count()).isZero();
+        assertThat(sut.hasPendingWrites(liveStreaming.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("계속 저장에 실패하는 반응만 골라 dead-letter로 남기고, 나머지 반응은 저장한다")
+    void deadLettersPoisonReaction() {
+        // given
+        final FlakyBatchRepository batchRepository = new FlakyBatchRepository(jdbcTemplate);
+        sut.stop();
+        sut = createWriteBuffer(batchRepository);
+        sut.start();
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User healthy = testSupport.save(User().build());
+        final User poison = testSupport.save(User().build());
+        batchRepository.rejectedUserId = poison.getId();
+
+        // when
+        sut.toggle(liveStreaming.getId(), healthy.getId(), ReactionType.LIKE);
+        sut.toggle(liveStreaming.getId(), poison.getId(), ReactionType.LIKE);
+        sut.stop();
+
+        // then
+        assertThat(liveStreamingReactionRepository.findByLiveStreamingIdAndUserId(liveStreaming.getId(), healthy.getId())).isPresent();
+        assertThat(liveStreamingReactionRepository.findByLiveStreamingIdAndUserId(liveStreaming.getId(), poison.getId())).isEmpty();
+        assertThat(meterRegistry.counter("livestreaming.reaction.write.buffer.failed").count()).isEqualTo(1.0);
+        assertThat(sut.findUserReaction(liveStreaming.getId(), poison.getId())).isEmpty();
+        assertThat(sut.hasPendingWrites(liveStreaming.getId())).isFalse();
+    }
+
+    private LiveStreamingReactionWriteBuffer createWriteBuffer(final LiveStreamingReactionBatchRepository batchRepository) {
+        final ReactionWriteBehindProperties properties = new ReactionWriteBehindProperties();
+        properties.setFlushInterval(Duration.ofSeconds(10));
+        meterRegistry = new SimpleMeterRegistry();
+        return new LiveStreamingReactionWriteBuffer(
+                liveStreamingReactionRepository,
+                batchRepository,
+                liveStreamingReader,
+                userReader,
+                liveStreamingStatsWriter,
+                reactionCounter,
+                properties,
+                meterRegistry
+        );
+    }
+
+    private LiveStreaming saveLiveStreaming() {
+        final User user = testSupport.save(User().build());
+        final Channel channel = testSupport.save(Channel().withUser(user).build());
+        return testSupport.save(LiveStreaming().withChannel(channel).build());
+    }
+
+    /**
+     * 처음 failuresLeft번의 upsert와 rejectedUserId가 포함된 upsert를 실패시킨다.
+     */
+    private static class FlakyBatchRepository extends LiveStreamingReactionBatchRepository {
+
+        private volatile int failuresLeft;
+        private volatile Long rejectedUserId;
+
+        FlakyBatchRepository(final JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public int upsertAll(final List<PendingLiveStreamingReaction> reactions) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("upsert 실패");
+            }
+            if (reactions.stream().anyMatch(reaction -> reaction.userId().equals(rejectedUserId))) {
+                throw new IllegalStateException("upsert 실패");
+            }
+            return super.upsertAll(reactions);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.RecentChatCacheProperties;
+import com.youtube.live.interaction.livestreaming.repository.dto.ChatMessageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveStreamingRecentChatCacheTest {
+
+    private static final Long LIVE_STREAMING_ID = 1L;
+
+    private StubChatReader chatReader;
+    private RecentChatCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private LiveStreamingRecentChatCache sut;
+
+    @BeforeEach
+    void setUp() {
+        chatReader = new StubChatReader();
+        properties = new RecentChatCacheProperties();
+        properties.setCapacity(5);
+        properties.setSingleNode(true);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new LiveStreamingRecentChatCache(chatReader, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("최초 조회는 DB에서 채우고 이후 조회는 메모리에서 응답한다")
+    void firstReadLoadsFromDatabaseAndLaterReadsHitMemory() {
+        // given
+        chatReader.chats.addAll(List.of(chat(3L), chat(2L), chat(1L)));
+
+        // when
+        final List<ChatMessageResponse> first = sut.readRecent(LIVE_STREAMING_ID, 30);
+        final List<ChatMessageResponse> second = sut.readRecent(LIVE_STREAMING_ID, 30);
+
+        // then
+        assertThat(first).extracting(ChatMessageResponse::getChatId).containsExactly(1L, 2L, 3L);
+        assertThat(second).extracting(ChatMessageResponse::getChatId).containsExactly(1L, 2L, 3L);
+        assertThat(chatReader.loadCount).hasValue(1);
+        assertThat(requestCount("miss")).isEqualTo(1);
+        assertThat(requestCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 로딩 전에 작성된 채팅도 병합되어 순서대로 조회된다")
+    void chatsAppendedBeforeLoadAreMerged() {
+        // given
+        chatReader.chats.addAll(List.of(chat(2L), chat(1L)));
+        sut.append(LIVE_STREAMING_ID, chat(4L));
+        sut.append(LIVE_STREAMING_ID, chat(3L));
+
+        // when
+        final List<ChatMessageResponse> chats = sut.readRecent(LIVE_STREAMING_ID, 30);
+
+        // then
+        assertThat(chats).extracting(ChatMessageResponse::getChatId).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("capacity를 넘으면 가장 오래된 채팅부터 밀려난다")
+    void oldestChatsAreOverwrittenWhenFull() {
+        // given
+        sut.readRecent(LIVE_STREAMING_ID, 30);
+
+        // when
+        for (long chatId = 1; chatId <= 8; chatId++) {
+            sut.append(LIVE_STREAMING_ID, chat(chatId));
+        }
+
+        // then
+        assertThat(sut.readRecent(LIVE_STREAMING_ID, 30))
+                .extracting(ChatMessageResponse::getChatId)
+                .containsExactly(4L, 5L, 6L, 7L, 8L);
+        assertThat(sut.readRecent(LIVE_STREAMING_ID, 2))
+                .extracting(ChatMessageResponse::getChatId)
+                .containsExactly(7L, 8L);
+    }
+
+    @Test
+    @DisplayName("라이브 스트리밍이 종료되어 제거되면 다음 조회는 DB에서 다시 채운다")
+    void evictedStreamIsReloaded() {
+        // given
+        sut.readRecent(LIVE_STREAMING_ID, 30);
+
+        // when
+        sut.evict(LIVE_STREAMING_ID);
+        sut.readRecent(LIVE_STREAMING_ID, 30);
+
+        // then
+        assertThat(chatReader.loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 버퍼는 스케줄러가 제거한다")
+    void idleBuffersAreEvicted() {
+        // given
+        properties.setIdleTimeout(Duration.ZERO);
+        sut.readRecent(LIVE_STREAMING_ID, 30);
+
+        // when
+        sut.evictIdleStreams();
+        sut.readRecent(LIVE_STREAMING_ID, 30);
+
+        // then
+        assertThat(chatReader.loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("커서가 보관 범위 안이면 DB를 조회하지 않고 이후 채팅을 응답한다")
+    void newChatsAfterCursorInsideWindowAreServedFromMemory() {
+        // given
+        sut.readRecent(LIVE_STREAMING_ID, 30);
+        for (long chatId = 1; chatId <= 4; chatId++) {
+            sut.append(LIVE_STREAMING_ID, chat(chatId));
+        }
+
+        // when
+        final List<ChatMessageResponse> chats = sut.readNewChatsAfter(LIVE_STREAMING_ID, 2L);
+
+        // then
+        assertThat(chats).extracting(ChatMessageResponse::getChatId).containsExactly(3L, 4L);
+        assertThat(chatReader.newChatsCount).hasValue(0);
+        assertThat(pollCount("memory")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커서가 보관 범위보다 오래되면 DB에서 조회한다")
+    void newChatsAfterCursorOlderThanWindowFallBackToDatabase() {
+        // given
+        sut.readRecent(LIVE_STREAMING_ID, 30);
+        for (long chatId = 1; chatId <= 8; chatId++) {
+            sut.append(LIVE_STREAMING_ID, chat(chatId));
+        }
+
+        // when
+        sut.readNewChatsAfter(LIVE_STREAMING_ID, 2L);
+        final List<ChatMessageResponse> insideWindow = sut.readNewChatsAfter(LIVE_STREAMING_ID, 3L);
+
+        // then
+        assertThat(chatReader.newChatsCount).hasValue(1);
+        assertThat(insideWindow).extracting(ChatMessageResponse::getChatId).containsExactly(4L, 5L, 6L, 7L, 8L);
+        assertThat(pollCount("database")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB에서 capacity만큼 채웠다면 가장 오래된 채팅 이전 커서는 DB에서 조회한다")
+    void cursorBeforeLoadedRangeFallsBackToDatabase() {
+        // given
+        chatReader.chats.addAll(List.of(chat(10L), chat(9L), chat(8L), chat(7L), chat(6L), chat(5L)));
+
+        // when
+        final List<ChatMessageResponse> insideWindow = sut.readNewChatsAfter(LIVE_STREAMING_ID, 5L);
+        sut.readNewChatsAfter(LIVE_STREAMING_ID, 4L);
+
+        // then
+        assertThat(insideWindow).extracting(ChatMessageResponse::getChatId).containsExactly(6L, 7L, 8L, 9L, 10L);
+        assertThat(chatReader.newChatsCount).hasValue(1);
+    }
+
+    private double requestCount(final String result) {
+        return meterRegistry.get("livestreaming.chat.recent.cache.requests")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private double pollCount(final String source) {
+        return meterRegistry.get("livestreaming.chat.recent.cache.polls")
+                .tag("source", source)
+                .counter()
+                .count();
+    }
+
+    private static ChatMessageResponse chat(final Long chatId) {
+        return new ChatMessageResponse(chatId, "user", "message-" + chatId, ChatMessageType.CHAT, null, Instant.now());
+    }
+
+    /**
+     * chatId 내림차순으로 반환하는 DB 조회를 흉내낸다.
+     */
+    @Test
+    @DisplayName("여러 노드 배포에서는 이 노드에서 작성된 채팅을 보관하지 않고 DB에서 응답한다")
+    void multiNodeReadsFromDatabase() {
+        // given
+        properties.setSingleNode(false);
+        chatReader.chats.addAll(List.of(chat(3L), chat(2L), chat(1L)));
+        sut.append(LIVE_STREAMING_ID, chat(4L));
+
+        // when
+        final List<ChatMessageResponse> recent = sut.readRecent(LIVE_STREAMING_ID, 10);
+        sut.readNewChatsAfter(LIVE_STREAMING_ID, 3L);
+
+        // then
+        assertThat(recent).extracting(ChatMessageResponse::getChatId).containsExactly(1L, 2L, 3L);
+        assertThat(chatReader.newChatsCount).hasValue(1);
+        assertThat(sut.versionOf(LIVE_STREAMING_ID)).isEqualTo(-1);
+    }
+
+    private static class StubChatReader extends LiveStreamingChatReader {
+
+        private final List<ChatMessageResponse> chats = new ArrayList<>();
+        private final AtomicInteger loadCount = new AtomicInteger();
+        private final AtomicInteger newChatsCount = new AtomicInteger();
+
+        StubChatReader() {
+            super(null, null);
+        }
+
+        @Override
+        public List<ChatMessageResponse> readRecentChats(final Long liveStreamingId, final int pageSize) {
+            loadCount.incrementAndGet();
+            return new ArrayList<>(chats.subList(0, Math.min(pageSize, chats.size())));
+        }
+
+        @Override
+        public List<ChatMessageResponse> readNewChatsAfter(final Long liveStreamingId, final Long lastChatId) {
+            newChatsCount.incrementAndGet();
+            return List.of();
+        }
+    }
+}
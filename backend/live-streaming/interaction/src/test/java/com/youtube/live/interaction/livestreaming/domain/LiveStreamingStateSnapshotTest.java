@@ -0,0 +1,146 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.CacheConfig;
+import com.youtube.live.interaction.config.ViewerCountProperties;
+import com.youtube.live.interaction.config.ViewerStateSnapshotProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.CacheManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveStreamingStateSnapshotTest {
+
+    private static final String STATUS_CACHE = "liveStreamingStatus";
+
+    @TempDir
+    private Path directory;
+
+    private final AtomicLong now = new AtomicLong(1_800_000_000_000L);
+    private final ViewerStateSnapshotProperties properties = new ViewerStateSnapshotProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setPath(directory.resolve("state.bin").toString());
+    }
+
+    @Test
+    @DisplayName("종료 시 저장한 시청자 / 스트리머 등록 / 상태 캐시를 기동 시 복원하고 파일을 지운다")
+    void restoresSavedState() {
+        // given
+        final Long livestreamId = 1L;
+        final Node before = new Node();
+        before.viewerManager.registerStreamer(livestreamId, 100L);
+        before.viewerManager.recordHeartbeat(livestreamId, "client-1", null);
+        before.viewerManager.recordHeartbeat(livestreamId, "client-2", 200L);
+        before.viewerManager.recordHeartbeat(livestreamId, "client-3", 100L);
+        before.subscriberManager.registerStreamer(livestreamId, 100L);
+        before.subscriberManager.addSubscriber(livestreamId, "session-1", 300L, "client-4");
+        before.cacheManager.getCache(STATUS_CACHE).put(livestreamId, LiveStreamingStatus.LIVE);
+        before.snapshot.save();
+
+        // when
+        advanceSeconds(10);
+        final Node after = new Node();
+        after.snapshot.restore();
+
+        // then
+        assertThat(after.viewerManager.getViewerCountExcludingStreamer(livestreamId)).isEqualTo(2);
+        assertThat(after.viewerManager.getTotalUniqueViewerCount(livestreamId)).isEqualTo(3);
+        assertThat(after.subscriberManager.lifetimeViewers(livestreamId).estimate()).isEqualTo(1);
+        assertThat(after.cacheManager.getCache(STATUS_CACHE).get(livestreamId, LiveStreamingStatus.class))
+                .isEqualTo(LiveStreamingStatus.LIVE);
+        assertThat(Path.of(properties.getPath())).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("내려가 있던 시간만큼 heartbeat 시각을 옮기므로 중단 시간 동안 만료되지 않는다")
+    void shiftsHeartbeatsByDowntime() {
+        // given
+        final Long livestreamId = 1L;
+        final Node before = new Node();
+        before.viewerManager.recordHeartbeat(livestreamId, "client-1", null);
+        advanceSeconds(20);
+        before.viewerManager.recordHeartbeat(livestreamId, "client-2", null);
+        before.snapshot.save();
+
+        // when
+        advanceSeconds(20);
+        final Node after = new Node();
+        after.snapshot.restore();
+        final int restoredCount = after.viewerManager.getViewerCountExcludingStreamer(livestreamId);
+        advanceSeconds(11);
+        final int countAfterTtl = after.viewerManager.getViewerCountExcludingStreamer(livestreamId);
+
+        // then
+        assertThat(restoredCount).isEqualTo(2);
+        assertThat(countAfterTtl).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("maxDowntime보다 오래 내려가 있었다면 heartbeat 시청자는 만료되고 스트리머 등록만 남는다")
+    void dropsViewersAfterLongDowntime() {
+        // given
+        final Long livestreamId = 1L;
+        final Node before = new Node();
+        before.viewerManager.registerStreamer(livestreamId, 100L);
+        before.viewerManager.recordHeartbeat(livestreamId, "client-1", null);
+        before.snapshot.save();
+
+        // when
+        advanceSeconds(properties.getMaxDowntime().toSeconds() + 1);
+        final Node after = new Node();
+        after.snapshot.restore();
+        after.viewerManager.recordHeartbeat(livestreamId, "client-9", 100L);
+
+        // then
+        assertThat(after.viewerManager.getViewerCountExcludingStreamer(livestreamId)).isZero();
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷은 복원하지 않고 빈 상태로 시작한다")
+    void ignoresCorruptedSnapshot() throws IOException {
+        // given
+        final Long livestreamId = 1L;
+        final Node before = new Node();
+        before.viewerManager.recordHeartbeat(livestreamId, "client-1", null);
+        before.snapshot.save();
+        final Path path = Path.of(properties.getPath());
+        final byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x7F;
+        Files.write(path, bytes);
+
+        // when
+        final Node after = new Node();
+        after.snapshot.restore();
+
+        // then
+        assertThat(after.viewerManager.getViewerCountExcludingStreamer(livestreamId)).isZero();
+        assertThat(path).doesNotExist();
+    }
+
+    private void advanceSeconds(final long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toMillis(seconds));
+    }
+
+    /**
+     * 재시작 전 / 후 노드 (같은 스냅샷 파일을 공유)
+     */
+    private class Node {
+
+        private final LiveStreamingViewerManager viewerManager = new LiveStreamingViewerManager(new ViewerCountProperties(), now::get);
+        private final LiveStreamingSubscriberManager subscriberManager = new LiveStreamingSubscriberManager(new ViewerCountProperties());
+        private final CacheManager cacheManager = new CacheConfig().cacheManager();
+        private final LiveStreamingStateSnapshot snapshot = new LiveStreamingStateSnapshot(
+                viewerManager, subscriberManager, cacheManager, properties, now::get
+        );
+    }
+}
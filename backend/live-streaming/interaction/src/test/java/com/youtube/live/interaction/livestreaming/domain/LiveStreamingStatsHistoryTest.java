@@ -0,0 +1,172 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.LiveStreamingStatsProperties;
+import com.youtube.live.interaction.config.ViewerCountClusterProperties;
+import com.youtube.live.interaction.config.ViewerCountProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveStreamingStatsHistoryTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final LiveStreamingStatsProperties properties = new LiveStreamingStatsProperties();
+    private LiveStreamingSubscriberManager subscriberManager;
+    private LiveStreamingViewerManager viewerManager;
+    private LiveStreamingStatsHistory sut;
+
+    @BeforeEach
+    void setUp() {
+        subscriberManager = new LiveStreamingSubscriberManager(new ViewerCountProperties());
+        viewerManager = new LiveStreamingViewerManager(new ViewerCountProperties(), now::get);
+        final ViewerCountAggregator aggregator = new ViewerCountAggregator(
+                subscriberManager,
+                viewerManager,
+                new InMemoryViewerCountStore(Duration.ofSeconds(20), now::get),
+                new ViewerCountClusterProperties()
+        );
+        sut = new LiveStreamingStatsHistory(subscriberManager, viewerManager, aggregator, properties, now::get);
+    }
+
+    @Test
+    @DisplayName("표본마다 WebSocket 시청자와 heartbeat 시청자 수의 합과 마지막 좋아요 수를 기록한다")
+    void samplesViewerAndLikeCounts() {
+        // given
+        final Long livestreamId = 1L;
+        subscriberManager.registerStreamer(livestreamId, 999L);
+        subscriberManager.addSubscriber(livestreamId, "session-1", 100L, "client-1");
+        viewerManager.recordHeartbeat(livestreamId, "client-2", null);
+        sut.recordLikeCount(livestreamId, 7);
+
+        // when
+        sut.sample();
+
+        // then
+        final List<ViewerCountSample> samples = sut.getSeries(livestreamId);
+        assertThat(samples).hasSize(1);
+        assertThat(samples.get(0).averageViewerCount()).isEqualTo(2);
+        assertThat(samples.get(0).likeCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("표본이 가득 차면 두 표본씩 합쳐 간격을 늘리고 표본 수를 capacity 이하로 유지한다")
+    void downsamplesWhenFull() {
+        // given
+        final Long livestreamId = 1L;
+        properties.setCapacity(4);
+
+        // when
+        for (int i = 1; i <= 9; i++) {
+            subscriberManager.addSubscriber(livestreamId, "session-" + i, (long) i, "client-" + i);
+            sut.sample();
+            now.addAndGet(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        // then
+        final List<ViewerCountSample> samples = sut.getSeries(livestreamId);
+        assertThat(samples).hasSizeLessThanOrEqualTo(4);
+        assertThat(samples.get(0).intervalSeconds()).isEqualTo(40);
+        assertThat(samples.get(0).peakViewerCount()).isEqualTo(4);
+        assertThat(samples).extracting(ViewerCountSample::peakViewerCount).last().isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("종료하면 최대 / 평균 / 누적 고유 시청자 수를 반환하고 시계열을 정리한다")
+    void finishReturnsSummaryAndClearsSeries() {
+        // given
+        final Long livestreamId = 1L;
+        for (int i = 1; i <= 4; i++) {
+            viewerManager.recordHeartbeat(livestreamId, "client-" + i, null);
+        }
+        sut.sample();
+        now.addAndGet(TimeUnit.SECONDS.toMillis(45));
+        viewerManager.recordHeartbeat(livestreamId, "client-5", null);
+        viewerManager.recordHeartbeat(livestreamId, "client-6", null);
+
+        // when
+        final ViewerCountSummary summary = sut.finish(livestreamId);
+
+        // then
+        assertThat(summary.peakViewerCount()).isEqualTo(4);
+        assertThat(summary.averageViewerCount()).isEqualTo(3);
+        assertThat(summary.totalUniqueViewerCount()).isEqualTo(6);
+        assertThat(sut.getSeries(livestreamId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("WebSocket과 heartbeat로 모두 시청한 사용자는 누적 고유 시청자 수에서 한 번만 센다")
+    void totalUniqueViewersCountsUserOnceAcrossTransports() {
+        // given
+        final Long livestreamId = 1L;
+        subscriberManager.addSubscriber(livestreamId, "session-1", 100L, "client-1");
+        viewerManager.recordHeartbeat(livestreamId, "client-1", 100L);
+        viewerManager.recordHeartbeat(livestreamId, "client-2", null);
+
+        // when
+        final ViewerCountSummary summary = sut.finish(livestreamId);
+
+        // then
+        assertThat(summary.totalUniqueViewerCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료 처리 없이 idleTimeout 동안 시청자가 없으면 시계열을 버린다")
+    void dropsIdleSeries() {
+        // given
+        final Long livestreamId = 1L;
+        viewerManager.recordHeartbeat(livestreamId, "client-1", null);
+        sut.sample();
+
+        // when
+        now.addAndGet(properties.getIdleTimeout().toMillis() + 1);
+        sut.sample();
+
+        // then
+        assertThat(sut.getSeries(livestreamId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시청자가 없는 라이브 스트리밍의 좋아요 수는 기록하지 않아 시계열을 만들지 않는다")
+    void ignoresLikeCountWithoutViewers() {
+        // given
+        final Long endedLivestreamId = 99L;
+
+        // when
+        sut.recordLikeCount(endedLivestreamId, 5);
+        sut.sample();
+
+        // then
+        assertThat(sut.getSeries(endedLivestreamId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 종료하면 커밋된 뒤에 시계열을 정리한다")
+    void finishClearsSeriesAfterCommit() {
+        // given
+        final Long livestreamId = 1L;
+        viewerManager.recordHeartbeat(livestreamId, "client-1", null);
+        sut.sample();
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            sut.finish(livestreamId);
+
+            // then
+            assertThat(sut.getSeries(livestreamId)).isNotEmpty();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(sut.getSeries(livestreamId)).isEmpty();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
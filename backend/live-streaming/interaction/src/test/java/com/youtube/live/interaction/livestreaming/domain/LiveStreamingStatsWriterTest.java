@@ -0,0 +1,155 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.core.channel.domain.Channel;
+import com.youtube.core.user.domain.User;
+import com.youtube.live.interaction.config.IntegrationTest;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingStatsRepository;
+import com.youtube.live.interaction.livestreaming.service.LiveStreamingReactionQueryService;
+import com.youtube.live.interaction.livestreaming.service.LiveStreamingReactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static com.youtube.core.testfixtures.builder.ChannelBuilder.Channel;
+import static com.youtube.core.testfixtures.builder.UserBuilder.User;
+import static com.youtube.live.interaction.builder.LiveStreamingBuilder.LiveStreaming;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveStreamingStatsWriterTest extends IntegrationTest {
+
+    @Autowired
+    private LiveStreamingStatsWriter sut;
+
+    @Autowired
+    private LiveStreamingStatsReader liveStreamingStatsReader;
+
+    @Autowired
+    private LiveStreamingStatsRepository liveStreamingStatsRepository;
+
+    @Autowired
+    private LiveStreamingReactionService liveStreamingReactionService;
+
+    @Autowired
+    private LiveStreamingReactionQueryService liveStreamingReactionQueryService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("집계 row가 없으면 처음 읽을 때 live_streaming_reaction을 세어 row를 만든다")
+    void readSeedsFromReactions() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        saveReaction(liveStreaming, ReactionType.LIKE);
+        saveReaction(liveStreaming, ReactionType.DISLIKE);
+
+        // when
+        final LiveStreamingStats stats = liveStreamingStatsReader.readBy(liveStreaming.getId());
+
+        // then
+        assertThat(stats.getLikeCount()).isEqualTo(1);
+        assertThat(stats.getDislikeCount()).isEqualTo(1);
+        assertThat(liveStreamingStatsRepository.findById(liveStreaming.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션에서 처음 좋아요 수를 읽어도 집계 row를 만든다")
+    void readSeedsInsideReadOnlyTransaction() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        saveReaction(liveStreaming, ReactionType.LIKE);
+
+        // when
+        final int likeCount = liveStreamingReactionQueryService.getLikeCount(liveStreaming.getId());
+
+        // then
+        assertThat(likeCount).isEqualTo(1);
+        assertThat(liveStreamingStatsRepository.findById(liveStreaming.getId()))
+                .get()
+                .extracting(LiveStreamingStats::getLikeCount)
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("반응 토글로 모인 증감을 flush 하면 라이브 스트리밍당 한 번의 UPDATE로 반영한다")
+    void flushAppliesAccumulatedDeltas() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User liker = testSupport.save(User().build());
+        final User switcher = testSupport.save(User().build());
+        liveStreamingStatsReader.readBy(liveStreaming.getId());
+
+        // when
+        liveStreamingReactionService.toggleReaction(liveStreaming.getId(), liker.getId(), ReactionType.LIKE);
+        liveStreamingReactionService.toggleReaction(liveStreaming.getId(), switcher.getId(), ReactionType.LIKE);
+        liveStreamingReactionService.toggleReaction(liveStreaming.getId(), switcher.getId(), ReactionType.DISLIKE);
+        final LiveStreamingStats beforeFlush = liveStreamingStatsReader.readBy(liveStreaming.getId());
+        sut.flush();
+
+        // then
+        assertThat(beforeFlush.getLikeCount()).isZero();
+        final LiveStreamingStats afterFlush = liveStreamingStatsReader.readBy(liveStreaming.getId());
+        assertThat(afterFlush.getLikeCount()).isEqualTo(1);
+        assertThat(afterFlush.getDislikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보정하면 증감으로 반영되지 못한 차이를 live_streaming_reaction 기준으로 바로잡는다")
+    void repairRecomputesFromReactions() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        liveStreamingStatsReader.readBy(liveStreaming.getId());
+        saveReaction(liveStreaming, ReactionType.LIKE);
+        saveReaction(liveStreaming, ReactionType.LIKE);
+        final LiveStreamingStats stale = liveStreamingStatsReader.readBy(liveStreaming.getId());
+
+        // when
+        sut.repair();
+
+        // then
+        assertThat(stale.getLikeCount()).isZero();
+        assertThat(liveStreamingStatsReader.readBy(liveStreaming.getId()).getLikeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보정 락을 잡고 있으면 보정하지 않는다")
+    void repairSkipsWhileAnotherNodeHoldsLock() throws Exception {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        liveStreamingStatsReader.readBy(liveStreaming.getId());
+        saveReaction(liveStreaming, ReactionType.LIKE);
+
+        // when
+        try (Connection otherNode = dataSource.getConnection(); Statement statement = otherNode.createStatement()) {
+            statement.executeQuery("SELECT GET_LOCK('live_streaming_stats.repair', 0)").close();
+            sut.repair();
+        }
+        final long whileLocked = liveStreamingStatsReader.readBy(liveStreaming.getId()).getLikeCount();
+        sut.repair();
+
+        // then
+        assertThat(whileLocked).isZero();
+        assertThat(liveStreamingStatsReader.readBy(liveStreaming.getId()).getLikeCount()).isEqualTo(1);
+    }
+
+    private LiveStreaming saveLiveStreaming() {
+        final User user = testSupport.save(User().build());
+        final Channel channel = testSupport.save(Channel().withUser(user).build());
+        return testSupport.save(LiveStreaming().withChannel(channel).build());
+    }
+
+    private void saveReaction(final LiveStreaming liveStreaming, final ReactionType type) {
+        final User user = testSupport.save(User().build());
+        testSupport.save(
+                LiveStreamingReaction.builder()
+                        .liveStreaming(liveStreaming)
+                        .user(user)
+                        .type(type)
+                        .build()
+        );
+    }
+}
@@ -1,9 +1,11 @@
 package com.youtube.live.interaction.livestreaming.domain;
 
+import com.youtube.live.interaction.config.ViewerCountProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -17,7 +19,7 @@ class LiveStreamingSubscriberManagerTest {
 
     @BeforeEach
     void setUp() {
-        sut = new LiveStreamingSubscriberManager();
+        sut = new LiveStreamingSubscriberManager(new ViewerCountProperties());
     }
 
     @Test
@@ -242,6 +244,100 @@ class LiveStreamingSubscriberManagerTest {
         assertThat(sut.getActiveLivestreamIds()).hasSize(livestreamCount);
     }
 
+    @Test
+    @DisplayName("한 라이브 스트리밍에 여러 스레드가 동시에 입장/퇴장해도 고유 시청자 수를 정확히 유지한다")
+    void concurrentJoinAndLeaveOnSingleLivestreamKeepsAccurateCount() throws InterruptedException {
+        // given
+        final Long livestreamId = 1L;
+        final int threadCount = 8;
+        final int viewersPerThread = 2_500;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            final int thread = t;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < viewersPerThread; i++) {
+                        final String viewer = thread + "-" + i;
+                        // 홀수 번째는 비로그인 시청자, 모든 시청자가 탭 2개로 입장
+                        final Long userId = i % 2 == 0 ? (long) thread * viewersPerThread + i : null;
+                        sut.addSubscriber(livestreamId, "session-" + viewer + "-a", userId, "client-" + viewer);
+                        sut.addSubscriber(livestreamId, "session-" + viewer + "-b", userId, "client-" + viewer);
+                    }
+                    for (int i = 0; i < 1_000; i++) {
+                        // 탭을 모두 닫은 시청자
+                        sut.removeSubscriber("session-" + thread + "-" + i + "-a");
+                        sut.removeSubscriber("session-" + thread + "-" + i + "-b");
+                    }
+                    for (int i = 1_000; i < 2_000; i++) {
+                        // 탭 하나만 닫은 시청자
+                        sut.removeSubscriber("session-" + thread + "-" + i + "-a");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(sut.getSubscriberCount(livestreamId)).isEqualTo(threadCount * (viewersPerThread - 1_000));
+    }
+
+    @Test
+    @DisplayName("시청자가 동시에 입장/퇴장/이동하다 모두 떠나면 시청 중인 라이브 스트리밍이 남지 않는다")
+    void concurrentJoinLeaveAndMoveThenLeavingAllRemovesLivestreams() throws InterruptedException {
+        // given
+        final int threadCount = 8;
+        final int operationsPerThread = 20_000;
+        final int livestreamCount = 4;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch done = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            final int thread = t;
+            executorService.submit(() -> {
+                try {
+                    final Random random = new Random(thread);
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        final int viewer = random.nextInt(64);
+                        final String sessionId = "session-" + viewer + "-" + random.nextInt(2);
+                        if (random.nextInt(3) == 0) {
+                            sut.removeSubscriber(sessionId);
+                        } else {
+                            // 다른 라이브 스트리밍을 구독하면 이동으로 처리된다.
+                            sut.addSubscriber((long) random.nextInt(livestreamCount) + 1, sessionId, (long) viewer, "client-" + viewer);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        for (int viewer = 0; viewer < 64; viewer++) {
+            sut.removeSubscriber("session-" + viewer + "-0");
+            sut.removeSubscriber("session-" + viewer + "-1");
+        }
+
+        // then
+        for (long livestreamId = 1; livestreamId <= livestreamCount; livestreamId++) {
+            assertThat(sut.getSubscriberCount(livestreamId)).isZero();
+        }
+        assertThat(sut.getActiveLivestreamIds()).isEmpty();
+    }
+
     @Test
     @DisplayName("스트리머가 등록되지 않은 경우 전체 시청자 수를 반환한다")
     void getSubscriberCountWithNoStreamerReturnsFullCount() {
@@ -258,6 +354,23 @@ class LiveStreamingSubscriberManagerTest {
         assertThat(sut.getSubscriberCount(livestreamId)).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("종료된 라이브 스트리밍에 늦게 도착한 구독은 누적 고유 시청자 스케치를 다시 만들지 않는다")
+    void lateSubscribeAfterEndDoesNotRecreateLifetimeViewers() {
+        // given
+        final Long livestreamId = 1L;
+        sut.registerStreamer(livestreamId, 999L);
+        sut.addSubscriber(livestreamId, "session-1", 1L, "client-1");
+        sut.endLiveStreaming(livestreamId);
+
+        // when
+        sut.addSubscriber(livestreamId, "session-2", 2L, "client-2");
+
+        // then
+        assertThat(sut.lifetimeViewers(livestreamId)).isNull();
+        assertThat(sut.getSubscriberCount(livestreamId)).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("스트리머가 등록되었지만 구독하지 않은 경우 전체 시청자 수를 반환한다")
     void getSubscriberCountWhenStreamerNotSubscribedReturnsFullCount() {
@@ -1,5 +1,6 @@
 package com.youtube.live.interaction.livestreaming.domain;
 
+import com.youtube.live.interaction.config.ViewerCountProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -17,7 +19,7 @@ class LiveStreamingViewerManagerTest {
 
     @BeforeEach
     void setUp() {
-        sut = new LiveStreamingViewerManager();
+        sut = new LiveStreamingViewerManager(new ViewerCountProperties());
     }
 
     @Test
@@ -258,4 +260,152 @@ class LiveStreamingViewerManagerTest {
         // then
         assertThat(sut.getViewerCountExcludingStreamer(livestreamId)).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("마지막 heartbeat 후 TTL(30초)이 지나면 시청자 수에서 제외된다")
+    void viewersExpireAfterTtl() {
+        // given
+        final Long livestreamId = 1L;
+        final AtomicLong now = new AtomicLong(1_000_000L);
+        final LiveStreamingViewerManager sut = new LiveStreamingViewerManager(new ViewerCountProperties(), now::get);
+        sut.recordHeartbeat(livestreamId, "client-1", null);
+        now.addAndGet(10_000L);
+        sut.recordHeartbeat(livestreamId, "client-2", null);
+
+        // when & then
+        now.addAndGet(20_000L);
+        assertThat(sut.getViewerCountExcludingStreamer(livestreamId)).isEqualTo(2);
+
+        now.addAndGet(1_000L);
+        assertThat(sut.getViewerCountExcludingStreamer(livestreamId)).isEqualTo(1);
+
+        now.addAndGet(10_000L);
+        assertThat(sut.getViewerCountExcludingStreamer(livestreamId)).isZero();
+    }
+
+    @Test
+    @DisplayName("heartbeat를 계속 보내는 시청자는 TTL이 갱신되어 만료되지 않는다")
+    void refreshedViewersDoNotExpire() {
+        // given
+        final Long livestreamId = 1L;
+        final AtomicLong now = new AtomicLong(1_000_000L);
+        final LiveStreamingViewerManager sut = new LiveStreamingViewerManager(new ViewerCountProperties(), now::get);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            sut.recordHeartbeat(livestreamId, "client-1", null);
+            now.addAndGet(20_000L);
+        }
+
+        // then
+        assertThat(sut.getViewerCountExcludingStreamer(livestreamId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오랫동안 조회가 없다가 조회해도 만료된 시청자와 스트리머가 모두 정리된다")
+    void longIdleGapExpiresEveryone() {
+        // given
+        final Long livestreamId = 1L;
+        final Long streamerUserId = 1L;
+        final AtomicLong now = new AtomicLong(1_000_000L);
+        final LiveStreamingViewerManager sut = new LiveStreamingViewerManager(new ViewerCountProperties(), now::get);
+        sut.registerStreamer(livestreamId, streamerUserId);
+        sut.recordHeartbeat(livestreamId, "client-streamer", streamerUserId);
+        sut.recordHeartbeat(livestreamId, "client-1", null);
+
+        // when
+        now.addAndGet(TimeUnit.HOURS.toMillis(1));
+        sut.recordHeartbeat(livestreamId, "client-2", null);
+
+        // then
+        assertThat(sut.getViewerCountExcludingStreamer(livestreamId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시청자 수가 임계치를 넘으면 근사 집계로 전환되며 오차 범위 안의 시청자 수를 반환한다")
+    void switchesToApproximateCountAboveThreshold() {
+        // given
+        final Long livestreamId = 1L;
+        final Long streamerUserId = 0L;
+        final int viewerCount = 20_000;
+        final ViewerCountProperties properties = new ViewerCountProperties();
+        properties.setApproximateThreshold(1_000);
+        final AtomicLong now = new AtomicLong(1_000_000L);
+        final LiveStreamingViewerManager sut = new LiveStreamingViewerManager(properties, now::get);
+        sut.registerStreamer(livestreamId, streamerUserId);
+        sut.recordHeartbeat(livestreamId, "client-streamer", streamerUserId);
+
+        // when
+        for (int i = 1; i <= viewerCount; i++) {
+            sut.recordHeartbeat(livestreamId, "client-" + i, (long) i);
+        }
+
+        // then: 표준 오차 0.81%의 약 4배 (3%) 이내
+        assertThat(sut.getViewerCountExcludingStreamer(livestreamId)).isBetween(19_400, 20_600);
+        assertThat(sut.getTotalUniqueViewerCount(livestreamId)).isBetween(19_400L, 20_600L);
+    }
+
+    @Test
+    @DisplayName("근사 집계 중에도 TTL이 지나면 heartbeat가 없는 시청자는 빠진다")
+    void approximateCountExpiresSilentViewers() {
+        // given
+        final Long livestreamId = 1L;
+        final ViewerCountProperties properties = new ViewerCountProperties();
+        properties.setApproximateThreshold(100);
+        final AtomicLong now = new AtomicLong(1_000_000L);
+        final LiveStreamingViewerManager sut = new LiveStreamingViewerManager(properties, now::get);
+        for (int i = 0; i < 1_000; i++) {
+            sut.recordHeartbeat(livestreamId, "client-" + i, null);
+        }
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toMillis(45));
+        for (int i = 0; i < 500; i++) {
+            sut.recordHeartbeat(livestreamId, "client-" + i, null);
+        }
+
+        // then
+        assertThat(sut.getViewerCountExcludingStreamer(livestreamId)).isBetween(470, 530);
+        assertThat(sut.getTotalUniqueViewerCount(livestreamId)).isBetween(950L, 1_050L);
+    }
+
+    @Test
+    @DisplayName("근사 집계 중 heartbeat와 조회가 동시에 일어나도 기록된 시청자를 잃지 않는다")
+    void concurrentReadsDuringApproximateCount() throws InterruptedException {
+        // given
+        final Long livestreamId = 1L;
+        final int threadCount = 4;
+        final int viewersPerThread = 5_000;
+        final ViewerCountProperties properties = new ViewerCountProperties();
+        properties.setApproximateThreshold(100);
+        final AtomicLong now = new AtomicLong(1_000_000L);
+        final LiveStreamingViewerManager sut = new LiveStreamingViewerManager(properties, now::get);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount * 2);
+        final CountDownLatch latch = new CountDownLatch(threadCount * 2);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            final int thread = t;
+            executorService.submit(() -> {
+                for (int i = 0; i < viewersPerThread; i++) {
+                    sut.recordHeartbeat(livestreamId, "client-" + thread + "-" + i, null);
+                }
+                latch.countDown();
+            });
+            executorService.submit(() -> {
+                for (int i = 0; i < viewersPerThread; i++) {
+                    sut.getViewerCountExcludingStreamer(livestreamId);
+                    sut.getTotalUniqueViewerCount(livestreamId);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+        now.addAndGet(TimeUnit.SECONDS.toMillis(1));
+
+        // then: 표준 오차 0.81%의 약 4배 (3%) 이내
+        assertThat(sut.getViewerCountExcludingStreamer(livestreamId)).isBetween(19_400, 20_600);
+        assertThat(sut.getTotalUniqueViewerCount(livestreamId)).isBetween(19_400L, 20_600L);
+    }
 }
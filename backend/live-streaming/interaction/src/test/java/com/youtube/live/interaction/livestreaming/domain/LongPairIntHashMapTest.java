@@ -0,0 +1,55 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongPairIntHashMapTest {
+
+    @Test
+    @DisplayName("추가, 삭제, 확장이 섞여도 HashMap과 같은 결과를 낸다")
+    void behavesLikeHashMap() {
+        // given
+        final LongPairIntHashMap sut = new LongPairIntHashMap();
+        final Map<Long, Integer> expected = new HashMap<>();
+        final Random random = new Random(42);
+
+        // when & then
+        for (int i = 0; i < 200_000; i++) {
+            final long key = random.nextInt(5_000);
+            final int value = random.nextInt(1_000);
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(sut.put(key, ~key, value)).isEqualTo(orMissing(expected.put(key, value)));
+                case 1 -> assertThat(sut.remove(key, ~key)).isEqualTo(orMissing(expected.remove(key)));
+                default -> assertThat(sut.get(key, ~key)).isEqualTo(orMissing(expected.get(key)));
+            }
+        }
+        assertThat(sut.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @DisplayName("high만 같고 low가 다른 키는 서로 다른 항목이다")
+    void keysDifferingOnlyInLowAreDistinct() {
+        // given
+        final LongPairIntHashMap sut = new LongPairIntHashMap();
+
+        // when
+        sut.put(1L, 1L, 10);
+        sut.put(1L, 2L, 20);
+        sut.remove(1L, 1L);
+
+        // then
+        assertThat(sut.get(1L, 1L)).isEqualTo(LongPairIntHashMap.MISSING);
+        assertThat(sut.get(1L, 2L)).isEqualTo(20);
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    private static int orMissing(final Integer value) {
+        return value == null ? LongPairIntHashMap.MISSING : value;
+    }
+}
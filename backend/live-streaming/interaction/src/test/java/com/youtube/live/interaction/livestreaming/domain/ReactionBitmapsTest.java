@@ -0,0 +1,198 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.core.channel.domain.Channel;
+import com.youtube.core.user.domain.User;
+import com.youtube.live.interaction.config.IntegrationTest;
+import com.youtube.live.interaction.config.ReactionBitmapProperties;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingReactionBatchRepository;
+import com.youtube.live.interaction.livestreaming.service.LiveStreamingReactionService;
+import com.youtube.live.interaction.livestreaming.service.dto.ReactionToggleResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.youtube.core.testfixtures.builder.ChannelBuilder.Channel;
+import static com.youtube.core.testfixtures.builder.UserBuilder.User;
+import static com.youtube.live.interaction.builder.LiveStreamingBuilder.LiveStreaming;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactionBitmapsTest extends IntegrationTest {
+
+    @Autowired
+    private ReactionBitmaps sut;
+
+    @Autowired
+    private LiveStreamingReactionService liveStreamingReactionService;
+
+    @Autowired
+    private LiveStreamingReactionBatchRepository liveStreamingReactionBatchRepository;
+
+    @Autowired
+    private ReactionBitmapProperties reactionBitmapProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames()
+                .forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 라이브 스트리밍의 반응 전체를 적재한다")
+    void loadsReactionsOnFirstLookup() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User liker = saveReaction(liveStreaming, ReactionType.LIKE);
+        final User disliker = saveReaction(liveStreaming, ReactionType.DISLIKE);
+        final User viewer = testSupport.save(User().build());
+
+        // when & then
+        assertThat(sut.findUserReaction(liveStreaming.getId(), liker.getId()))
+                .get()
+                .extracting(ReactionToggleResult::reactionType)
+                .isEqualTo(ReactionType.LIKE);
+        assertThat(sut.findUserReaction(liveStreaming.getId(), disliker.getId()))
+                .get()
+                .extracting(ReactionToggleResult::reactionType)
+                .isEqualTo(ReactionType.DISLIKE);
+        assertThat(sut.findUserReaction(liveStreaming.getId(), viewer.getId()))
+                .get()
+                .extracting(ReactionToggleResult::reactionType)
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("반응을 토글하면 커밋된 뒤 bitmap에 반영된다 (좋아요 → 싫어요 → 취소)")
+    void toggleUpdatesBitmapsAfterCommit() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User user = testSupport.save(User().build());
+        sut.findUserReaction(liveStreaming.getId(), user.getId());
+
+        // when & then
+        liveStreamingReactionService.toggleReaction(liveStreaming.getId(), user.getId(), ReactionType.LIKE);
+        assertThat(sut.findUserReaction(liveStreaming.getId(), user.getId()))
+                .get()
+                .extracting(ReactionToggleResult::isLiked)
+                .isEqualTo(true);
+
+        liveStreamingReactionService.toggleReaction(liveStreaming.getId(), user.getId(), ReactionType.DISLIKE);
+        assertThat(sut.findUserReaction(liveStreaming.getId(), user.getId()))
+                .get()
+                .extracting(ReactionToggleResult::isDisliked)
+                .isEqualTo(true);
+
+        liveStreamingReactionService.toggleReaction(liveStreaming.getId(), user.getId(), ReactionType.DISLIKE);
+        assertThat(sut.findUserReaction(liveStreaming.getId(), user.getId()))
+                .get()
+                .extracting(ReactionToggleResult::reactionType)
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("bitmap을 거치지 않고 바뀐 반응은 동기화 주기에 DB에서 따라잡는다")
+    void syncCatchesUpChangesFromOtherNodes() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User user = testSupport.save(User().build());
+        sut.findUserReaction(liveStreaming.getId(), user.getId());
+        testSupport.save(
+                LiveStreamingReaction.builder()
+                        .liveStreaming(liveStreaming)
+                        .user(user)
+                        .type(ReactionType.LIKE)
+                        .build()
+        );
+        final ReactionToggleResult stale = sut.findUserReaction(liveStreaming.getId(), user.getId()).orElseThrow();
+
+        // when
+        sut.sync();
+
+        // then
+        assertThat(stale.reactionType()).isNull();
+        assertThat(sut.findUserReaction(liveStreaming.getId(), user.getId()))
+                .get()
+                .extracting(ReactionToggleResult::reactionType)
+                .isEqualTo(ReactionType.LIKE);
+    }
+
+    @Test
+    @DisplayName("토글보다 syncOverlap 이상 늦게 저장된 반응도 저장 시각 기준으로 동기화한다")
+    void syncCatchesUpFlushCommittedAfterOverlap() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User user = testSupport.save(User().build());
+        sut.findUserReaction(liveStreaming.getId(), user.getId());
+        sut.sync();
+        final Instant toggledAt = Instant.now().minus(reactionBitmapProperties.getSyncOverlap().plus(Duration.ofMinutes(1)));
+
+        // when
+        liveStreamingReactionBatchRepository.upsertAll(List.of(
+                new PendingLiveStreamingReaction(liveStreaming.getId(), user.getId(), ReactionType.LIKE, false, toggledAt)
+        ));
+        sut.sync();
+
+        // then
+        assertThat(sut.findUserReaction(liveStreaming.getId(), user.getId()))
+                .get()
+                .extracting(ReactionToggleResult::reactionType)
+                .isEqualTo(ReactionType.LIKE);
+    }
+
+    @Test
+    @DisplayName("방송 중이 아닌 라이브 스트리밍은 bitmap을 만들지 않고, 종료되면 bitmap을 버린다")
+    void skipsAndEvictsNonLiveStreams() {
+        // given
+        final User user = testSupport.save(User().build());
+        final Channel channel = testSupport.save(Channel().withUser(user).build());
+        final LiveStreaming ended = testSupport.save(
+                LiveStreaming().withChannel(channel).withStatus(LiveStreamingStatus.ENDED).build()
+        );
+        final LiveStreaming live = saveLiveStreaming();
+
+        // when & then
+        assertThat(sut.findUserReaction(ended.getId(), user.getId())).isEmpty();
+        assertThat(sut.findUserReaction(999L, user.getId())).isEmpty();
+        assertThat(bitmapStreams()).isZero();
+
+        assertThat(sut.findUserReaction(live.getId(), user.getId())).isPresent();
+        assertThat(bitmapStreams()).isEqualTo(1);
+
+        sut.evict(live.getId());
+        assertThat(bitmapStreams()).isZero();
+    }
+
+    private double bitmapStreams() {
+        return meterRegistry.get("livestreaming.reaction.bitmap.streams").gauge().value();
+    }
+
+    private LiveStreaming saveLiveStreaming() {
+        final User user = testSupport.save(User().build());
+        final Channel channel = testSupport.save(Channel().withUser(user).build());
+        return testSupport.save(LiveStreaming().withChannel(channel).build());
+    }
+
+    private User saveReaction(final LiveStreaming liveStreaming, final ReactionType type) {
+        final User user = testSupport.save(User().build());
+        testSupport.save(
+                LiveStreamingReaction.builder()
+                        .liveStreaming(liveStreaming)
+                        .user(user)
+                        .type(type)
+                        .build()
+        );
+        return user;
+    }
+}
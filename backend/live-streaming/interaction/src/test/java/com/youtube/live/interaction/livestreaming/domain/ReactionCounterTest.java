@@ -0,0 +1,95 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.core.channel.domain.Channel;
+import com.youtube.core.user.domain.User;
+import com.youtube.live.interaction.config.IntegrationTest;
+import com.youtube.live.interaction.livestreaming.service.LiveStreamingReactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static com.youtube.core.testfixtures.builder.ChannelBuilder.Channel;
+import static com.youtube.core.testfixtures.builder.UserBuilder.User;
+import static com.youtube.live.interaction.builder.LiveStreamingBuilder.LiveStreaming;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactionCounterTest extends IntegrationTest {
+
+    @Autowired
+    private ReactionCounter sut;
+
+    @Autowired
+    private LiveStreamingReactionService liveStreamingReactionService;
+
+    @Test
+    @DisplayName("처음 조회할 때 DB에서 좋아요 / 싫어요 수를 센다")
+    void countSeedsFromDatabase() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        saveReaction(liveStreaming, ReactionType.LIKE);
+        saveReaction(liveStreaming, ReactionType.LIKE);
+        saveReaction(liveStreaming, ReactionType.DISLIKE);
+
+        // when
+        final int likeCount = sut.count(liveStreaming.getId(), ReactionType.LIKE);
+        final int dislikeCount = sut.count(liveStreaming.getId(), ReactionType.DISLIKE);
+
+        // then
+        assertThat(likeCount).isEqualTo(2);
+        assertThat(dislikeCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반응을 토글하면 커밋된 뒤 메모리 집계에 반영된다 (좋아요 → 싫어요 → 취소)")
+    void toggleUpdatesCountsAfterCommit() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        final User user = testSupport.save(User().build());
+        sut.count(liveStreaming.getId(), ReactionType.LIKE);
+
+        // when & then
+        liveStreamingReactionService.toggleReaction(liveStreaming.getId(), user.getId(), ReactionType.LIKE);
+        assertThat(sut.count(liveStreaming.getId(), ReactionType.LIKE)).isEqualTo(1);
+
+        liveStreamingReactionService.toggleReaction(liveStreaming.getId(), user.getId(), ReactionType.DISLIKE);
+        assertThat(sut.count(liveStreaming.getId(), ReactionType.LIKE)).isZero();
+        assertThat(sut.count(liveStreaming.getId(), ReactionType.DISLIKE)).isEqualTo(1);
+
+        liveStreamingReactionService.toggleReaction(liveStreaming.getId(), user.getId(), ReactionType.DISLIKE);
+        assertThat(sut.count(liveStreaming.getId(), ReactionType.DISLIKE)).isZero();
+    }
+
+    @Test
+    @DisplayName("메모리 집계를 거치지 않고 바뀐 반응은 보정 주기에 DB 값으로 바로잡는다")
+    void reconcileCorrectsDrift() {
+        // given
+        final LiveStreaming liveStreaming = saveLiveStreaming();
+        sut.count(liveStreaming.getId(), ReactionType.LIKE);
+        saveReaction(liveStreaming, ReactionType.LIKE);
+        final int staleCount = sut.count(liveStreaming.getId(), ReactionType.LIKE);
+
+        // when
+        sut.reconcile();
+
+        // then
+        assertThat(staleCount).isZero();
+        assertThat(sut.count(liveStreaming.getId(), ReactionType.LIKE)).isEqualTo(1);
+    }
+
+    private LiveStreaming saveLiveStreaming() {
+        final User user = testSupport.save(User().build());
+        final Channel channel = testSupport.save(Channel().withUser(user).build());
+        return testSupport.save(LiveStreaming().withChannel(channel).build());
+    }
+
+    private void saveReaction(final LiveStreaming liveStreaming, final ReactionType type) {
+        final User user = testSupport.save(User().build());
+        testSupport.save(
+                LiveStreamingReaction.builder()
+                        .liveStreaming(liveStreaming)
+                        .user(user)
+                        .type(type)
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,173 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ReadCoalescingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadCoalescerTest {
+
+    private ReadCoalescingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ReadCoalescer sut;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReadCoalescingProperties();
+        properties.setDefaultTimeout(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ReadCoalescer(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 조회는 한 번만 실행되고 결과를 공유한다")
+    void concurrentIdenticalCallsShareOneQuery() throws Exception {
+        // given
+        final int callerCount = 8;
+        final AtomicInteger queryCount = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(callerCount);
+
+        // when
+        final List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < callerCount; i++) {
+            results.add(executorService.submit(() -> sut.coalesce("reactionCount", () -> {
+                queryCount.incrementAndGet();
+                await(release);
+                return 42;
+            }, 1L, ReactionType.LIKE)));
+        }
+        waitUntilCollapsed(callerCount - 1);
+        release.countDown();
+
+        // then
+        for (final Future<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(queryCount).hasValue(1);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회 인자가 다르면 병합하지 않는다")
+    void differentKeysAreNotCoalesced() {
+        // when
+        final int first = sut.coalesce("reactionCount", () -> 1, 1L, ReactionType.LIKE);
+        final int second = sut.coalesce("reactionCount", () -> 2, 1L, ReactionType.DISLIKE);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("먼저 실행 중인 조회가 timeout을 넘기면 직접 조회한다")
+    void followerQueriesDirectlyAfterTimeout() throws Exception {
+        // given
+        properties.getTimeouts().put("metadata", Duration.ofMillis(50));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        final Future<String> leader = executorService.submit(() -> sut.coalesce("metadata", () -> {
+            started.countDown();
+            await(release);
+            return "leader";
+        }, 1L));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        final String follower = sut.coalesce("metadata", () -> "follower", 1L);
+
+        // then
+        assertThat(follower).isEqualTo("follower");
+        assertThat(meterRegistry.get("livestreaming.read.coalescing.timeouts").tag("group", "metadata").counter().count())
+                .isEqualTo(1);
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 예외가 호출자에게 전달되고 다음 조회는 새로 실행된다")
+    void failureIsPropagatedAndNotRemembered() {
+        // when & then
+        assertThatThrownBy(() -> sut.coalesce("newChats", () -> {
+            throw new IllegalStateException("DB 오류");
+        }, 1L, 10L)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(sut.coalesce("newChats", () -> List.of(), 1L, 10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회 인자에 null이 있어도 병합 키로 사용할 수 있다")
+    void nullKeyPartIsAllowed() {
+        // when
+        final String result = sut.coalesce("newChats", () -> "chats", 1L, null);
+
+        // then
+        assertThat(result).isEqualTo("chats");
+    }
+
+    @Test
+    @DisplayName("coalesceCopying은 follower에게 공유 결과의 복사본을 넘긴다")
+    void followerReceivesCopy() throws Exception {
+        // given
+        final List<String> shared = new ArrayList<>(List.of("chat"));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        final Future<List<String>> leader = executorService.submit(() -> sut.coalesceCopying("newChats", () -> {
+            started.countDown();
+            await(release);
+            return shared;
+        }, ArrayList::new, 1L, 10L));
+        started.await(5, TimeUnit.SECONDS);
+        final ExecutorService followerExecutor = Executors.newSingleThreadExecutor();
+        final Future<List<String>> follower = followerExecutor.submit(() -> sut.coalesceCopying("newChats",
+                () -> List.of("direct"), ArrayList::new, 1L, 10L));
+        waitUntilCollapsed(1);
+
+        // when
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(shared);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isNotSameAs(shared).containsExactly("chat");
+        executorService.shutdown();
+        followerExecutor.shutdown();
+    }
+
+    private void waitUntilCollapsed(final int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (collapsedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double collapsedCount() {
+        final var counter = meterRegistry.find("livestreaming.read.coalesced").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
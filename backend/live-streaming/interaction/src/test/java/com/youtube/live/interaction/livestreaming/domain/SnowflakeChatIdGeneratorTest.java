@@ -0,0 +1,106 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeChatIdGeneratorTest {
+
+    private static final long JS_MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 ID는 단조 증가한다")
+    void idsAreMonotonicWithinSameMillisecond() {
+        // given
+        final SnowflakeChatIdGenerator sut = new SnowflakeChatIdGenerator(1, () -> 1_800_000_000_000L);
+
+        // when
+        long previous = sut.nextId();
+        for (int i = 0; i < 1_000; i++) {
+            final long current = sut.nextId();
+
+            // then
+            assertThat(current).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 감소하지 않는다")
+    void idsKeepIncreasingWhenClockMovesBackwards() {
+        // given
+        final AtomicLong clock = new AtomicLong(1_800_000_000_000L);
+        final SnowflakeChatIdGenerator sut = new SnowflakeChatIdGenerator(1, clock::get);
+        final long before = sut.nextId();
+
+        // when
+        clock.addAndGet(-5_000);
+        final long after = sut.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("생성된 ID는 JavaScript Number로 손실 없이 표현할 수 있다")
+    void idsFitInJavaScriptSafeInteger() {
+        // given
+        final SnowflakeChatIdGenerator sut = new SnowflakeChatIdGenerator(
+                SnowflakeChatIdGenerator.MAX_NODE_ID,
+                () -> 1_735_689_600_000L + (1L << 41) - 1
+        );
+
+        // when
+        final long id = sut.nextId();
+
+        // then
+        assertThat(id).isPositive().isLessThanOrEqualTo(JS_MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    @DisplayName("nodeId가 범위를 벗어나면 예외가 발생한다")
+    void invalidNodeIdThrowsException() {
+        assertThatThrownBy(() -> new SnowflakeChatIdGenerator(SnowflakeChatIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 ID가 중복되지 않는다")
+    void concurrentGenerationProducesUniqueIds() throws InterruptedException {
+        // given
+        final SnowflakeChatIdGenerator sut = new SnowflakeChatIdGenerator(3);
+        final int threadCount = 16;
+        final int idsPerThread = 5_000;
+        final Set<Long> ids = ConcurrentHashMap.newKeySet();
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch doneSignal = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(sut.nextId());
+                    }
+                } finally {
+                    doneSignal.countDown();
+                }
+            });
+        }
+        doneSignal.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+    }
+}
@@ -0,0 +1,93 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserIdBitmapTest {
+
+    @Test
+    @DisplayName("추가, 삭제, container 전환이 섞여도 HashSet과 같은 결과를 낸다")
+    void behavesLikeHashSet() {
+        // given
+        final UserIdBitmap sut = new UserIdBitmap();
+        final Set<Long> expected = new HashSet<>();
+        final Random random = new Random(42);
+
+        // when & then
+        for (int i = 0; i < 300_000; i++) {
+            // 한 container(65,536) 안에 4,096개를 넘나들도록 좁은 범위와 넓은 범위를 섞는다.
+            final long userId = random.nextBoolean() ? random.nextInt(20_000) : random.nextInt(Integer.MAX_VALUE);
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(sut.add(userId)).isEqualTo(expected.add(userId));
+                case 1 -> assertThat(sut.remove(userId)).isEqualTo(expected.remove(userId));
+                default -> assertThat(sut.contains(userId)).isEqualTo(expected.contains(userId));
+            }
+        }
+        assertThat(sut.cardinality()).isEqualTo(expected.size());
+        expected.forEach(userId -> assertThat(sut.contains(userId)).isTrue());
+    }
+
+    @Test
+    @DisplayName("하위 16비트만 같은 id는 서로 다른 값이다")
+    void idsDifferingOnlyInHighBitsAreDistinct() {
+        // given
+        final UserIdBitmap sut = new UserIdBitmap();
+
+        // when
+        sut.add(7L);
+        sut.add((1L << 40) + 7L);
+        sut.remove(7L);
+
+        // then
+        assertThat(sut.contains(7L)).isFalse();
+        assertThat(sut.contains((1L << 40) + 7L)).isTrue();
+        assertThat(sut.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모두 삭제하면 container를 남기지 않는다")
+    void removesEmptyContainers() {
+        // given
+        final UserIdBitmap sut = new UserIdBitmap();
+        final long emptySize = sut.sizeInBytes();
+        for (long userId = 1; userId <= 100_000; userId++) {
+            sut.add(userId);
+        }
+
+        // when
+        for (long userId = 1; userId <= 100_000; userId++) {
+            sut.remove(userId);
+        }
+
+        // then
+        assertThat(sut.cardinality()).isZero();
+        assertThat(sut.sizeInBytes()).isLessThan(emptySize + 1_024);
+    }
+
+    @Test
+    @DisplayName("반응 100만 개를 id 분포에 따라 약 130KB ~ 2.3MB로 보관한다")
+    void reportsSizePerMillionReactions() {
+        // given
+        final UserIdBitmap dense = new UserIdBitmap();
+        final UserIdBitmap sparse = new UserIdBitmap();
+        final Random random = new Random(42);
+
+        // when
+        for (long userId = 1; userId <= 1_000_000; userId++) {
+            dense.add(userId);
+        }
+        while (sparse.cardinality() < 1_000_000) {
+            sparse.add(1 + random.nextInt(100_000_000));
+        }
+
+        // then
+        assertThat(dense.sizeInBytes()).isLessThan(140_000);
+        assertThat(sparse.sizeInBytes()).isLessThan(2_500_000);
+    }
+}
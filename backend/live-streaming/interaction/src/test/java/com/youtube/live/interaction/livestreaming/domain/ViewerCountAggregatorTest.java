@@ -0,0 +1,150 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ViewerCountClusterProperties;
+import com.youtube.live.interaction.config.ViewerCountProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewerCountAggregatorTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private InMemoryViewerCountStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryViewerCountStore(Duration.ofSeconds(20), now::get);
+    }
+
+    @Test
+    @DisplayName("각 노드의 WebSocket 시청자 수를 합산한다")
+    void sumsSubscriberCountsOfAllNodes() {
+        // given
+        final Long livestreamId = 1L;
+        final Node nodeA = new Node("node-a");
+        final Node nodeB = new Node("node-b");
+        for (int i = 0; i < 3; i++) {
+            nodeA.subscriberManager.addSubscriber(livestreamId, "session-a" + i, null, "client-a" + i);
+        }
+        for (int i = 0; i < 2; i++) {
+            nodeB.subscriberManager.addSubscriber(livestreamId, "session-b" + i, null, "client-b" + i);
+        }
+
+        // when
+        nodeA.sut.synchronize();
+        nodeB.sut.synchronize();
+        nodeA.sut.synchronize();
+
+        // then
+        assertThat(nodeA.sut.getSubscriberCount(livestreamId)).isEqualTo(5);
+        assertThat(nodeB.sut.getSubscriberCount(livestreamId)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("여러 노드에 heartbeat를 보낸 시청자는 한 명으로 세고 스트리머는 제외한다")
+    void mergesHeartbeatViewersAcrossNodesWithoutDoubleCounting() {
+        // given
+        final Long livestreamId = 1L;
+        final Long streamerUserId = 1_000L;
+        final Node nodeA = new Node("node-a");
+        final Node nodeB = new Node("node-b");
+        nodeA.viewerManager.registerStreamer(livestreamId, streamerUserId);
+        nodeA.viewerManager.recordHeartbeat(livestreamId, "client-streamer", streamerUserId);
+        // 폴링 요청이 노드를 가리지 않고 분산되어 51 ~ 100번 시청자는 두 노드 모두에 기록된다.
+        for (int i = 1; i <= 100; i++) {
+            nodeA.viewerManager.recordHeartbeat(livestreamId, "client-" + i, null);
+        }
+        for (int i = 51; i <= 150; i++) {
+            nodeB.viewerManager.recordHeartbeat(livestreamId, "client-" + i, null);
+        }
+
+        // when
+        nodeA.sut.synchronize();
+        nodeB.sut.synchronize();
+        nodeA.sut.synchronize();
+
+        // then
+        assertThat(nodeA.sut.getHeartbeatViewerCount(livestreamId)).isBetween(148, 152);
+        assertThat(nodeB.sut.getHeartbeatViewerCount(livestreamId)).isBetween(148, 152);
+    }
+
+    @Test
+    @DisplayName("다른 노드에 시청자가 없는 라이브 스트리밍은 이 노드의 현재 시청자 수를 그대로 반환한다")
+    void returnsLocalCountWhenNoOtherNodeHasViewers() {
+        // given
+        final Long livestreamId = 1L;
+        final Node nodeA = new Node("node-a");
+        final Node nodeB = new Node("node-b");
+        nodeA.viewerManager.recordHeartbeat(livestreamId, "client-1", null);
+        nodeA.sut.synchronize();
+        nodeB.sut.synchronize();
+
+        // when
+        nodeA.viewerManager.recordHeartbeat(livestreamId, "client-2", null);
+
+        // then
+        assertThat(nodeA.sut.getHeartbeatViewerCount(livestreamId)).isEqualTo(2);
+        assertThat(nodeB.sut.getHeartbeatViewerCount(livestreamId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("staleAfter 동안 동기화하지 않은 노드의 시청자 수는 합산에서 빠진다")
+    void excludesNodesThatStoppedSynchronizing() {
+        // given
+        final Long livestreamId = 1L;
+        final Node nodeA = new Node("node-a");
+        final Node nodeB = new Node("node-b");
+        nodeA.subscriberManager.addSubscriber(livestreamId, "session-a", null, "client-a");
+        nodeB.subscriberManager.addSubscriber(livestreamId, "session-b", null, "client-b");
+        nodeB.sut.synchronize();
+        nodeA.sut.synchronize();
+
+        // when: node-b 장애
+        now.addAndGet(Duration.ofSeconds(21).toMillis());
+        nodeA.sut.synchronize();
+
+        // then
+        assertThat(nodeA.sut.getSubscriberCount(livestreamId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 다른 노드의 값을 합산하지 않는다")
+    void doesNothingWhenDisabled() {
+        // given
+        final Long livestreamId = 1L;
+        final Node nodeA = new Node("node-a");
+        final Node nodeB = new Node("node-b");
+        nodeA.clusterProperties.setEnabled(false);
+        nodeA.subscriberManager.addSubscriber(livestreamId, "session-a", null, "client-a");
+        nodeB.subscriberManager.addSubscriber(livestreamId, "session-b", null, "client-b");
+
+        // when
+        nodeB.sut.synchronize();
+        nodeA.sut.synchronize();
+
+        // then
+        assertThat(nodeA.sut.getSubscriberCount(livestreamId)).isEqualTo(1);
+    }
+
+    /**
+     * 같은 InMemoryViewerCountStore를 공유하는 노드 하나
+     */
+    private class Node {
+
+        final LiveStreamingSubscriberManager subscriberManager = new LiveStreamingSubscriberManager(new ViewerCountProperties());
+        final LiveStreamingViewerManager viewerManager = new LiveStreamingViewerManager(new ViewerCountProperties(), now::get);
+        final ViewerCountClusterProperties clusterProperties = new ViewerCountClusterProperties();
+        final ViewerCountAggregator sut;
+
+        Node(final String nodeId) {
+            clusterProperties.setEnabled(true);
+            clusterProperties.setNodeId(nodeId);
+            sut = new ViewerCountAggregator(subscriberManager, viewerManager, store, clusterProperties);
+        }
+    }
+}
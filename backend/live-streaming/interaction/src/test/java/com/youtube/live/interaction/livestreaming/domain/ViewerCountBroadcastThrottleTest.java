@@ -0,0 +1,133 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import com.youtube.live.interaction.config.ViewerCountBroadcastProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewerCountBroadcastThrottleTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private ViewerCountBroadcastThrottle sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ViewerCountBroadcastThrottle(new ViewerCountBroadcastProperties(), meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("시청자 수가 바뀌지 않으면 발행하지 않고, maxInterval이 지나면 같은 값이라도 발행한다")
+    void skipsUnchangedUntilKeepalive() {
+        // given
+        final Long livestreamId = 1L;
+        sut.shouldPublish(livestreamId, 10);
+
+        // when
+        advanceSeconds(5);
+        final boolean unchanged = sut.shouldPublish(livestreamId, 10);
+        advanceSeconds(55);
+        final boolean keepalive = sut.shouldPublish(livestreamId, 10);
+
+        // then
+        assertThat(unchanged).isFalse();
+        assertThat(keepalive).isTrue();
+        assertThat(decisionCount("unchanged")).isEqualTo(1.0);
+        assertThat(decisionCount("keepalive")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("화면에 보이는 값(12K)이 같은 범위 안의 변화는 발행하지 않는다")
+    void suppressesChangesWithinDisplayBucket() {
+        // given
+        final Long livestreamId = 1L;
+        sut.shouldPublish(livestreamId, 12_345);
+
+        // when
+        advanceSeconds(20);
+        final boolean result = sut.shouldPublish(livestreamId, 12_800);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("대형 라이브의 작은 변화는 규모에 따른 간격이 지날 때까지 미룬다")
+    void defersSmallChangesOnLargeStreams() {
+        // given
+        final Long livestreamId = 1L;
+        sut.shouldPublish(livestreamId, 50_000);
+
+        // when
+        advanceSeconds(5);
+        final boolean deferred = sut.shouldPublish(livestreamId, 52_000);
+        advanceSeconds(5);
+        final boolean published = sut.shouldPublish(livestreamId, 52_000);
+
+        // then
+        assertThat(deferred).isFalse();
+        assertThat(published).isTrue();
+        assertThat(decisionCount("deferred")).isEqualTo(1.0);
+        assertThat(decisionCount("published")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("시청자 수가 churnRatio 이상 급변하면 규모와 관계없이 minInterval 간격으로 발행한다")
+    void publishesQuicklyOnChurn() {
+        // given
+        final Long livestreamId = 1L;
+        sut.shouldPublish(livestreamId, 200_000);
+
+        // when
+        advanceSeconds(5);
+        final boolean result = sut.shouldPublish(livestreamId, 150_000);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("발행 대상에서 빠진 라이브 스트리밍은 상태를 정리하고 다시 나타나면 바로 발행한다")
+    void retainAllForgetsInactiveStreams() {
+        // given
+        final Long livestreamId = 1L;
+        sut.shouldPublish(livestreamId, 10);
+
+        // when
+        sut.retainAll(Set.of());
+        final boolean result = sut.shouldPublish(livestreamId, 10);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("화면 표기 단위로 내림한다")
+    void displayBucket() {
+        assertThat(ViewerCountBroadcastThrottle.displayBucket(999)).isEqualTo(999);
+        assertThat(ViewerCountBroadcastThrottle.displayBucket(1_234)).isEqualTo(1_200);
+        assertThat(ViewerCountBroadcastThrottle.displayBucket(12_345)).isEqualTo(12_000);
+        assertThat(ViewerCountBroadcastThrottle.displayBucket(123_456)).isEqualTo(123_000);
+        assertThat(ViewerCountBroadcastThrottle.displayBucket(1_234_567)).isEqualTo(1_200_000);
+        assertThat(ViewerCountBroadcastThrottle.displayBucket(12_345_678)).isEqualTo(12_000_000);
+    }
+
+    private void advanceSeconds(final long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toMillis(seconds));
+    }
+
+    private double decisionCount(final String decision) {
+        return meterRegistry.get("livestreaming.viewer.count.broadcast")
+                .tag("decision", decision)
+                .counter()
+                .count();
+    }
+}
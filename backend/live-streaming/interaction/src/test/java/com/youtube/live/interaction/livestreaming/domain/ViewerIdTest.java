@@ -0,0 +1,56 @@
+package com.youtube.live.interaction.livestreaming.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewerIdTest {
+
+    @Test
+    @DisplayName("userId가 있으면 clientId와 관계없이 같은 로그인 시청자로 본다")
+    void loggedInViewerIgnoresClientId() {
+        // when
+        final ViewerId first = ViewerId.of(1L, "client-1");
+        final ViewerId second = ViewerId.of(1L, "client-2");
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.loggedIn()).isTrue();
+        assertThat(first.low()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("UUID와 Tomcat 세션 ID 형식의 clientId는 128비트 값 그대로 보관한다")
+    void uuidAndHexClientIdsAreDecodedLosslessly() {
+        // given
+        final UUID uuid = UUID.randomUUID();
+        final String sessionId = "0123456789ABCDEF0123456789ABCDEF";
+
+        // when
+        final ViewerId fromUuid = ViewerId.of(null, uuid.toString());
+        final ViewerId fromSessionId = ViewerId.of(null, sessionId);
+
+        // then
+        assertThat(fromUuid.high()).isEqualTo(uuid.getMostSignificantBits());
+        assertThat(fromUuid.low()).isEqualTo(uuid.getLeastSignificantBits());
+        assertThat(fromSessionId.high()).isEqualTo(0x0123456789ABCDEFL);
+        assertThat(fromSessionId.low()).isEqualTo(0x0123456789ABCDEFL);
+    }
+
+    @Test
+    @DisplayName("그 외 형식의 clientId는 같은 값이면 같은 시청자, 다른 값이면 다른 시청자가 된다")
+    void otherClientIdsAreHashed() {
+        // when
+        final ViewerId first = ViewerId.of(null, "0123456789ABCDEF0123456789ABCDEF.node1");
+        final ViewerId same = ViewerId.of(null, "0123456789ABCDEF0123456789ABCDEF.node1");
+        final ViewerId other = ViewerId.of(null, "0123456789ABCDEF0123456789ABCDEF.node2");
+
+        // then
+        assertThat(first).isEqualTo(same);
+        assertThat(first).isNotEqualTo(other);
+        assertThat(first.loggedIn()).isFalse();
+    }
+}
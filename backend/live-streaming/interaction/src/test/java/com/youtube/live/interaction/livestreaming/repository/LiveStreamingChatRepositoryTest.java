@@ -81,6 +81,37 @@ class LiveStreamingChatRepositoryTest extends IntegrationTest {
         assertThat(result).hasSize(10);
     }
 
+    @Test
+    @DisplayName("최근 채팅 메시지를 ID 내림차순으로 요청한 개수만큼 조회한다")
+    void findLatestChats_OrderedByIdDesc() {
+        // given
+        final User user = testSupport.save(User().build());
+        final Channel channel = testSupport.save(Channel().withUser(user).build());
+        final LiveStreaming liveStreaming = testSupport.save(LiveStreaming().withChannel(channel).build());
+
+        for (int i = 1; i <= 31; i++) {
+            testSupport.save(
+                    LiveStreamingChat()
+                            .withLiveStreaming(liveStreaming)
+                            .withUser(user)
+                            .withMessage("메시지 " + i)
+                            .build()
+            );
+        }
+
+        // when
+        final List<ChatMessageResponse> result = sut.findLatestChats(
+                liveStreaming.getId(),
+                PageRequest.of(0, 30)
+        );
+
+        // then
+        assertThat(result).hasSize(30);
+        assertThat(result.get(0).getMessage()).isEqualTo("메시지 31");
+        assertThat(result.get(29).getMessage()).isEqualTo("메시지 2");
+        assertThat(result.get(0).getChatId()).isGreaterThan(result.get(29).getChatId());
+    }
+
     @Test
     @DisplayName("lastChatId 이후의 새로운 채팅 메시지만 ID 오름차순으로 조회한다")
     void findNewChatsAfter_ReturnsOnlyNewChatsOrderedById() {
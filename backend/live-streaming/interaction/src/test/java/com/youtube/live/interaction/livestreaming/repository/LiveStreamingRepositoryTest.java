@@ -1,6 +1,7 @@
 package com.youtube.live.interaction.livestreaming.repository;
 
 import com.youtube.core.channel.domain.Channel;
+import com.youtube.core.channel.domain.ChannelStats;
 import com.youtube.core.user.domain.User;
 import com.youtube.live.interaction.config.IntegrationTest;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreaming;
@@ -21,8 +22,8 @@ class LiveStreamingRepositoryTest extends IntegrationTest {
     private LiveStreamingRepository sut;
 
     @Test
-    @DisplayName("구독자가 없는 채널의 라이브 스트리밍 메타데이터를 조회한다")
-    void findMetadataById_WithNoSubscriber() {
+    @DisplayName("채널 집계 row가 없으면 구독자 수 없이 라이브 스트리밍 메타데이터를 조회한다")
+    void findMetadataById_WithoutChannelStats() {
         // given
         final User user = testSupport.save(User().build());
         final Channel channel = testSupport.save(
@@ -50,12 +51,12 @@ class LiveStreamingRepositoryTest extends IntegrationTest {
         assertThat(result.liveStreamingTitle()).isEqualTo("Test Live Title");
         assertThat(result.liveStreamingDescription()).isEqualTo("Test Live Description");
         assertThat(result.liveStreamingStartedAt()).isEqualTo(liveStreaming.getCreatedDate());
-        assertThat(result.subscriberCount()).isZero();
+        assertThat(result.subscriberCount()).isNull();
     }
 
     @Test
-    @DisplayName("구독자가 있는 채널의 라이브 스트리밍 메타데이터를 조회한다")
-    void findMetadataById_WithSubscribers() {
+    @DisplayName("구독자 수는 채널 집계 row에서 읽는다")
+    void findMetadataById_WithChannelStats() {
         // given
         final User channelOwner = testSupport.save(User().build());
         final Channel channel = testSupport.save(Channel().withUser(channelOwner).build());
@@ -68,6 +69,7 @@ class LiveStreamingRepositoryTest extends IntegrationTest {
         testSupport.save(Subscription().withSubscriber(subscriber1).withChannel(channel).build());
         testSupport.save(Subscription().withSubscriber(subscriber2).withChannel(channel).build());
         testSupport.save(Subscription().withSubscriber(subscriber3).withChannel(channel).build());
+        testSupport.save(ChannelStats.builder().channelId(channel.getId()).subscriberCount(3).build());
 
         // when
         final LiveStreamingMetadataResponse result = sut.findMetadataById(liveStreaming.getId());
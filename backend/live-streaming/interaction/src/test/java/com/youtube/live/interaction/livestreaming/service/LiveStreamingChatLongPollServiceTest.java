@@ -0,0 +1,189 @@
+package com.youtube.live.interaction.livestreaming.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youtube.live.interaction.config.ChatLongPollProperties;
+import com.youtube.live.interaction.config.ChatResponseCacheProperties;
+import com.youtube.live.interaction.config.RecentChatCacheProperties;
+import com.youtube.live.interaction.livestreaming.domain.ChatMessageType;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingChatReader;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingRecentChatCache;
+import com.youtube.live.interaction.livestreaming.repository.dto.ChatMessageResponse;
+import com.youtube.live.interaction.livestreaming.service.dto.ChatsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class LiveStreamingChatLongPollServiceTest {
+
+    private static final Long LIVE_STREAMING_ID = 1L;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private final StubChatReader chatReader = new StubChatReader();
+    private LiveStreamingRecentChatCache recentChatCache;
+    private LiveStreamingChatLongPollService sut;
+
+    @BeforeEach
+    void setUp() {
+        final RecentChatCacheProperties singleNode = new RecentChatCacheProperties();
+        singleNode.setSingleNode(true);
+        sut = createLongPollService(singleNode, new ChatLongPollProperties());
+        recentChatCache.append(LIVE_STREAMING_ID, chat(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @Test
+    @DisplayName("lastChatId 이후 채팅이 이미 있으면 대기하지 않고 바로 응답한다")
+    void respondsImmediatelyWhenNewChatsExist() throws Exception {
+        // given
+        recentChatCache.append(LIVE_STREAMING_ID, chat(2L));
+
+        // when
+        final DeferredResult<byte[]> result = sut.waitNewChats(LIVE_STREAMING_ID, 1L);
+
+        // then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(response(result).lastChatId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("새 채팅이 도착하면 같은 커서로 대기 중인 요청에 같은 batch를 한 번에 응답한다")
+    void wakesAllWaitersWithSameBatch() throws Exception {
+        // given
+        final DeferredResult<byte[]> first = sut.waitNewChats(LIVE_STREAMING_ID, 1L);
+        final DeferredResult<byte[]> second = sut.waitNewChats(LIVE_STREAMING_ID, 1L);
+        assertThat(first.hasResult()).isFalse();
+
+        // when
+        recentChatCache.append(LIVE_STREAMING_ID, chat(2L));
+        sut.notifyNewChat(LIVE_STREAMING_ID);
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> first.hasResult() && second.hasResult());
+        assertThat(response(first).chats()).extracting(ChatMessageResponse::getChatId).containsExactly(2L);
+        assertThat(first.getResult()).isSameAs(second.getResult());
+    }
+
+    @Test
+    @DisplayName("라이브 스트리밍이 종료되면 대기 중인 요청에 빈 목록을 응답한다")
+    void releasesWaitersWhenLiveStreamingEnds() throws Exception {
+        // given
+        final DeferredResult<byte[]> result = sut.waitNewChats(LIVE_STREAMING_ID, 1L);
+
+        // when
+        sut.releaseAll(LIVE_STREAMING_ID);
+
+        // then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(response(result).chats()).isEmpty();
+        assertThat(response(result).lastChatId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 노드 배포에서는 다른 노드가 저장한 채팅도 recheckInterval마다 DB를 확인해 응답한다")
+    void rechecksDatabaseOnMultiNode() throws Exception {
+        // given
+        final ChatLongPollProperties longPollProperties = new ChatLongPollProperties();
+        longPollProperties.setRecheckInterval(Duration.ofMillis(50));
+        final LiveStreamingChatLongPollService multiNodeSut = createLongPollService(new RecentChatCacheProperties(), longPollProperties);
+        final DeferredResult<byte[]> result = multiNodeSut.waitNewChats(LIVE_STREAMING_ID, 1L);
+        assertThat(result.hasResult()).isFalse();
+
+        // when
+        chatReader.newChats.add(chat(2L)); // 다른 노드에서 저장되어 이 노드의 notifyNewChat은 호출되지 않음
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(result::hasResult);
+        assertThat(response(result).chats()).extracting(ChatMessageResponse::getChatId).containsExactly(2L);
+        multiNodeSut.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 노드 배포에서도 이 노드에서 저장한 채팅은 recheckInterval을 기다리지 않고 바로 깨운다")
+    void wakesLocallyOnMultiNode() throws Exception {
+        // given
+        final ChatLongPollProperties longPollProperties = new ChatLongPollProperties();
+        longPollProperties.setRecheckInterval(Duration.ofMinutes(1));
+        final LiveStreamingChatLongPollService multiNodeSut = createLongPollService(new RecentChatCacheProperties(), longPollProperties);
+        final DeferredResult<byte[]> result = multiNodeSut.waitNewChats(LIVE_STREAMING_ID, 1L);
+        assertThat(result.hasResult()).isFalse();
+
+        // when
+        chatReader.newChats.add(chat(2L));
+        multiNodeSut.notifyNewChat(LIVE_STREAMING_ID);
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(result::hasResult);
+        assertThat(response(result).chats()).extracting(ChatMessageResponse::getChatId).containsExactly(2L);
+        multiNodeSut.shutdown();
+    }
+
+    private LiveStreamingChatLongPollService createLongPollService(
+            final RecentChatCacheProperties recentChatCacheProperties,
+            final ChatLongPollProperties longPollProperties
+    ) {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        recentChatCache = new LiveStreamingRecentChatCache(chatReader, recentChatCacheProperties, meterRegistry);
+        final LiveStreamingChatQueryService queryService = new LiveStreamingChatQueryService(recentChatCache);
+        return new LiveStreamingChatLongPollService(
+                queryService,
+                new LiveStreamingChatResponseCache(
+                        queryService,
+                        recentChatCache,
+                        OBJECT_MAPPER,
+                        new ChatResponseCacheProperties(),
+                        meterRegistry
+                ),
+                longPollProperties,
+                recentChatCacheProperties,
+                meterRegistry
+        );
+    }
+
+    private static ChatsResponse response(final DeferredResult<byte[]> result) throws Exception {
+        return OBJECT_MAPPER.readValue((byte[]) result.getResult(), ChatsResponse.class);
+    }
+
+    private static ChatMessageResponse chat(final Long chatId) {
+        return new ChatMessageResponse(chatId, "user", "message-" + chatId, ChatMessageType.CHAT, null, Instant.now());
+    }
+
+    /**
+     * DB에 저장된 새 채팅은 newChats로 흉내 낸다.
+     */
+    private static class StubChatReader extends LiveStreamingChatReader {
+
+        private final List<ChatMessageResponse> newChats = new CopyOnWriteArrayList<>();
+
+        StubChatReader() {
+            super(null, null);
+        }
+
+        @Override
+        public List<ChatMessageResponse> readRecentChats(final Long liveStreamingId, final int pageSize) {
+            return List.of();
+        }
+
+        @Override
+        public List<ChatMessageResponse> readNewChatsAfter(final Long liveStreamingId, final Long lastChatId) {
+            return newChats.stream()
+                    .filter(chat -> chat.getChatId() > lastChatId)
+                    .toList();
+        }
+    }
+}
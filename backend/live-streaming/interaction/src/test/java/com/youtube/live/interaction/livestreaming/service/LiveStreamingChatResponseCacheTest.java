@@ -0,0 +1,135 @@
+package com.youtube.live.interaction.livestreaming.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youtube.live.interaction.config.ChatResponseCacheProperties;
+import com.youtube.live.interaction.config.RecentChatCacheProperties;
+import com.youtube.live.interaction.livestreaming.domain.ChatMessageType;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingChatReader;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingRecentChatCache;
+import com.youtube.live.interaction.livestreaming.repository.dto.ChatMessageResponse;
+import com.youtube.live.interaction.livestreaming.service.dto.ChatsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveStreamingChatResponseCacheTest {
+
+    private static final Long LIVE_STREAMING_ID = 1L;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final StubChatReader chatReader = new StubChatReader();
+    private LiveStreamingRecentChatCache recentChatCache;
+    private LiveStreamingChatResponseCache sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = createResponseCache(true);
+        recentChatCache.append(LIVE_STREAMING_ID, chat(1L));
+        recentChatCache.append(LIVE_STREAMING_ID, chat(2L));
+    }
+
+    @Test
+    @DisplayName("같은 커서로 조회하면 한 번 직렬화한 byte[]를 공유한다")
+    void sameCursorSharesEncodedResponse() {
+        // given
+        sut.getInitialChats(LIVE_STREAMING_ID); // 버퍼를 DB와 병합해야 버전을 사용한다
+
+        // when
+        final byte[] first = sut.getNewChats(LIVE_STREAMING_ID, 1L);
+        final byte[] second = sut.getNewChats(LIVE_STREAMING_ID, 1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("새 채팅이 추가되면 같은 커서라도 새 응답을 만든다")
+    void newChatInvalidatesEncodedResponse() throws Exception {
+        // given
+        final byte[] before = sut.getNewChats(LIVE_STREAMING_ID, 1L);
+
+        // when
+        recentChatCache.append(LIVE_STREAMING_ID, chat(3L));
+        final byte[] after = sut.getNewChats(LIVE_STREAMING_ID, 1L);
+
+        // then
+        assertThat(after).isNotSameAs(before);
+        assertThat(OBJECT_MAPPER.readValue(after, ChatsResponse.class).chats())
+                .extracting(ChatMessageResponse::getChatId)
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("여러 노드 배포에서는 같은 커서의 응답을 unversionedTtl 동안만 공유한다")
+    void sharesUnversionedResponseUntilTtl() throws Exception {
+        // given
+        final LiveStreamingChatResponseCache multiNodeSut = createResponseCache(false);
+        chatReader.chats.add(chat(2L));
+        final byte[] first = multiNodeSut.getNewChats(LIVE_STREAMING_ID, 1L);
+        chatReader.chats.add(chat(3L)); // 다른 노드에서 저장
+
+        // when
+        final byte[] withinTtl = multiNodeSut.getNewChats(LIVE_STREAMING_ID, 1L);
+        nanos.addAndGet(new ChatResponseCacheProperties().getUnversionedTtl().plus(Duration.ofMillis(1)).toNanos());
+        final byte[] afterTtl = multiNodeSut.getNewChats(LIVE_STREAMING_ID, 1L);
+
+        // then
+        assertThat(withinTtl).isSameAs(first);
+        assertThat(OBJECT_MAPPER.readValue(afterTtl, ChatsResponse.class).chats())
+                .extracting(ChatMessageResponse::getChatId)
+                .containsExactly(2L, 3L);
+    }
+
+    private LiveStreamingChatResponseCache createResponseCache(final boolean singleNode) {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final RecentChatCacheProperties properties = new RecentChatCacheProperties();
+        properties.setSingleNode(singleNode);
+        recentChatCache = new LiveStreamingRecentChatCache(chatReader, properties, meterRegistry);
+        return new LiveStreamingChatResponseCache(
+                new LiveStreamingChatQueryService(recentChatCache),
+                recentChatCache,
+                OBJECT_MAPPER,
+                new ChatResponseCacheProperties(),
+                meterRegistry,
+                nanos::get
+        );
+    }
+
+    private static ChatMessageResponse chat(final Long chatId) {
+        return new ChatMessageResponse(chatId, "user", "message-" + chatId, ChatMessageType.CHAT, null, Instant.now());
+    }
+
+    /**
+     * DB에 저장된 채팅은 chats로 흉내 낸다. (처음에는 비어 있음)
+     */
+    private static class StubChatReader extends LiveStreamingChatReader {
+
+        private final List<ChatMessageResponse> chats = new CopyOnWriteArrayList<>();
+
+        StubChatReader() {
+            super(null, null);
+        }
+
+        @Override
+        public List<ChatMessageResponse> readRecentChats(final Long liveStreamingId, final int pageSize) {
+            return List.of();
+        }
+
+        @Override
+        public List<ChatMessageResponse> readNewChatsAfter(final Long liveStreamingId, final Long lastChatId) {
+            return chats.stream()
+                    .filter(chat -> chat.getChatId() > lastChatId)
+                    .toList();
+        }
+    }
+}
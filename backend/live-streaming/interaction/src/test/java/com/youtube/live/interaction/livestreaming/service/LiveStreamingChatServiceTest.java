@@ -68,6 +68,7 @@ class LiveStreamingChatServiceTest extends IntegrationTest {
         );
 
         // then
+        assertThat(chatInfo.getChatId()).isNotNull();
         assertThat(chatInfo.getUsername()).isEqualTo(username);
         assertThat(chatInfo.getUserProfileImageUrl()).isEqualTo(profileImageUrl);
         assertThat(chatInfo.getMessage()).isEqualTo(message);
@@ -5,6 +5,7 @@ import com.youtube.core.user.domain.User;
 import com.youtube.live.interaction.config.IntegrationTest;
 import com.youtube.live.interaction.livestreaming.domain.*;
 import com.youtube.live.interaction.livestreaming.service.dto.ReactionToggleResult;
+import com.youtube.live.interaction.websocket.event.LiveStreamingReactionCountPublisher;
 import com.youtube.live.interaction.websocket.event.dto.LikeCountBroadcastResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,13 +13,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
-import java.time.Duration;
-
 import static com.youtube.core.testfixtures.builder.ChannelBuilder.Channel;
 import static com.youtube.core.testfixtures.builder.UserBuilder.User;
 import static com.youtube.live.interaction.builder.LiveStreamingBuilder.LiveStreaming;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -27,6 +25,9 @@ class LiveStreamingReactionServiceTest extends IntegrationTest {
     @Autowired
     private LiveStreamingReactionService sut;
 
+    @Autowired
+    private LiveStreamingReactionCountPublisher likeCountPublisher;
+
     @MockitoBean
     private SimpMessagingTemplate messagingTemplate;
 
@@ -49,14 +50,12 @@ class LiveStreamingReactionServiceTest extends IntegrationTest {
         assertThat(result.isLiked()).isTrue();
         assertThat(result.isDisliked()).isFalse();
 
-        await().atMost(Duration.ofSeconds(5))
-                .untilAsserted(() -> {
-                    verify(messagingTemplate, times(1))
-                            .convertAndSend(
-                                    eq("/topic/livestreams/" + liveStreaming.getId() + "/like-count"),
-                                    any(LikeCountBroadcastResponse.class)
-                            );
-                });
+        likeCountPublisher.publishLikeCounts();
+        verify(messagingTemplate, times(1))
+                .convertAndSend(
+                        eq("/topic/livestreams/" + liveStreaming.getId() + "/like-count"),
+                        any(LikeCountBroadcastResponse.class)
+                );
     }
 
     @Test
@@ -78,11 +77,12 @@ class LiveStreamingReactionServiceTest extends IntegrationTest {
         assertThat(result.isLiked()).isFalse();
         assertThat(result.isDisliked()).isTrue();
 
+        likeCountPublisher.publishLikeCounts();
         verifyNoInteractions(messagingTemplate);
     }
 
     @Test
-    @DisplayName("좋아요가 있을 때 좋아요를 선택하면 좋아요가 해제되고 이벤트가 발행되지 않는다")
+    @DisplayName("좋아요가 있을 때 좋아요를 선택하면 좋아요가 해제되고 이벤트가 발행된다")
     void toggleReaction_ExistingLike_RemoveLike() {
         // given
         final User user = testSupport.save(User().build());
@@ -107,11 +107,16 @@ class LiveStreamingReactionServiceTest extends IntegrationTest {
         assertThat(result.isLiked()).isFalse();
         assertThat(result.isDisliked()).isFalse();
 
-        verifyNoInteractions(messagingTemplate);
+        likeCountPublisher.publishLikeCounts();
+        verify(messagingTemplate, times(1))
+                .convertAndSend(
+                        eq("/topic/livestreams/" + liveStreaming.getId() + "/like-count"),
+                        eq(new LikeCountBroadcastResponse(0))
+                );
     }
 
     @Test
-    @DisplayName("좋아요가 있을 때 싫어요를 선택하면 싫어요로 변경되고 이벤트가 발행되지 않는다")
+    @DisplayName("좋아요가 있을 때 싫어요를 선택하면 싫어요로 변경되고 이벤트가 발행된다")
     void toggleReaction_ExistingLike_ChangeToDislike() {
         // given
         final User user = testSupport.save(User().build());
@@ -136,7 +141,12 @@ class LiveStreamingReactionServiceTest extends IntegrationTest {
         assertThat(result.isLiked()).isFalse();
         assertThat(result.isDisliked()).isTrue();
 
-        verifyNoInteractions(messagingTemplate);
+        likeCountPublisher.publishLikeCounts();
+        verify(messagingTemplate, times(1))
+                .convertAndSend(
+                        eq("/topic/livestreams/" + liveStreaming.getId() + "/like-count"),
+                        eq(new LikeCountBroadcastResponse(0))
+                );
     }
 
     @Test
@@ -165,14 +175,12 @@ class LiveStreamingReactionServiceTest extends IntegrationTest {
         assertThat(result.isLiked()).isTrue();
         assertThat(result.isDisliked()).isFalse();
 
-        await().atMost(Duration.ofSeconds(5))
-                .untilAsserted(() -> {
-                    verify(messagingTemplate, times(1))
-                            .convertAndSend(
-                                    eq("/topic/livestreams/" + liveStreaming.getId() + "/like-count"),
-                                    any(LikeCountBroadcastResponse.class)
-                            );
-                });
+        likeCountPublisher.publishLikeCounts();
+        verify(messagingTemplate, times(1))
+                .convertAndSend(
+                        eq("/topic/livestreams/" + liveStreaming.getId() + "/like-count"),
+                        any(LikeCountBroadcastResponse.class)
+                );
     }
 
     @Test
@@ -201,11 +209,12 @@ class LiveStreamingReactionServiceTest extends IntegrationTest {
         assertThat(result.isLiked()).isFalse();
         assertThat(result.isDisliked()).isFalse();
 
+        likeCountPublisher.publishLikeCounts();
         verifyNoInteractions(messagingTemplate);
     }
 
     @Test
-    @DisplayName("좋아요를 선택한 후 해제하고 다시 선택하면 좋아요가 생성되고 이벤트가 발행된다")
+    @DisplayName("발행 주기 안에 좋아요를 선택 / 해제 / 다시 선택하면 좋아요 수는 한 번만 발행된다")
     void toggleReaction_CreateLike_RemoveLike_CreateLikeAgain() {
         // given
         final User user = testSupport.save(User().build());
@@ -229,13 +238,11 @@ class LiveStreamingReactionServiceTest extends IntegrationTest {
         assertThat(result.isLiked()).isTrue();
         assertThat(result.isDisliked()).isFalse();
 
-        await().atMost(Duration.ofSeconds(5))
-                .untilAsserted(() -> {
-                    verify(messagingTemplate, atLeast(1))
-                            .convertAndSend(
-                                    eq("/topic/livestreams/" + liveStreaming.getId() + "/like-count"),
-                                    any(LikeCountBroadcastResponse.class)
-                            );
-                });
+        likeCountPublisher.publishLikeCounts();
+        verify(messagingTemplate, times(1))
+                .convertAndSend(
+                        eq("/topic/livestreams/" + liveStreaming.getId() + "/like-count"),
+                        any(LikeCountBroadcastResponse.class)
+                );
     }
 }
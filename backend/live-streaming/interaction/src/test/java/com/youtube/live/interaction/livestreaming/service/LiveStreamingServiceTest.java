@@ -9,6 +9,9 @@ import com.youtube.live.interaction.livestreaming.domain.LiveStreaming;
 import com.youtube.live.interaction.livestreaming.service.dto.LiveStreamingCreateRequest;
 import com.youtube.live.interaction.livestreaming.service.dto.LiveStreamingCreateResponse;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreamingStatus;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingViewerManager;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingViewerSummary;
+import com.youtube.live.interaction.livestreaming.repository.LiveStreamingViewerSummaryRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +28,12 @@ class LiveStreamingServiceTest extends IntegrationTest {
     @Autowired
     private LiveStreamingService sut;
 
+    @Autowired
+    private LiveStreamingViewerManager liveStreamingViewerManager;
+
+    @Autowired
+    private LiveStreamingViewerSummaryRepository liveStreamingViewerSummaryRepository;
+
     @Test
     @DisplayName("라이브 스트리밍을 시작한다 (V1)")
     void startLiveStreamingV1_Success() {
@@ -89,6 +98,32 @@ class LiveStreamingServiceTest extends IntegrationTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("라이브 스트리밍을 종료하면 시청자 수 요약을 저장한다")
+    void endLiveStreaming_SavesViewerSummary() {
+        // given
+        final User user = testSupport.save(User().build());
+        final Channel channel = testSupport.save(Channel().withUser(user).build());
+        final LiveStreaming savedLiveStreaming = testSupport.save(
+                LiveStreaming()
+                        .withChannel(channel)
+                        .withStatus(LiveStreamingStatus.LIVE)
+                        .build()
+        );
+        liveStreamingViewerManager.recordHeartbeat(savedLiveStreaming.getId(), "client-1", null);
+        liveStreamingViewerManager.recordHeartbeat(savedLiveStreaming.getId(), "client-2", null);
+
+        // when
+        sut.endLiveStreaming(savedLiveStreaming.getId(), user.getId());
+
+        // then
+        final LiveStreamingViewerSummary summary = liveStreamingViewerSummaryRepository
+                .findByLiveStreamingId(savedLiveStreaming.getId())
+                .orElseThrow();
+        assertThat(summary.getPeakViewerCount()).isEqualTo(2);
+        assertThat(summary.getTotalUniqueViewerCount()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("본인의 라이브 스트리밍이 아닌 경우 종료할 수 없다")
     void endLiveStreaming_NotOwner_ThrowException() {
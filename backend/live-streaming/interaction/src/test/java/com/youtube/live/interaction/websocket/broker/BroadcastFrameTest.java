@@ -0,0 +1,137 @@
+package com.youtube.live.interaction.websocket.broker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BroadcastFrameTest {
+
+    private static final String DESTINATION = "/topic/livestreams/1/like-count";
+    private static final byte[] PAYLOAD = "{\"likeCount\":42}".getBytes(StandardCharsets.UTF_8);
+
+    private final StompDecoder decoder = new StompDecoder();
+
+    @Test
+    @DisplayName("subscription 값을 채운 프레임은 StompEncoder로 인코딩한 프레임과 같은 헤더와 본문을 가진다")
+    void encodesSameFrameAsStompEncoder() {
+        // given
+        final BroadcastFrame sut = BroadcastFrame.of(DESTINATION, broadcast(PAYLOAD), "broadcast-1");
+
+        // when
+        final byte[] frame = sut.encodeFor("sub-0");
+
+        // then
+        final Message<byte[]> actual = decode(frame);
+        final Message<byte[]> expected = decode(new StompEncoder().encode(stompMessage("sub-0", "broadcast-1")));
+        assertThat(StompHeaderAccessor.wrap(actual).getCommand()).isEqualTo(StompCommand.MESSAGE);
+        assertThat(StompHeaderAccessor.wrap(actual).toNativeHeaderMap())
+                .isEqualTo(StompHeaderAccessor.wrap(expected).toNativeHeaderMap());
+        assertThat(actual.getPayload()).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    @DisplayName("subscription 값의 특수 문자는 STOMP 1.2 규칙대로 escape한다")
+    void escapesSubscriptionId() {
+        // given
+        final BroadcastFrame sut = BroadcastFrame.of(DESTINATION, broadcast(PAYLOAD), "broadcast-1");
+
+        // when
+        final byte[] frame = sut.encodeFor("sub:1\\a");
+
+        // then
+        assertThat(new String(frame, StandardCharsets.UTF_8)).contains("subscription:sub\\c1\\\\a\n");
+        assertThat(StompHeaderAccessor.wrap(decode(frame)).getSubscriptionId()).isEqualTo("sub:1\\a");
+    }
+
+    @Test
+    @DisplayName("같은 subscription 값에는 같은 byte[]를 돌려준다")
+    void sharesFrameOfSameSubscriptionId() {
+        // given
+        final BroadcastFrame sut = BroadcastFrame.of(DESTINATION, broadcast(PAYLOAD), "broadcast-1");
+
+        // when
+        final byte[] first = sut.encodeFor("sub-0");
+        final byte[] second = sut.encodeFor("sub-0");
+        final byte[] other = sut.encodeFor("sub-1");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("본문이 byte[]가 아니거나 STOMP 헤더가 지정된 메시지는 템플릿으로 만들지 않는다")
+    void skipsMessagesThatCannotBeShared() {
+        // given
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setNativeHeader("priority", "high");
+        final Message<byte[]> withNativeHeaders = MessageBuilder.createMessage(PAYLOAD, accessor.getMessageHeaders());
+
+        // when
+        final BroadcastFrame stringPayload = BroadcastFrame.of(DESTINATION, MessageBuilder.withPayload("hello").build(), "broadcast-1");
+        final BroadcastFrame nativeHeaders = BroadcastFrame.of(DESTINATION, withNativeHeaders, "broadcast-2");
+
+        // then
+        assertThat(stringPayload).isNull();
+        assertThat(nativeHeaders).isNull();
+    }
+
+    @Test
+    @DisplayName("BroadcastFrameStompEncoder는 프레임이 실린 메시지만 템플릿으로 인코딩한다")
+    void encoderUsesFrameOnlyWhenPresent() {
+        // given
+        final BroadcastFrame frame = BroadcastFrame.of(DESTINATION, broadcast(PAYLOAD), "broadcast-1");
+        final StompHeaderAccessor withFrame = stompAccessor("sub-0", "broadcast-1");
+        withFrame.setHeader(BroadcastFrame.HEADER, frame);
+        final BroadcastFrameStompEncoder sut = new BroadcastFrameStompEncoder();
+
+        // when
+        final byte[] shared = sut.encode(withFrame.getMessageHeaders(), PAYLOAD);
+        final byte[] encoded = sut.encode(stompAccessor("sub-0", "broadcast-1").getMessageHeaders(), PAYLOAD);
+
+        // then
+        assertThat(shared).isSameAs(frame.encodeFor("sub-0"));
+        assertThat(decode(encoded).getPayload()).isEqualTo(PAYLOAD);
+    }
+
+    private Message<byte[]> broadcast(final byte[] payload) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(DESTINATION);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> stompMessage(final String subscriptionId, final String messageId) {
+        return MessageBuilder.createMessage(PAYLOAD, stompAccessor(subscriptionId, messageId).getMessageHeaders());
+    }
+
+    private StompHeaderAccessor stompAccessor(final String subscriptionId, final String messageId) {
+        final StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(DESTINATION);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setMessageId(messageId);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private Message<byte[]> decode(final byte[] frame) {
+        final List<Message<byte[]>> messages = decoder.decode(ByteBuffer.wrap(frame));
+        assertThat(messages).hasSize(1);
+        return messages.get(0);
+    }
+}
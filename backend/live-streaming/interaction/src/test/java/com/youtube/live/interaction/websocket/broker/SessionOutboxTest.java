@@ -0,0 +1,134 @@
+package com.youtube.live.interaction.websocket.broker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SessionOutboxTest {
+
+    private static final String VIEWER_COUNT_TOPIC = "/topic/livestreams/1/viewer-count";
+    private static final String CHAT_TOPIC = "/topic/livestreams/1/chat/messages";
+
+    /**
+     * 전송 채널에 넘어간 메시지 (처리 완료는 테스트가 onHandled로 알린다)
+     */
+    private final List<Message<?>> sent = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SessionOutbox sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SessionOutbox(
+                (message, timeout) -> sent.add(message),
+                true,
+                3,
+                meterRegistry.counter("conflated"),
+                meterRegistry.counter("dropped")
+        );
+    }
+
+    @Test
+    @DisplayName("전송 중인 메시지가 처리될 때까지 다음 메시지를 넘기지 않는다")
+    void sendsOneMessageAtATime() {
+        // when
+        sut.offer(message(CHAT_TOPIC, "sub-1", "a"), "sub-1", DeliveryPolicy.DROP_OLDEST);
+        sut.offer(message(CHAT_TOPIC, "sub-1", "b"), "sub-1", DeliveryPolicy.DROP_OLDEST);
+
+        // then
+        assertThat(sent).extracting("payload").containsExactly("a");
+        sut.onHandled();
+        assertThat(sent).extracting("payload").containsExactly("a", "b");
+        sut.onHandled();
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상태 목적지는 밀린 동안 구독마다 마지막 값만 전달한다")
+    void conflatesStateMessages() {
+        // given
+        sut.offer(message(CHAT_TOPIC, "sub-1", "chat"), "sub-1", DeliveryPolicy.DROP_OLDEST);
+
+        // when
+        sut.offer(message(VIEWER_COUNT_TOPIC, "sub-2", "10"), "sub-2", DeliveryPolicy.CONFLATE);
+        sut.offer(message(VIEWER_COUNT_TOPIC, "sub-2", "11"), "sub-2", DeliveryPolicy.CONFLATE);
+        sut.offer(message(VIEWER_COUNT_TOPIC, "sub-2", "12"), "sub-2", DeliveryPolicy.CONFLATE);
+        sut.onHandled();
+        sut.onHandled();
+
+        // then
+        assertThat(sent).extracting("payload").containsExactly("chat", "12");
+        assertThat(counter("conflated").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이벤트 목적지는 큐가 넘치면 오래된 메시지를 버리고, 다음 메시지에 버린 개수를 붙인다")
+    void dropsOldestEventsWithGapMarker() {
+        // given
+        sut.offer(message(CHAT_TOPIC, "sub-1", "0"), "sub-1", DeliveryPolicy.DROP_OLDEST);
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            sut.offer(message(CHAT_TOPIC, "sub-1", String.valueOf(i)), "sub-1", DeliveryPolicy.DROP_OLDEST);
+        }
+        sut.onHandled();
+        sut.onHandled();
+        sut.onHandled();
+
+        // then
+        assertThat(sent)
+                .extracting(Message::getPayload, message -> droppedMessagesOf(message))
+                .containsExactly(
+                        tuple("0", null),
+                        tuple("3", "2"),
+                        tuple("4", null),
+                        tuple("5", null)
+                );
+        assertThat(counter("dropped").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("세션이 닫히면 남은 메시지를 보내지 않는다")
+    void discardsMessagesAfterClose() {
+        // given
+        sut.offer(message(CHAT_TOPIC, "sub-1", "a"), "sub-1", DeliveryPolicy.DROP_OLDEST);
+        sut.offer(message(CHAT_TOPIC, "sub-1", "b"), "sub-1", DeliveryPolicy.DROP_OLDEST);
+
+        // when
+        sut.close();
+        sut.onHandled();
+        sut.offer(message(CHAT_TOPIC, "sub-1", "c"), "sub-1", DeliveryPolicy.DROP_OLDEST);
+
+        // then
+        assertThat(sent).extracting("payload").containsExactly("a");
+        assertThat(sut.size()).isZero();
+    }
+
+    private Message<String> message(final String destination, final String subscriptionId, final String payload) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private static String droppedMessagesOf(final Message<?> message) {
+        return SimpMessageHeaderAccessor.wrap(message).getFirstNativeHeader(SessionOutbox.DROPPED_MESSAGES_HEADER);
+    }
+
+    private Counter counter(final String name) {
+        return meterRegistry.counter(name);
+    }
+}
@@ -0,0 +1,217 @@
+package com.youtube.live.interaction.websocket.broker;
+
+import com.youtube.live.interaction.config.OutboundDeliveryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+
+class ShardedTopicBrokerMessageHandlerTest {
+
+    private static final String CHAT_TOPIC = "/topic/livestreams/1/chat/messages";
+    private static final String LIKE_COUNT_TOPIC = "/topic/livestreams/1/like-count";
+
+    private final Queue<Message<?>> outboundMessages = new ConcurrentLinkedQueue<>();
+    private ShardedTopicBrokerMessageHandler sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ShardedTopicBrokerMessageHandler(
+                new ExecutorSubscribableChannel(),
+                (message, timeout) -> outboundMessages.add(message),
+                new ExecutorSubscribableChannel(),
+                4,
+                1_000,
+                new OutboundDeliveryProperties(),
+                new SimpleMeterRegistry()
+        );
+        sut.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.stop();
+    }
+
+    @Test
+    @DisplayName("목적지를 구독한 세션마다 구독 id를 붙여 메시지를 전달한다")
+    void deliversToEachSubscription() {
+        // given
+        sut.handleMessage(subscribe("session-1", "sub-1", CHAT_TOPIC));
+        sut.handleMessage(subscribe("session-2", "sub-7", CHAT_TOPIC));
+        sut.handleMessage(subscribe("session-3", "sub-1", LIKE_COUNT_TOPIC));
+
+        // when
+        sut.handleMessage(publish(CHAT_TOPIC, "안녕하세요"));
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(outboundMessages)
+                        .extracting(
+                                message -> SimpMessageHeaderAccessor.getSessionId(message.getHeaders()),
+                                message -> SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()),
+                                message -> SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                                Message::getPayload
+                        )
+                        .containsExactlyInAnyOrder(
+                                tuple("session-1", "sub-1", CHAT_TOPIC, "안녕하세요"),
+                                tuple("session-2", "sub-7", CHAT_TOPIC, "안녕하세요")
+                        ));
+        assertThat(outboundMessages)
+                .allMatch(message -> SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE);
+    }
+
+    @Test
+    @DisplayName("구독을 해제하거나 연결이 끊긴 세션에는 전달하지 않는다")
+    void stopsDeliveringAfterUnsubscribeOrDisconnect() {
+        // given
+        sut.handleMessage(subscribe("session-1", "sub-1", CHAT_TOPIC));
+        sut.handleMessage(subscribe("session-2", "sub-1", CHAT_TOPIC));
+        sut.handleMessage(subscribe("session-2", "sub-2", LIKE_COUNT_TOPIC));
+        sut.handleMessage(subscribe("session-3", "sub-1", CHAT_TOPIC));
+
+        // when
+        sut.handleMessage(unsubscribe("session-1", "sub-1"));
+        sut.handleMessage(disconnect("session-2"));
+        sut.handleMessage(publish(CHAT_TOPIC, "chat"));
+        sut.handleMessage(publish(LIKE_COUNT_TOPIC, "like"));
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(outboundMessages)
+                        .extracting(message -> SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))
+                        .containsExactly("session-3"));
+    }
+
+    @Test
+    @DisplayName("같은 라이브 스트리밍의 메시지는 발행한 순서대로 전달한다")
+    void preservesOrderWithinLiveStreaming() {
+        // given
+        sut.handleMessage(subscribe("session-1", "sub-1", CHAT_TOPIC));
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            sut.handleMessage(publish(CHAT_TOPIC, "chat-" + i));
+        }
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(outboundMessages).hasSize(100));
+        final List<?> payloads = outboundMessages.stream().map(Message::getPayload).toList();
+        for (int i = 0; i < 100; i++) {
+            assertThat(payloads.get(i)).isEqualTo("chat-" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("/topic 이외의 목적지는 처리하지 않는다")
+    void ignoresOtherDestinations() {
+        // given
+        sut.handleMessage(subscribe("session-1", "sub-1", "/queue/errors"));
+
+        // when
+        sut.handleMessage(publish("/queue/errors", "error"));
+        sut.handleMessage(subscribe("session-1", "sub-2", CHAT_TOPIC));
+        sut.handleMessage(publish(CHAT_TOPIC, "chat"));
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(outboundMessages)
+                        .extracting("payload")
+                        .containsExactly("chat"));
+    }
+
+    @Test
+    @DisplayName("샤드 큐에 브로드캐스트가 상한만큼 쌓여 있으면 새 브로드캐스트는 버린다")
+    void dropsBroadcastsOverPendingLimit() throws Exception {
+        // given
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final ShardedTopicBrokerMessageHandler bounded = new ShardedTopicBrokerMessageHandler(
+                new ExecutorSubscribableChannel(),
+                (message, timeout) -> {
+                    sending.countDown();
+                    awaitQuietly(release);
+                    return outboundMessages.add(message);
+                },
+                new ExecutorSubscribableChannel(),
+                1,
+                2,
+                new OutboundDeliveryProperties(),
+                meterRegistry
+        );
+        bounded.start();
+        bounded.handleMessage(subscribe("session-1", "sub-1", CHAT_TOPIC));
+        bounded.handleMessage(publish(CHAT_TOPIC, "chat-0"));
+        sending.await();
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            bounded.handleMessage(publish(CHAT_TOPIC, "chat-" + i));
+        }
+        release.countDown();
+
+        // then
+        try {
+            await().atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(outboundMessages)
+                            .extracting("payload")
+                            .containsExactly("chat-0", "chat-1", "chat-2"));
+            assertThat(meterRegistry.counter("livestreaming.broker.dropped").count()).isEqualTo(3.0);
+        } finally {
+            bounded.stop();
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Message<?> subscribe(final String sessionId, final String subscriptionId, final String destination) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<?> unsubscribe(final String sessionId, final String subscriptionId) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<?> disconnect(final String sessionId) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<?> publish(final String destination, final String payload) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,104 @@
+package com.youtube.live.interaction.websocket.event;
+
+import com.youtube.live.interaction.config.ViewerCountBroadcastProperties;
+import com.youtube.live.interaction.config.ViewerCountClusterProperties;
+import com.youtube.live.interaction.config.ViewerCountProperties;
+import com.youtube.live.interaction.livestreaming.domain.InMemoryViewerCountStore;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingSubscriberManager;
+import com.youtube.live.interaction.livestreaming.domain.LiveStreamingViewerManager;
+import com.youtube.live.interaction.livestreaming.domain.ViewerCountAggregator;
+import com.youtube.live.interaction.livestreaming.domain.ViewerCountBroadcastThrottle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveStreamingViewerCountPublisherTest {
+
+    private static final Long LIVE_STREAMING_ID = 1L;
+
+    private final List<Message<?>> brokerMessages = new CopyOnWriteArrayList<>();
+    private final List<Message<?>> sessionMessages = new CopyOnWriteArrayList<>();
+    private LiveStreamingSubscriberManager subscriberManager;
+    private LiveStreamingViewerCountPublisher sut;
+
+    @BeforeEach
+    void setUp() {
+        final SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> brokerMessages.add(message));
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+        final MessageChannel clientOutboundChannel = (message, timeout) -> sessionMessages.add(message);
+        subscriberManager = new LiveStreamingSubscriberManager(new ViewerCountProperties());
+        final ViewerCountAggregator aggregator = new ViewerCountAggregator(
+                subscriberManager,
+                new LiveStreamingViewerManager(new ViewerCountProperties()),
+                new InMemoryViewerCountStore(new ViewerCountClusterProperties()),
+                new ViewerCountClusterProperties()
+        );
+        sut = new LiveStreamingViewerCountPublisher(
+                messagingTemplate,
+                clientOutboundChannel,
+                subscriberManager,
+                aggregator,
+                new ViewerCountBroadcastThrottle(new ViewerCountBroadcastProperties(), new SimpleMeterRegistry())
+        );
+    }
+
+    @Test
+    @DisplayName("시청자 수 토픽을 구독하면 현재 시청자 수를 구독한 세션에만 바로 보낸다")
+    void sendsCurrentCountToNewSubscriber() {
+        // given
+        subscriberManager.addSubscriber(LIVE_STREAMING_ID, "session-1", 100L, "client-1");
+        subscriberManager.addSubscriber(LIVE_STREAMING_ID, "session-2", 200L, "client-2");
+
+        // when
+        sut.handleViewerCountSubscribe(subscribeEvent("session-3", "sub-0", "/topic/livestreams/1/viewer-count"));
+
+        // then
+        assertThat(brokerMessages).isEmpty();
+        assertThat(sessionMessages).hasSize(1);
+        final Message<?> message = sessionMessages.get(0);
+        final SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(message);
+        assertThat(headers.getSessionId()).isEqualTo("session-3");
+        assertThat(headers.getSubscriptionId()).isEqualTo("sub-0");
+        assertThat(headers.getDestination()).isEqualTo("/topic/livestreams/1/viewer-count");
+        assertThat(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("시청자 수가 아닌 토픽을 구독하면 보내지 않는다")
+    void ignoresOtherDestinations() {
+        // when
+        sut.handleViewerCountSubscribe(subscribeEvent("session-1", "sub-0", "/topic/livestreams/1/chat/messages"));
+
+        // then
+        assertThat(sessionMessages).isEmpty();
+    }
+
+    private static SessionSubscribeEvent subscribeEvent(
+            final String sessionId,
+            final String subscriptionId,
+            final String destination
+    ) {
+        final StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return new SessionSubscribeEvent(new Object(), MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+}
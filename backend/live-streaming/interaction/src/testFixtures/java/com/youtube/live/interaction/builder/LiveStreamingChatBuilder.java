@@ -1,9 +1,11 @@
 package com.youtube.live.interaction.builder;
 
 import com.youtube.core.user.domain.User;
+import com.youtube.live.interaction.livestreaming.domain.ChatIdGenerator;
 import com.youtube.live.interaction.livestreaming.domain.ChatMessageType;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreaming;
 import com.youtube.live.interaction.livestreaming.domain.LiveStreamingChat;
+import com.youtube.live.interaction.livestreaming.domain.SnowflakeChatIdGenerator;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
@@ -14,7 +16,9 @@ import lombok.With;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class LiveStreamingChatBuilder {
 
-    private Long id;
+    private static final ChatIdGenerator ID_GENERATOR = new SnowflakeChatIdGenerator(0);
+
+    private Long id = ID_GENERATOR.nextId();
     private LiveStreaming liveStreaming;
     private User user;
     private String message = "테스트 채팅 메시지";
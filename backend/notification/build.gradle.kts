@@ -18,4 +18,5 @@ dependencies {
     testFixturesImplementation(project(":core"))
 
     testImplementation(testFixtures(project(":core")))
+    testRuntimeOnly("org.springframework.boot:spring-boot-starter-actuator") // live-streaming:interaction 메트릭 빈의 MeterRegistry 제공
 }